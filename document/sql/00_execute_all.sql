@@ -22,6 +22,7 @@ SET FOREIGN_KEY_CHECKS = 0;
 7. 07_file_system_tables.sql - 文件和系统管理模块表
 8. 08_init_data.sql         - 初始化数据
 9. 09_indexes.sql           - 索引优化
+10. 10_common_tables.sql    - 通用基础设施表（ID号段）及初始数据
 */
 
 -- =============================================
@@ -69,6 +70,11 @@ SOURCE 08_init_data.sql;
 -- =============================================
 SOURCE 09_indexes.sql;
 
+-- =============================================
+-- 10. 通用基础设施表结构
+-- =============================================
+SOURCE 10_common_tables.sql;
+
 -- 恢复外键检查
 SET FOREIGN_KEY_CHECKS = 1;
 
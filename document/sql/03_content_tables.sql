@@ -16,6 +16,7 @@ CREATE TABLE `cnt_content` (
     `summary` TEXT DEFAULT NULL COMMENT '内容摘要',
     `content` LONGTEXT DEFAULT NULL COMMENT '内容正文（Markdown格式）',
     `content_html` LONGTEXT DEFAULT NULL COMMENT '内容HTML（渲染后）',
+    `body_version` INT DEFAULT 0 COMMENT '正文版本号：正文每次修改加1，用作正文缓存键',
     `content_type` VARCHAR(50) NOT NULL COMMENT '内容类型：article-文章，video-视频，audio-音频，course-课程',
     `author_id` BIGINT NOT NULL COMMENT '作者用户ID',
     `category_id` BIGINT DEFAULT NULL COMMENT '分类ID',
@@ -127,11 +128,15 @@ CREATE TABLE `cnt_content_version` (
     `id` BIGINT NOT NULL COMMENT '版本ID',
     `content_id` BIGINT NOT NULL COMMENT '内容ID',
     `version_number` VARCHAR(20) NOT NULL COMMENT '版本号，如：v1.0.0',
+    `version_seq` INT NOT NULL DEFAULT 1 COMMENT '版本序号，同一内容内从1递增',
     `title` VARCHAR(200) NOT NULL COMMENT '版本标题',
-    `content` LONGTEXT DEFAULT NULL COMMENT '版本内容',
+    `content` LONGTEXT DEFAULT NULL COMMENT '版本内容：完整快照或相对上一版本的行增量，见storage_type',
+    `storage_type` TINYINT DEFAULT 0 COMMENT '存储方式：0-完整快照（关键帧），1-行增量',
+    `keyframe_seq` INT NOT NULL DEFAULT 1 COMMENT '还原本版本所依赖的关键帧版本序号',
+    `content_hash` CHAR(64) DEFAULT NULL COMMENT '版本完整内容的SHA-256，用于校验还原结果',
     `change_log` TEXT DEFAULT NULL COMMENT '变更日志',
     `author_id` BIGINT NOT NULL COMMENT '修改者ID',
-    `file_size` BIGINT DEFAULT 0 COMMENT '内容大小（字节）',
+    `file_size` BIGINT DEFAULT 0 COMMENT '内容大小（字节，完整内容）',
     `word_count` INT DEFAULT 0 COMMENT '字数统计',
     `is_current` TINYINT DEFAULT 0 COMMENT '是否当前版本：0-否，1-是',
     `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
@@ -139,6 +144,7 @@ CREATE TABLE `cnt_content_version` (
     `is_deleted` TINYINT DEFAULT 0 COMMENT '是否删除：0-未删除，1-已删除',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_content_version` (`content_id`, `version_number`),
+    UNIQUE KEY `uk_content_seq` (`content_id`, `version_seq`),
     KEY `idx_content_id` (`content_id`),
     KEY `idx_author_id` (`author_id`),
     KEY `idx_is_current` (`is_current`),
@@ -152,6 +158,7 @@ CREATE TABLE `cnt_content_audit` (
     `content_id` BIGINT NOT NULL COMMENT '内容ID',
     `audit_type` TINYINT DEFAULT 1 COMMENT '审核类型：1-发布审核，2-修改审核，3-举报审核',
     `audit_status` TINYINT DEFAULT 0 COMMENT '审核状态：0-待审核，1-审核通过，2-审核拒绝',
+    `audit_stage` TINYINT DEFAULT 0 COMMENT '审核阶段：0-自动检查，1-人工复核',
     `auditor_id` BIGINT DEFAULT NULL COMMENT '审核员ID',
     `audit_reason` TEXT DEFAULT NULL COMMENT '审核意见',
     `audit_time` DATETIME DEFAULT NULL COMMENT '审核时间',
@@ -26,7 +26,7 @@ CREATE TABLE `fil_file` (
     `file_md5` VARCHAR(32) NOT NULL COMMENT '文件MD5值',
     `file_sha1` VARCHAR(40) DEFAULT NULL COMMENT '文件SHA1值',
     `upload_user_id` BIGINT NOT NULL COMMENT '上传用户ID',
-    `storage_type` VARCHAR(50) DEFAULT 'local' COMMENT '存储类型：local-本地，oss-对象存储，cdn-CDN',
+    `storage_type` VARCHAR(50) DEFAULT 'local' COMMENT '存储类型：local-本地，oss-对象存储，cdn-CDN，chunk-分块去重',
     `bucket_name` VARCHAR(100) DEFAULT NULL COMMENT '存储桶名称',
     `width` INT DEFAULT NULL COMMENT '图片宽度（像素）',
     `height` INT DEFAULT NULL COMMENT '图片高度（像素）',
@@ -40,6 +40,7 @@ CREATE TABLE `fil_file` (
     `is_deleted` TINYINT DEFAULT 0 COMMENT '是否删除：0-未删除，1-已删除',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_file_md5` (`file_md5`),
+    KEY `idx_file_path` (`file_path`(64)),
     KEY `idx_upload_user_id` (`upload_user_id`),
     KEY `idx_file_type` (`file_type`),
     KEY `idx_mime_type` (`mime_type`),
@@ -71,6 +72,51 @@ CREATE TABLE `fil_upload_log` (
     KEY `idx_created_at` (`created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='上传日志表';
 
+-- 用户文件表（同一物理文件可被多个用户引用，秒传时只新增该表记录）
+DROP TABLE IF EXISTS `fil_user_file`;
+CREATE TABLE `fil_user_file` (
+    `id` BIGINT NOT NULL COMMENT '用户文件ID，雪花算法生成',
+    `user_id` BIGINT NOT NULL COMMENT '用户ID',
+    `file_id` BIGINT NOT NULL COMMENT '物理文件ID',
+    `file_name` VARCHAR(255) NOT NULL COMMENT '用户侧文件名',
+    `upload_type` TINYINT DEFAULT 1 COMMENT '上传方式：1-普通上传，2-秒传，3-增量上传',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    `is_deleted` TINYINT DEFAULT 0 COMMENT '是否删除：0-未删除，1-已删除',
+    PRIMARY KEY (`id`),
+    KEY `idx_user_id` (`user_id`),
+    KEY `idx_file_id` (`file_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='用户文件表';
+
+-- 文件分块表（分块去重存储，内容相同的分块只保存一份）
+DROP TABLE IF EXISTS `fil_chunk`;
+CREATE TABLE `fil_chunk` (
+    `id` BIGINT NOT NULL COMMENT '分块ID，雪花算法生成',
+    `chunk_hash` CHAR(64) NOT NULL COMMENT '分块SHA-256',
+    `chunk_size` INT NOT NULL COMMENT '分块大小（字节）',
+    `ref_count` INT NOT NULL DEFAULT 0 COMMENT '被文件清单引用的次数，0 表示待回收',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_chunk_hash` (`chunk_hash`),
+    KEY `idx_ref_updated` (`ref_count`, `updated_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文件分块表';
+
+-- 分块清单表（按顺序记录对象由哪些分块组成）
+DROP TABLE IF EXISTS `fil_chunk_manifest`;
+CREATE TABLE `fil_chunk_manifest` (
+    `id` BIGINT NOT NULL COMMENT '清单项ID，雪花算法生成',
+    `object_key` VARCHAR(500) NOT NULL COMMENT '对象键，对应 fil_file.file_path',
+    `seq` INT NOT NULL COMMENT '分块序号（从0开始）',
+    `chunk_hash` CHAR(64) NOT NULL COMMENT '分块SHA-256',
+    `chunk_offset` BIGINT NOT NULL COMMENT '分块在对象中的起始偏移量',
+    `chunk_size` INT NOT NULL COMMENT '分块大小（字节）',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_object_seq` (`object_key`(191), `seq`),
+    KEY `idx_object_offset` (`object_key`(191), `chunk_offset`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='分块清单表';
+
 -- =============================================
 -- 系统管理模块 (sys_)
 -- =============================================
@@ -172,3 +218,4 @@ CREATE TABLE `sys_statistics` (
     KEY `idx_stat_type` (`stat_type`),
     KEY `idx_stat_key` (`stat_key`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='统计数据表';
+
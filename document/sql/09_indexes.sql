@@ -31,14 +31,20 @@ ALTER TABLE `usr_login_log` ADD INDEX `idx_ip_time` (`login_ip`, `created_at` DE
 -- 内容表复合索引
 ALTER TABLE `cnt_content` ADD INDEX `idx_author_status_time` (`author_id`, `status`, `created_at` DESC);
 ALTER TABLE `cnt_content` ADD INDEX `idx_category_status_time` (`category_id`, `status`, `published_at` DESC);
+ALTER TABLE `cnt_content` ADD INDEX `idx_status_visibility_time` (`status`, `visibility`, `published_at` DESC);
 ALTER TABLE `cnt_content` ADD INDEX `idx_type_visibility_time` (`content_type`, `visibility`, `published_at` DESC);
 ALTER TABLE `cnt_content` ADD INDEX `idx_hot_recommend_time` (`is_hot`, `is_recommend`, `published_at` DESC);
 ALTER TABLE `cnt_content` ADD INDEX `idx_view_like_count` (`view_count` DESC, `like_count` DESC);
 ALTER TABLE `cnt_content` ADD INDEX `idx_price_status` (`price`, `status`, `visibility`);
+ALTER TABLE `cnt_content` ADD INDEX `idx_updated_at_id` (`updated_at`, `id`);
 
 -- 内容分类表索引
 ALTER TABLE `cnt_category` ADD INDEX `idx_parent_sort` (`parent_id`, `sort_order`);
 ALTER TABLE `cnt_category` ADD INDEX `idx_level_status` (`level`, `status`);
+ALTER TABLE `cnt_category` ADD INDEX `idx_updated_at` (`updated_at`);
+
+-- 内容审核表索引
+ALTER TABLE `cnt_content_audit` ADD INDEX `idx_status_stage_submit` (`audit_status`, `audit_stage`, `submit_time`);
 
 -- 标签表索引
 ALTER TABLE `cnt_tag` ADD INDEX `idx_usage_sort` (`usage_count` DESC, `sort_order`);
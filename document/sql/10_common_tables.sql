@@ -0,0 +1,30 @@
+-- =============================================
+-- 通用基础设施表结构 (sys_)
+-- 版本: 1.0.0
+-- 创建时间: 2026-10-19
+-- 描述: 不属于具体业务模块、由 service-common 直接使用的基础表（ID号段等）及其初始数据
+-- =============================================
+
+USE `jcode_wiki`;
+
+-- =============================================
+-- ID号段 (SegmentIdAllocator)
+-- =============================================
+
+-- ID号段表
+DROP TABLE IF EXISTS `sys_id_segment`;
+CREATE TABLE `sys_id_segment` (
+    `id` BIGINT NOT NULL COMMENT '号段ID',
+    `biz_tag` VARCHAR(64) NOT NULL COMMENT '业务标识，如 pay_order',
+    `max_id` BIGINT NOT NULL DEFAULT 0 COMMENT '当前已分配出去的最大ID',
+    `step` INT NOT NULL DEFAULT 1000 COMMENT '号段最小步长，实际步长随消耗速度动态调整',
+    `description` VARCHAR(255) DEFAULT NULL COMMENT '描述',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_biz_tag` (`biz_tag`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='ID号段表';
+
+-- ID号段初始化数据
+INSERT INTO `sys_id_segment` (`id`, `biz_tag`, `max_id`, `step`, `description`) VALUES
+(1, 'pay_order', 0, 1000, '订单号');
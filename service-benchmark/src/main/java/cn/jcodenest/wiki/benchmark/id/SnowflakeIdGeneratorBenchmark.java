@@ -0,0 +1,77 @@
+package cn.jcodenest.wiki.benchmark.id;
+
+import cn.jcodenest.wiki.common.id.FixedWorkerIdAssigner;
+import cn.jcodenest.wiki.common.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 雪花ID生成吞吐量基准
+ * <p>
+ * 单个机器ID每毫秒最多 4096 个序列号，持续吞吐的上限约为每秒 409.6 万个；超过时先借用后续毫秒，
+ * 借用超过 {@code maxBorrowMillis} 后等待时钟，因此测得的是“无锁分配 + 时钟限速”后的实际吞吐。
+ * 批量接口按生成的ID个数计量（{@link OperationsPerInvocation}），与单个生成直接可比。
+ * <p>
+ * 运行：{@code mvn -pl service-benchmark -am package && java -jar service-benchmark/target/benchmarks.jar Snowflake}
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnowflakeIdGeneratorBenchmark {
+
+    /** 批量生成的个数 */
+    private static final int BATCH_SIZE = 1000;
+
+    private SnowflakeIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        // 与默认配置一致：最多借用 50ms，超限等待不超过 1s
+        generator = new SnowflakeIdGenerator(new FixedWorkerIdAssigner(1), 50L, 1000L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        generator.close();
+    }
+
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextIdContended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] nextIds() {
+        return generator.nextIds(BATCH_SIZE);
+    }
+}
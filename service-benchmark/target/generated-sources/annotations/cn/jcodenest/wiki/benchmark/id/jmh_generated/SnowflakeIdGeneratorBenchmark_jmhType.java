@@ -0,0 +1,4 @@
+package cn.jcodenest.wiki.benchmark.id.jmh_generated;
+public class SnowflakeIdGeneratorBenchmark_jmhType extends SnowflakeIdGeneratorBenchmark_jmhType_B3 {
+}
+
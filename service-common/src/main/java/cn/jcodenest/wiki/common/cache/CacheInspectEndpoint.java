@@ -0,0 +1,271 @@
+package cn.jcodenest.wiki.common.cache;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存巡检端点
+ * <p>
+ * 路径为 {@code /actuator/cacheinspect}，类型选择器取 {@link SystemConstants.Cache#LOCAL} 或
+ * {@link SystemConstants.Cache#REDIS}：
+ * <ul>
+ *     <li>{@code GET /actuator/cacheinspect}：所有本地缓存与 Redis 键前缀的指标汇总</li>
+ *     <li>{@code GET /actuator/cacheinspect/{type}/{name}?limit=100}：抽样键并统计 TTL 分布</li>
+ *     <li>{@code DELETE /actuator/cacheinspect/{type}/{name}}：清空本地缓存或按前缀驱逐 Redis 键</li>
+ * </ul>
+ * Redis 一侧只使用 SCAN 游标增量遍历、UNLINK 异步删除，不会执行 {@code KEYS *} 阻塞 Redis。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Endpoint(id = "cacheinspect")
+public class CacheInspectEndpoint {
+
+    /** 默认抽样数量 */
+    private static final int DEFAULT_SAMPLE_LIMIT = 100;
+
+    /** 最大抽样数量 */
+    private static final int MAX_SAMPLE_LIMIT = 1000;
+
+    /** 返回的示例键数量 */
+    private static final int EXAMPLE_KEY_LIMIT = 20;
+
+    /** 每次 SCAN 的 COUNT 提示 */
+    private static final long SCAN_COUNT = 500L;
+
+    /** 每批 UNLINK 的键数量 */
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    /** TTL 分布区间上界（秒）与名称 */
+    private static final long[] TTL_BUCKET_BOUNDS = {60L, 600L, 3600L, 86400L};
+    private static final String[] TTL_BUCKET_NAMES = {"<1m", "1m-10m", "10m-1h", "1h-1d", ">1d"};
+
+    private final CacheManager cacheManager;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final RedisKeyMetrics redisKeyMetrics;
+
+    /**
+     * 构造函数
+     *
+     * @param cacheManager    缓存管理器
+     * @param redisTemplate   Redis 模板
+     * @param redisKeyMetrics Redis 键前缀指标
+     */
+    public CacheInspectEndpoint(CacheManager cacheManager, StringRedisTemplate redisTemplate,
+                                RedisKeyMetrics redisKeyMetrics) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.redisKeyMetrics = redisKeyMetrics;
+    }
+
+    /**
+     * 指标汇总
+     *
+     * @return 本地缓存与 Redis 键前缀的指标
+     */
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> local = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                local.put(name, localStats(caffeineCache.getNativeCache()));
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put(SystemConstants.Cache.LOCAL, local);
+        summary.put(SystemConstants.Cache.REDIS, redisKeyMetrics.snapshot());
+        return summary;
+    }
+
+    /**
+     * 抽样巡检
+     *
+     * @param type  缓存类型：local / redis
+     * @param name  本地缓存名称或 Redis 键前缀名（如 CONTENT）
+     * @param limit 最大抽样数量
+     * @return 抽样结果
+     */
+    @ReadOperation
+    public Map<String, Object> inspect(@Selector String type, @Selector String name, @Nullable Integer limit) {
+        int sampleLimit = limit == null ? DEFAULT_SAMPLE_LIMIT : Math.max(1, Math.min(limit, MAX_SAMPLE_LIMIT));
+        if (SystemConstants.Cache.LOCAL.equals(type)) {
+            Cache<Object, Object> cache = requireLocalCache(name);
+            Map<String, Object> result = localStats(cache);
+            result.put("keys", cache.asMap().keySet().stream().limit(sampleLimit).map(String::valueOf).toList());
+            return result;
+        }
+
+        String prefix = requirePrefix(type, name);
+        List<String> keys = scanKeys(prefix, sampleLimit);
+        List<Object> ttls = keys.isEmpty() ? List.of() : redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().ttl(key.getBytes(StandardCharsets.UTF_8), TimeUnit.SECONDS);
+            }
+            return null;
+        });
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        distribution.put("persistent", 0L);
+        for (String bucket : TTL_BUCKET_NAMES) {
+            distribution.put(bucket, 0L);
+        }
+        for (Object ttl : ttls) {
+            // -2 表示抽样后键已过期，不计入分布
+            long ttlSeconds = ttl instanceof Number number ? number.longValue() : -2L;
+            if (ttlSeconds != -2L) {
+                distribution.merge(ttlBucket(ttlSeconds), 1L, Long::sum);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("prefix", prefix);
+        result.put("sampled", keys.size());
+        result.put("ttlDistribution", distribution);
+        result.put("keys", keys.subList(0, Math.min(keys.size(), EXAMPLE_KEY_LIMIT)));
+        return result;
+    }
+
+    /**
+     * 驱逐缓存
+     *
+     * @param type 缓存类型：local / redis
+     * @param name 本地缓存名称或 Redis 键前缀名（如 CONTENT）
+     * @return 驱逐结果
+     */
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector String type, @Selector String name) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (SystemConstants.Cache.LOCAL.equals(type)) {
+            Cache<Object, Object> cache = requireLocalCache(name);
+            long size = cache.estimatedSize();
+            cache.invalidateAll();
+            log.info("清空本地缓存: cache={}, size={}", name, size);
+            result.put("cache", name);
+            result.put("evicted", size);
+            return result;
+        }
+
+        String prefix = requirePrefix(type, name);
+        if ("SYSTEM".equals(name)) {
+            throw new InvalidEndpointRequestException("不允许驱逐系统根前缀", "Evicting the root prefix is not allowed");
+        }
+
+        long evicted = 0;
+        List<String> batch = new ArrayList<>(UNLINK_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= UNLINK_BATCH_SIZE) {
+                    evicted += unlink(batch);
+                }
+            }
+        }
+        evicted += unlink(batch);
+
+        redisKeyMetrics.recordEvictions(name, evicted);
+        log.info("按前缀驱逐Redis键: prefix={}, evicted={}", prefix, evicted);
+        result.put("prefix", prefix);
+        result.put("evicted", evicted);
+        return result;
+    }
+
+    /**
+     * 本地缓存统计
+     *
+     * @param cache Caffeine 缓存
+     * @return 统计信息
+     */
+    private static Map<String, Object> localStats(Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("estimatedMemoryBytes", LocalCacheMetrics.estimateMemory(cache));
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("loads", stats.loadCount());
+        result.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000D);
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    private Cache<Object, Object> requireLocalCache(String name) {
+        if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+            return caffeineCache.getNativeCache();
+        }
+        throw new InvalidEndpointRequestException("本地缓存不存在: " + name, "Unknown local cache");
+    }
+
+    private String requirePrefix(String type, String name) {
+        if (!SystemConstants.Cache.REDIS.equals(type)) {
+            throw new InvalidEndpointRequestException("不支持的缓存类型: " + type, "Unknown cache type");
+        }
+        String prefix = redisKeyMetrics.getPrefixes().get(name);
+        if (prefix == null) {
+            throw new InvalidEndpointRequestException("Redis键前缀不存在: " + name, "Unknown key prefix");
+        }
+        return prefix;
+    }
+
+    private List<String> scanKeys(String prefix, int limit) {
+        List<String> keys = new ArrayList<>(limit);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext() && keys.size() < limit) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+
+    private long unlink(List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0L;
+        }
+        Long count = redisTemplate.unlink(batch);
+        batch.clear();
+        return count == null ? 0L : count;
+    }
+
+    private static String ttlBucket(long ttlSeconds) {
+        if (ttlSeconds < 0) {
+            return "persistent";
+        }
+        for (int i = 0; i < TTL_BUCKET_BOUNDS.length; i++) {
+            if (ttlSeconds < TTL_BUCKET_BOUNDS[i]) {
+                return TTL_BUCKET_NAMES[i];
+            }
+        }
+        return TTL_BUCKET_NAMES[TTL_BUCKET_NAMES.length - 1];
+    }
+}
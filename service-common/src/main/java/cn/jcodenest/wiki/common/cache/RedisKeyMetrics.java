@@ -0,0 +1,199 @@
+package cn.jcodenest.wiki.common.cache;
+
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 键前缀维度的缓存指标
+ * <p>
+ * 以 {@link RedisConstants.KeyPrefix} 中的常量名作为 {@code prefix} 标签（如 {@code CONTENT}、{@code USER}），
+ * 按最长前缀匹配归类，标签基数固定，不会因业务 ID 膨胀。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class RedisKeyMetrics {
+
+    /** 命中/未命中计数指标名 */
+    public static final String METRIC_REQUESTS = "jcodenest.redis.cache.requests";
+
+    /** 回源加载耗时指标名 */
+    public static final String METRIC_LOAD = "jcodenest.redis.cache.load";
+
+    /** 驱逐计数指标名 */
+    public static final String METRIC_EVICTIONS = "jcodenest.redis.cache.evictions";
+
+    /** 兜底前缀名 */
+    private static final String FALLBACK_PREFIX = "SYSTEM";
+
+    /**
+     * 前缀名 -> 前缀值，按前缀值长度降序，便于最长匹配
+     */
+    private final Map<String, String> prefixes;
+
+    private final Map<String, Counter> hitCounters = new HashMap<>();
+
+    private final Map<String, Counter> missCounters = new HashMap<>();
+
+    private final Map<String, Counter> evictionCounters = new HashMap<>();
+
+    private final Map<String, Timer> loadTimers = new HashMap<>();
+
+    /**
+     * 构造函数，预先为所有前缀注册指标
+     *
+     * @param meterRegistry 指标注册表
+     */
+    public RedisKeyMetrics(MeterRegistry meterRegistry) {
+        this.prefixes = Collections.unmodifiableMap(loadPrefixes());
+        for (String name : prefixes.keySet()) {
+            hitCounters.put(name, Counter.builder(METRIC_REQUESTS)
+                    .tag("prefix", name).tag("result", "hit")
+                    .description("Redis缓存命中次数").register(meterRegistry));
+            missCounters.put(name, Counter.builder(METRIC_REQUESTS)
+                    .tag("prefix", name).tag("result", "miss")
+                    .description("Redis缓存未命中次数").register(meterRegistry));
+            evictionCounters.put(name, Counter.builder(METRIC_EVICTIONS)
+                    .tag("prefix", name)
+                    .description("Redis缓存驱逐键数量").register(meterRegistry));
+            loadTimers.put(name, Timer.builder(METRIC_LOAD)
+                    .tag("prefix", name)
+                    .description("Redis缓存未命中后的回源加载耗时").register(meterRegistry));
+        }
+    }
+
+    /**
+     * 获取所有键前缀
+     *
+     * @return 前缀名 -> 前缀值
+     */
+    public Map<String, String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * 解析键所属的前缀名
+     *
+     * @param key Redis 键
+     * @return 前缀名，无法匹配时归入 SYSTEM
+     */
+    public String resolvePrefix(String key) {
+        if (key != null) {
+            for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+                if (key.startsWith(entry.getValue())) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return FALLBACK_PREFIX;
+    }
+
+    /**
+     * 记录一次命中
+     *
+     * @param key Redis 键
+     */
+    public void recordHit(String key) {
+        hitCounters.get(resolvePrefix(key)).increment();
+    }
+
+    /**
+     * 记录一次未命中
+     *
+     * @param key Redis 键
+     */
+    public void recordMiss(String key) {
+        missCounters.get(resolvePrefix(key)).increment();
+    }
+
+    /**
+     * 记录一次回源加载耗时
+     *
+     * @param key          Redis 键
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    public void recordLoad(String key, long elapsedNanos) {
+        loadTimers.get(resolvePrefix(key)).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录驱逐的键数量
+     *
+     * @param prefixName 前缀名
+     * @param count      驱逐数量
+     */
+    public void recordEvictions(String prefixName, long count) {
+        Counter counter = evictionCounters.get(prefixName);
+        if (counter != null && count > 0) {
+            counter.increment(count);
+        }
+    }
+
+    /**
+     * 获取各前缀的指标快照
+     *
+     * @return 前缀名 -> 指标
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+            String name = entry.getKey();
+            double hits = hitCounters.get(name).count();
+            double misses = missCounters.get(name).count();
+            Timer loadTimer = loadTimers.get(name);
+
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("prefix", entry.getValue());
+            metrics.put("hits", (long) hits);
+            metrics.put("misses", (long) misses);
+            metrics.put("hitRate", hits + misses == 0 ? 0D : hits / (hits + misses));
+            metrics.put("loads", loadTimer.count());
+            metrics.put("averageLoadMillis", loadTimer.mean(TimeUnit.MILLISECONDS));
+            metrics.put("evictions", (long) evictionCounters.get(name).count());
+            snapshot.put(name, metrics);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 反射读取 {@link RedisConstants.KeyPrefix} 中的所有前缀常量
+     *
+     * @return 前缀名 -> 前缀值，按前缀值长度降序
+     */
+    private static Map<String, String> loadPrefixes() {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        for (Field field : RedisConstants.KeyPrefix.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    entries.add(Map.entry(field.getName(), (String) field.get(null)));
+                } catch (IllegalAccessException e) {
+                    log.warn("读取Redis键前缀失败: {}", field.getName(), e);
+                }
+            }
+        }
+        entries.sort(Comparator.comparingInt((Map.Entry<String, String> entry) -> entry.getValue().length()).reversed());
+
+        Map<String, String> prefixes = new LinkedHashMap<>();
+        entries.forEach(entry -> prefixes.put(entry.getKey(), entry.getValue()));
+        return prefixes;
+    }
+}
@@ -0,0 +1,100 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.cache.CacheInspectEndpoint;
+import cn.jcodenest.wiki.common.cache.LocalCacheMetrics;
+import cn.jcodenest.wiki.common.cache.RedisKeyMetrics;
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 缓存配置类
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 本地（L1）缓存管理器
+     * <p>
+     * 为 {@link SystemConstants.Cache} 中声明的缓存名称创建 Caffeine 缓存并开启统计，
+     * Spring Boot 会据此自动注册 {@code cache.gets}、{@code cache.evictions}、{@code cache.size} 等指标。
+     *
+     * @return CacheManager
+     */
+    @Bean(SystemConstants.Cache.CACHE_MANAGER)
+    @ConditionalOnMissingBean(CacheManager.class)
+    public CacheManager cacheManager() {
+        log.info("初始化本地缓存管理器");
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(SystemConstants.Cache.LOCAL_MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(SystemConstants.Cache.LOCAL_EXPIRE_SECONDS))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(
+                SystemConstants.Cache.DEFAULT_CACHE,
+                SystemConstants.Cache.USER_CACHE,
+                SystemConstants.Cache.CONTENT_CACHE,
+                SystemConstants.Cache.CONFIG_CACHE));
+        return cacheManager;
+    }
+
+    /**
+     * Redis 键前缀维度的缓存指标
+     *
+     * @param meterRegistry 指标注册表
+     * @return RedisKeyMetrics
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RedisKeyMetrics redisKeyMetrics(MeterRegistry meterRegistry) {
+        return new RedisKeyMetrics(meterRegistry);
+    }
+
+    /**
+     * 本地缓存内存占用指标
+     *
+     * @param cacheManager 缓存管理器
+     * @return LocalCacheMetrics
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LocalCacheMetrics localCacheMetrics(CacheManager cacheManager) {
+        return new LocalCacheMetrics(cacheManager);
+    }
+
+    /**
+     * 缓存巡检端点
+     *
+     * @param cacheManager        缓存管理器
+     * @param stringRedisTemplate StringRedisTemplate
+     * @param redisKeyMetrics     Redis 键前缀指标
+     * @return CacheInspectEndpoint
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInspectEndpoint cacheInspectEndpoint(CacheManager cacheManager, StringRedisTemplate stringRedisTemplate,
+                                                     RedisKeyMetrics redisKeyMetrics) {
+        return new CacheInspectEndpoint(cacheManager, stringRedisTemplate, redisKeyMetrics);
+    }
+}
@@ -3,8 +3,11 @@ package cn.jcodenest.wiki.common.config;
 import cn.jcodenest.wiki.common.handler.GlobalExceptionHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Import;
@@ -20,9 +23,13 @@ import org.springframework.context.annotation.Import;
  * All rights reserved.
  */
 @Slf4j
-@AutoConfiguration
+@AutoConfiguration(before = {CacheAutoConfiguration.class, TaskExecutionAutoConfiguration.class,
+        TaskSchedulingAutoConfiguration.class}, afterName = {
+        "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration",
+        "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration"})
 @ComponentScan(basePackages = "cn.jcodenest.wiki.common")
-@Import({JacksonConfig.class, WebMvcConfig.class})
+@Import({JacksonConfig.class, WebMvcConfig.class, CacheConfig.class, RedisBatchConfig.class,
+        IdGeneratorConfig.class, SegmentIdConfig.class, SensitiveWordConfig.class, ExecutorConfig.class})
 public class CommonAutoConfiguration {
 
     /**
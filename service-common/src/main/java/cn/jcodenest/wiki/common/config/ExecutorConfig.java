@@ -0,0 +1,204 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.executor.ActiveCountingTaskDecorator;
+import cn.jcodenest.wiki.common.executor.CountingRejectedExecutionHandler;
+import cn.jcodenest.wiki.common.executor.MdcForkJoinPool;
+import cn.jcodenest.wiki.common.executor.MdcTaskDecorator;
+import cn.jcodenest.wiki.common.executor.MdcThreadPoolTaskScheduler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 线程池配置类
+ * <p>
+ * 按 {@link SystemConstants.ThreadPool} 中的名称提供隔离的执行器，所有执行器都会传递 MDC（traceId）：
+ * <ul>
+ *     <li>coreExecutor / asyncExecutor：有界平台线程池，满载时 CallerRuns 回压并计数拒绝次数</li>
+ *     <li>scheduledExecutor：定时任务调度器</li>
+ *     <li>ioExecutor：每任务一个虚拟线程，适合阻塞 IO，可选并发上限</li>
+ *     <li>cpuExecutor：工作窃取线程池，并行度默认等于 CPU 核数</li>
+ * </ul>
+ * 平台线程池的 active、queued、pool.size 等指标由 Spring Boot 自动绑定（{@code executor.*}），
+ * 这里补充 cpuExecutor 的 ForkJoinPool 指标、ioExecutor 的执行中任务数与拒绝次数。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ExecutorProperties.class)
+public class ExecutorConfig {
+
+    /** 执行中任务数指标名 */
+    public static final String METRIC_ACTIVE = "jcodenest.executor.active";
+
+    /**
+     * 核心业务线程池
+     *
+     * @param properties    线程池配置
+     * @param meterRegistry 指标注册表
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(SystemConstants.ThreadPool.CORE_EXECUTOR)
+    @ConditionalOnMissingBean(name = SystemConstants.ThreadPool.CORE_EXECUTOR)
+    public ThreadPoolTaskExecutor coreExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        return buildPool(SystemConstants.ThreadPool.CORE_EXECUTOR, "core-", properties.getCore(), meterRegistry);
+    }
+
+    /**
+     * 异步任务线程池，同时作为 @Async 与 Spring MVC 异步请求的默认执行器
+     *
+     * @param properties    线程池配置
+     * @param meterRegistry 指标注册表
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean({SystemConstants.ThreadPool.ASYNC_EXECUTOR,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME,
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnMissingBean(name = SystemConstants.ThreadPool.ASYNC_EXECUTOR)
+    public ThreadPoolTaskExecutor asyncExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        return buildPool(SystemConstants.ThreadPool.ASYNC_EXECUTOR, "async-", properties.getAsync(), meterRegistry);
+    }
+
+    /**
+     * 定时任务调度器
+     *
+     * @param properties 线程池配置
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean(SystemConstants.ThreadPool.SCHEDULED_EXECUTOR)
+    @ConditionalOnMissingBean(name = SystemConstants.ThreadPool.SCHEDULED_EXECUTOR)
+    public ThreadPoolTaskScheduler scheduledExecutor(ExecutorProperties properties) {
+        log.info("初始化定时任务调度器: poolSize={}", properties.getScheduledPoolSize());
+
+        ThreadPoolTaskScheduler scheduler = new MdcThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getScheduledPoolSize());
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(SystemConstants.ThreadPool.DEFAULT_AWAIT_TERMINATION_SECONDS);
+        return scheduler;
+    }
+
+    /**
+     * IO 执行器：每任务一个虚拟线程
+     *
+     * @param properties    线程池配置
+     * @param meterRegistry 指标注册表
+     * @return SimpleAsyncTaskExecutor
+     */
+    @Bean(SystemConstants.ThreadPool.IO_EXECUTOR)
+    @ConditionalOnMissingBean(name = SystemConstants.ThreadPool.IO_EXECUTOR)
+    public SimpleAsyncTaskExecutor ioExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        log.info("初始化IO虚拟线程执行器: concurrencyLimit={}", properties.getIoConcurrencyLimit());
+
+        ActiveCountingTaskDecorator decorator = new ActiveCountingTaskDecorator(new MdcTaskDecorator());
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("io-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(decorator);
+        if (properties.getIoConcurrencyLimit() > 0) {
+            executor.setConcurrencyLimit(properties.getIoConcurrencyLimit());
+        }
+
+        Gauge.builder(METRIC_ACTIVE, decorator, ActiveCountingTaskDecorator::getActiveCount)
+                .tag("name", SystemConstants.ThreadPool.IO_EXECUTOR)
+                .description("执行中的任务数")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * CPU 执行器：工作窃取线程池
+     *
+     * @param properties    线程池配置
+     * @param meterRegistry 指标注册表
+     * @return MdcForkJoinPool
+     */
+    @Bean(SystemConstants.ThreadPool.CPU_EXECUTOR)
+    @ConditionalOnMissingBean(name = SystemConstants.ThreadPool.CPU_EXECUTOR)
+    public MdcForkJoinPool cpuExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        log.info("初始化CPU工作窃取线程池: parallelism={}", properties.getCpuParallelism());
+
+        MdcForkJoinPool pool = new MdcForkJoinPool(properties.getCpuParallelism(), "cpu-");
+        new ExecutorServiceMetrics(pool, SystemConstants.ThreadPool.CPU_EXECUTOR, List.of()).bindTo(meterRegistry);
+        return pool;
+    }
+
+    /**
+     * 构建有界平台线程池
+     *
+     * @param name             线程池名称
+     * @param threadNamePrefix 线程名前缀
+     * @param pool             线程池配置
+     * @param meterRegistry    指标注册表
+     * @return ThreadPoolTaskExecutor
+     */
+    private static ThreadPoolTaskExecutor buildPool(String name, String threadNamePrefix, ExecutorProperties.Pool pool,
+                                                    MeterRegistry meterRegistry) {
+        log.info("初始化线程池: name={}, core={}, max={}, queue={}", name, pool.getCorePoolSize(),
+                pool.getMaxPoolSize(), pool.getQueueCapacity());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(name, meterRegistry,
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(SystemConstants.ThreadPool.DEFAULT_AWAIT_TERMINATION_SECONDS);
+        return executor;
+    }
+
+    /**
+     * Tomcat 虚拟线程配置
+     * <p>
+     * 每个请求由独立的虚拟线程处理，阻塞在数据库、Redis、MinIO 上时不占用平台线程。
+     * 设置 {@code jcodenest.executor.tomcat-virtual-threads=false} 可回退到 Tomcat 默认线程池。
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "jcodenest.executor", name = "tomcat-virtual-threads", havingValue = "true",
+            matchIfMissing = true)
+    static class TomcatVirtualThreadConfig {
+
+        /**
+         * Tomcat 请求处理使用虚拟线程
+         *
+         * @return TomcatProtocolHandlerCustomizer
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "tomcatVirtualThreadCustomizer")
+        public TomcatProtocolHandlerCustomizer<ProtocolHandler> tomcatVirtualThreadCustomizer() {
+            log.info("Tomcat 请求处理启用虚拟线程");
+            return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 线程池配置属性
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcodenest.executor")
+public class ExecutorProperties {
+
+    /**
+     * 核心业务线程池
+     */
+    private Pool core = new Pool();
+
+    /**
+     * 异步任务线程池（@Async 默认使用）
+     */
+    private Pool async = new Pool();
+
+    /**
+     * 定时任务线程数
+     */
+    private int scheduledPoolSize = SystemConstants.ThreadPool.DEFAULT_SCHEDULED_POOL_SIZE;
+
+    /**
+     * IO 虚拟线程执行器的最大并发数，小于等于 0 表示不限制
+     */
+    private int ioConcurrencyLimit = -1;
+
+    /**
+     * CPU 工作窃取线程池并行度
+     */
+    private int cpuParallelism = SystemConstants.ThreadPool.DEFAULT_CORE_POOL_SIZE;
+
+    /**
+     * Tomcat 请求处理是否使用虚拟线程
+     */
+    private boolean tomcatVirtualThreads = true;
+
+    /**
+     * 平台线程池配置属性
+     */
+    @Data
+    public static class Pool {
+
+        /**
+         * 核心线程数
+         */
+        private int corePoolSize = SystemConstants.ThreadPool.DEFAULT_CORE_POOL_SIZE;
+
+        /**
+         * 最大线程数
+         */
+        private int maxPoolSize = SystemConstants.ThreadPool.DEFAULT_MAX_POOL_SIZE;
+
+        /**
+         * 队列容量
+         */
+        private int queueCapacity = SystemConstants.ThreadPool.DEFAULT_QUEUE_CAPACITY;
+
+        /**
+         * 线程存活时间（秒）
+         */
+        private int keepAliveSeconds = SystemConstants.ThreadPool.DEFAULT_KEEP_ALIVE_SECONDS;
+    }
+}
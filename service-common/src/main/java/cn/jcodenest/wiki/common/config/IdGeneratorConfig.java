@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.id.FixedWorkerIdAssigner;
+import cn.jcodenest.wiki.common.id.IdGenerator;
+import cn.jcodenest.wiki.common.id.RedisWorkerIdAssigner;
+import cn.jcodenest.wiki.common.id.SnowflakeIdGenerator;
+import cn.jcodenest.wiki.common.id.WorkerIdAssigner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 分布式ID生成器配置类
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    /**
+     * 机器ID分配器
+     * <p>
+     * 配置了 {@code jcodenest.id.worker-id} 时使用固定值，否则通过 Redis 租约自动分配。
+     *
+     * @param properties          ID生成器配置
+     * @param stringRedisTemplate StringRedisTemplate
+     * @return WorkerIdAssigner
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WorkerIdAssigner workerIdAssigner(IdGeneratorProperties properties, StringRedisTemplate stringRedisTemplate) {
+        if (properties.getWorkerId() >= 0) {
+            log.info("使用固定雪花算法机器ID: workerId={}", properties.getWorkerId());
+            return new FixedWorkerIdAssigner(properties.getWorkerId());
+        }
+        return new RedisWorkerIdAssigner(stringRedisTemplate, SnowflakeIdGenerator.MAX_WORKER_ID,
+                Duration.ofSeconds(properties.getLeaseSeconds()));
+    }
+
+    /**
+     * 雪花算法ID生成器
+     *
+     * @param properties       ID生成器配置
+     * @param workerIdAssigner 机器ID分配器
+     * @return IdGenerator
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGenerator idGenerator(IdGeneratorProperties properties, WorkerIdAssigner workerIdAssigner) {
+        return new SnowflakeIdGenerator(workerIdAssigner, properties.getMaxBorrowMillis(), properties.getMaxWaitMillis());
+    }
+}
@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分布式ID生成器配置属性
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcodenest.id")
+public class IdGeneratorProperties {
+
+    /**
+     * 固定机器ID（0-1023），小于 0 时通过 Redis 租约自动分配
+     */
+    private int workerId = -1;
+
+    /**
+     * 机器ID租期（秒），每 1/3 租期续约一次
+     */
+    private long leaseSeconds = 60L;
+
+    /**
+     * 序列号用尽或时钟回拨时允许借用的最大毫秒数，不小于 25（最大批量跨越的毫秒数）
+     */
+    private long maxBorrowMillis = 50L;
+
+    /**
+     * 借用超限时允许等待时钟追上的最大毫秒数，超过则拒绝生成
+     */
+    private long maxWaitMillis = 1000L;
+
+    /**
+     * 号段模式配置
+     */
+    private Segment segment = new Segment();
+
+    /**
+     * 号段模式配置属性
+     */
+    @Data
+    public static class Segment {
+
+        /**
+         * 号段用尽且预取未完成时允许等待的最大毫秒数
+         */
+        private long maxWaitMillis = 500L;
+
+        /**
+         * 启动时预加载首个号段的业务标识
+         */
+        private List<String> preloadTags = new ArrayList<>();
+    }
+}
@@ -0,0 +1,43 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.cache.RedisKeyMetrics;
+import cn.jcodenest.wiki.common.redis.RedisBatchLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Redis 批量访问配置类
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication
+public class RedisBatchConfig {
+
+    /**
+     * 请求作用域的 Redis 批量加载器
+     * <p>
+     * 每个 HTTP 请求持有独立实例，请求内登记的查询统一合并发送，请求结束即丢弃。
+     *
+     * @param stringRedisTemplate StringRedisTemplate
+     * @param redisKeyMetrics     Redis 键前缀指标
+     * @return RedisBatchLoader
+     */
+    @Bean
+    @RequestScope
+    @ConditionalOnMissingBean
+    public RedisBatchLoader redisBatchLoader(StringRedisTemplate stringRedisTemplate, RedisKeyMetrics redisKeyMetrics) {
+        return new RedisBatchLoader(stringRedisTemplate, redisKeyMetrics);
+    }
+}
@@ -0,0 +1,49 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.id.SegmentIdAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 号段模式ID分配配置类
+ * <p>
+ * 仅在业务服务引入数据源（存在 JdbcTemplate 与事务管理器）时生效。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(JdbcTemplate.class)
+@ConditionalOnBean({JdbcTemplate.class, PlatformTransactionManager.class})
+public class SegmentIdConfig {
+
+    /**
+     * 号段模式ID分配器
+     *
+     * @param properties         ID生成器配置
+     * @param jdbcTemplate       JdbcTemplate
+     * @param transactionManager 事务管理器
+     * @return SegmentIdAllocator
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SegmentIdAllocator segmentIdAllocator(IdGeneratorProperties properties, JdbcTemplate jdbcTemplate,
+                                                 PlatformTransactionManager transactionManager) {
+        log.info("初始化号段模式ID分配器");
+        IdGeneratorProperties.Segment segment = properties.getSegment();
+        SegmentIdAllocator allocator = new SegmentIdAllocator(jdbcTemplate, transactionManager, segment.getMaxWaitMillis());
+        allocator.preload(segment.getPreloadTags());
+        return allocator;
+    }
+}
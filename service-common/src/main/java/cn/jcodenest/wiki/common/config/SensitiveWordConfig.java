@@ -0,0 +1,58 @@
+package cn.jcodenest.wiki.common.config;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.sensitive.SensitiveWordFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 敏感词过滤配置类
+ * <p>
+ * 仅在业务服务引入数据源（存在 JdbcTemplate）时生效，词典保存在 {@code sys_dict}。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(JdbcTemplate.class)
+@ConditionalOnBean(JdbcTemplate.class)
+@ConditionalOnProperty(prefix = "jcodenest.sensitive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SensitiveWordProperties.class)
+public class SensitiveWordConfig {
+
+    /**
+     * 敏感词过滤器：启动时加载词典，之后定时检查词典变化并重建
+     *
+     * @param properties   敏感词过滤配置
+     * @param jdbcTemplate JdbcTemplate
+     * @param scheduler    定时任务调度器
+     * @return SensitiveWordFilter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SensitiveWordFilter sensitiveWordFilter(SensitiveWordProperties properties, JdbcTemplate jdbcTemplate,
+                                                   @Qualifier(SystemConstants.ThreadPool.SCHEDULED_EXECUTOR)
+                                                   TaskScheduler scheduler) {
+        log.info("初始化敏感词过滤器: dictType={}, refreshSeconds={}", properties.getDictType(),
+                properties.getRefreshSeconds());
+        SensitiveWordFilter filter = new SensitiveWordFilter(jdbcTemplate, properties.getDictType(),
+                properties.isSkipNoise());
+        filter.refresh();
+        filter.schedule(scheduler, properties.getRefreshSeconds());
+        return filter;
+    }
+}
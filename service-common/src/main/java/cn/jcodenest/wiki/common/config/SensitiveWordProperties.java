@@ -0,0 +1,39 @@
+package cn.jcodenest.wiki.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 敏感词过滤配置属性
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcodenest.sensitive")
+public class SensitiveWordProperties {
+
+    /**
+     * 是否启用（需要数据源）
+     */
+    private boolean enabled = true;
+
+    /**
+     * 词典在 sys_dict 中的字典类型
+     */
+    private String dictType = "sensitive_word";
+
+    /**
+     * 检查词典变化的间隔（秒）
+     */
+    private long refreshSeconds = 30L;
+
+    /**
+     * 是否跳过空白、标点、符号等干扰字符
+     */
+    private boolean skipNoise = true;
+}
@@ -253,6 +253,42 @@ public final class CommonConstants {
         public static final java.lang.String[] DOCUMENT_EXTENSIONS = {
             "pdf", "doc", "docx", "xls", "xlsx", "ppt", "pptx", "txt", "md"
         };
+        
+        /** 文件类型：图片 */
+        public static final java.lang.String TYPE_IMAGE = "image";
+        
+        /** 文件类型：视频 */
+        public static final java.lang.String TYPE_VIDEO = "video";
+        
+        /** 文件类型：音频 */
+        public static final java.lang.String TYPE_AUDIO = "audio";
+        
+        /** 文件类型：文档 */
+        public static final java.lang.String TYPE_DOCUMENT = "document";
+        
+        /** 文件类型：其他 */
+        public static final java.lang.String TYPE_OTHER = "other";
+        
+        /** 未知类型的MIME */
+        public static final java.lang.String OCTET_STREAM = "application/octet-stream";
+    }
+
+    /**
+     * 摘要算法常量
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Digest {
+        /** MD5 */
+        public static final java.lang.String MD5 = "MD5";
+        
+        /** SHA-1 */
+        public static final java.lang.String SHA1 = "SHA-1";
+        
+        /** SHA-256 */
+        public static final java.lang.String SHA256 = "SHA-256";
+        
+        /** 树哈希默认分块大小（4MB） */
+        public static final int DEFAULT_TREE_CHUNK_SIZE = 4 * 1024 * 1024;
     }
 
     /**
@@ -56,6 +56,9 @@ public final class RedisConstants {
         
         /** 验证码前缀 */
         public static final String CAPTCHA = SYSTEM + "captcha:";
+        
+        /** 分布式ID前缀 */
+        public static final String ID = SYSTEM + "id:";
     }
 
     /**
@@ -93,6 +96,9 @@ public final class RedisConstants {
         /** 内容信息缓存 */
         public static final String CONTENT_INFO = KeyPrefix.CONTENT + "info:";
         
+        /** 内容正文缓存（内容ID + 正文版本号） */
+        public static final String CONTENT_BODY = KeyPrefix.CONTENT + "body:";
+        
         /** 内容浏览量缓存 */
         public static final String CONTENT_VIEW_COUNT = KeyPrefix.CONTENT + "view_count:";
         
@@ -102,9 +108,15 @@ public final class RedisConstants {
         /** 内容评论量缓存 */
         public static final String CONTENT_COMMENT_COUNT = KeyPrefix.CONTENT + "comment_count:";
         
-        /** 热门内容缓存 */
+        /** 热门内容排行（全站，有序集合：内容ID -> 热度分） */
         public static final String HOT_CONTENT = KeyPrefix.CONTENT + "hot";
         
+        /** 分类热门内容排行（分类ID，含子分类的内容） */
+        public static final String HOT_CATEGORY_CONTENT = KeyPrefix.CONTENT + "hot:category:";
+        
+        /** 热门内容的累计互动分（哈希：内容ID -> 加权互动分） */
+        public static final String HOT_POINTS = KeyPrefix.CONTENT + "hot:points";
+        
         /** 推荐内容缓存 */
         public static final String RECOMMEND_CONTENT = KeyPrefix.CONTENT + "recommend:";
         
@@ -186,6 +198,18 @@ public final class RedisConstants {
         /** 文件上传进度 */
         public static final String UPLOAD_PROGRESS = KeyPrefix.FILE + "upload_progress:";
         
+        /** 分片上传会话 */
+        public static final String UPLOAD_SESSION = KeyPrefix.FILE + "upload_session:";
+        
+        /** 断点续传索引（用户ID + 文件MD5 -> 上传会话ID） */
+        public static final String UPLOAD_RESUME = KeyPrefix.FILE + "upload_resume:";
+        
+        /** 秒传抽样校验挑战 */
+        public static final String INSTANT_CHALLENGE = KeyPrefix.FILE + "instant_challenge:";
+        
+        /** 增量上传分块校验挑战 */
+        public static final String DEDUP_CHALLENGE = KeyPrefix.FILE + "dedup_challenge:";
+        
         /** 文件下载次数 */
         public static final String DOWNLOAD_COUNT = KeyPrefix.FILE + "download_count:";
     }
@@ -227,6 +251,12 @@ public final class RedisConstants {
         
         /** 支付处理锁 */
         public static final String PAYMENT_PROCESS = KeyPrefix.LOCK + "payment_process:";
+        
+        /** 分片上传合并锁 */
+        public static final String UPLOAD_COMPLETE = KeyPrefix.LOCK + "upload_complete:";
+        
+        /** 定时任务锁（集群内只有一个实例执行） */
+        public static final String SCHEDULED_TASK = KeyPrefix.LOCK + "scheduled_task:";
     }
 
     /**
@@ -250,6 +280,36 @@ public final class RedisConstants {
         public static final String EMAIL_SEND = KeyPrefix.RATE_LIMIT + "email_send:";
     }
 
+    /**
+     * 分布式ID相关键
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class IdKey {
+        /** 雪花算法机器ID租约 */
+        public static final String WORKER_LEASE = KeyPrefix.ID + "worker_lease:";
+    }
+
+    /**
+     * 发布订阅频道
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Channel {
+        /** 分类变更通知（消息体为分类ID） */
+        public static final String CATEGORY_CHANGE = KeyPrefix.SYSTEM + "channel:category_change";
+    }
+
+    /**
+     * 批量访问相关常量
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Batch {
+        /** 单条 MGET 命令最多携带的键数量 */
+        public static final int MAX_KEYS_PER_MGET = 500;
+
+        /** 单次 Pipeline 最多发送的命令数量 */
+        public static final int MAX_COMMANDS_PER_PIPELINE = 1000;
+    }
+
     /**
      * 过期时间常量（秒）
      */
@@ -177,6 +177,9 @@ public final class SystemConstants {
         /** 数据库备份任务 */
         public static final String DATABASE_BACKUP = "database-backup";
         
+        /** 热门内容排行计算任务 */
+        public static final String HOT_CONTENT_RANKING = "hot-content-ranking";
+        
         /** 文件备份任务 */
         public static final String FILE_BACKUP = "file-backup";
     }
@@ -275,6 +278,12 @@ public final class SystemConstants {
         
         /** 系统配置缓存名称 */
         public static final String CONFIG_CACHE = "config";
+        
+        /** 本地缓存单个缓存的最大条目数 */
+        public static final long LOCAL_MAXIMUM_SIZE = 10000L;
+        
+        /** 本地缓存写入后过期时间（秒） */
+        public static final long LOCAL_EXPIRE_SECONDS = 600L;
     }
 
     /**
@@ -308,6 +317,21 @@ public final class SystemConstants {
         
         /** 默认线程存活时间（秒） */
         public static final int DEFAULT_KEEP_ALIVE_SECONDS = 60;
+        
+        /** 默认定时任务线程数 */
+        public static final int DEFAULT_SCHEDULED_POOL_SIZE = Math.max(2, DEFAULT_CORE_POOL_SIZE / 2);
+        
+        /** 关闭时等待任务完成的最长时间（秒） */
+        public static final int DEFAULT_AWAIT_TERMINATION_SECONDS = 30;
+    }
+
+    /**
+     * 号段ID业务标识（对应 sys_id_segment.biz_tag）
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class IdSegment {
+        /** 订单号 */
+        public static final String PAY_ORDER = "pay_order";
     }
 
     /**
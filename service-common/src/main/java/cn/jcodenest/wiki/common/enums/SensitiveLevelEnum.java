@@ -0,0 +1,59 @@
+package cn.jcodenest.wiki.common.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 敏感词级别枚举（sys_dict 中 sensitive_word 类型的 dict_value）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum SensitiveLevelEnum {
+
+    /**
+     * 禁止：命中直接拒绝
+     */
+    BLOCK(1, "禁止"),
+
+    /**
+     * 复核：命中转人工复核
+     */
+    REVIEW(2, "复核");
+
+    /**
+     * 级别码
+     */
+    private final Integer code;
+
+    /**
+     * 级别名称
+     */
+    private final String name;
+
+    /**
+     * 根据级别码获取枚举
+     *
+     * @param code 级别码
+     * @return SensitiveLevelEnum枚举，如果不存在则返回null
+     */
+    public static SensitiveLevelEnum getByCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (SensitiveLevelEnum level : values()) {
+            if (level.getCode().equals(code)) {
+                return level;
+            }
+        }
+        return null;
+    }
+}
@@ -137,6 +137,11 @@ public enum ErrorCode {
     FILE_ALREADY_EXISTS(6007, "文件已存在"),
     STORAGE_SPACE_INSUFFICIENT(6008, "存储空间不足"),
     FILE_CORRUPTED(6009, "文件已损坏"),
+    UPLOAD_SESSION_NOT_FOUND(6010, "上传会话不存在或已过期"),
+    UPLOAD_CHUNK_INVALID(6011, "上传分片无效"),
+    UPLOAD_INCOMPLETE(6012, "文件分片未全部上传"),
+    INSTANT_UPLOAD_VERIFY_FAILED(6013, "秒传校验失败"),
+    IMAGE_TRANSFORM_FAILED(6014, "图片处理失败"),
 
     /**
      * 社交相关错误码 (7000-7099)
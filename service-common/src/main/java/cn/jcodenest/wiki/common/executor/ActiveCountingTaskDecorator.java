@@ -0,0 +1,55 @@
+package cn.jcodenest.wiki.common.executor;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 统计执行中任务数的装饰器
+ * <p>
+ * 虚拟线程执行器没有线程池与队列，用它补充 active 指标。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public class ActiveCountingTaskDecorator implements TaskDecorator {
+
+    private final TaskDecorator delegate;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    /**
+     * 构造函数
+     *
+     * @param delegate 内层装饰器
+     */
+    public ActiveCountingTaskDecorator(TaskDecorator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Runnable decorated = delegate.decorate(runnable);
+        return () -> {
+            activeCount.incrementAndGet();
+            try {
+                decorated.run();
+            } finally {
+                activeCount.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * 执行中的任务数
+     *
+     * @return 任务数
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+}
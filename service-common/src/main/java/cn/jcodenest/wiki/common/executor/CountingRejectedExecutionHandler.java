@@ -0,0 +1,58 @@
+package cn.jcodenest.wiki.common.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 统计拒绝次数的拒绝策略
+ * <p>
+ * 先计数 {@link #METRIC_REJECTED} 再委托给实际策略（默认 CallerRunsPolicy），
+ * 拒绝次数持续增长说明线程池容量或队列长度不足。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    /** 拒绝次数指标名 */
+    public static final String METRIC_REJECTED = "jcodenest.executor.rejected";
+
+    private final String name;
+
+    private final Counter counter;
+
+    private final RejectedExecutionHandler delegate;
+
+    /**
+     * 构造函数
+     *
+     * @param name          线程池名称
+     * @param meterRegistry 指标注册表
+     * @param delegate      实际拒绝策略
+     */
+    public CountingRejectedExecutionHandler(String name, MeterRegistry meterRegistry, RejectedExecutionHandler delegate) {
+        this.name = name;
+        this.counter = Counter.builder(METRIC_REJECTED)
+                .tag("name", name)
+                .description("线程池拒绝任务次数")
+                .register(meterRegistry);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+        counter.increment();
+        log.warn("线程池已满，触发拒绝策略: name={}, active={}, queued={}, policy={}", name, executor.getActiveCount(),
+                executor.getQueue().size(), delegate.getClass().getSimpleName());
+        delegate.rejectedExecution(runnable, executor);
+    }
+}
@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.common.executor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * 传递 MDC 的工作窃取线程池
+ * <p>
+ * 通过 {@code execute}/{@code submit}/{@code invokeAll} 提交的普通任务会携带提交线程的 MDC；
+ * {@link ForkJoinTask} 的 fork/join 子任务在同一调用链内执行，不做额外包装。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public class MdcForkJoinPool extends ForkJoinPool {
+
+    /**
+     * 构造函数
+     *
+     * @param parallelism      并行度
+     * @param threadNamePrefix 线程名前缀
+     */
+    public MdcForkJoinPool(int parallelism, String threadNamePrefix) {
+        super(parallelism, pool -> {
+            ForkJoinWorkerThread thread = defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        super.execute(MdcTaskDecorator.wrap(task));
+    }
+
+    @Override
+    public ForkJoinTask<?> submit(Runnable task) {
+        return super.submit(MdcTaskDecorator.wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+        return super.submit(MdcTaskDecorator.wrap(task), result);
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return super.submit(MdcTaskDecorator.wrap(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
+        return super.invokeAll(tasks.stream().map(MdcTaskDecorator::wrap).toList());
+    }
+}
@@ -0,0 +1,75 @@
+package cn.jcodenest.wiki.common.executor;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * MDC 上下文传递装饰器
+ * <p>
+ * 在提交任务的线程上捕获 MDC（含 traceId），在执行线程上恢复，执行结束后还原执行线程原有的 MDC，
+ * 避免线程池复用线程时上下文串号。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return wrap(runnable);
+    }
+
+    /**
+     * 包装 Runnable，携带当前线程的 MDC
+     *
+     * @param runnable 任务
+     * @return 包装后的任务
+     */
+    public static Runnable wrap(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(context);
+            try {
+                runnable.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装 Callable，携带当前线程的 MDC
+     *
+     * @param callable 任务
+     * @param <T>      返回类型
+     * @return 包装后的任务
+     */
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(context);
+            try {
+                return callable.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package cn.jcodenest.wiki.common.executor;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 传递 MDC 的定时任务调度器
+ * <p>
+ * Spring 6.1 的 {@link ThreadPoolTaskScheduler} 不支持 {@code TaskDecorator}，
+ * 这里在提交与调度入口包装任务，携带提交线程的 MDC；周期任务每次执行都恢复提交时的 MDC。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public class MdcThreadPoolTaskScheduler extends ThreadPoolTaskScheduler {
+
+    @Override
+    public void execute(Runnable task) {
+        super.execute(MdcTaskDecorator.wrap(task));
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return super.submit(MdcTaskDecorator.wrap(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return super.submit(MdcTaskDecorator.wrap(task));
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return super.schedule(MdcTaskDecorator.wrap(task), trigger);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        return super.schedule(MdcTaskDecorator.wrap(task), startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return super.scheduleAtFixedRate(MdcTaskDecorator.wrap(task), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return super.scheduleAtFixedRate(MdcTaskDecorator.wrap(task), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        return super.scheduleWithFixedDelay(MdcTaskDecorator.wrap(task), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return super.scheduleWithFixedDelay(MdcTaskDecorator.wrap(task), delay);
+    }
+}
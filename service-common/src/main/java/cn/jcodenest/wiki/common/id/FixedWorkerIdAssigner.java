@@ -0,0 +1,37 @@
+package cn.jcodenest.wiki.common.id;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 固定机器ID分配器，适用于通过配置显式指定机器ID的部署
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public class FixedWorkerIdAssigner implements WorkerIdAssigner {
+
+    private final int workerId;
+
+    /**
+     * 构造函数
+     *
+     * @param workerId 机器ID
+     */
+    public FixedWorkerIdAssigner(int workerId) {
+        this.workerId = workerId;
+    }
+
+    @Override
+    public int acquire(IntConsumer reassignListener) {
+        return workerId;
+    }
+
+    @Override
+    public void release() {
+        // 固定分配无需释放
+    }
+}
@@ -0,0 +1,29 @@
+package cn.jcodenest.wiki.common.id;
+
+/**
+ * 分布式ID生成器
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface IdGenerator {
+
+    /**
+     * 生成一个ID
+     *
+     * @return ID
+     */
+    long nextId();
+
+    /**
+     * 批量生成ID，适用于批量插入
+     *
+     * @param count 数量
+     * @return 严格递增的ID数组
+     */
+    long[] nextIds(int count);
+}
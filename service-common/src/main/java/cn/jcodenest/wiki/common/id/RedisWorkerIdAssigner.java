@@ -0,0 +1,182 @@
+package cn.jcodenest.wiki.common.id;
+
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.exception.SystemException;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 基于 Redis 租约的机器ID分配器
+ * <p>
+ * 启动时从随机位置开始以 {@code SET NX EX} 抢占 {@link RedisConstants.IdKey#WORKER_LEASE} + workerId，
+ * 之后每 1/3 租期用 Lua 脚本校验持有者并续约；续约失败（如长时间 GC 或网络分区导致租约过期）时
+ * 优先重新抢占原ID，被占用则换一个新ID并通知生成器。
+ * <p>
+ * 租约的本地过期时间以发起抢占/续约请求前的时刻计算，偏向保守；续约持续失败（如 Redis 不可用）
+ * 直到超过租期时，{@link #isLeaseValid()} 返回 false，生成器停止使用该机器ID。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class RedisWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * 续约脚本：仅当持有者一致时延长过期时间
+     */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('expire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    /**
+     * 释放脚本：仅当持有者一致时删除
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final int maxWorkerId;
+
+    private final Duration leaseTime;
+
+    /**
+     * 租约持有者标识：进程名（pid@host）+ 随机串
+     */
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + StringUtils.randomString(8);
+
+    private volatile int workerId = -1;
+
+    /**
+     * 租约本地过期时间（毫秒时间戳）
+     */
+    private volatile long leaseExpireAt;
+
+    private IntConsumer reassignListener;
+
+    private ScheduledExecutorService renewer;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板
+     * @param maxWorkerId   最大机器ID
+     * @param leaseTime     租期
+     */
+    public RedisWorkerIdAssigner(StringRedisTemplate redisTemplate, int maxWorkerId, Duration leaseTime) {
+        this.redisTemplate = redisTemplate;
+        this.maxWorkerId = maxWorkerId;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public synchronized int acquire(IntConsumer reassignListener) {
+        if (workerId >= 0) {
+            return workerId;
+        }
+
+        this.reassignListener = reassignListener;
+        this.workerId = lease(ThreadLocalRandom.current().nextInt(maxWorkerId + 1));
+
+        long period = Math.max(1L, leaseTime.toSeconds() / 3);
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snowflake-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewer.scheduleAtFixedRate(this::renew, period, period, TimeUnit.SECONDS);
+        return workerId;
+    }
+
+    @Override
+    public boolean isLeaseValid() {
+        return System.currentTimeMillis() < leaseExpireAt;
+    }
+
+    @Override
+    public synchronized void release() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+            renewer = null;
+        }
+        if (workerId < 0) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(workerId)), owner);
+            log.info("释放雪花算法机器ID: workerId={}", workerId);
+        } catch (RuntimeException e) {
+            log.warn("释放雪花算法机器ID失败，等待租约自然过期: workerId={}", workerId, e);
+        }
+        workerId = -1;
+        leaseExpireAt = 0L;
+    }
+
+    /**
+     * 从指定位置开始依次抢占机器ID
+     *
+     * @param start 起始机器ID
+     * @return 抢占到的机器ID
+     */
+    private int lease(int start) {
+        for (int i = 0; i <= maxWorkerId; i++) {
+            int candidate = (start + i) % (maxWorkerId + 1);
+            long requestedAt = System.currentTimeMillis();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(candidate), owner, leaseTime))) {
+                log.info("获取雪花算法机器ID: workerId={}, owner={}, leaseTime={}", candidate, owner, leaseTime);
+                leaseExpireAt = requestedAt + leaseTime.toMillis();
+                return candidate;
+            }
+        }
+        throw SystemException.of("雪花算法机器ID已耗尽: maxWorkerId=" + maxWorkerId);
+    }
+
+    /**
+     * 续约，租约丢失时重新抢占
+     */
+    private synchronized void renew() {
+        if (workerId < 0) {
+            return;
+        }
+
+        try {
+            long requestedAt = System.currentTimeMillis();
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey(workerId)), owner,
+                    String.valueOf(leaseTime.toSeconds()));
+            if (renewed != null && renewed == 1L) {
+                leaseExpireAt = requestedAt + leaseTime.toMillis();
+                return;
+            }
+
+            int previous = workerId;
+            log.warn("雪花算法机器ID租约已丢失，重新申请: workerId={}", previous);
+            workerId = lease(previous);
+            if (workerId != previous) {
+                reassignListener.accept(workerId);
+            }
+        } catch (RuntimeException e) {
+            log.error("续约雪花算法机器ID失败: workerId={}", workerId, e);
+        }
+    }
+
+    private static String leaseKey(int workerId) {
+        return RedisConstants.IdKey.WORKER_LEASE + workerId;
+    }
+}
@@ -0,0 +1,320 @@
+package cn.jcodenest.wiki.common.id;
+
+import cn.jcodenest.wiki.common.exception.SystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 号段模式ID分配器
+ * <p>
+ * 从 {@code sys_id_segment} 表按业务标识租用一段连续的号码，在内存中自增发放，适用于订单号等要求跨节点单调递增的业务ID。
+ * 每个业务标识持有当前号段与预取号段两个缓冲：当前号段消耗到 {@link #PREFETCH_RATIO} 时异步加载下一段，
+ * 用尽时直接切换，发号路径只有一次原子自增，不访问数据库。
+ * <p>
+ * 步长随消耗速度动态调整：一个号段在 {@link #SEGMENT_DURATION_MILLIS} 内用完则步长翻倍（上限 {@link #MAX_STEP}），
+ * 超过两倍时长才用完则减半（下限为表中配置的 step），使高峰期预取始终领先于消耗。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class SegmentIdAllocator implements AutoCloseable {
+
+    /** 当前号段消耗到该比例时触发预取 */
+    public static final double PREFETCH_RATIO = 0.8D;
+
+    /** 号段期望使用时长（毫秒） */
+    public static final long SEGMENT_DURATION_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    /** 最大步长 */
+    public static final int MAX_STEP = 1_000_000;
+
+    private static final String UPDATE_DEFAULT_STEP_SQL =
+            "UPDATE sys_id_segment SET max_id = max_id + step WHERE biz_tag = ?";
+
+    private static final String UPDATE_CUSTOM_STEP_SQL =
+            "UPDATE sys_id_segment SET max_id = max_id + ? WHERE biz_tag = ?";
+
+    private static final String SELECT_SQL = "SELECT max_id, step FROM sys_id_segment WHERE biz_tag = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long maxWaitMillis;
+
+    private final ExecutorService prefetchExecutor;
+
+    private final ConcurrentMap<String, SegmentBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param jdbcTemplate       JdbcTemplate
+     * @param transactionManager 事务管理器
+     * @param maxWaitMillis      号段用尽且预取未完成时允许等待的最大毫秒数
+     */
+    public SegmentIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              long maxWaitMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 号段更新必须独立提交，不能挂在调用方的事务上
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxWaitMillis = maxWaitMillis;
+        this.prefetchExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "id-segment-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 获取下一个ID
+     *
+     * @param bizTag 业务标识
+     * @return ID
+     */
+    public long nextId(String bizTag) {
+        SegmentBuffer buffer = buffers.computeIfAbsent(bizTag, this::initBuffer);
+        while (true) {
+            Segment segment = buffer.current;
+            long id = segment.cursor.getAndIncrement();
+            if (id >= segment.prefetchAt && buffer.next == null) {
+                prefetch(buffer);
+            }
+            if (id <= segment.maxId) {
+                return id;
+            }
+            switchOrAwait(buffer, segment);
+        }
+    }
+
+    /**
+     * 预加载业务标识的首个号段，避免首次发号时同步访问数据库
+     *
+     * @param bizTags 业务标识
+     */
+    public void preload(Collection<String> bizTags) {
+        for (String bizTag : bizTags) {
+            try {
+                buffers.computeIfAbsent(bizTag, this::initBuffer);
+            } catch (RuntimeException e) {
+                log.warn("预加载ID号段失败，首次发号时重试: bizTag={}", bizTag, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 当前号段用尽：切换到预取号段，预取未完成则有界等待
+     *
+     * @param buffer    双缓冲
+     * @param exhausted 已用尽的号段
+     */
+    private void switchOrAwait(SegmentBuffer buffer, Segment exhausted) {
+        synchronized (buffer) {
+            if (buffer.current != exhausted) {
+                return;
+            }
+            if (buffer.next != null) {
+                buffer.current = buffer.next;
+                buffer.next = null;
+                return;
+            }
+        }
+
+        try {
+            prefetch(buffer).get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw SystemException.database("ID号段加载超时: " + buffer.bizTag);
+        } catch (ExecutionException e) {
+            throw SystemException.database("ID号段加载失败: " + buffer.bizTag + ", " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SystemException.database("ID号段加载被中断: " + buffer.bizTag);
+        }
+    }
+
+    /**
+     * 异步预取下一个号段，同一时刻每个业务标识只有一个加载任务
+     * <p>
+     * 加载任务的 future 在缓冲锁内先发布、再置 loading 并提交任务，
+     * 因此看到 loading 为 true 的线程读到的一定是本次加载的 future。
+     *
+     * @param buffer 双缓冲
+     * @return 正在进行（或刚完成）的加载任务
+     */
+    private CompletableFuture<Void> prefetch(SegmentBuffer buffer) {
+        if (buffer.loading) {
+            return buffer.pending;
+        }
+
+        synchronized (buffer) {
+            if (buffer.loading || buffer.next != null) {
+                return buffer.pending;
+            }
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            buffer.pending = pending;
+            buffer.loading = true;
+            try {
+                prefetchExecutor.execute(() -> loadNext(buffer, pending));
+            } catch (RejectedExecutionException e) {
+                buffer.loading = false;
+                pending.completeExceptionally(e);
+            }
+            return pending;
+        }
+    }
+
+    /**
+     * 加载下一个号段并完成对应的 future
+     *
+     * @param buffer  双缓冲
+     * @param pending 本次加载任务
+     */
+    private void loadNext(SegmentBuffer buffer, CompletableFuture<Void> pending) {
+        try {
+            Segment segment = load(buffer);
+            synchronized (buffer) {
+                buffer.next = segment;
+                buffer.loading = false;
+            }
+            pending.complete(null);
+        } catch (RuntimeException e) {
+            log.error("预取ID号段失败: bizTag={}", buffer.bizTag, e);
+            synchronized (buffer) {
+                buffer.loading = false;
+            }
+            pending.completeExceptionally(e);
+        }
+    }
+
+    private SegmentBuffer initBuffer(String bizTag) {
+        SegmentBuffer buffer = new SegmentBuffer(bizTag);
+        buffer.current = load(buffer);
+        return buffer;
+    }
+
+    /**
+     * 从数据库租用一个号段
+     *
+     * @param buffer 双缓冲
+     * @return 号段
+     */
+    private Segment load(SegmentBuffer buffer) {
+        long now = System.currentTimeMillis();
+        int requestedStep = nextStep(buffer, now);
+
+        long[] row = transactionTemplate.execute(status -> {
+            int updated = requestedStep > 0
+                    ? jdbcTemplate.update(UPDATE_CUSTOM_STEP_SQL, requestedStep, buffer.bizTag)
+                    : jdbcTemplate.update(UPDATE_DEFAULT_STEP_SQL, buffer.bizTag);
+            if (updated == 0) {
+                throw SystemException.database("ID号段不存在: " + buffer.bizTag);
+            }
+            return jdbcTemplate.queryForObject(SELECT_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong("max_id"), rs.getInt("step")}, buffer.bizTag);
+        });
+
+        long maxId = row[0];
+        int minStep = (int) row[1];
+        int step = requestedStep > 0 ? requestedStep : minStep;
+        buffer.minStep = minStep;
+        buffer.step = step;
+        buffer.lastLoadMillis = now;
+
+        log.info("租用ID号段: bizTag={}, range=[{}, {}], step={}", buffer.bizTag, maxId - step + 1, maxId, step);
+        return new Segment(maxId - step + 1, maxId);
+    }
+
+    /**
+     * 根据上一个号段的消耗速度计算本次步长
+     *
+     * @param buffer 双缓冲
+     * @param now    当前时间
+     * @return 步长，0 表示首次加载使用表中配置的步长
+     */
+    private static int nextStep(SegmentBuffer buffer, long now) {
+        if (buffer.step == 0) {
+            return 0;
+        }
+
+        long elapsed = now - buffer.lastLoadMillis;
+        if (elapsed < SEGMENT_DURATION_MILLIS) {
+            return Math.min(buffer.step * 2, MAX_STEP);
+        }
+        if (elapsed >= SEGMENT_DURATION_MILLIS * 2) {
+            return Math.max(buffer.step / 2, buffer.minStep);
+        }
+        return buffer.step;
+    }
+
+    /**
+     * 号段：[start, maxId]
+     */
+    private static final class Segment {
+
+        private final AtomicLong cursor;
+
+        private final long maxId;
+
+        private final long prefetchAt;
+
+        private Segment(long start, long maxId) {
+            this.cursor = new AtomicLong(start);
+            this.maxId = maxId;
+            this.prefetchAt = start + (long) ((maxId - start + 1) * PREFETCH_RATIO);
+        }
+    }
+
+    /**
+     * 业务标识的双缓冲
+     */
+    private static final class SegmentBuffer {
+
+        private final String bizTag;
+
+        /** 是否有加载任务进行中，只在缓冲锁内修改 */
+        private volatile boolean loading;
+
+        private volatile Segment current;
+
+        private volatile Segment next;
+
+        private volatile CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+        /** 以下字段只在加载线程中读写（由 loading 标志保证互斥） */
+        private volatile int step;
+
+        private volatile int minStep;
+
+        private volatile long lastLoadMillis;
+
+        private SegmentBuffer(String bizTag) {
+            this.bizTag = bizTag;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package cn.jcodenest.wiki.common.id;
+
+import cn.jcodenest.wiki.common.exception.SystemException;
+import cn.jcodenest.wiki.common.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 雪花算法ID生成器
+ * <p>
+ * 位布局：1 位符号 + 41 位毫秒时间戳（相对 {@link #EPOCH}）+ 10 位机器ID + 12 位序列号。
+ * <p>
+ * 时间戳与序列号打包在同一个 {@link AtomicLong} 中（{@code 时间戳 << 12 | 序列号}），
+ * 分配即一次 CAS 区间预留，无锁且天然支持批量：
+ * <ul>
+ *     <li>序列号用尽时进位到下一毫秒，相当于向未来“借用”时间</li>
+ *     <li>时钟回拨时继续沿用上次的时间戳递增，同样视为借用</li>
+ *     <li>借用超过 {@code maxBorrowMillis} 时等待时钟追上；需要等待超过 {@code maxWaitMillis} 则判定回拨过大并抛出异常</li>
+ * </ul>
+ * 机器ID租约过期（如 Redis 不可用导致长时间无法续约）后拒绝生成，避免与接手该机器ID的实例产生重复ID。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class SnowflakeIdGenerator implements IdGenerator, AutoCloseable {
+
+    /** 起始时间：2025-07-24 00:00:00 +08:00 */
+    public static final long EPOCH = 1753286400000L;
+
+    /** 机器ID位数 */
+    public static final int WORKER_ID_BITS = 10;
+
+    /** 序列号位数 */
+    public static final int SEQUENCE_BITS = 12;
+
+    /** 最大机器ID */
+    public static final int MAX_WORKER_ID = (1 << WORKER_ID_BITS) - 1;
+
+    /** 单次批量分配的最大数量 */
+    public static final int MAX_BATCH_SIZE = 100_000;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+
+    private static final long MAX_TIMESTAMP = (1L << (Long.SIZE - 1 - TIMESTAMP_SHIFT)) - 1;
+
+    /**
+     * 最小借用毫秒数：最大批量从当前毫秒的最后一个序列号开始时跨越的毫秒数，
+     * 低于该值时最大批量的借用永远超限，等待时钟也无法满足
+     */
+    public static final long MIN_BORROW_MILLIS = (MAX_BATCH_SIZE - 1 + SEQUENCE_MASK) >>> SEQUENCE_BITS;
+
+    private final WorkerIdAssigner workerIdAssigner;
+
+    private final long maxBorrowMillis;
+
+    private final long maxWaitMillis;
+
+    /**
+     * 最近一次分配的打包状态：时间戳 << 12 | 序列号
+     */
+    private final AtomicLong state = new AtomicLong(-1L);
+
+    private volatile long workerBits;
+
+    /**
+     * 构造函数
+     *
+     * @param workerIdAssigner 机器ID分配器
+     * @param maxBorrowMillis  允许借用的最大毫秒数，不小于 {@link #MIN_BORROW_MILLIS}
+     * @param maxWaitMillis    借用超限时允许等待的最大毫秒数
+     */
+    public SnowflakeIdGenerator(WorkerIdAssigner workerIdAssigner, long maxBorrowMillis, long maxWaitMillis) {
+        if (maxBorrowMillis < MIN_BORROW_MILLIS) {
+            throw ValidationException.parameterRange("maxBorrowMillis", MIN_BORROW_MILLIS, Long.MAX_VALUE);
+        }
+        this.workerIdAssigner = workerIdAssigner;
+        this.maxBorrowMillis = maxBorrowMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.workerBits = workerBits(workerIdAssigner.acquire(this::onWorkerIdReassigned));
+    }
+
+    @Override
+    public long nextId() {
+        return toId(reserve(1));
+    }
+
+    @Override
+    public long[] nextIds(int count) {
+        if (count < 1 || count > MAX_BATCH_SIZE) {
+            throw ValidationException.parameterRange("count", 1, MAX_BATCH_SIZE);
+        }
+
+        long start = reserve(count);
+        long worker = workerBits;
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            long packed = start + i;
+            ids[i] = (packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT | worker | (packed & SEQUENCE_MASK);
+        }
+        return ids;
+    }
+
+    /**
+     * 当前使用的机器ID
+     *
+     * @return 机器ID
+     */
+    public int getWorkerId() {
+        return (int) (workerBits >>> SEQUENCE_BITS);
+    }
+
+    /**
+     * 从ID中解析生成时间
+     *
+     * @param id 雪花ID
+     * @return 毫秒时间戳
+     */
+    public static long extractTimestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    /**
+     * 从ID中解析机器ID
+     *
+     * @param id 雪花ID
+     * @return 机器ID
+     */
+    public static int extractWorkerId(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_WORKER_ID);
+    }
+
+    @Override
+    public void close() {
+        workerIdAssigner.release();
+    }
+
+    /**
+     * 预留 count 个连续的打包值
+     *
+     * @param count 数量
+     * @return 区间起点
+     */
+    private long reserve(int count) {
+        if (!workerIdAssigner.isLeaseValid()) {
+            log.error("雪花算法机器ID租约已过期，拒绝生成ID: workerId={}", getWorkerId());
+            throw SystemException.of("雪花算法机器ID租约已过期，拒绝生成ID");
+        }
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH;
+            long current = state.get();
+            long start = Math.max(current + 1, now << SEQUENCE_BITS);
+            long end = start + count - 1;
+
+            long borrowed = (end >>> SEQUENCE_BITS) - now;
+            if (borrowed > maxBorrowMillis) {
+                awaitClock(borrowed - maxBorrowMillis, borrowed);
+                continue;
+            }
+            if ((end >>> SEQUENCE_BITS) > MAX_TIMESTAMP) {
+                throw SystemException.of("雪花算法时间戳已溢出");
+            }
+            if (state.compareAndSet(current, end)) {
+                return start;
+            }
+        }
+    }
+
+    /**
+     * 借用超限时等待时钟追上
+     *
+     * @param waitMillis 需要等待的毫秒数
+     * @param borrowed   当前借用的毫秒数
+     */
+    private void awaitClock(long waitMillis, long borrowed) {
+        if (waitMillis > maxWaitMillis) {
+            log.error("时钟回拨过大，拒绝生成ID: borrowed={}ms, maxBorrow={}ms, maxWait={}ms",
+                    borrowed, maxBorrowMillis, maxWaitMillis);
+            throw SystemException.of("时钟回拨过大，拒绝生成ID: " + borrowed + "ms");
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+    }
+
+    private long toId(long packed) {
+        return (packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT | workerBits | (packed & SEQUENCE_MASK);
+    }
+
+    private void onWorkerIdReassigned(int workerId) {
+        log.warn("雪花算法机器ID已变更: {} -> {}", getWorkerId(), workerId);
+        this.workerBits = workerBits(workerId);
+    }
+
+    private static long workerBits(int workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw ValidationException.parameterRange("workerId", 0, MAX_WORKER_ID);
+        }
+        return (long) workerId << SEQUENCE_BITS;
+    }
+}
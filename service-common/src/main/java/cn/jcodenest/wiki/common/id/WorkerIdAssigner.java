@@ -0,0 +1,38 @@
+package cn.jcodenest.wiki.common.id;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 雪花算法机器ID分配器
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface WorkerIdAssigner {
+
+    /**
+     * 获取机器ID
+     *
+     * @param reassignListener 机器ID变更回调（如租约丢失后重新分配），固定分配时不会触发
+     * @return 机器ID
+     */
+    int acquire(IntConsumer reassignListener);
+
+    /**
+     * 机器ID租约是否仍然有效，失效后其他实例可能已取得同一机器ID
+     *
+     * @return 是否有效，固定分配时始终有效
+     */
+    default boolean isLeaseValid() {
+        return true;
+    }
+
+    /**
+     * 释放机器ID
+     */
+    void release();
+}
@@ -0,0 +1,490 @@
+package cn.jcodenest.wiki.common.redis;
+
+import cn.jcodenest.wiki.common.cache.RedisKeyMetrics;
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.exception.SystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Redis 批量加载器
+ * <p>
+ * 参考 DataLoader 的思路：一次请求内的键查询先登记、不立即访问 Redis，调用 {@link #dispatch()} 时
+ * 将所有 GET 合并为 MGET，HGET / SISMEMBER / ZSCORE 等其它查询与 MGET 一起放入同一个 Pipeline 发送，
+ * 再把结果回填到各自的 {@link CompletableFuture}。同一个加载器内重复登记的查询只会访问一次 Redis。
+ * <p>
+ * 适用于 {@link RedisConstants} 中的所有键族，例如列表页同时加载内容信息、计数与点赞状态：
+ * <pre>{@code
+ * CompletableFuture<String> info = loader.get(RedisConstants.ContentKey.CONTENT_INFO + id);
+ * CompletableFuture<String> likes = loader.get(RedisConstants.ContentKey.CONTENT_LIKE_COUNT + id);
+ * CompletableFuture<Boolean> liked = loader.isMember(RedisConstants.SocialKey.USER_LIKES + userId, String.valueOf(id));
+ * loader.dispatch();
+ * }</pre>
+ * 该类是线程安全的，但设计上以单个请求为生命周期，Web 环境下由 {@code RedisBatchConfig} 注册为请求作用域 Bean。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class RedisBatchLoader {
+
+    /**
+     * Redis 模板
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 键前缀指标，可为空
+     */
+    private final RedisKeyMetrics redisKeyMetrics;
+
+    /**
+     * 已登记的查询（含已完成的），键为查询标识，用于请求内去重
+     */
+    private final Map<String, CompletableFuture<?>> registered = new HashMap<>();
+
+    /**
+     * 待发送的 GET 查询，键为 Redis 键
+     */
+    private final Map<String, CompletableFuture<String>> pendingGets = new LinkedHashMap<>();
+
+    /**
+     * 待发送的其它查询
+     */
+    private final List<PendingCommand> pendingCommands = new ArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板
+     */
+    public RedisBatchLoader(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate   Redis 模板
+     * @param redisKeyMetrics 键前缀指标，为空时不记录命中率
+     */
+    public RedisBatchLoader(StringRedisTemplate redisTemplate, RedisKeyMetrics redisKeyMetrics) {
+        this.redisTemplate = redisTemplate;
+        this.redisKeyMetrics = redisKeyMetrics;
+    }
+
+    /**
+     * 登记 GET 查询
+     *
+     * @param key Redis 键
+     * @return 查询结果，键不存在时结果为 null
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized CompletableFuture<String> get(String key) {
+        return (CompletableFuture<String>) registered.computeIfAbsent("GET " + key, id -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            pendingGets.put(key, future);
+            return future;
+        });
+    }
+
+    /**
+     * 登记 HGET 查询
+     *
+     * @param key   Redis 键
+     * @param field 哈希字段
+     * @return 查询结果，字段不存在时结果为 null
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<String> hGet(String key, String field) {
+        return (CompletableFuture<String>) register(Command.HGET, key, field);
+    }
+
+    /**
+     * 登记 SISMEMBER 查询
+     *
+     * @param key    Redis 键
+     * @param member 集合成员
+     * @return 是否为集合成员
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Boolean> isMember(String key, String member) {
+        return (CompletableFuture<Boolean>) register(Command.SISMEMBER, key, member);
+    }
+
+    /**
+     * 登记 ZSCORE 查询
+     *
+     * @param key    Redis 键
+     * @param member 有序集合成员
+     * @return 成员分数，成员不存在时结果为 null
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Double> zScore(String key, String member) {
+        return (CompletableFuture<Double>) register(Command.ZSCORE, key, member);
+    }
+
+    /**
+     * 批量加载同一键族下的字符串值
+     * <p>
+     * 登记后立即 {@link #dispatch()}，未命中的 id 不会出现在结果中，便于调用方回源。
+     *
+     * @param keyPrefix 键前缀，如 {@link RedisConstants.ContentKey#CONTENT_INFO}
+     * @param ids       业务 ID 集合
+     * @param <K>       业务 ID 类型
+     * @return 业务 ID 到缓存值的映射，顺序与入参一致
+     */
+    public <K> Map<K, String> loadMany(String keyPrefix, Collection<K> ids) {
+        return loadMany(keyPrefix, ids, Function.identity());
+    }
+
+    /**
+     * 批量加载同一键族下的值并解码
+     *
+     * @param keyPrefix 键前缀
+     * @param ids       业务 ID 集合
+     * @param decoder   值解码函数，如 {@code Long::valueOf} 或 JSON 反序列化
+     * @param <K>       业务 ID 类型
+     * @param <V>       解码后的值类型
+     * @return 业务 ID 到解码值的映射，顺序与入参一致
+     */
+    public <K, V> Map<K, V> loadMany(String keyPrefix, Collection<K> ids, Function<String, V> decoder) {
+        Map<K, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (K id : ids) {
+            futures.put(id, get(keyPrefix + id));
+        }
+        dispatch();
+
+        Map<K, V> result = new LinkedHashMap<>();
+        futures.forEach((id, future) -> {
+            String value = await(future);
+            if (value != null) {
+                result.put(id, decoder.apply(value));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 批量加载同一键族下的值，未命中的 ID 一次性回源
+     * <p>
+     * 回源结果不写回 Redis（过期时间由调用方决定），回源耗时按键前缀计入 {@link RedisKeyMetrics#recordLoad}。
+     *
+     * @param keyPrefix 键前缀
+     * @param ids       业务 ID 集合
+     * @param decoder   值解码函数
+     * @param loader    回源函数，参数为未命中的业务 ID，返回值中缺失的 ID 视为不存在
+     * @param <K>       业务 ID 类型
+     * @param <V>       解码后的值类型
+     * @return 业务 ID 到值的映射，顺序与入参一致
+     */
+    public <K, V> Map<K, V> loadMany(String keyPrefix, Collection<K> ids, Function<String, V> decoder,
+                                     Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> cached = loadMany(keyPrefix, ids, decoder);
+        List<K> missing = new ArrayList<>();
+        for (K id : ids) {
+            if (!cached.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        Map<K, V> loaded = loader.apply(missing);
+        if (redisKeyMetrics != null) {
+            redisKeyMetrics.recordLoad(keyPrefix, System.nanoTime() - start);
+        }
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K id : ids) {
+            V value = cached.containsKey(id) ? cached.get(id) : loaded.get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量判断集合成员关系，如当前用户对列表中各内容的点赞状态
+     *
+     * @param key     集合键，如 {@link RedisConstants.SocialKey#USER_LIKES} + userId
+     * @param members 成员集合
+     * @param <K>     成员类型
+     * @return 成员到是否存在的映射，顺序与入参一致
+     */
+    public <K> Map<K, Boolean> isMemberMany(String key, Collection<K> members) {
+        Map<K, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (K member : members) {
+            futures.put(member, isMember(key, String.valueOf(member)));
+        }
+        dispatch();
+
+        Map<K, Boolean> result = new LinkedHashMap<>();
+        futures.forEach((member, future) -> result.put(member, Boolean.TRUE.equals(await(future))));
+        return result;
+    }
+
+    /**
+     * 发送所有待处理的查询
+     * <p>
+     * GET 按 {@link RedisConstants.Batch#MAX_KEYS_PER_MGET} 拆分为多条 MGET，与其它命令一起按
+     * {@link RedisConstants.Batch#MAX_COMMANDS_PER_PIPELINE} 分组，每组一次网络往返。
+     */
+    public void dispatch() {
+        Map<String, CompletableFuture<String>> gets;
+        List<PendingCommand> commands;
+        synchronized (this) {
+            if (pendingGets.isEmpty() && pendingCommands.isEmpty()) {
+                return;
+            }
+            gets = new LinkedHashMap<>(pendingGets);
+            commands = new ArrayList<>(pendingCommands);
+            pendingGets.clear();
+            pendingCommands.clear();
+        }
+        List<String> getKeys = new ArrayList<>(gets.keySet());
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < getKeys.size(); from += RedisConstants.Batch.MAX_KEYS_PER_MGET) {
+            chunks.add(getKeys.subList(from, Math.min(from + RedisConstants.Batch.MAX_KEYS_PER_MGET, getKeys.size())));
+        }
+
+        int chunkIndex = 0;
+        int commandIndex = 0;
+        while (chunkIndex < chunks.size() || commandIndex < commands.size()) {
+            List<List<String>> roundChunks = new ArrayList<>();
+            List<PendingCommand> roundCommands = new ArrayList<>();
+            int weight = 0;
+            while (chunkIndex < chunks.size() && weight < RedisConstants.Batch.MAX_COMMANDS_PER_PIPELINE) {
+                List<String> chunk = chunks.get(chunkIndex++);
+                roundChunks.add(chunk);
+                weight += chunk.size();
+            }
+            while (commandIndex < commands.size() && weight < RedisConstants.Batch.MAX_COMMANDS_PER_PIPELINE) {
+                roundCommands.add(commands.get(commandIndex++));
+                weight++;
+            }
+            executeRound(roundChunks, roundCommands, gets);
+        }
+
+        log.debug("Redis批量加载完成: gets={}, commands={}", getKeys.size(), commands.size());
+    }
+
+    /**
+     * 获取待发送的查询数量
+     *
+     * @return 待发送的查询数量
+     */
+    public synchronized int pendingCount() {
+        return pendingGets.size() + pendingCommands.size();
+    }
+
+    /**
+     * 登记非 GET 查询
+     *
+     * @param command 命令类型
+     * @param key     Redis 键
+     * @param arg     命令参数
+     * @return 查询结果
+     */
+    private synchronized CompletableFuture<?> register(Command command, String key, String arg) {
+        return registered.computeIfAbsent(command.name() + " " + key + " " + arg, id -> {
+            PendingCommand pending = new PendingCommand(command, key, arg, new CompletableFuture<>());
+            pendingCommands.add(pending);
+            return pending.future();
+        });
+    }
+
+    /**
+     * 以一个 Pipeline 执行一轮查询
+     *
+     * @param chunks   MGET 键分组
+     * @param commands 其它命令
+     * @param gets     GET 查询结果表
+     */
+    private void executeRound(List<List<String>> chunks, List<PendingCommand> commands,
+                              Map<String, CompletableFuture<String>> gets) {
+        List<Object> results;
+        try {
+            results = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+                connection.openPipeline();
+                for (List<String> chunk : chunks) {
+                    connection.stringCommands().mGet(toBytes(chunk));
+                }
+                for (PendingCommand command : commands) {
+                    command.command().issue(connection, toBytes(command.key()), toBytes(command.arg()));
+                }
+                return connection.closePipeline();
+            });
+        } catch (RuntimeException e) {
+            log.error("Redis批量加载失败: mgets={}, commands={}", chunks.size(), commands.size(), e);
+            chunks.forEach(chunk -> chunk.forEach(key -> gets.get(key).completeExceptionally(e)));
+            commands.forEach(command -> command.future().completeExceptionally(e));
+            return;
+        }
+
+        int index = 0;
+        for (List<String> chunk : chunks) {
+            List<?> values = (List<?>) results.get(index++);
+            for (int i = 0; i < chunk.size(); i++) {
+                String value = decodeString(values.get(i));
+                recordLookup(chunk.get(i), value != null);
+                gets.get(chunk.get(i)).complete(value);
+            }
+        }
+        for (PendingCommand command : commands) {
+            Object value = command.command().decode(results.get(index++));
+            if (command.command() == Command.HGET) {
+                recordLookup(command.key(), value != null);
+            }
+            command.future().complete(value);
+        }
+    }
+
+    /**
+     * 记录缓存命中情况
+     *
+     * @param key Redis 键
+     * @param hit 是否命中
+     */
+    private void recordLookup(String key, boolean hit) {
+        if (redisKeyMetrics == null) {
+            return;
+        }
+        if (hit) {
+            redisKeyMetrics.recordHit(key);
+        } else {
+            redisKeyMetrics.recordMiss(key);
+        }
+    }
+
+    /**
+     * 等待查询结果
+     *
+     * @param future 查询结果
+     * @param <T>    结果类型
+     * @return 查询结果
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw SystemException.cache("Redis批量加载失败: " + e.getCause().getMessage());
+        }
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] toBytes(List<String> values) {
+        byte[][] bytes = new byte[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            bytes[i] = toBytes(values.get(i));
+        }
+        return bytes;
+    }
+
+    private static String decodeString(Object raw) {
+        return raw == null ? null : new String((byte[]) raw, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 可合并进 Pipeline 的命令
+     */
+    private enum Command {
+
+        /**
+         * 哈希字段查询
+         */
+        HGET {
+            @Override
+            void issue(RedisConnection connection, byte[] key, byte[] arg) {
+                connection.hashCommands().hGet(key, arg);
+            }
+
+            @Override
+            Object decode(Object raw) {
+                return decodeString(raw);
+            }
+        },
+
+        /**
+         * 集合成员查询
+         */
+        SISMEMBER {
+            @Override
+            void issue(RedisConnection connection, byte[] key, byte[] arg) {
+                connection.setCommands().sIsMember(key, arg);
+            }
+
+            @Override
+            Object decode(Object raw) {
+                return Boolean.TRUE.equals(raw);
+            }
+        },
+
+        /**
+         * 有序集合分数查询
+         */
+        ZSCORE {
+            @Override
+            void issue(RedisConnection connection, byte[] key, byte[] arg) {
+                connection.zSetCommands().zScore(key, arg);
+            }
+
+            @Override
+            Object decode(Object raw) {
+                return raw;
+            }
+        };
+
+        /**
+         * 在 Pipeline 中发送命令
+         *
+         * @param connection Redis 连接
+         * @param key        Redis 键
+         * @param arg        命令参数
+         */
+        abstract void issue(RedisConnection connection, byte[] key, byte[] arg);
+
+        /**
+         * 解码 Pipeline 返回的原始结果
+         *
+         * @param raw 原始结果
+         * @return 解码后的结果
+         */
+        abstract Object decode(Object raw);
+    }
+
+    /**
+     * 待发送的命令
+     *
+     * @param command 命令类型
+     * @param key     Redis 键
+     * @param arg     命令参数
+     * @param future  查询结果
+     */
+    private record PendingCommand(Command command, String key, String arg, CompletableFuture<Object> future) {
+    }
+}
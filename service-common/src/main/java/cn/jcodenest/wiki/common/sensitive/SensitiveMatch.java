@@ -0,0 +1,17 @@
+package cn.jcodenest.wiki.common.sensitive;
+
+/**
+ * 敏感词命中位置
+ *
+ * @param start 在原文中的起始下标（含）
+ * @param end   在原文中的结束下标（不含），跳过的干扰字符计入区间
+ * @param word  命中的词条
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record SensitiveMatch(int start, int end, SensitiveWord word) {
+}
@@ -0,0 +1,126 @@
+package cn.jcodenest.wiki.common.sensitive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+
+/**
+ * 敏感词匹配的字符归一化
+ * <p>
+ * 词条与待检查文本逐字符使用同一套规则，启动时为全部 65536 个 UTF-16 码元预先计算结果，匹配时只是查表：
+ * <ul>
+ *     <li>全角转半角：全角 ASCII（U+FF01-U+FF5E）与全角空格；</li>
+ *     <li>大小写：统一为小写；</li>
+ *     <li>拼音：带声调的拼音字母去掉声调（ā á ǎ à → a），ü 按输入法习惯写作 v，
+ *     拉丁字母上的其他附加符号一并去掉；</li>
+ *     <li>干扰字符：空白、标点、符号、控制与格式字符（含零宽字符）以及代理项（emoji），
+ *     开启跳过时不参与匹配，“敏 感*词”与“敏感词”等价。</li>
+ * </ul>
+ * 汉字转拼音需要拼音字典，这里不做；拼音写法的变体作为独立词条维护。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SensitiveTextNormalizer {
+
+    /** 码元 -> 归一化后的码元 */
+    private static final char[] FOLD = new char[Character.MAX_VALUE + 1];
+
+    /** 归一化后的码元是否为干扰字符 */
+    private static final boolean[] NOISE = new boolean[Character.MAX_VALUE + 1];
+
+    static {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            char folded = fold((char) c);
+            FOLD[c] = folded;
+            NOISE[c] = noise(folded);
+        }
+    }
+
+    /**
+     * 归一化单个码元
+     *
+     * @param c 码元
+     * @return 归一化后的码元
+     */
+    public static char normalize(char c) {
+        return FOLD[c];
+    }
+
+    /**
+     * 是否为干扰字符
+     *
+     * @param normalized 归一化后的码元
+     * @return true-干扰字符
+     */
+    public static boolean isNoise(char normalized) {
+        return NOISE[normalized];
+    }
+
+    /**
+     * 归一化字符串（构建词典时使用）
+     *
+     * @param text      原文
+     * @param skipNoise 是否去掉干扰字符
+     * @return 归一化后的字符串
+     */
+    public static String normalize(CharSequence text, boolean skipNoise) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = FOLD[text.charAt(i)];
+            if (!skipNoise || !NOISE[c]) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static char fold(char c) {
+        if (c == '　') {
+            return ' ';
+        }
+        if (c >= '！' && c <= '～') {
+            c = (char) (c - 0xFEE0);
+        }
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        if (Character.isSurrogate(c)) {
+            return c;
+        }
+
+        char lower = Character.toLowerCase(c);
+        if (lower >= 'À' && lower <= 'ɏ') {
+            // ü 及其带声调的写法（ǖ ǘ ǚ ǜ）
+            if (lower == 'ü' || lower >= 'ǖ' && lower <= 'ǜ') {
+                return 'v';
+            }
+            String decomposed = Normalizer.normalize(String.valueOf(lower), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            if (base < 0x80 && Character.isLetter(base)) {
+                return Character.toLowerCase(base);
+            }
+        }
+        return lower;
+    }
+
+    private static boolean noise(char c) {
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+            return true;
+        }
+        return switch (Character.getType(c)) {
+            case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+                 Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+                 Character.OTHER_PUNCTUATION, Character.MATH_SYMBOL, Character.CURRENCY_SYMBOL,
+                 Character.MODIFIER_SYMBOL, Character.OTHER_SYMBOL, Character.CONTROL, Character.FORMAT,
+                 Character.SURROGATE, Character.NON_SPACING_MARK, Character.ENCLOSING_MARK -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package cn.jcodenest.wiki.common.sensitive;
+
+import cn.jcodenest.wiki.common.enums.SensitiveLevelEnum;
+
+/**
+ * 敏感词
+ *
+ * @param word     词条原文
+ * @param level    级别
+ * @param category 分类（sys_dict 的 dict_label），可为 null
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record SensitiveWord(String word, SensitiveLevelEnum level, String category) {
+}
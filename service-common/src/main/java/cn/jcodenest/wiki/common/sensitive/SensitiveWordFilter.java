@@ -0,0 +1,169 @@
+package cn.jcodenest.wiki.common.sensitive;
+
+import cn.jcodenest.wiki.common.enums.SensitiveLevelEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 敏感词过滤器
+ * <p>
+ * 词典保存在 {@code sys_dict}：dict_type 为配置的字典类型（默认 sensitive_word），dict_key 为词条，
+ * dict_value 为级别（见 {@link SensitiveLevelEnum}，无法识别时按复核处理），dict_label 为分类；
+ * 只加载启用且未删除的行。拼音写法的变体作为独立词条维护。
+ * <p>
+ * 热更新：定时读取该字典类型的行数与最大更新时间（含禁用与逻辑删除的行）作为指纹，
+ * 指纹变化时重新加载并编译新的 {@link SensitiveWordTrie}，整体替换后对之后的调用生效，
+ * 正在进行的扫描继续使用旧实例。加载失败时保留旧词典，下次检查重试。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class SensitiveWordFilter implements AutoCloseable {
+
+    /** 默认掩码字符 */
+    public static final char DEFAULT_MASK = '*';
+
+    private static final String FINGERPRINT_SQL =
+            "SELECT COUNT(*) AS cnt, MAX(updated_at) AS last_updated FROM sys_dict WHERE dict_type = ?";
+
+    private static final String SELECT_SQL = "SELECT dict_key, dict_value, dict_label FROM sys_dict "
+            + "WHERE dict_type = ? AND status = 1 AND is_deleted = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String dictType;
+
+    private final boolean skipNoise;
+
+    private volatile SensitiveWordTrie trie = SensitiveWordTrie.empty();
+
+    /** 上次加载时的词典指纹，只在持有对象锁时读写 */
+    private String fingerprint;
+
+    private volatile ScheduledFuture<?> refreshTask;
+
+    /**
+     * 构造函数
+     *
+     * @param jdbcTemplate JdbcTemplate
+     * @param dictType     词典的字典类型
+     * @param skipNoise    是否跳过干扰字符
+     */
+    public SensitiveWordFilter(JdbcTemplate jdbcTemplate, String dictType, boolean skipNoise) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dictType = dictType;
+        this.skipNoise = skipNoise;
+    }
+
+    /**
+     * 是否包含敏感词
+     *
+     * @param text 文本
+     * @return true-包含
+     */
+    public boolean contains(CharSequence text) {
+        return trie.contains(text);
+    }
+
+    /**
+     * 查找全部命中
+     *
+     * @param text 文本
+     * @return 命中列表（按结束位置排列）
+     */
+    public List<SensitiveMatch> findAll(CharSequence text) {
+        return trie.findAll(text);
+    }
+
+    /**
+     * 用 {@link #DEFAULT_MASK} 替换命中的字符
+     *
+     * @param text 文本
+     * @return 替换后的文本
+     */
+    public String mask(CharSequence text) {
+        return trie.mask(text, DEFAULT_MASK);
+    }
+
+    /**
+     * 当前词典编译后的自动机，需要自定义扫描（如提前终止）时使用
+     *
+     * @return 自动机
+     */
+    public SensitiveWordTrie current() {
+        return trie;
+    }
+
+    /**
+     * 检查词典指纹，变化时重新加载；异常只记录日志
+     */
+    public synchronized void refresh() {
+        try {
+            Map<String, Object> row = jdbcTemplate.queryForMap(FINGERPRINT_SQL, dictType);
+            String current = row.get("cnt") + "@" + row.get("last_updated");
+            if (current.equals(fingerprint)) {
+                return;
+            }
+            reload();
+            fingerprint = current;
+        } catch (Exception e) {
+            log.warn("加载敏感词词典失败，继续使用当前词典: dictType={}, words={}", dictType, trie.size(), e);
+        }
+    }
+
+    /**
+     * 开始定时检查词典变化
+     *
+     * @param scheduler      调度器
+     * @param refreshSeconds 检查间隔（秒）
+     */
+    public void schedule(TaskScheduler scheduler, long refreshSeconds) {
+        if (refreshSeconds > 0) {
+            refreshTask = scheduler.scheduleWithFixedDelay(this::refresh, Duration.ofSeconds(refreshSeconds));
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledFuture<?> task = refreshTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    private void reload() {
+        long start = System.nanoTime();
+        List<SensitiveWord> words = new ArrayList<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            words.add(new SensitiveWord(rs.getString("dict_key"), level(rs.getString("dict_value")),
+                    rs.getString("dict_label")));
+        }, dictType);
+
+        SensitiveWordTrie fresh = SensitiveWordTrie.compile(words, skipNoise);
+        trie = fresh;
+        log.info("加载敏感词词典: dictType={}, rows={}, words={}, cost={}ms", dictType, words.size(), fresh.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static SensitiveLevelEnum level(String value) {
+        try {
+            return Objects.requireNonNullElse(SensitiveLevelEnum.getByCode(Integer.valueOf(value.trim())),
+                    SensitiveLevelEnum.REVIEW);
+        } catch (RuntimeException e) {
+            return SensitiveLevelEnum.REVIEW;
+        }
+    }
+}
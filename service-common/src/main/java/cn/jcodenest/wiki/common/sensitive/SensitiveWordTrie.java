@@ -0,0 +1,448 @@
+package cn.jcodenest.wiki.common.sensitive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 敏感词匹配自动机（Aho-Corasick + 双数组 Trie）
+ * <p>
+ * 构建时先把词条归一化（见 {@link SensitiveTextNormalizer}）并按字符编号建普通 Trie，再逐层压缩为双数组：
+ * 状态 s 经字符编号 c 转移到 {@code t = base[s] + c}，当且仅当 {@code check[t] == s}。
+ * 失败指针按层次遍历计算，{@code outLink} 指向失败链上最近的词尾状态，命中时沿它枚举全部后缀词条。
+ * <p>
+ * 扫描时间与文本长度线性相关（失败跳转的总次数不超过前进次数），每个字符只做查表与数组访问，不分配对象；
+ * 为了把命中位置映射回原文（跳过的干扰字符计入区间），每次扫描分配一个长度为最长词条的环形下标数组。
+ * <p>
+ * 实例构建后不可变，可被多线程共享；词典变化时整体重建替换。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public final class SensitiveWordTrie {
+
+    /** 根状态 */
+    private static final int ROOT = 0;
+
+    /** 空闲位置 */
+    private static final int FREE = -1;
+
+    /** 多子节点状态搜索 base 时失败次数超过该值，后续搜索起点前移 */
+    private static final int MAX_FAILED_TRIES = 32;
+
+    /** 空词典 */
+    private static final SensitiveWordTrie EMPTY = compile(List.of(), true);
+
+    /**
+     * 命中回调
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * 命中一个词条
+         *
+         * @param start 在原文中的起始下标（含）
+         * @param end   在原文中的结束下标（不含）
+         * @param word  词条
+         * @return true-继续扫描，false-停止
+         */
+        boolean onMatch(int start, int end, SensitiveWord word);
+    }
+
+    private final boolean skipNoise;
+
+    /** 归一化字符 -> 字符编号（从 1 开始，0 表示不在任何词条中） */
+    private final char[] codes;
+
+    private final int[] base;
+
+    private final int[] check;
+
+    private final int[] fail;
+
+    /** 以该状态结尾的词条下标，-1 表示不是词尾 */
+    private final int[] wordAt;
+
+    /** 失败链上最近的词尾状态，-1 表示没有 */
+    private final int[] outLink;
+
+    /** 状态深度（归一化后的字符数） */
+    private final int[] depth;
+
+    private final SensitiveWord[] words;
+
+    private final int maxDepth;
+
+    private SensitiveWordTrie(boolean skipNoise, char[] codes, int[] base, int[] check, int[] fail, int[] wordAt,
+                              int[] outLink, int[] depth, SensitiveWord[] words, int maxDepth) {
+        this.skipNoise = skipNoise;
+        this.codes = codes;
+        this.base = base;
+        this.check = check;
+        this.fail = fail;
+        this.wordAt = wordAt;
+        this.outLink = outLink;
+        this.depth = depth;
+        this.words = words;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * 空词典
+     *
+     * @return 不匹配任何内容的自动机
+     */
+    public static SensitiveWordTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 编译词典
+     * <p>
+     * 归一化后为空的词条被忽略；归一化后相同的词条只保留一个，级别取更严格的一个（{@code BLOCK} 优先）。
+     *
+     * @param entries   词条
+     * @param skipNoise 是否跳过干扰字符
+     * @return 自动机
+     */
+    public static SensitiveWordTrie compile(Collection<SensitiveWord> entries, boolean skipNoise) {
+        Map<String, SensitiveWord> unique = new LinkedHashMap<>();
+        for (SensitiveWord entry : entries) {
+            if (entry == null || entry.word() == null || entry.level() == null) {
+                continue;
+            }
+            String key = SensitiveTextNormalizer.normalize(entry.word(), skipNoise);
+            if (!key.isEmpty()) {
+                unique.merge(key, entry, (a, b) -> a.level().getCode() <= b.level().getCode() ? a : b);
+            }
+        }
+        return new Builder(skipNoise).build(unique);
+    }
+
+    /**
+     * 词条数
+     *
+     * @return 词条数
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 是否包含任一词条
+     *
+     * @param text 文本
+     * @return true-包含
+     */
+    public boolean contains(CharSequence text) {
+        boolean[] found = {false};
+        scan(text, (start, end, word) -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    /**
+     * 查找全部命中（含重叠与嵌套的命中，按结束位置排列）
+     *
+     * @param text 文本
+     * @return 命中列表
+     */
+    public List<SensitiveMatch> findAll(CharSequence text) {
+        List<SensitiveMatch> matches = new ArrayList<>();
+        scan(text, (start, end, word) -> matches.add(new SensitiveMatch(start, end, word)));
+        return matches;
+    }
+
+    /**
+     * 把命中区间内的非干扰字符替换为掩码
+     *
+     * @param text 文本
+     * @param mask 掩码字符
+     * @return 替换后的文本，没有命中时返回原文
+     */
+    public String mask(CharSequence text, char mask) {
+        char[][] chars = {null};
+        scan(text, (start, end, word) -> {
+            if (chars[0] == null) {
+                chars[0] = text.toString().toCharArray();
+            }
+            for (int i = start; i < end; i++) {
+                if (!skipNoise || !SensitiveTextNormalizer.isNoise(SensitiveTextNormalizer.normalize(chars[0][i]))) {
+                    chars[0][i] = mask;
+                }
+            }
+            return true;
+        });
+        return chars[0] == null ? text.toString() : new String(chars[0]);
+    }
+
+    /**
+     * 扫描文本，按结束位置依次回调命中
+     *
+     * @param text    文本
+     * @param handler 命中回调
+     */
+    public void scan(CharSequence text, MatchHandler handler) {
+        if (words.length == 0 || text == null || text.isEmpty()) {
+            return;
+        }
+
+        // 最近 maxDepth 个参与匹配的字符在原文中的下标
+        int[] positions = new int[maxDepth];
+        int matched = 0;
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = SensitiveTextNormalizer.normalize(text.charAt(i));
+            if (skipNoise && SensitiveTextNormalizer.isNoise(c)) {
+                continue;
+            }
+            positions[matched++ % maxDepth] = i;
+            int code = codes[c];
+            if (code == 0) {
+                state = ROOT;
+                continue;
+            }
+
+            while (true) {
+                int next = base[state] + code;
+                if (next < check.length && check[next] == state) {
+                    state = next;
+                    break;
+                }
+                if (state == ROOT) {
+                    break;
+                }
+                state = fail[state];
+            }
+
+            for (int out = wordAt[state] >= 0 ? state : outLink[state]; out >= 0; out = outLink[out]) {
+                int start = positions[(matched - depth[out]) % maxDepth];
+                if (!handler.onMatch(start, i + 1, words[wordAt[out]])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 构建器：普通 Trie -> 双数组 -> 失败指针
+     */
+    private static final class Builder {
+
+        private final boolean skipNoise;
+
+        private final char[] codes = new char[Character.MAX_VALUE + 1];
+
+        private int[] base = new int[1024];
+
+        private int[] check = new int[1024];
+
+        private int[] wordAt = new int[1024];
+
+        private int[] depth = new int[1024];
+
+        /** 并查集式的空闲位置索引：沿 nextFree 查找不小于 i 的第一个空闲位置 */
+        private int[] nextFree = new int[1024];
+
+        /** 多个子节点时搜索的起点，之前的空洞留给只有一个子节点的状态填充 */
+        private int multiStart = 1;
+
+        /** 已使用的最大位置 */
+        private int maxUsed;
+
+        private Builder(boolean skipNoise) {
+            this.skipNoise = skipNoise;
+            Arrays.fill(check, FREE);
+            Arrays.fill(wordAt, -1);
+            Arrays.setAll(nextFree, i -> i);
+        }
+
+        /**
+         * 普通 Trie 节点
+         */
+        private static final class Node {
+
+            private final TreeMap<Integer, Node> children = new TreeMap<>();
+
+            private int word = -1;
+
+            private int depth;
+        }
+
+        private SensitiveWordTrie build(Map<String, SensitiveWord> unique) {
+            // 字符编号按出现频率从高到低分配，高频字符编号小，双数组更紧凑
+            Map<Character, Integer> frequency = new HashMap<>();
+            for (String key : unique.keySet()) {
+                for (int i = 0; i < key.length(); i++) {
+                    frequency.merge(key.charAt(i), 1, Integer::sum);
+                }
+            }
+            List<Character> alphabet = new ArrayList<>(frequency.keySet());
+            alphabet.sort((a, b) -> frequency.get(b) - frequency.get(a));
+            for (int i = 0; i < alphabet.size(); i++) {
+                codes[alphabet.get(i)] = (char) (i + 1);
+            }
+
+            SensitiveWord[] words = new SensitiveWord[unique.size()];
+            Node root = new Node();
+            int maxDepth = 1;
+            int index = 0;
+            for (Map.Entry<String, SensitiveWord> entry : unique.entrySet()) {
+                String key = entry.getKey();
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    Node parent = node;
+                    node = parent.children.computeIfAbsent((int) codes[key.charAt(i)], code -> new Node());
+                    node.depth = parent.depth + 1;
+                }
+                node.word = index;
+                words[index++] = entry.getValue();
+                maxDepth = Math.max(maxDepth, key.length());
+            }
+
+            // 逐层放入双数组，队列中保存（节点, 状态）
+            check[ROOT] = Integer.MIN_VALUE;
+            nextFree[ROOT] = ROOT + 1;
+            List<Node> nodes = new ArrayList<>();
+            List<Integer> states = new ArrayList<>();
+            nodes.add(root);
+            states.add(ROOT);
+            for (int head = 0; head < nodes.size(); head++) {
+                Node node = nodes.get(head);
+                int state = states.get(head);
+                if (node.children.isEmpty()) {
+                    continue;
+                }
+                int b = findBase(node.children.keySet());
+                base[state] = b;
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    int slot = b + child.getKey();
+                    check[slot] = state;
+                    nextFree[slot] = slot + 1;
+                    wordAt[slot] = child.getValue().word;
+                    depth[slot] = child.getValue().depth;
+                    nodes.add(child.getValue());
+                    states.add(slot);
+                }
+            }
+
+            int size = maxUsed + 1;
+            int[] fail = new int[size];
+            int[] outLink = new int[size];
+            Arrays.fill(outLink, -1);
+            // 按层次顺序（父状态先于子状态）计算失败指针
+            for (int head = 1; head < states.size(); head++) {
+                int state = states.get(head);
+                int parent = check[state];
+                int code = state - base[parent];
+                int target = ROOT;
+                if (parent != ROOT) {
+                    for (int f = fail[parent]; ; f = fail[f]) {
+                        int next = base[f] + code;
+                        if (next < size && check[next] == f) {
+                            target = next;
+                            break;
+                        }
+                        if (f == ROOT) {
+                            break;
+                        }
+                    }
+                }
+                fail[state] = target;
+                outLink[state] = wordAt[target] >= 0 ? target : outLink[target];
+            }
+
+            return new SensitiveWordTrie(skipNoise, codes, Arrays.copyOf(base, size), Arrays.copyOf(check, size),
+                    fail, Arrays.copyOf(wordAt, size), outLink, Arrays.copyOf(depth, size), words, maxDepth);
+        }
+
+        /**
+         * 查找一个 base，使全部子节点位置都空闲（首次适配）
+         * <p>
+         * 只在第一个子节点能落入的空闲位置上尝试，已占用的位置通过 nextFree 整段跳过。
+         * 只有一个子节点时第一个空闲位置即可；多个子节点时若一次搜索失败过多，
+         * 把多子节点的搜索起点前移到本次的落点，前面的空洞由之后的单子节点状态填充。
+         */
+        private int findBase(Collection<Integer> childCodes) {
+            int minCode = childCodes.iterator().next();
+            if (childCodes.size() == 1) {
+                int slot = findFree(minCode);
+                maxUsed = Math.max(maxUsed, slot);
+                return slot - minCode;
+            }
+
+            int failed = 0;
+            for (int slot = findFree(Math.max(minCode, multiStart)); ; slot = findFree(slot + 1)) {
+                int b = slot - minCode;
+                if (fits(b, childCodes)) {
+                    for (int code : childCodes) {
+                        maxUsed = Math.max(maxUsed, b + code);
+                    }
+                    if (failed > MAX_FAILED_TRIES) {
+                        multiStart = slot;
+                    }
+                    return b;
+                }
+                failed++;
+            }
+        }
+
+        private boolean fits(int b, Collection<Integer> childCodes) {
+            for (int code : childCodes) {
+                int slot = b + code;
+                ensureCapacity(slot + 1);
+                if (check[slot] != FREE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 不小于 from 的第一个空闲位置（路径减半压缩）
+         */
+        private int findFree(int from) {
+            int slot = from;
+            while (true) {
+                ensureCapacity(slot + 1);
+                int next = nextFree[slot];
+                if (next == slot) {
+                    return slot;
+                }
+                ensureCapacity(next + 1);
+                nextFree[slot] = nextFree[next];
+                slot = next;
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= check.length) {
+                return;
+            }
+            int capacity = Math.max(required, check.length * 2);
+            int old = check.length;
+            base = Arrays.copyOf(base, capacity);
+            check = Arrays.copyOf(check, capacity);
+            wordAt = Arrays.copyOf(wordAt, capacity);
+            depth = Arrays.copyOf(depth, capacity);
+            nextFree = Arrays.copyOf(nextFree, capacity);
+            Arrays.fill(check, old, capacity, FREE);
+            Arrays.fill(wordAt, old, capacity, -1);
+            for (int i = old; i < capacity; i++) {
+                nextFree[i] = i;
+            }
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package cn.jcodenest.wiki.common.utils;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.FileNameMap;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Map.entry;
+
+/**
+ * 文件类型探测器
+ * <p>
+ * 只读取文件头部 {@link #HEADER_SIZE} 字节，用类加载时构建好的魔数前缀树匹配真实格式，不信任客户端文件名。
+ * 前缀树的边是单个字节或通配符（匹配任意字节，用于 RIFF、ftyp 这类格式标识不在开头的容器），多个签名命中时取最长者。
+ * 扩展名只用来细化同一容器下的具体格式（如 ZIP 与 docx、OLE 与 xls），与魔数不兼容时以魔数为准。
+ * 没有魔数的纯文本按内容判断，只有不属于任何二进制格式的扩展名（txt、md、svg 等）才会被采信。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FileTypeDetector {
+
+    /** 探测需要读取的头部字节数 */
+    public static final int HEADER_SIZE = 64;
+
+    /** 通配符 */
+    private static final int ANY = -1;
+
+    /** 扩展名到 MIME 类型 */
+    private static final Map<String, String> EXTENSION_MIME_TYPES = Map.ofEntries(
+            entry("jpg", "image/jpeg"),
+            entry("jpeg", "image/jpeg"),
+            entry("png", "image/png"),
+            entry("gif", "image/gif"),
+            entry("bmp", "image/bmp"),
+            entry("webp", "image/webp"),
+            entry("svg", "image/svg+xml"),
+            entry("mp4", "video/mp4"),
+            entry("avi", "video/x-msvideo"),
+            entry("mov", "video/quicktime"),
+            entry("wmv", "video/x-ms-wmv"),
+            entry("flv", "video/x-flv"),
+            entry("mkv", "video/x-matroska"),
+            entry("webm", "video/webm"),
+            entry("mp3", "audio/mpeg"),
+            entry("wav", "audio/wav"),
+            entry("flac", "audio/flac"),
+            entry("aac", "audio/aac"),
+            entry("ogg", "audio/ogg"),
+            entry("wma", "audio/x-ms-wma"),
+            entry("m4a", "audio/mp4"),
+            entry("pdf", "application/pdf"),
+            entry("doc", "application/msword"),
+            entry("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"),
+            entry("xls", "application/vnd.ms-excel"),
+            entry("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+            entry("ppt", "application/vnd.ms-powerpoint"),
+            entry("pptx", "application/vnd.openxmlformats-officedocument.presentationml.presentation"),
+            entry("txt", "text/plain"),
+            entry("md", "text/markdown"),
+            entry("csv", "text/csv"),
+            entry("json", "application/json"),
+            entry("xml", "application/xml"),
+            entry("html", "text/html"),
+            entry("zip", "application/zip"),
+            entry("gz", "application/gzip"),
+            entry("7z", "application/x-7z-compressed"),
+            entry("rar", "application/vnd.rar"),
+            entry("exe", "application/x-msdownload")
+    );
+
+    /** JDK 内置的扩展名表，只查内存，不访问文件系统 */
+    private static final FileNameMap FILE_NAME_MAP = URLConnection.getFileNameMap();
+
+    /** 魔数前缀树根节点 */
+    private static final Node ROOT = new Node();
+
+    /** 出现在任一签名中的扩展名，这些扩展名必须有匹配的魔数才被采信 */
+    private static final Set<String> BINARY_EXTENSIONS;
+
+    static {
+        Set<String> binary = new HashSet<>();
+        register(binary, "FF D8 FF", "image/jpeg", "jpg", "jpeg");
+        register(binary, "89 50 4E 47 0D 0A 1A 0A", "image/png", "png");
+        register(binary, "47 49 46 38 37 61", "image/gif", "gif");
+        register(binary, "47 49 46 38 39 61", "image/gif", "gif");
+        register(binary, "42 4D ?? ?? ?? ?? 00 00 00 00", "image/bmp", "bmp");
+        register(binary, "52 49 46 46 ?? ?? ?? ?? 57 45 42 50", "image/webp", "webp");
+        register(binary, "52 49 46 46 ?? ?? ?? ?? 57 41 56 45", "audio/wav", "wav");
+        register(binary, "52 49 46 46 ?? ?? ?? ?? 41 56 49 20", "video/x-msvideo", "avi");
+        register(binary, "?? ?? ?? ?? 66 74 79 70", "video/mp4", "mp4", "mov", "m4a");
+        register(binary, "?? ?? ?? ?? 66 74 79 70 71 74 20 20", "video/quicktime", "mov");
+        register(binary, "?? ?? ?? ?? 66 74 79 70 4D 34 41 20", "audio/mp4", "m4a");
+        register(binary, "1A 45 DF A3", "video/x-matroska", "mkv", "webm");
+        register(binary, "46 4C 56 01", "video/x-flv", "flv");
+        register(binary, "30 26 B2 75 8E 66 CF 11", "video/x-ms-wmv", "wmv", "wma");
+        register(binary, "49 44 33", "audio/mpeg", "mp3");
+        register(binary, "FF FB", "audio/mpeg", "mp3");
+        register(binary, "FF F3", "audio/mpeg", "mp3");
+        register(binary, "FF F2", "audio/mpeg", "mp3");
+        register(binary, "FF F1", "audio/aac", "aac");
+        register(binary, "FF F9", "audio/aac", "aac");
+        register(binary, "66 4C 61 43", "audio/flac", "flac");
+        register(binary, "4F 67 67 53", "audio/ogg", "ogg");
+        register(binary, "25 50 44 46 2D", "application/pdf", "pdf");
+        register(binary, "D0 CF 11 E0 A1 B1 1A E1", "application/x-ole-storage", "doc", "xls", "ppt");
+        register(binary, "50 4B 03 04", "application/zip", "zip", "docx", "xlsx", "pptx");
+        register(binary, "50 4B 05 06", "application/zip", "zip", "docx", "xlsx", "pptx");
+        register(binary, "1F 8B", "application/gzip", "gz");
+        register(binary, "37 7A BC AF 27 1C", "application/x-7z-compressed", "7z");
+        register(binary, "52 61 72 21 1A 07", "application/vnd.rar", "rar");
+        register(binary, "4D 5A", "application/x-msdownload", "exe");
+        register(binary, "7F 45 4C 46", "application/x-executable");
+        BINARY_EXTENSIONS = Set.copyOf(binary);
+    }
+
+    /**
+     * 探测结果
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Detection {
+
+        /** 文件类型：image / video / audio / document / other */
+        private final String fileType;
+
+        /** MIME类型 */
+        private final String mimeType;
+
+        /** 与内容相符的扩展名（不包含点），无法确定时为空字符串 */
+        private final String extension;
+    }
+
+    /**
+     * 探测本地文件的类型
+     *
+     * @param path     文件路径
+     * @param fileName 客户端提供的文件名，仅用于细化同一容器下的格式
+     * @return 探测结果
+     * @throws IOException 读取失败
+     */
+    public static Detection detect(Path path, String fileName) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return detect(input, fileName);
+        }
+    }
+
+    /**
+     * 探测数据流的类型，最多读取 {@link #HEADER_SIZE} 字节，不关闭数据流
+     *
+     * @param input    数据流
+     * @param fileName 客户端提供的文件名，仅用于细化同一容器下的格式
+     * @return 探测结果
+     * @throws IOException 读取失败
+     */
+    public static Detection detect(InputStream input, String fileName) throws IOException {
+        byte[] header = input.readNBytes(HEADER_SIZE);
+        return detect(header, header.length, fileName);
+    }
+
+    /**
+     * 按文件头部探测类型
+     *
+     * @param header   文件头部
+     * @param length   有效字节数
+     * @param fileName 客户端提供的文件名，仅用于细化同一容器下的格式
+     * @return 探测结果
+     */
+    public static Detection detect(byte[] header, int length, String fileName) {
+        String extension = FileUtils.getFileExtension(fileName);
+        // 空文件没有可判断的内容，只能按扩展名
+        if (length == 0) {
+            return byExtension(extension);
+        }
+
+        Signature signature = match(ROOT, header, 0, Math.min(length, HEADER_SIZE));
+        if (signature != null) {
+            if (signature.extensions.contains(extension)) {
+                return new Detection(FileUtils.getFileTypeByExtension(extension),
+                        EXTENSION_MIME_TYPES.getOrDefault(extension, signature.mimeType), extension);
+            }
+            return new Detection(FileUtils.getFileTypeByExtension(signature.canonicalExtension), signature.mimeType,
+                    signature.canonicalExtension);
+        }
+
+        if (isText(header, length)) {
+            if (StringUtils.isNotBlank(extension) && !BINARY_EXTENSIONS.contains(extension)) {
+                return byExtension(extension);
+            }
+            return new Detection(CommonConstants.File.TYPE_OTHER, "text/plain", CommonConstants.String.EMPTY);
+        }
+        return new Detection(CommonConstants.File.TYPE_OTHER, CommonConstants.File.OCTET_STREAM,
+                CommonConstants.String.EMPTY);
+    }
+
+    /**
+     * 按扩展名查找 MIME 类型，不访问文件系统
+     *
+     * @param extension 扩展名（不包含点）
+     * @return MIME类型，未知时返回 application/octet-stream
+     */
+    public static String mimeTypeOf(String extension) {
+        if (StringUtils.isBlank(extension)) {
+            return CommonConstants.File.OCTET_STREAM;
+        }
+
+        String mimeType = EXTENSION_MIME_TYPES.get(extension.toLowerCase());
+        if (mimeType == null) {
+            mimeType = FILE_NAME_MAP.getContentTypeFor(CommonConstants.String.DOT + extension);
+        }
+        return mimeType != null ? mimeType : CommonConstants.File.OCTET_STREAM;
+    }
+
+    private static Detection byExtension(String extension) {
+        return new Detection(FileUtils.getFileTypeByExtension(extension), mimeTypeOf(extension), extension);
+    }
+
+    /**
+     * 深度优先匹配，精确字节与通配两条分支都走，返回命中的最长签名
+     */
+    private static Signature match(Node node, byte[] header, int position, int length) {
+        Signature best = node.signature;
+        if (position == length) {
+            return best;
+        }
+
+        Node exact = node.find(header[position]);
+        if (exact != null) {
+            best = longer(best, match(exact, header, position + 1, length));
+        }
+        if (node.wildcard != null) {
+            best = longer(best, match(node.wildcard, header, position + 1, length));
+        }
+        return best;
+    }
+
+    private static Signature longer(Signature a, Signature b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.length > a.length ? b : a;
+    }
+
+    /**
+     * 头部不含 NUL 和除常见空白外的控制字符时视为文本（UTF-8 多字节序列的字节都不小于 0x80）
+     */
+    private static boolean isText(byte[] header, int length) {
+        for (int i = 0; i < length; i++) {
+            int b = header[i] & 0xFF;
+            if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x1B || b == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 注册签名，pattern 为空格分隔的十六进制字节，{@code ??} 表示任意字节；第一个扩展名是内容的规范扩展名
+     */
+    private static void register(Set<String> binary, String pattern, String mimeType, String... extensions) {
+        String[] tokens = pattern.split(" ");
+        Node node = ROOT;
+        for (String token : tokens) {
+            node = node.child("??".equals(token) ? ANY : Integer.parseInt(token, 16));
+        }
+        node.signature = new Signature(mimeType, tokens.length, Set.of(extensions),
+                extensions.length > 0 ? extensions[0] : CommonConstants.String.EMPTY);
+        binary.addAll(Arrays.asList(extensions));
+    }
+
+    /**
+     * 魔数签名
+     */
+    @AllArgsConstructor
+    private static final class Signature {
+
+        private final String mimeType;
+
+        private final int length;
+
+        private final Set<String> extensions;
+
+        private final String canonicalExtension;
+    }
+
+    /**
+     * 前缀树节点，每层分支很少，按字节线性查找
+     */
+    private static final class Node {
+
+        private byte[] keys = new byte[0];
+
+        private Node[] children = new Node[0];
+
+        private Node wildcard;
+
+        private Signature signature;
+
+        private Node find(byte key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node child(int key) {
+            if (key == ANY) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+
+            Node child = find((byte) key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = (byte) key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -5,20 +5,31 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 /**
@@ -35,6 +46,30 @@ import java.util.stream.Stream;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class FileUtils extends org.apache.commons.io.FileUtils {
 
+    /** 十六进制字符表 */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** 内存映射窗口大小（64MB） */
+    private static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    /** 小于该大小的文件直接读入内存，不做映射（1MB） */
+    private static final long MAP_THRESHOLD = 1024 * 1024L;
+
+    /** 多摘要交替推进的块大小，保证块内数据被各算法消费时仍在CPU缓存中（256KB） */
+    private static final int DIGEST_BLOCK_SIZE = 256 * 1024;
+
+    /** 图片扩展名 */
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of(CommonConstants.File.IMAGE_EXTENSIONS);
+
+    /** 视频扩展名 */
+    private static final Set<String> VIDEO_EXTENSIONS = Set.of(CommonConstants.File.VIDEO_EXTENSIONS);
+
+    /** 音频扩展名 */
+    private static final Set<String> AUDIO_EXTENSIONS = Set.of(CommonConstants.File.AUDIO_EXTENSIONS);
+
+    /** 文档扩展名 */
+    private static final Set<String> DOCUMENT_EXTENSIONS = Set.of(CommonConstants.File.DOCUMENT_EXTENSIONS);
+
     /**
      * 获取文件扩展名
      *
@@ -80,8 +115,7 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
      * @return true-图片文件，false-非图片文件
      */
     public static boolean isImageFile(String fileName) {
-        String extension = getFileExtension(fileName);
-        return Arrays.asList(CommonConstants.File.IMAGE_EXTENSIONS).contains(extension);
+        return IMAGE_EXTENSIONS.contains(getFileExtension(fileName));
     }
 
     /**
@@ -91,8 +125,7 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
      * @return true-视频文件，false-非视频文件
      */
     public static boolean isVideoFile(String fileName) {
-        String extension = getFileExtension(fileName);
-        return Arrays.asList(CommonConstants.File.VIDEO_EXTENSIONS).contains(extension);
+        return VIDEO_EXTENSIONS.contains(getFileExtension(fileName));
     }
 
     /**
@@ -102,8 +135,7 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
      * @return true-音频文件，false-非音频文件
      */
     public static boolean isAudioFile(String fileName) {
-        String extension = getFileExtension(fileName);
-        return Arrays.asList(CommonConstants.File.AUDIO_EXTENSIONS).contains(extension);
+        return AUDIO_EXTENSIONS.contains(getFileExtension(fileName));
     }
 
     /**
@@ -113,8 +145,39 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
      * @return true-文档文件，false-非文档文件
      */
     public static boolean isDocumentFile(String fileName) {
-        String extension = getFileExtension(fileName);
-        return Arrays.asList(CommonConstants.File.DOCUMENT_EXTENSIONS).contains(extension);
+        return DOCUMENT_EXTENSIONS.contains(getFileExtension(fileName));
+    }
+
+    /**
+     * 按扩展名归类文件类型
+     *
+     * @param fileName 文件名
+     * @return image / video / audio / document / other
+     */
+    public static String resolveFileType(String fileName) {
+        return getFileTypeByExtension(getFileExtension(fileName));
+    }
+
+    /**
+     * 按扩展名归类文件类型
+     *
+     * @param extension 扩展名（不包含点，小写）
+     * @return image / video / audio / document / other
+     */
+    public static String getFileTypeByExtension(String extension) {
+        if (IMAGE_EXTENSIONS.contains(extension)) {
+            return CommonConstants.File.TYPE_IMAGE;
+        }
+        if (VIDEO_EXTENSIONS.contains(extension)) {
+            return CommonConstants.File.TYPE_VIDEO;
+        }
+        if (AUDIO_EXTENSIONS.contains(extension)) {
+            return CommonConstants.File.TYPE_AUDIO;
+        }
+        if (DOCUMENT_EXTENSIONS.contains(extension)) {
+            return CommonConstants.File.TYPE_DOCUMENT;
+        }
+        return CommonConstants.File.TYPE_OTHER;
     }
 
     /**
@@ -151,8 +214,8 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
             return null;
         }
 
-        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
-            return calculateMD5Internal(inputStream);
+        try {
+            return digest(file.toPath(), CommonConstants.Digest.MD5).get(CommonConstants.Digest.MD5);
         } catch (IOException e) {
             log.error("计算文件MD5失败: {}", file.getAbsolutePath(), e);
             return null;
@@ -181,27 +244,198 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
      */
     private static String calculateMD5Internal(InputStream inputStream) {
         try {
-            MessageDigest md5 = MessageDigest.getInstance("MD5");
-            byte[] buffer = new byte[8192];
+            MessageDigest md5 = MessageDigest.getInstance(CommonConstants.Digest.MD5);
+            byte[] buffer = new byte[DIGEST_BLOCK_SIZE];
             int bytesRead;
 
             while ((bytesRead = inputStream.read(buffer)) != -1) {
                 md5.update(buffer, 0, bytesRead);
             }
 
-            byte[] digest = md5.digest();
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-
-            return sb.toString();
+            return encodeHex(md5.digest());
         } catch (IOException | NoSuchAlgorithmException e) {
             log.error("计算输入流MD5失败", e);
             return null;
         }
     }
 
+    /**
+     * 单次读取文件同时计算多个摘要
+     *
+     * @param path       文件路径
+     * @param algorithms 摘要算法，见 {@link CommonConstants.Digest}
+     * @return 算法 -> 十六进制摘要，顺序与参数一致
+     * @throws IOException 读取失败
+     */
+    public static Map<String, String> digest(Path path, String... algorithms) throws IOException {
+        return digest(path, null, algorithms);
+    }
+
+    /**
+     * 单次读取文件同时计算多个摘要
+     * <p>
+     * 大文件按 {@link #MAP_WINDOW_SIZE} 分窗口内存映射，数据直接从页缓存交给摘要算法，不经过堆内拷贝。
+     * 未指定线程池时各算法按 {@link #DIGEST_BLOCK_SIZE} 分块交替推进，块内数据只从内存读取一次；
+     * 指定线程池时每个窗口内各算法并行计算，总耗时取决于最慢的算法而非所有算法之和。
+     *
+     * @param path       文件路径
+     * @param pool       并行计算使用的线程池，为 null 时在当前线程计算
+     * @param algorithms 摘要算法，见 {@link CommonConstants.Digest}
+     * @return 算法 -> 十六进制摘要，顺序与参数一致
+     * @throws IOException 读取失败
+     */
+    public static Map<String, String> digest(Path path, ForkJoinPool pool, String... algorithms) throws IOException {
+        MessageDigest[] digests = newDigests(algorithms);
+        boolean parallel = pool != null && digests.length > 1;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAP_THRESHOLD) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                readFully(channel, buffer, 0L);
+                updateAll(digests, buffer.flip(), null);
+            } else {
+                for (long position = 0; position < size; position += MAP_WINDOW_SIZE) {
+                    long length = Math.min(MAP_WINDOW_SIZE, size - position);
+                    updateAll(digests, channel.map(FileChannel.MapMode.READ_ONLY, position, length),
+                            parallel ? pool : null);
+                }
+            }
+        }
+
+        Map<String, String> result = new LinkedHashMap<>(digests.length * 2);
+        for (int i = 0; i < digests.length; i++) {
+            result.put(algorithms[i], encodeHex(digests[i].digest()));
+        }
+        return result;
+    }
+
+    /**
+     * 并行计算文件的树哈希
+     * <p>
+     * 文件按 chunkSize 切分，各分块的摘要在线程池中并行计算，再对按顺序拼接的分块摘要整体计算一次摘要作为根。
+     * 树哈希与整文件摘要的值不同，只能与使用相同算法和分块大小得到的树哈希比较，
+     * 适用于服务端内部的完整性校验；对外协议约定的 MD5/SHA-1 仍应使用 {@link #digest(Path, ForkJoinPool, String...)}。
+     *
+     * @param path      文件路径
+     * @param algorithm 摘要算法
+     * @param chunkSize 分块大小，见 {@link CommonConstants.Digest#DEFAULT_TREE_CHUNK_SIZE}
+     * @param pool      线程池
+     * @return 十六进制根摘要
+     * @throws IOException 读取失败
+     */
+    public static String treeDigest(Path path, String algorithm, int chunkSize, ForkJoinPool pool) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkCount = (int) Math.max(1L, (size + chunkSize - 1) / chunkSize);
+            List<Callable<byte[]>> tasks = new ArrayList<>(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                long position = (long) i * chunkSize;
+                long length = Math.min(chunkSize, size - position);
+                tasks.add(() -> {
+                    MessageDigest digest = newDigests(algorithm)[0];
+                    digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+                    return digest.digest();
+                });
+            }
+
+            MessageDigest root = newDigests(algorithm)[0];
+            for (Future<byte[]> leaf : pool.invokeAll(tasks)) {
+                root.update(await(leaf));
+            }
+            return encodeHex(root.digest());
+        }
+    }
+
+    /**
+     * 字节数组转小写十六进制字符串
+     *
+     * @param bytes 字节数组
+     * @return 十六进制字符串
+     */
+    public static String encodeHex(byte[] bytes) {
+        char[] chars = new char[bytes.length << 1];
+        for (int i = 0, j = 0; i < bytes.length; i++) {
+            chars[j++] = HEX_DIGITS[(bytes[i] >>> 4) & 0x0F];
+            chars[j++] = HEX_DIGITS[bytes[i] & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 将一个窗口的数据交给所有摘要算法
+     *
+     * @param digests 摘要算法
+     * @param window  数据窗口
+     * @param pool    线程池，为 null 时按块交替推进
+     * @throws IOException 并行计算失败
+     */
+    private static void updateAll(MessageDigest[] digests, ByteBuffer window, ForkJoinPool pool) throws IOException {
+        if (pool == null) {
+            int limit = window.limit();
+            for (int offset = 0; offset < limit; offset += DIGEST_BLOCK_SIZE) {
+                int length = Math.min(DIGEST_BLOCK_SIZE, limit - offset);
+                for (MessageDigest digest : digests) {
+                    digest.update(window.slice(offset, length));
+                }
+            }
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(digests.length);
+        for (MessageDigest digest : digests) {
+            tasks.add(() -> {
+                digest.update(window.duplicate());
+                return null;
+            });
+        }
+        for (Future<Void> future : pool.invokeAll(tasks)) {
+            await(future);
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("摘要计算被中断");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("摘要计算失败", e.getCause());
+        }
+    }
+
+    private static MessageDigest[] newDigests(String... algorithms) {
+        if (algorithms == null || algorithms.length == 0) {
+            throw new IllegalArgumentException("至少需要指定一个摘要算法");
+        }
+
+        MessageDigest[] digests = new MessageDigest[algorithms.length];
+        for (int i = 0; i < algorithms.length; i++) {
+            try {
+                digests[i] = MessageDigest.getInstance(algorithms[i]);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException("不支持的摘要算法: " + algorithms[i], e);
+            }
+        }
+        return digests;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("文件在读取过程中被截断");
+            }
+        }
+    }
+
     /**
      * 创建目录（如果不存在）
      *
@@ -436,23 +670,12 @@ public final class FileUtils extends org.apache.commons.io.FileUtils {
     }
 
     /**
-     * 获取文件MIME类型
+     * 获取文件MIME类型，只按扩展名查表，不访问文件系统；需要可信结果时使用 {@link FileTypeDetector}
      *
      * @param fileName 文件名
      * @return MIME类型，获取失败返回"application/octet-stream"
      */
     public static String getMimeType(String fileName) {
-        if (StringUtils.isBlank(fileName)) {
-            return "application/octet-stream";
-        }
-        
-        try {
-            Path path = Paths.get(fileName);
-            String mimeType = Files.probeContentType(path);
-            return mimeType != null ? mimeType : "application/octet-stream";
-        } catch (IOException e) {
-            log.warn("获取MIME类型失败: {}", fileName, e);
-            return "application/octet-stream";
-        }
+        return FileTypeDetector.mimeTypeOf(getFileExtension(fileName));
     }
 }
@@ -0,0 +1,162 @@
+package cn.jcodenest.wiki.common.sensitive;
+
+import cn.jcodenest.wiki.common.enums.SensitiveLevelEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link SensitiveWordTrie} 随机测试
+ * <p>
+ * 以逐位置比较归一化字符串的暴力匹配为参照，校验 {@code findAll}、{@code contains} 与 {@code mask}。
+ * 字母表很小且含大小写、全角与干扰字符，词条之间大量共享前后缀，覆盖失败指针与嵌套命中。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+class SensitiveWordTrieTest {
+
+    private static final int ROUNDS = 1000;
+
+    /** 词条字符 */
+    private static final String WORD_CHARS = "abcAＢ甲乙";
+
+    /** 文本字符：词条字符、未出现在词条中的字符与干扰字符 */
+    private static final String TEXT_CHARS = "abcAＢ甲乙xyz丙 *-\u3000\u200B";
+
+    private static final Comparator<SensitiveMatch> ORDER = Comparator.comparingInt(SensitiveMatch::end)
+            .thenComparingInt(SensitiveMatch::start)
+            .thenComparing(match -> match.word().word());
+
+    @Test
+    void findAllMatchesBruteForce() {
+        Random random = new Random(20261019L);
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean skipNoise = random.nextBoolean();
+            List<SensitiveWord> words = randomWords(random);
+            SensitiveWordTrie trie = SensitiveWordTrie.compile(words, skipNoise);
+            List<String> keys = keys(words, skipNoise);
+            assertEquals(keys.size(), trie.size());
+
+            for (int i = 0; i < 20; i++) {
+                String text = randomText(random, random.nextInt(40));
+                List<SensitiveMatch> expected = bruteForce(text, keys, skipNoise);
+                List<SensitiveMatch> actual = normalized(trie.findAll(text), skipNoise);
+                expected.sort(ORDER);
+                actual.sort(ORDER);
+                assertEquals(expected, actual, () -> "words=" + keys + ", text=" + text);
+                assertEquals(!expected.isEmpty(), trie.contains(text), () -> "words=" + keys + ", text=" + text);
+                assertEquals(bruteForceMask(text, expected, skipNoise), trie.mask(text, '#'),
+                        () -> "words=" + keys + ", text=" + text);
+            }
+        }
+    }
+
+    @Test
+    void emptyDictionary() {
+        assertEquals(List.of(), SensitiveWordTrie.empty().findAll("abc"));
+        assertEquals("abc", SensitiveWordTrie.empty().mask("abc", '*'));
+        assertEquals(0, SensitiveWordTrie.compile(List.of(new SensitiveWord("*-", SensitiveLevelEnum.BLOCK, null)),
+                true).size());
+    }
+
+    /**
+     * 暴力匹配：把参与匹配的字符归一化后连同原文下标排成序列，在每个结束位置逐个比较词条
+     */
+    private static List<SensitiveMatch> bruteForce(String text, List<String> keys, boolean skipNoise) {
+        StringBuilder folded = new StringBuilder();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = SensitiveTextNormalizer.normalize(text.charAt(i));
+            if (!skipNoise || !SensitiveTextNormalizer.isNoise(c)) {
+                folded.append(c);
+                positions.add(i);
+            }
+        }
+
+        List<SensitiveMatch> matches = new ArrayList<>();
+        for (int end = 1; end <= folded.length(); end++) {
+            for (String key : keys) {
+                int start = end - key.length();
+                if (start >= 0 && folded.substring(start, end).equals(key)) {
+                    matches.add(new SensitiveMatch(positions.get(start), positions.get(end - 1) + 1,
+                            new SensitiveWord(key, null, null)));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String bruteForceMask(String text, List<SensitiveMatch> matches, boolean skipNoise) {
+        char[] chars = text.toCharArray();
+        for (SensitiveMatch match : matches) {
+            for (int i = match.start(); i < match.end(); i++) {
+                if (!skipNoise || !SensitiveTextNormalizer.isNoise(SensitiveTextNormalizer.normalize(chars[i]))) {
+                    chars[i] = '#';
+                }
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 命中的词条换成归一化后的键，便于与暴力匹配比较（重复词条只保留其中一个）
+     */
+    private static List<SensitiveMatch> normalized(List<SensitiveMatch> matches, boolean skipNoise) {
+        List<SensitiveMatch> result = new ArrayList<>();
+        for (SensitiveMatch match : matches) {
+            String key = SensitiveTextNormalizer.normalize(match.word().word(), skipNoise);
+            result.add(new SensitiveMatch(match.start(), match.end(), new SensitiveWord(key, null, null)));
+        }
+        return result;
+    }
+
+    private static List<String> keys(List<SensitiveWord> words, boolean skipNoise) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (SensitiveWord word : words) {
+            String key = SensitiveTextNormalizer.normalize(word.word(), skipNoise);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static List<SensitiveWord> randomWords(Random random) {
+        List<SensitiveWord> words = new ArrayList<>();
+        int count = 1 + random.nextInt(12);
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int j = 0; j < length; j++) {
+                word.append(WORD_CHARS.charAt(random.nextInt(WORD_CHARS.length())));
+                // 词条中偶尔夹带干扰字符
+                if (random.nextInt(8) == 0) {
+                    word.append('*');
+                }
+            }
+            SensitiveLevelEnum level = random.nextBoolean() ? SensitiveLevelEnum.BLOCK : SensitiveLevelEnum.REVIEW;
+            words.add(new SensitiveWord(word.toString(), level, null));
+        }
+        return words;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(TEXT_CHARS.charAt(random.nextInt(TEXT_CHARS.length())));
+        }
+        return text.toString();
+    }
+}
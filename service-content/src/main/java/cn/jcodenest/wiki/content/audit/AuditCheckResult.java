@@ -0,0 +1,49 @@
+package cn.jcodenest.wiki.content.audit;
+
+/**
+ * 单个检查器的结果
+ *
+ * @param checker 检查器名称
+ * @param verdict 结论
+ * @param reason  未通过的原因，通过时为 null
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record AuditCheckResult(String checker, AuditVerdict verdict, String reason) {
+
+    /**
+     * 通过
+     *
+     * @param checker 检查器名称
+     * @return 检查结果
+     */
+    public static AuditCheckResult pass(String checker) {
+        return new AuditCheckResult(checker, AuditVerdict.PASS, null);
+    }
+
+    /**
+     * 转人工复核
+     *
+     * @param checker 检查器名称
+     * @param reason  原因
+     * @return 检查结果
+     */
+    public static AuditCheckResult review(String checker, String reason) {
+        return new AuditCheckResult(checker, AuditVerdict.REVIEW, reason);
+    }
+
+    /**
+     * 拒绝
+     *
+     * @param checker 检查器名称
+     * @param reason  原因
+     * @return 检查结果
+     */
+    public static AuditCheckResult reject(String checker, String reason) {
+        return new AuditCheckResult(checker, AuditVerdict.REJECT, reason);
+    }
+}
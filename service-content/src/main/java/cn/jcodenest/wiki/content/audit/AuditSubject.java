@@ -0,0 +1,18 @@
+package cn.jcodenest.wiki.content.audit;
+
+/**
+ * 待检查的内容
+ *
+ * @param contentId 内容ID
+ * @param authorId  作者ID
+ * @param title     标题
+ * @param markdown  Markdown 源文
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record AuditSubject(Long contentId, Long authorId, String title, String markdown) {
+}
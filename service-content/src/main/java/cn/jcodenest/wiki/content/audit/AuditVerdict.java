@@ -0,0 +1,29 @@
+package cn.jcodenest.wiki.content.audit;
+
+/**
+ * 自动检查结论，按严重程度递增排列，多个检查器的结论取最严重的一个
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public enum AuditVerdict {
+
+    /**
+     * 通过
+     */
+    PASS,
+
+    /**
+     * 无法判定，转人工复核
+     */
+    REVIEW,
+
+    /**
+     * 拒绝
+     */
+    REJECT
+}
@@ -0,0 +1,32 @@
+package cn.jcodenest.wiki.content.audit;
+
+/**
+ * 内容自动检查器
+ * <p>
+ * 实现为 Spring Bean 即自动加入审核流水线。同一条内容的各检查器并行执行，
+ * 超时或抛出异常的检查器按“转人工复核”处理，因此实现不需要自行兜底。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentAuditChecker {
+
+    /**
+     * 检查器名称，用于审核意见与指标标签
+     *
+     * @return 名称
+     */
+    String name();
+
+    /**
+     * 检查内容
+     *
+     * @param subject 待检查的内容
+     * @return 检查结果
+     */
+    AuditCheckResult check(AuditSubject subject);
+}
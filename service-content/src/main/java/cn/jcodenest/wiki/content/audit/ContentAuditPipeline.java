@@ -0,0 +1,304 @@
+package cn.jcodenest.wiki.content.audit;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.ContentAudit;
+import cn.jcodenest.wiki.content.enums.AuditStageEnum;
+import cn.jcodenest.wiki.content.enums.AuditStatusEnum;
+import cn.jcodenest.wiki.content.mapper.ContentAuditMapper;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 内容审核流水线
+ * <p>
+ * 启动完成后在 IO 虚拟线程上运行固定数量的工作循环，从 {@link ContentAuditQueue} 按优先级取出任务：
+ * 读取正文后把全部 {@link ContentAuditChecker} 并行提交执行，每个检查器单独计时并受超时限制，
+ * 超时或异常按转人工复核处理。汇总取最严重的结论：全部通过则发布，任一拒绝则审核失败，
+ * 其余转人工复核，由管理员在审核接口中处理。
+ * <p>
+ * 队列只在本实例内存中，实例停止时未处理的任务由定时的遗留扫描重新入队（提交超过 recoverAfterMillis
+ * 仍处于自动检查阶段的记录），多个实例重复处理同一记录时由 {@link ContentAuditWorkflow} 的条件更新保证只生效一次。
+ * <p>
+ * 指标：jcodenest.content.audit.backlog（积压）、enqueued（入队）、processed（按结果计数）、
+ * in.flight（处理中）、wait（排队耗时）、duration（处理耗时）与 check（按检查器的耗时）。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+public class ContentAuditPipeline {
+
+    /** 处理结果：发布 */
+    private static final String OUTCOME_APPROVED = "approved";
+
+    /** 处理结果：拒绝 */
+    private static final String OUTCOME_REJECTED = "rejected";
+
+    /** 处理结果：转人工复核 */
+    private static final String OUTCOME_MANUAL = "manual";
+
+    /** 处理结果：已被其他流程处理或内容不在审核中 */
+    private static final String OUTCOME_SKIPPED = "skipped";
+
+    private final ContentAuditQueue contentAuditQueue;
+
+    private final ContentAuditWorkflow contentAuditWorkflow;
+
+    private final ContentAuditMapper contentAuditMapper;
+
+    private final ContentRepository contentRepository;
+
+    private final List<ContentAuditChecker> checkers;
+
+    private final ContentProperties.Audit config;
+
+    private final Executor ioExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    private final Timer durationTimer;
+
+    private final Map<String, Timer> checkTimers;
+
+    public ContentAuditPipeline(ContentAuditQueue contentAuditQueue, ContentAuditWorkflow contentAuditWorkflow,
+                                ContentAuditMapper contentAuditMapper, ContentRepository contentRepository,
+                                List<ContentAuditChecker> checkers, ContentProperties contentProperties,
+                                @Qualifier(SystemConstants.ThreadPool.IO_EXECUTOR) Executor ioExecutor,
+                                MeterRegistry meterRegistry) {
+        this.contentAuditQueue = contentAuditQueue;
+        this.contentAuditWorkflow = contentAuditWorkflow;
+        this.contentAuditMapper = contentAuditMapper;
+        this.contentRepository = contentRepository;
+        this.checkers = List.copyOf(checkers);
+        this.config = contentProperties.getAudit();
+        this.ioExecutor = ioExecutor;
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("jcodenest.content.audit.wait")
+                .description("审核任务排队耗时")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("jcodenest.content.audit.duration")
+                .description("审核任务处理耗时")
+                .register(meterRegistry);
+        this.checkTimers = this.checkers.stream().collect(Collectors.toUnmodifiableMap(ContentAuditChecker::name,
+                checker -> Timer.builder("jcodenest.content.audit.check")
+                        .tag("checker", checker.name())
+                        .description("单个检查器耗时")
+                        .register(meterRegistry)));
+        Gauge.builder("jcodenest.content.audit.in.flight", inFlight, AtomicInteger::get)
+                .description("正在处理的审核任务数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 启动完成后开始处理队列，并立即扫描一次遗留审核
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        for (int i = 0; i < config.getWorkers(); i++) {
+            ioExecutor.execute(this::work);
+        }
+        log.info("内容审核流水线启动: workers={}, checkers={}", config.getWorkers(),
+                checkers.stream().map(ContentAuditChecker::name).toList());
+        recover();
+    }
+
+    /**
+     * 停止取新任务，正在处理的任务执行完毕后工作循环退出
+     */
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+    }
+
+    /**
+     * 遗留审核重新入队：提交时间早于 recoverAfterMillis 仍处于自动检查阶段的记录
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.audit.recover-millis:60000}")
+    public void recover() {
+        if (!running.get()) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusNanos(config.getRecoverAfterMillis() * 1_000_000L);
+            List<ContentAudit> audits = contentAuditMapper.selectList(Wrappers.<ContentAudit>lambdaQuery()
+                    .select(ContentAudit::getId, ContentAudit::getContentId, ContentAudit::getSubmitTime)
+                    .eq(ContentAudit::getAuditStatus, AuditStatusEnum.PENDING.getCode())
+                    .eq(ContentAudit::getAuditStage, AuditStageEnum.AUTO.getCode())
+                    .lt(ContentAudit::getSubmitTime, before)
+                    .orderByAsc(ContentAudit::getSubmitTime)
+                    .last("LIMIT " + config.getRecoverBatchSize()));
+            if (audits.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Content> metas = contentRepository.listMeta(audits.stream().map(ContentAudit::getContentId)
+                    .toList()).stream().collect(Collectors.toMap(Content::getId, meta -> meta));
+            int recovered = 0;
+            for (ContentAudit audit : audits) {
+                Content meta = metas.get(audit.getContentId());
+                // 内容已删除的记录也入队，由处理流程关闭
+                Long authorId = meta == null ? null : meta.getAuthorId();
+                Integer wordCount = meta == null ? null : meta.getWordCount();
+                long submitMillis = audit.getSubmitTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (contentAuditQueue.offer(audit.getId(), audit.getContentId(), authorId, wordCount, submitMillis)) {
+                    recovered++;
+                }
+            }
+            if (recovered > 0) {
+                log.info("遗留审核重新入队: count={}", recovered);
+            }
+        } catch (Exception e) {
+            log.warn("扫描遗留审核失败", e);
+        }
+    }
+
+    /**
+     * 工作循环
+     */
+    private void work() {
+        while (running.get()) {
+            ContentAuditQueue.AuditTask task;
+            try {
+                task = contentAuditQueue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+
+            waitTimer.record(System.nanoTime() - task.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                count(process(task));
+            } catch (Exception e) {
+                // 记录保持待审核，由遗留扫描重试
+                count("error");
+                log.error("处理内容审核失败: auditId={}, contentId={}", task.auditId(), task.contentId(), e);
+            } finally {
+                durationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                inFlight.decrementAndGet();
+                contentAuditQueue.done(task.auditId());
+            }
+        }
+    }
+
+    /**
+     * 处理一条审核
+     *
+     * @param task 审核任务
+     * @return 处理结果
+     */
+    private String process(ContentAuditQueue.AuditTask task) {
+        ContentAudit audit = contentAuditMapper.selectById(task.auditId());
+        if (audit == null || !AuditStatusEnum.PENDING.getCode().equals(audit.getAuditStatus())
+                || !AuditStageEnum.AUTO.getCode().equals(audit.getAuditStage())) {
+            return OUTCOME_SKIPPED;
+        }
+        Content meta = contentRepository.findMeta(audit.getContentId());
+        if (meta == null || !ContentStatusEnum.isUnderReview(meta.getStatus())) {
+            contentAuditWorkflow.complete(audit, meta == null ? null : meta.getAuthorId(), false, null,
+                    "内容已不在审核中");
+            return OUTCOME_SKIPPED;
+        }
+
+        AuditSubject subject = new AuditSubject(meta.getId(), meta.getAuthorId(), meta.getTitle(),
+                Objects.requireNonNullElse(contentRepository.findSource(meta.getId()), ""));
+        List<AuditCheckResult> results = check(subject);
+        AuditVerdict verdict = results.stream()
+                .map(AuditCheckResult::verdict)
+                .max(Comparator.naturalOrder())
+                .orElse(AuditVerdict.PASS);
+        String reason = results.stream()
+                .filter(result -> result.verdict() == verdict && result.reason() != null)
+                .map(result -> result.checker() + ": " + result.reason())
+                .collect(Collectors.joining("；"));
+
+        return switch (verdict) {
+            case PASS -> contentAuditWorkflow.complete(audit, meta.getAuthorId(), true, null, null)
+                    ? OUTCOME_APPROVED : OUTCOME_SKIPPED;
+            case REJECT -> contentAuditWorkflow.complete(audit, meta.getAuthorId(), false, null, reason)
+                    ? OUTCOME_REJECTED : OUTCOME_SKIPPED;
+            case REVIEW -> contentAuditWorkflow.escalate(audit, reason) ? OUTCOME_MANUAL : OUTCOME_SKIPPED;
+        };
+    }
+
+    /**
+     * 并行执行全部检查器
+     *
+     * @param subject 待检查的内容
+     * @return 按检查器注册顺序的结果
+     */
+    private List<AuditCheckResult> check(AuditSubject subject) {
+        List<CompletableFuture<AuditCheckResult>> futures = checkers.stream()
+                .map(checker -> CompletableFuture.supplyAsync(() -> timed(checker, subject), ioExecutor)
+                        .completeOnTimeout(AuditCheckResult.review(checker.name(), "检查超时"),
+                                config.getCheckerTimeoutMillis(), TimeUnit.MILLISECONDS)
+                        .exceptionally(e -> {
+                            log.warn("内容检查失败: checker={}, contentId={}", checker.name(), subject.contentId(), e);
+                            return AuditCheckResult.review(checker.name(), "检查失败");
+                        }))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private AuditCheckResult timed(ContentAuditChecker checker, AuditSubject subject) {
+        long start = System.nanoTime();
+        try {
+            return Objects.requireNonNull(checker.check(subject), "检查结果不能为空");
+        } finally {
+            checkTimers.get(checker.name()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void count(String outcome) {
+        Counter.builder("jcodenest.content.audit.processed")
+                .tag("outcome", outcome)
+                .description("审核任务处理数")
+                .register(meterRegistry)
+                .increment();
+    }
+}
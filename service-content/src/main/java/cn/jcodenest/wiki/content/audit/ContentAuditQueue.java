@@ -0,0 +1,172 @@
+package cn.jcodenest.wiki.content.audit;
+
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 内容审核队列（本实例内存队列）
+ * <p>
+ * 按“虚拟截止时间”排序：{@code rank = 提交时间 + (信任度上限 - 作者信任度) * trustStepMillis + 正文千字数 * sizeStepMillis}，
+ * rank 小的先出队，相同时按入队顺序。信任度高、篇幅短的内容排在前面；顺延量有上限，
+ * 排在后面的内容等待超过顺延量后自然排到新提交的内容之前，不会被持续插队饿死。
+ * <p>
+ * 作者信任度由本服务的数据计算：已发布内容数减去被拒内容数乘以 rejectPenalty，限制在 [0, maxTrust]，
+ * 按作者缓存，不依赖用户服务。
+ * <p>
+ * 同一审核记录在队列中或正在处理时不会重复入队；实例重启丢失的队列由遗留扫描从数据库恢复。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Component
+public class ContentAuditQueue {
+
+    private static final Comparator<AuditTask> ORDER =
+            Comparator.comparingLong(AuditTask::rank).thenComparingLong(AuditTask::sequence);
+
+    private final ContentRepository contentRepository;
+
+    private final ContentProperties.Audit config;
+
+    private final PriorityBlockingQueue<AuditTask> queue = new PriorityBlockingQueue<>(64, ORDER);
+
+    /** 在队列中或正在处理的审核ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** 作者ID -> 信任度 */
+    private final Cache<Long, Integer> trusts;
+
+    private final Counter enqueued;
+
+    /**
+     * 构造函数
+     *
+     * @param contentRepository 内容数据访问
+     * @param contentProperties 内容服务配置
+     * @param meterRegistry     指标注册表
+     */
+    public ContentAuditQueue(ContentRepository contentRepository, ContentProperties contentProperties,
+                             MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.config = contentProperties.getAudit();
+        this.trusts = Caffeine.newBuilder()
+                .maximumSize(config.getTrustCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getTrustExpireSeconds()))
+                .build();
+        this.enqueued = Counter.builder("jcodenest.content.audit.enqueued")
+                .description("进入审核队列的内容数")
+                .register(meterRegistry);
+        Gauge.builder("jcodenest.content.audit.backlog", queue, PriorityBlockingQueue::size)
+                .description("审核队列积压数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 入队
+     *
+     * @param auditId      审核ID
+     * @param contentId    内容ID
+     * @param authorId     作者ID，内容已删除时为 null
+     * @param wordCount    正文字数
+     * @param submitMillis 提交时间（毫秒）
+     * @return true-入队成功，false-已在队列中或正在处理
+     */
+    public boolean offer(Long auditId, Long contentId, Long authorId, Integer wordCount, long submitMillis) {
+        if (!pending.add(auditId)) {
+            return false;
+        }
+        long rank = submitMillis + trustDelay(authorId) + sizeDelay(wordCount);
+        queue.offer(new AuditTask(auditId, contentId, rank, sequence.incrementAndGet(), System.nanoTime()));
+        enqueued.increment();
+        return true;
+    }
+
+    /**
+     * 取出排在最前的任务
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return 任务，超时返回 null
+     * @throws InterruptedException 等待时被中断
+     */
+    public AuditTask poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    /**
+     * 任务处理结束（无论成功与否），之后同一审核记录可以重新入队
+     *
+     * @param auditId 审核ID
+     */
+    public void done(Long auditId) {
+        pending.remove(auditId);
+    }
+
+    /**
+     * 作者信任度发生变化（审核完成）时清除缓存
+     *
+     * @param authorId 作者ID
+     */
+    public void invalidateTrust(Long authorId) {
+        trusts.invalidate(authorId);
+    }
+
+    /**
+     * 队列长度
+     *
+     * @return 积压数
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private long trustDelay(Long authorId) {
+        int trust = authorId == null ? 0 : trusts.get(authorId, this::loadTrust);
+        return (long) (config.getMaxTrust() - trust) * config.getTrustStepMillis();
+    }
+
+    private long sizeDelay(Integer wordCount) {
+        long words = wordCount == null ? 0L : wordCount;
+        return Math.min(words * config.getSizeStepMillis() / 1000, config.getMaxSizeDelayMillis());
+    }
+
+    private int loadTrust(Long authorId) {
+        long published = contentRepository.countByAuthor(authorId, ContentStatusEnum.PUBLISHED.getCode());
+        long rejected = contentRepository.countByAuthor(authorId, ContentStatusEnum.REVIEW_FAILED.getCode());
+        long trust = published - rejected * config.getRejectPenalty();
+        return (int) Math.max(0L, Math.min(trust, config.getMaxTrust()));
+    }
+
+    /**
+     * 审核任务
+     *
+     * @param auditId       审核ID
+     * @param contentId     内容ID
+     * @param rank          排序值，越小越先处理
+     * @param sequence      入队序号
+     * @param enqueuedNanos 入队时间（纳秒），用于统计排队耗时
+     */
+    public record AuditTask(Long auditId, Long contentId, long rank, long sequence, long enqueuedNanos) {
+    }
+}
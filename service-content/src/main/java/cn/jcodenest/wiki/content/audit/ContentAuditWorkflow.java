@@ -0,0 +1,162 @@
+package cn.jcodenest.wiki.content.audit;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.ContentAudit;
+import cn.jcodenest.wiki.content.enums.AuditStageEnum;
+import cn.jcodenest.wiki.content.enums.AuditStatusEnum;
+import cn.jcodenest.wiki.content.enums.AuditTypeEnum;
+import cn.jcodenest.wiki.content.event.ContentChangedEvent;
+import cn.jcodenest.wiki.content.mapper.ContentAuditMapper;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 内容审核状态流转
+ * <p>
+ * 内容状态与审核记录在同一事务中按当前状态条件更新：
+ * <ul>
+ *     <li>提交：{@link ContentStatusEnum#canPublish} 允许的状态（草稿、审核失败）→ 审核中，新增待审核记录；</li>
+ *     <li>完成：待审核记录 → 通过/拒绝，内容 审核中 → 已发布/审核失败。</li>
+ * </ul>
+ * 自动检查、人工复核与遗留恢复可能并发处理同一条记录，条件更新保证只有一个结果生效。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentAuditWorkflow {
+
+    /** 可以提交审核的内容状态 */
+    private static final List<Integer> SUBMITTABLE = Arrays.stream(ContentStatusEnum.values())
+            .map(ContentStatusEnum::getCode)
+            .filter(ContentStatusEnum::canPublish)
+            .toList();
+
+    private static final List<Integer> UNDER_REVIEW = List.of(ContentStatusEnum.UNDER_REVIEW.getCode());
+
+    /** 审核意见最大长度 */
+    private static final int MAX_REASON_LENGTH = 1000;
+
+    private final ContentRepository contentRepository;
+
+    private final ContentAuditMapper contentAuditMapper;
+
+    private final ContentAuditQueue contentAuditQueue;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 提交审核并加入本实例的审核队列
+     *
+     * @param meta 内容元数据
+     * @return 审核记录
+     */
+    public ContentAudit submit(Content meta) {
+        if (!ContentStatusEnum.canPublish(meta.getStatus())) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "当前状态的内容不能提交审核");
+        }
+
+        ContentAudit audit = new ContentAudit();
+        audit.setContentId(meta.getId());
+        audit.setAuditType(meta.getPublishedAt() == null ? AuditTypeEnum.PUBLISH.getCode()
+                : AuditTypeEnum.MODIFY.getCode());
+        audit.setAuditStatus(AuditStatusEnum.PENDING.getCode());
+        audit.setAuditStage(AuditStageEnum.AUTO.getCode());
+        audit.setSubmitTime(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!contentRepository.transitStatus(meta.getId(), SUBMITTABLE,
+                    ContentStatusEnum.UNDER_REVIEW.getCode(), false)) {
+                throw BusinessException.of(ErrorCode.CONFLICT, "内容状态已变化，请刷新后重试");
+            }
+            contentAuditMapper.insert(audit);
+        });
+        eventPublisher.publishEvent(new ContentChangedEvent(meta.getId(), SystemConstants.Event.CONTENT_UPDATE));
+
+        contentAuditQueue.offer(audit.getId(), meta.getId(), meta.getAuthorId(), meta.getWordCount(),
+                System.currentTimeMillis());
+        return audit;
+    }
+
+    /**
+     * 完成审核：通过时发布内容，拒绝时内容回到审核失败（可修改后重新提交）
+     *
+     * @param audit     待审核记录
+     * @param authorId  作者ID
+     * @param approved  是否通过
+     * @param auditorId 审核员ID，自动审核为 null
+     * @param reason    审核意见
+     * @return true-本次完成了审核，false-记录已被其他流程处理
+     */
+    public boolean complete(ContentAudit audit, Long authorId, boolean approved, Long auditorId, String reason) {
+        Long contentId = audit.getContentId();
+        Boolean transited = transactionTemplate.execute(status -> {
+            int updated = contentAuditMapper.update(null, Wrappers.<ContentAudit>lambdaUpdate()
+                    .set(ContentAudit::getAuditStatus, approved ? AuditStatusEnum.APPROVED.getCode()
+                            : AuditStatusEnum.REJECTED.getCode())
+                    .set(ContentAudit::getAuditorId, auditorId)
+                    .set(ContentAudit::getAuditReason, truncate(reason))
+                    .set(ContentAudit::getAuditTime, LocalDateTime.now())
+                    .eq(ContentAudit::getId, audit.getId())
+                    .eq(ContentAudit::getAuditStatus, AuditStatusEnum.PENDING.getCode()));
+            if (updated == 0) {
+                return null;
+            }
+            // 内容可能已被删除或下架，此时只关闭审核记录
+            return contentRepository.transitStatus(contentId, UNDER_REVIEW, approved
+                    ? ContentStatusEnum.PUBLISHED.getCode() : ContentStatusEnum.REVIEW_FAILED.getCode(), approved);
+        });
+        if (transited == null) {
+            return false;
+        }
+        if (transited) {
+            contentAuditQueue.invalidateTrust(authorId);
+            eventPublisher.publishEvent(new ContentChangedEvent(contentId, approved
+                    ? SystemConstants.Event.CONTENT_PUBLISH : SystemConstants.Event.CONTENT_UPDATE));
+        }
+        log.info("内容审核完成: auditId={}, contentId={}, approved={}, auditorId={}", audit.getId(), contentId,
+                approved, auditorId);
+        return true;
+    }
+
+    /**
+     * 自动检查无法判定，转人工复核
+     *
+     * @param audit  待审核记录
+     * @param reason 需要复核的原因
+     * @return true-已转人工复核，false-记录已被其他流程处理
+     */
+    public boolean escalate(ContentAudit audit, String reason) {
+        return contentAuditMapper.update(null, Wrappers.<ContentAudit>lambdaUpdate()
+                .set(ContentAudit::getAuditStage, AuditStageEnum.MANUAL.getCode())
+                .set(ContentAudit::getAuditReason, truncate(reason))
+                .eq(ContentAudit::getId, audit.getId())
+                .eq(ContentAudit::getAuditStatus, AuditStatusEnum.PENDING.getCode())
+                .eq(ContentAudit::getAuditStage, AuditStageEnum.AUTO.getCode())) > 0;
+    }
+
+    private static String truncate(String reason) {
+        return reason == null || reason.length() <= MAX_REASON_LENGTH ? reason
+                : reason.substring(0, MAX_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,69 @@
+package cn.jcodenest.wiki.content.audit.checker;
+
+import cn.jcodenest.wiki.content.audit.AuditCheckResult;
+import cn.jcodenest.wiki.content.audit.AuditSubject;
+import cn.jcodenest.wiki.content.audit.ContentAuditChecker;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 图片检查：不安全的图片地址直接拒绝；内嵌图片、图片数量过多以及配置了图片域名白名单时的外部图片转人工复核
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageAuditChecker implements ContentAuditChecker {
+
+    /** 不允许作为图片地址的协议 */
+    private static final Set<String> UNSAFE_SCHEMES = Set.of("javascript", "vbscript", "file");
+
+    /** 内嵌图片协议 */
+    private static final String DATA_SCHEME = "data";
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public String name() {
+        return "image";
+    }
+
+    @Override
+    public AuditCheckResult check(AuditSubject subject) {
+        ContentProperties.Audit audit = contentProperties.getAudit();
+        List<String> imageHosts = audit.getImageHosts().stream()
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .toList();
+        List<String> images = MarkdownLinks.extract(subject.markdown()).images();
+
+        String review = images.size() > audit.getMaxImages() ? "图片数量过多：" + images.size() : null;
+        for (String image : images) {
+            String scheme = MarkdownLinks.scheme(image);
+            if (UNSAFE_SCHEMES.contains(scheme)) {
+                return AuditCheckResult.reject(name(), "包含不安全的图片地址：" + scheme);
+            }
+            if (review != null) {
+                continue;
+            }
+            if (DATA_SCHEME.equals(scheme)) {
+                review = "包含内嵌图片";
+                continue;
+            }
+            String host = MarkdownLinks.host(image);
+            if (host != null && !imageHosts.isEmpty() && !MarkdownLinks.matches(host, imageHosts)) {
+                review = "包含外部图片：" + host;
+            }
+        }
+        return review == null ? AuditCheckResult.pass(name()) : AuditCheckResult.review(name(), review);
+    }
+}
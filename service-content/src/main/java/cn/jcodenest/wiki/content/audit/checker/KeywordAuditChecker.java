@@ -0,0 +1,76 @@
+package cn.jcodenest.wiki.content.audit.checker;
+
+import cn.jcodenest.wiki.common.enums.SensitiveLevelEnum;
+import cn.jcodenest.wiki.common.sensitive.SensitiveWord;
+import cn.jcodenest.wiki.common.sensitive.SensitiveWordFilter;
+import cn.jcodenest.wiki.common.sensitive.SensitiveWordTrie;
+import cn.jcodenest.wiki.content.audit.AuditCheckResult;
+import cn.jcodenest.wiki.content.audit.AuditSubject;
+import cn.jcodenest.wiki.content.audit.ContentAuditChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 关键词检查：标题或正文命中禁止级别的敏感词时拒绝，命中复核级别时转人工复核
+ * <p>
+ * 词典由 {@link SensitiveWordFilter} 从 sys_dict 加载并热更新；未启用敏感词过滤时直接通过。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordAuditChecker implements ContentAuditChecker {
+
+    /** 审核意见中列出的复核词条数上限 */
+    private static final int MAX_REPORTED_WORDS = 5;
+
+    private final ObjectProvider<SensitiveWordFilter> sensitiveWordFilter;
+
+    @Override
+    public String name() {
+        return "keyword";
+    }
+
+    @Override
+    public AuditCheckResult check(AuditSubject subject) {
+        SensitiveWordFilter filter = sensitiveWordFilter.getIfAvailable();
+        if (filter == null) {
+            return AuditCheckResult.pass(name());
+        }
+
+        SensitiveWordTrie trie = filter.current();
+        SensitiveWord[] blocked = {null};
+        Set<String> reviewed = new LinkedHashSet<>();
+        SensitiveWordTrie.MatchHandler handler = (start, end, word) -> {
+            if (word.level() == SensitiveLevelEnum.BLOCK) {
+                blocked[0] = word;
+                return false;
+            }
+            if (reviewed.size() < MAX_REPORTED_WORDS) {
+                reviewed.add(word.word());
+            }
+            return true;
+        };
+        trie.scan(subject.title(), handler);
+        if (blocked[0] == null) {
+            trie.scan(subject.markdown(), handler);
+        }
+
+        if (blocked[0] != null) {
+            return AuditCheckResult.reject(name(), "包含禁用词：" + blocked[0].word());
+        }
+        if (!reviewed.isEmpty()) {
+            return AuditCheckResult.review(name(), "包含敏感词：" + String.join("、", reviewed));
+        }
+        return AuditCheckResult.pass(name());
+    }
+}
@@ -0,0 +1,63 @@
+package cn.jcodenest.wiki.content.audit.checker;
+
+import cn.jcodenest.wiki.content.audit.AuditCheckResult;
+import cn.jcodenest.wiki.content.audit.AuditSubject;
+import cn.jcodenest.wiki.content.audit.ContentAuditChecker;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 链接检查：可执行脚本的协议与禁止的域名直接拒绝，链接数量过多转人工复核
+ * <p>
+ * 只做静态检查，不访问链接本身，避免审核耗时受外部站点影响。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkAuditChecker implements ContentAuditChecker {
+
+    /** 不允许出现在链接中的协议 */
+    private static final Set<String> UNSAFE_SCHEMES = Set.of("javascript", "vbscript", "data", "file");
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public String name() {
+        return "link";
+    }
+
+    @Override
+    public AuditCheckResult check(AuditSubject subject) {
+        ContentProperties.Audit audit = contentProperties.getAudit();
+        List<String> blockedDomains = audit.getBlockedDomains().stream()
+                .map(domain -> domain.toLowerCase(Locale.ROOT))
+                .toList();
+        List<String> links = MarkdownLinks.extract(subject.markdown()).links();
+
+        for (String link : links) {
+            String scheme = MarkdownLinks.scheme(link);
+            if (UNSAFE_SCHEMES.contains(scheme)) {
+                return AuditCheckResult.reject(name(), "包含不安全的链接协议：" + scheme);
+            }
+            String host = MarkdownLinks.host(link);
+            if (host != null && MarkdownLinks.matches(host, blockedDomains)) {
+                return AuditCheckResult.reject(name(), "包含禁止的域名：" + host);
+            }
+        }
+        if (links.size() > audit.getMaxLinks()) {
+            return AuditCheckResult.review(name(), "链接数量过多：" + links.size());
+        }
+        return AuditCheckResult.pass(name());
+    }
+}
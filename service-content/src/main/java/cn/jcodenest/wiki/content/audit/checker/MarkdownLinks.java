@@ -0,0 +1,135 @@
+package cn.jcodenest.wiki.content.audit.checker;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从 Markdown 源文中提取链接与图片地址
+ * <p>
+ * 只做检查所需的近似提取：Markdown 行内链接与图片、HTML 的 href/src 属性以及裸露的网址，
+ * 不解析引用式链接与代码块，代码中的网址同样会被提取。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class MarkdownLinks {
+
+    /** 行内链接与图片：[text](url) / ![alt](url)，分组1为图片标记，分组2为地址 */
+    private static final Pattern INLINE = Pattern.compile("(!?)\\[[^\\]\\n]*]\\(\\s*<?([^)\\s>]+)");
+
+    /** HTML 属性：<a href> / <img src>，分组1为标签名，分组2为地址 */
+    private static final Pattern HTML = Pattern.compile(
+            "(?i)<(a|img)\\b[^>]*?\\b(?:href|src)\\s*=\\s*[\"']?([^\"'\\s>]+)");
+
+    /** 裸露的网址（不含已被上面两种写法包住的） */
+    private static final Pattern BARE = Pattern.compile("(?i)(?<![(<\"'=])\\bhttps?://[^\\s<>()\\[\\]\"']+");
+
+    /**
+     * 提取的地址
+     *
+     * @param links  链接地址
+     * @param images 图片地址
+     */
+    record Extracted(List<String> links, List<String> images) {
+    }
+
+    /**
+     * 提取链接与图片地址
+     *
+     * @param markdown Markdown 源文
+     * @return 提取结果
+     */
+    static Extracted extract(String markdown) {
+        List<String> links = new ArrayList<>();
+        List<String> images = new ArrayList<>();
+        if (markdown == null || markdown.isEmpty()) {
+            return new Extracted(links, images);
+        }
+
+        Matcher matcher = INLINE.matcher(markdown);
+        while (matcher.find()) {
+            (matcher.group(1).isEmpty() ? links : images).add(matcher.group(2));
+        }
+        matcher = HTML.matcher(markdown);
+        while (matcher.find()) {
+            ("img".equalsIgnoreCase(matcher.group(1)) ? images : links).add(matcher.group(2));
+        }
+        matcher = BARE.matcher(markdown);
+        while (matcher.find()) {
+            links.add(matcher.group());
+        }
+        return new Extracted(links, images);
+    }
+
+    /**
+     * 地址的协议（小写），相对地址返回空字符串
+     *
+     * @param url 地址
+     * @return 协议
+     */
+    static String scheme(String url) {
+        int colon = url.indexOf(':');
+        if (colon <= 0) {
+            return "";
+        }
+        for (int i = 0; i < colon; i++) {
+            char c = url.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '+' || c == '-' || c == '.')) {
+                return "";
+            }
+        }
+        return url.substring(0, colon).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 地址的主机名（小写），没有主机名时返回 null
+     *
+     * @param url 地址
+     * @return 主机名
+     */
+    static String host(String url) {
+        int start = url.indexOf("//");
+        if (start < 0 || !url.startsWith("//") && scheme(url).isEmpty()) {
+            return null;
+        }
+        start += 2;
+        int end = start;
+        while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0) {
+            end++;
+        }
+        String authority = url.substring(start, end);
+        authority = authority.substring(authority.lastIndexOf('@') + 1);
+        int port = authority.lastIndexOf(':');
+        if (port >= 0 && !authority.endsWith("]")) {
+            authority = authority.substring(0, port);
+        }
+        return authority.isEmpty() ? null : authority.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 主机名是否等于某个域名或是其子域名
+     *
+     * @param host    主机名
+     * @param domains 域名（小写）
+     * @return true-匹配
+     */
+    static boolean matches(String host, List<String> domains) {
+        for (String domain : domains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
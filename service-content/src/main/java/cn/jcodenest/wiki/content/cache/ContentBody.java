@@ -0,0 +1,55 @@
+package cn.jcodenest.wiki.content.cache;
+
+import lombok.Data;
+
+/**
+ * 内容正文（大字段），与列表元数据分开加载与缓存
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentBody {
+
+    /**
+     * 内容ID
+     */
+    private Long id;
+
+    /**
+     * 正文版本号
+     */
+    private Integer version;
+
+    /**
+     * 内容摘要
+     */
+    private String summary;
+
+    /**
+     * 内容HTML（渲染后）
+     */
+    private String contentHtml;
+
+    /**
+     * SEO描述
+     */
+    private String seoDescription;
+
+    /**
+     * 估算占用字节数
+     *
+     * @return 字节数
+     */
+    public int weight() {
+        return 2 * (length(summary) + length(contentHtml) + length(seoDescription));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
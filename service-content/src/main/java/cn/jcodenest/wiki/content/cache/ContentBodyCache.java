@@ -0,0 +1,156 @@
+package cn.jcodenest.wiki.content.cache;
+
+import cn.jcodenest.wiki.common.cache.RedisKeyMetrics;
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.utils.JsonUtils;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 内容正文缓存
+ * <p>
+ * 以“内容ID + 正文版本号”为键：正文每次修改版本号加1，旧键自然不再被访问，不需要主动失效，
+ * 也不会出现先删缓存后回填旧值的竞态。读取顺序为本地 Caffeine（按正文大小加权淘汰）→ Redis → 数据库，
+ * 同一实例内同一个键的并发未命中只回源一次。Redis 的命中、未命中与回源耗时计入 {@link RedisKeyMetrics}。
+ * <p>
+ * 数据库中的版本可能已经比调用方持有的元数据更新，此时返回较新的正文，并只以实际版本写入 Redis。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+public class ContentBodyCache {
+
+    /** 本地缓存名称（指标标签） */
+    public static final String CACHE_NAME = "contentBody";
+
+    /** 单个条目的固定开销估算（字节） */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final ContentRepository contentRepository;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final RedisKeyMetrics redisKeyMetrics;
+
+    private final Duration redisExpire;
+
+    private final Cache<String, ContentBody> localCache;
+
+    /**
+     * 构造函数
+     *
+     * @param contentRepository   内容数据访问
+     * @param stringRedisTemplate StringRedisTemplate
+     * @param redisKeyMetrics     Redis 键前缀指标
+     * @param contentProperties   内容服务配置
+     * @param meterRegistry       指标注册表
+     */
+    public ContentBodyCache(ContentRepository contentRepository, StringRedisTemplate stringRedisTemplate,
+                            RedisKeyMetrics redisKeyMetrics, ContentProperties contentProperties,
+                            MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisKeyMetrics = redisKeyMetrics;
+
+        ContentProperties.BodyCache config = contentProperties.getBodyCache();
+        this.redisExpire = Duration.ofSeconds(config.getRedisExpireSeconds());
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(config.getLocalMaxBytes())
+                .weigher((String key, ContentBody body) -> ENTRY_OVERHEAD + body.weight())
+                .expireAfterWrite(Duration.ofSeconds(config.getLocalExpireSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+    }
+
+    /**
+     * 获取正文
+     *
+     * @param id      内容ID
+     * @param version 正文版本号（来自元数据）
+     * @return 正文，内容不存在时返回null
+     */
+    public ContentBody get(Long id, Integer version) {
+        return localCache.get(key(id, version), key -> load(id, version));
+    }
+
+    /**
+     * 依次从 Redis 与数据库加载正文
+     *
+     * @param id      内容ID
+     * @param version 正文版本号
+     * @return 正文
+     */
+    private ContentBody load(Long id, Integer version) {
+        String redisKey = RedisConstants.ContentKey.CONTENT_BODY + key(id, version);
+        if (!redisExpire.isZero()) {
+            try {
+                String json = stringRedisTemplate.opsForValue().get(redisKey);
+                if (json != null) {
+                    redisKeyMetrics.recordHit(redisKey);
+                    return JsonUtils.parseObject(json, ContentBody.class);
+                }
+                redisKeyMetrics.recordMiss(redisKey);
+            } catch (Exception e) {
+                log.warn("读取正文缓存失败，回源数据库: contentId={}, version={}", id, version, e);
+            }
+        }
+
+        long start = System.nanoTime();
+        ContentBody body = contentRepository.findBody(id);
+        redisKeyMetrics.recordLoad(redisKey, System.nanoTime() - start);
+        if (body == null) {
+            return null;
+        }
+        if (!Objects.equals(body.getVersion(), version)) {
+            log.debug("正文版本已更新: contentId={}, expected={}, actual={}", id, version, body.getVersion());
+        }
+        writeRedis(key(id, body.getVersion()), body);
+        return body;
+    }
+
+    /**
+     * 写入 Redis，失败只记录日志
+     *
+     * @param key  缓存键（不含前缀）
+     * @param body 正文
+     */
+    private void writeRedis(String key, ContentBody body) {
+        if (redisExpire.isZero()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(RedisConstants.ContentKey.CONTENT_BODY + key,
+                    JsonUtils.toJsonString(body), redisExpire);
+        } catch (Exception e) {
+            log.warn("写入正文缓存失败: key={}", key, e);
+        }
+    }
+
+    /**
+     * 缓存键
+     *
+     * @param id      内容ID
+     * @param version 正文版本号
+     * @return 缓存键
+     */
+    private static String key(Long id, Integer version) {
+        return id + ":" + (version == null ? 0 : version);
+    }
+}
@@ -0,0 +1,361 @@
+package cn.jcodenest.wiki.content.category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 分类树索引（不可变快照）
+ * <p>
+ * 分类按先序遍历（欧拉序）排成数组，每个分类的子树恰好是数组中的连续区间 [position, end)：
+ * <ul>
+ *     <li>“B 是否在 A 的子树中”只需一次区间判断；</li>
+ *     <li>子树内的全部分类ID是数组的一段，不需要递归查询；</li>
+ *     <li>子树内容总数用前缀和两次相减得到。</li>
+ * </ul>
+ * 祖先沿父位置数组向上查找，分类层级很浅，不单独保存闭包表。
+ * <p>
+ * 父分类不存在的分类视为顶级分类；parent_id 构成环时从环上 ID 最小的分类断开（该分类视为顶级分类，
+ * 与其他顶级分类一起排序），挂在环上的分类仍留在原父分类之下，保证每个分类只出现一次。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public final class CategoryIndex {
+
+    /** 顶级分类的父分类ID */
+    public static final long ROOT_PARENT_ID = 0L;
+
+    /** 分类ID到先序位置 */
+    private final Map<Long, Integer> positions;
+
+    /** 先序排列的分类 */
+    private final CategoryNode[] nodes;
+
+    /** 子树区间的结束位置（不含） */
+    private final int[] end;
+
+    /** 父分类位置，顶级分类为 -1 */
+    private final int[] parent;
+
+    /** 深度，顶级分类为 0 */
+    private final int[] depth;
+
+    /** 内容数量前缀和：countPrefix[i] 为前 i 个分类的内容数之和 */
+    private final long[] countPrefix;
+
+    private CategoryIndex(CategoryNode[] nodes, int[] parent) {
+        int n = nodes.length;
+        this.nodes = nodes;
+        this.parent = parent;
+        this.positions = new HashMap<>(n * 4 / 3 + 1);
+        this.end = new int[n];
+        this.depth = new int[n];
+        this.countPrefix = new long[n + 1];
+
+        int[] size = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            size[i]++;
+            if (parent[i] >= 0) {
+                size[parent[i]] += size[i];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            positions.put(nodes[i].id(), i);
+            end[i] = i + size[i];
+            depth[i] = parent[i] < 0 ? 0 : depth[parent[i]] + 1;
+            countPrefix[i + 1] = countPrefix[i] + nodes[i].contentCount();
+        }
+    }
+
+    /**
+     * 构建索引
+     *
+     * @param categories 全部分类
+     * @return 分类索引
+     */
+    public static CategoryIndex build(Collection<CategoryNode> categories) {
+        Map<Long, CategoryNode> byId = new HashMap<>(categories.size() * 4 / 3 + 1);
+        for (CategoryNode node : categories) {
+            byId.put(node.id(), node);
+        }
+        Set<Long> cycleRoots = findCycleRoots(byId);
+        Map<Long, List<CategoryNode>> children = new HashMap<>();
+        List<CategoryNode> roots = new ArrayList<>();
+        for (CategoryNode node : byId.values()) {
+            if (parentOf(node, byId) == null || cycleRoots.contains(node.id())) {
+                roots.add(node);
+            } else {
+                children.computeIfAbsent(node.parentId(), key -> new ArrayList<>()).add(node);
+            }
+        }
+        Comparator<CategoryNode> order = Comparator.comparingInt(CategoryNode::sortOrder)
+                .thenComparing(CategoryNode::id);
+        roots.sort(order);
+        children.values().forEach(list -> list.sort(order));
+
+        CategoryNode[] nodes = new CategoryNode[byId.size()];
+        int[] parent = new int[byId.size()];
+        Map<Long, Integer> visited = new HashMap<>(byId.size() * 4 / 3 + 1);
+        int[] next = {0};
+        for (CategoryNode root : roots) {
+            visit(root, children, nodes, parent, visited, next);
+        }
+        return new CategoryIndex(nodes, parent);
+    }
+
+    /**
+     * 找出每个 parent_id 环上 ID 最小的分类
+     * <p>
+     * 每个分类只有一个父分类，从各分类沿父分类向上走，回到本轮走过的分类即发现一个环；
+     * 走到上一轮已走过的分类时停止，每个分类只经过一次。
+     */
+    private static Set<Long> findCycleRoots(Map<Long, CategoryNode> byId) {
+        Set<Long> cycleRoots = new HashSet<>();
+        Map<Long, Integer> walkOf = new HashMap<>(byId.size() * 4 / 3 + 1);
+        int walk = 0;
+        for (Long start : byId.keySet()) {
+            walk++;
+            Long current = start;
+            while (current != null && !walkOf.containsKey(current)) {
+                walkOf.put(current, walk);
+                current = parentOf(byId.get(current), byId);
+            }
+            if (current != null && walkOf.get(current) == walk) {
+                // current 在环上，绕环一周取最小ID
+                long min = current;
+                for (Long id = parentOf(byId.get(current), byId); !id.equals(current);
+                     id = parentOf(byId.get(id), byId)) {
+                    min = Math.min(min, id);
+                }
+                cycleRoots.add(min);
+            }
+        }
+        return cycleRoots;
+    }
+
+    /**
+     * 父分类ID，顶级分类或父分类不存在时返回 null
+     */
+    private static Long parentOf(CategoryNode node, Map<Long, CategoryNode> byId) {
+        return node.parentId() == ROOT_PARENT_ID || !byId.containsKey(node.parentId()) ? null : node.parentId();
+    }
+
+    /**
+     * 从指定分类开始先序遍历（显式栈，不受递归深度限制）
+     */
+    private static void visit(CategoryNode root, Map<Long, List<CategoryNode>> children, CategoryNode[] nodes,
+                              int[] parent, Map<Long, Integer> visited, int[] next) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root, -1));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            if (visited.containsKey(frame.node().id())) {
+                continue;
+            }
+            int position = next[0]++;
+            visited.put(frame.node().id(), position);
+            nodes[position] = frame.node();
+            parent[position] = frame.parent();
+
+            // 逆序入栈，出栈顺序即排序顺序
+            List<CategoryNode> list = children.getOrDefault(frame.node().id(), Collections.emptyList());
+            for (int i = list.size() - 1; i >= 0; i--) {
+                stack.push(new Frame(list.get(i), position));
+            }
+        }
+    }
+
+    /**
+     * 分类数量
+     *
+     * @return 分类数量
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * 是否包含分类
+     *
+     * @param categoryId 分类ID
+     * @return 是否包含
+     */
+    public boolean contains(Long categoryId) {
+        return categoryId != null && positions.containsKey(categoryId);
+    }
+
+    /**
+     * 查询分类
+     *
+     * @param categoryId 分类ID
+     * @return 分类节点，不存在时返回 null
+     */
+    public CategoryNode get(Long categoryId) {
+        Integer position = categoryId == null ? null : positions.get(categoryId);
+        return position == null ? null : nodes[position];
+    }
+
+    /**
+     * 分类的先序位置
+     *
+     * @param categoryId 分类ID
+     * @return 先序位置，不存在时返回 -1
+     */
+    public int position(Long categoryId) {
+        Integer position = categoryId == null ? null : positions.get(categoryId);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * 分类子树（含自身）对应的先序区间
+     *
+     * @param categoryId 分类ID
+     * @return 区间 [from, to)，分类不存在时返回 null
+     */
+    public Range range(Long categoryId) {
+        int position = position(categoryId);
+        return position < 0 ? null : new Range(position, end[position]);
+    }
+
+    /**
+     * 判断分类是否在另一分类的子树中（含自身）
+     *
+     * @param ancestorId 祖先分类ID
+     * @param categoryId 分类ID
+     * @return 是否在子树中
+     */
+    public boolean isInSubtree(Long ancestorId, Long categoryId) {
+        int ancestor = position(ancestorId);
+        int position = position(categoryId);
+        return ancestor >= 0 && position >= ancestor && position < end[ancestor];
+    }
+
+    /**
+     * 子树内的全部分类ID（含自身，先序）
+     *
+     * @param categoryId 分类ID
+     * @return 分类ID列表，分类不存在时返回空列表
+     */
+    public List<Long> subtreeIds(Long categoryId) {
+        int position = position(categoryId);
+        if (position < 0) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = new ArrayList<>(end[position] - position);
+        for (int i = position; i < end[position]; i++) {
+            ids.add(nodes[i].id());
+        }
+        return ids;
+    }
+
+    /**
+     * 子树内容总数（含自身）
+     *
+     * @param categoryId 分类ID
+     * @return 内容总数，分类不存在时返回 0
+     */
+    public long subtreeContentCount(Long categoryId) {
+        int position = position(categoryId);
+        return position < 0 ? 0L : countPrefix[end[position]] - countPrefix[position];
+    }
+
+    /**
+     * 祖先分类（从顶级分类到自身）
+     *
+     * @param categoryId 分类ID
+     * @return 分类路径，分类不存在时返回空列表
+     */
+    public List<CategoryNode> path(Long categoryId) {
+        int position = position(categoryId);
+        if (position < 0) {
+            return Collections.emptyList();
+        }
+        CategoryNode[] path = new CategoryNode[depth[position] + 1];
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = nodes[position];
+            position = parent[position];
+        }
+        return Arrays.asList(path);
+    }
+
+    /**
+     * 深度（顶级分类为 0）
+     *
+     * @param categoryId 分类ID
+     * @return 深度，分类不存在时返回 -1
+     */
+    public int depth(Long categoryId) {
+        int position = position(categoryId);
+        return position < 0 ? -1 : depth[position];
+    }
+
+    /**
+     * 直接子分类（按排序顺序）
+     *
+     * @param categoryId 分类ID，为 null 或 0 时返回顶级分类
+     * @return 子分类
+     */
+    public List<CategoryNode> children(Long categoryId) {
+        int from;
+        int to;
+        if (categoryId == null || categoryId == ROOT_PARENT_ID) {
+            from = 0;
+            to = nodes.length;
+        } else {
+            int position = position(categoryId);
+            if (position < 0) {
+                return Collections.emptyList();
+            }
+            from = position + 1;
+            to = end[position];
+        }
+        // 子分类的子树首尾相接，逐个跳过子树即可
+        List<CategoryNode> children = new ArrayList<>();
+        for (int i = from; i < to; i = end[i]) {
+            children.add(nodes[i]);
+        }
+        return children;
+    }
+
+    /**
+     * 遍历栈帧
+     *
+     * @param node   分类
+     * @param parent 父分类位置
+     */
+    private record Frame(CategoryNode node, int parent) {
+    }
+
+    /**
+     * 先序区间 [from, to)
+     *
+     * @param from 起始位置（含）
+     * @param to   结束位置（不含）
+     */
+    public record Range(int from, int to) {
+
+        /**
+         * 是否包含先序位置
+         *
+         * @param position 先序位置
+         * @return 是否包含
+         */
+        public boolean contains(int position) {
+            return position >= from && position < to;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package cn.jcodenest.wiki.content.category;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Category;
+import cn.jcodenest.wiki.content.mapper.CategoryMapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 分类索引管理
+ * <p>
+ * 启动时全量加载分类并构建 {@link CategoryIndex}；之后按 updated_at 水位增量同步：只查询水位之后变更（含逻辑删除）的分类，
+ * 合并到内存中的分类表，确有变化时重新排出欧拉序并整体替换索引快照。读取方拿到的快照不可变，不需要加锁。
+ * <p>
+ * 同步由两种方式触发：分类变更通知（Redis 频道 {@code CATEGORY_CHANGE}，分类维护方在修改后发布）即时同步，
+ * 定时任务兜底漏掉的通知与直接改库。物理删除不会出现在增量结果中，updated_at 早于水位但提交较晚的修改也可能漏掉，
+ * 两者都由低频的全量重建修正。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryIndexManager {
+
+    /** 初始水位 */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final CategoryMapper categoryMapper;
+
+    private final ContentProperties contentProperties;
+
+    /** 当前索引快照 */
+    private volatile CategoryIndex index = CategoryIndex.build(List.of());
+
+    /** 分类ID到分类节点，只在同步时（持有对象锁）修改 */
+    private final Map<Long, CategoryNode> nodes = new HashMap<>();
+
+    /** 已同步到的 updated_at */
+    private LocalDateTime watermark = EPOCH;
+
+    /** 上次全量重建时间（毫秒） */
+    private long lastRebuildMillis;
+
+    /**
+     * 启动时全量加载，失败时由定时任务重试
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("加载分类索引失败，稍后重试", e);
+        }
+    }
+
+    /**
+     * 当前分类索引
+     *
+     * @return 索引快照
+     */
+    public CategoryIndex current() {
+        return index;
+    }
+
+    /**
+     * 全量重建
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<Category> categories = categoryMapper.selectList(Wrappers.<Category>lambdaQuery()
+                .select(Category::getId, Category::getCategoryName, Category::getCategoryCode, Category::getParentId,
+                        Category::getSortOrder, Category::getContentCount, Category::getStatus,
+                        Category::getUpdatedAt));
+        nodes.clear();
+        LocalDateTime latest = EPOCH;
+        for (Category category : categories) {
+            nodes.put(category.getId(), CategoryNode.of(category));
+            latest = max(latest, category.getUpdatedAt());
+        }
+        watermark = latest;
+        index = CategoryIndex.build(nodes.values());
+        lastRebuildMillis = System.currentTimeMillis();
+
+        log.info("重建分类索引: categories={}, cost={}ms", nodes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 增量同步，到达全量重建间隔时改为全量重建
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.category-index.refresh-millis:30000}")
+    public synchronized void refresh() {
+        if (System.currentTimeMillis() - lastRebuildMillis >= contentProperties.getCategoryIndex()
+                .getFullRebuildMillis()) {
+            rebuild();
+            return;
+        }
+
+        // 水位取闭区间：同一秒内先后提交的修改不会漏掉，重复查出的行合并后没有变化
+        List<Category> changes = categoryMapper.selectChangedSince(watermark);
+        boolean changed = false;
+        for (Category category : changes) {
+            watermark = max(watermark, category.getUpdatedAt());
+            if (CommonConstants.Status.YES.equals(category.getIsDeleted())) {
+                changed |= nodes.remove(category.getId()) != null;
+            } else {
+                CategoryNode node = CategoryNode.of(category);
+                changed |= !Objects.equals(nodes.put(node.id(), node), node);
+            }
+        }
+        if (changed) {
+            index = CategoryIndex.build(nodes.values());
+            log.info("增量更新分类索引: changes={}, categories={}", changes.size(), nodes.size());
+        }
+    }
+
+    /**
+     * 收到分类变更通知
+     *
+     * @param categoryId 变更的分类ID（仅用于日志，同步按水位进行）
+     */
+    public void onCategoryChange(String categoryId) {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("处理分类变更通知失败，等待定时同步: categoryId={}", categoryId, e);
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
@@ -0,0 +1,39 @@
+package cn.jcodenest.wiki.content.category;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.content.entity.Category;
+
+/**
+ * 分类索引中的分类节点（不可变）
+ *
+ * @param id           分类ID
+ * @param name         分类名称
+ * @param code         分类编码
+ * @param parentId     父分类ID，0表示顶级分类
+ * @param sortOrder    排序顺序
+ * @param contentCount 内容数量
+ * @param enabled      是否启用
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record CategoryNode(Long id, String name, String code, Long parentId, int sortOrder, int contentCount,
+                           boolean enabled) {
+
+    /**
+     * 从分类实体构造
+     *
+     * @param category 分类实体
+     * @return 分类节点
+     */
+    public static CategoryNode of(Category category) {
+        return new CategoryNode(category.getId(), category.getCategoryName(), category.getCategoryCode(),
+                category.getParentId() == null ? 0L : category.getParentId(),
+                category.getSortOrder() == null ? 0 : category.getSortOrder(),
+                category.getContentCount() == null ? 0 : category.getContentCount(),
+                CommonConstants.Status.ENABLED.equals(category.getStatus()));
+    }
+}
@@ -0,0 +1,171 @@
+package cn.jcodenest.wiki.content.collab;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 协作编辑中的文档
+ * <p>
+ * 服务端是唯一的定序者：客户端操作基于某个修订号提交，服务端把它依次变换到最新修订之后再执行，
+ * 修订号加一并广播给所有会话。为此保留最近 {@code historySize} 个已执行的操作；
+ * 客户端落后超过这个窗口时只能重新同步整篇文档。
+ * <p>
+ * 所有方法都需要在持有文档对象锁（{@code synchronized (document)}）时调用，
+ * 调用方在锁内完成执行与广播，保证每个会话收到的操作顺序与修订号一致。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public final class CollabDocument {
+
+    /** 内容ID */
+    @Getter
+    private final Long contentId;
+
+    /** 文档正文 */
+    private final StringBuilder text;
+
+    /** 最近执行的操作，下标 i 对应修订号 revision - history.size() + i 之上的操作 */
+    private final List<TextOperation> history = new ArrayList<>();
+
+    private final int historySize;
+
+    /** 在线会话 */
+    private final List<WebSocketSession> sessions = new ArrayList<>();
+
+    /** 当前修订号 */
+    @Getter
+    private long revision;
+
+    /** 已保存到数据库的修订号 */
+    @Getter
+    private long persistedRevision;
+
+    /** 加载或上次保存后数据库中的正文版本号，保存时据此条件写入 */
+    @Getter
+    private int bodyVersion;
+
+    /** 最后一次修改的用户 */
+    @Getter
+    private Long lastEditorId;
+
+    /** 最后一次修改时间（毫秒） */
+    @Getter
+    private long lastChangeMillis;
+
+    /** 上次保存时间（毫秒） */
+    @Getter
+    private long lastPersistMillis;
+
+    /** 已从注册表移除，不再接受新会话 */
+    @Getter
+    private boolean closed;
+
+    public CollabDocument(Long contentId, String text, int bodyVersion, int historySize) {
+        this.contentId = contentId;
+        this.text = new StringBuilder(text == null ? "" : text);
+        this.bodyVersion = bodyVersion;
+        this.historySize = historySize;
+        this.lastPersistMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 执行客户端操作
+     *
+     * @param clientRevision 操作所基于的修订号
+     * @param operation      操作
+     * @param userId         用户ID
+     * @param maxLength      文档最大长度
+     * @return 变换后实际执行的操作（其修订号为执行后的 {@link #getRevision()}）
+     * @throws BusinessException 修订号过旧（需要重新同步）、操作与文档不匹配或文档超长
+     */
+    public TextOperation apply(long clientRevision, TextOperation operation, Long userId, int maxLength) {
+        long oldest = revision - history.size();
+        if (clientRevision < oldest || clientRevision > revision) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "修订号已过期，请重新同步");
+        }
+
+        TextOperation transformed = operation;
+        try {
+            for (int i = (int) (clientRevision - oldest); i < history.size(); i++) {
+                transformed = TextOperation.transform(transformed, history.get(i))[0];
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 操作长度与所基于的修订不一致，无法变换
+            throw BusinessException.of(ErrorCode.PARAMETER_INVALID, "操作与文档不匹配");
+        }
+        if (transformed.getBaseLength() != text.length()) {
+            throw BusinessException.of(ErrorCode.PARAMETER_INVALID, "操作与文档不匹配");
+        }
+        if (transformed.getTargetLength() > maxLength) {
+            throw BusinessException.of(ErrorCode.PARAMETER_LENGTH_ERROR, "正文不能超过" + maxLength + "个字符");
+        }
+
+        transformed.apply(text);
+        history.add(transformed);
+        if (history.size() > historySize) {
+            // 批量淘汰，避免每次执行都移动整个列表
+            history.subList(0, history.size() - historySize / 2).clear();
+        }
+        revision++;
+        lastEditorId = userId;
+        lastChangeMillis = System.currentTimeMillis();
+        return transformed;
+    }
+
+    /**
+     * 当前正文
+     *
+     * @return 正文
+     */
+    public String text() {
+        return text.toString();
+    }
+
+    /**
+     * 是否有未保存的修改
+     *
+     * @return 是否有未保存的修改
+     */
+    public boolean isDirty() {
+        return revision != persistedRevision;
+    }
+
+    /**
+     * 记录已保存的修订号
+     *
+     * @param savedRevision    已保存的修订号
+     * @param savedBodyVersion 保存后的正文版本号
+     */
+    public void markPersisted(long savedRevision, int savedBodyVersion) {
+        persistedRevision = Math.max(persistedRevision, savedRevision);
+        bodyVersion = savedBodyVersion;
+        lastPersistMillis = System.currentTimeMillis();
+    }
+
+    public List<WebSocketSession> sessions() {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    public void addSession(WebSocketSession session) {
+        sessions.add(session);
+    }
+
+    public void removeSession(WebSocketSession session) {
+        sessions.removeIf(s -> s.getId().equals(session.getId()));
+    }
+
+    public void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,217 @@
+package cn.jcodenest.wiki.content.collab;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import cn.jcodenest.wiki.content.service.ContentService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 协作文档注册表
+ * <p>
+ * 每篇正在协作的文档在内存中只有一份，编辑操作只修改内存，不写数据库。
+ * 定时任务把有未保存修改的文档保存为快照：停止编辑 {@code flush-idle-millis} 后保存一次，
+ * 持续编辑时至少每 {@code flush-max-interval-millis} 保存一次；快照通过 {@link ContentService#saveBody}
+ * 写入正文并记录版本（版本内容按增量存储）。没有在线会话且已保存的文档从内存移除。
+ * <p>
+ * 保存以加载时（及上次保存后）的正文版本号为条件：协作期间正文被其他途径修改（如编辑接口直接保存）时不覆盖，
+ * 而是丢弃内存中的文档并关闭全部会话，客户端重新连接后加载数据库中的最新正文。
+ * <p>
+ * 文档状态只在本实例内存中，多实例部署时网关需要按内容ID把同一篇文档的连接路由到同一实例。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollabDocumentRegistry {
+
+    /** 协作快照的变更日志 */
+    private static final String CHANGE_LOG = "协作编辑";
+
+    private final Map<Long, CollabDocument> documents = new ConcurrentHashMap<>();
+
+    private final ContentRepository contentRepository;
+
+    private final ContentService contentService;
+
+    private final ContentProperties contentProperties;
+
+    /**
+     * 加入协作，文档不在内存中时从数据库加载
+     *
+     * @param contentId 内容ID
+     * @param session   会话
+     * @return 文档
+     * @throws BusinessException 在线人数已满
+     */
+    public CollabDocument join(Long contentId, WebSocketSession session) {
+        while (true) {
+            CollabDocument document = documents.computeIfAbsent(contentId, this::load);
+            synchronized (document) {
+                // 与卸载并发时重新加载
+                if (document.isClosed()) {
+                    continue;
+                }
+                if (document.sessions().size() >= contentProperties.getCollab().getMaxClients()) {
+                    throw BusinessException.of(ErrorCode.TOO_MANY_REQUESTS, "协作人数已满");
+                }
+                document.addSession(session);
+                return document;
+            }
+        }
+    }
+
+    /**
+     * 从数据库加载文档
+     *
+     * @param contentId 内容ID
+     * @return 文档
+     * @throws BusinessException 内容不存在
+     */
+    private CollabDocument load(Long contentId) {
+        Content content = contentRepository.findSourceWithVersion(contentId);
+        if (content == null) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        int bodyVersion = content.getBodyVersion() == null ? 0 : content.getBodyVersion();
+        return new CollabDocument(contentId, content.getContent(), bodyVersion,
+                contentProperties.getCollab().getHistorySize());
+    }
+
+    /**
+     * 离开协作（文档在下次检查时保存并卸载）
+     *
+     * @param document 文档
+     * @param session  会话
+     */
+    public void leave(CollabDocument document, WebSocketSession session) {
+        synchronized (document) {
+            document.removeSession(session);
+        }
+    }
+
+    /**
+     * 定时保存快照
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.collab.flush-check-millis:1000}")
+    public void flush() {
+        for (CollabDocument document : documents.values()) {
+            flush(document, false);
+        }
+    }
+
+    /**
+     * 停机前保存全部未保存的修改
+     */
+    @PreDestroy
+    public void flushAll() {
+        for (CollabDocument document : documents.values()) {
+            flush(document, true);
+        }
+    }
+
+    /**
+     * 保存单篇文档
+     *
+     * @param document 文档
+     * @param force    是否忽略保存间隔
+     */
+    private void flush(CollabDocument document, boolean force) {
+        ContentProperties.Collab config = contentProperties.getCollab();
+        String text;
+        long revision;
+        int bodyVersion;
+        Long editorId;
+        synchronized (document) {
+            if (!document.isDirty()) {
+                if (document.sessions().isEmpty()) {
+                    document.close();
+                    documents.remove(document.getContentId(), document);
+                }
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (!force && now - document.getLastChangeMillis() < config.getFlushIdleMillis()
+                    && now - document.getLastPersistMillis() < config.getFlushMaxIntervalMillis()) {
+                return;
+            }
+            text = document.text();
+            revision = document.getRevision();
+            bodyVersion = document.getBodyVersion();
+            editorId = document.getLastEditorId();
+        }
+
+        // 写库不持有文档锁，保存期间编辑照常进行
+        try {
+            contentService.saveBody(editorId, document.getContentId(), text, CHANGE_LOG, bodyVersion);
+            log.debug("保存协作快照: contentId={}, revision={}, length={}", document.getContentId(), revision,
+                    text.length());
+        } catch (BusinessException e) {
+            // 内容已被删除、进入审核等不可编辑状态，或正文已被其他途径修改：丢弃内存中的修改，客户端重新加载
+            log.warn("协作快照无法保存，结束协作: contentId={}, revision={}, reason={}", document.getContentId(),
+                    revision, e.getMessage());
+            discard(document);
+            return;
+        } catch (Exception e) {
+            log.error("保存协作快照失败，稍后重试: contentId={}, revision={}", document.getContentId(), revision, e);
+            return;
+        }
+
+        synchronized (document) {
+            document.markPersisted(revision, bodyVersion + 1);
+        }
+    }
+
+    /**
+     * 丢弃文档：从注册表移除并关闭全部会话，之后的连接重新从数据库加载
+     *
+     * @param document 文档
+     */
+    private void discard(CollabDocument document) {
+        synchronized (document) {
+            document.close();
+            documents.remove(document.getContentId(), document);
+        }
+        closeAll(document, CloseStatus.POLICY_VIOLATION.withReason("内容已不可编辑或已被修改，请重新加载"));
+    }
+
+    /**
+     * 关闭文档的全部会话
+     *
+     * @param document 文档
+     * @param status   关闭状态
+     */
+    private void closeAll(CollabDocument document, CloseStatus status) {
+        List<WebSocketSession> sessions;
+        synchronized (document) {
+            sessions = new ArrayList<>(document.sessions());
+        }
+        for (WebSocketSession session : sessions) {
+            try {
+                session.close(status);
+            } catch (IOException e) {
+                log.debug("关闭协作会话失败: sessionId={}", session.getId(), e);
+            }
+        }
+    }
+}
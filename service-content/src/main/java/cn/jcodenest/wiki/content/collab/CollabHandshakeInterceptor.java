@@ -0,0 +1,97 @@
+package cn.jcodenest.wiki.content.collab;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 协作编辑握手校验
+ * <p>
+ * 用户身份来自网关注入的请求头。可以加入协作的是内容作者与管理员，内容必须处于可编辑状态。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollabHandshakeInterceptor implements HandshakeInterceptor {
+
+    /** 会话属性：用户ID */
+    public static final String ATTR_USER_ID = "collab.userId";
+
+    /** 会话属性：内容ID */
+    public static final String ATTR_CONTENT_ID = "collab.contentId";
+
+    private final ContentRepository contentRepository;
+
+    @Override
+    public boolean beforeHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
+                                   @NonNull WebSocketHandler wsHandler, @NonNull Map<String, Object> attributes) {
+        Long userId = parseId(request.getHeaders().getFirst(SecurityConstants.User.USER_ID_HEADER));
+        if (userId == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        // 路径形如 /contents/{contentId}/collab
+        String[] segments = request.getURI().getPath().split("/");
+        Long contentId = segments.length >= 2 ? parseId(segments[segments.length - 2]) : null;
+        Content meta = contentId == null ? null : contentRepository.findMeta(contentId);
+        if (meta == null) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+        if (!meta.getAuthorId().equals(userId) && !isAdmin(request)) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+        if (!ContentStatusEnum.canEdit(meta.getStatus())) {
+            response.setStatusCode(HttpStatus.CONFLICT);
+            return false;
+        }
+
+        attributes.put(ATTR_USER_ID, userId);
+        attributes.put(ATTR_CONTENT_ID, contentId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
+                               @NonNull WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private boolean isAdmin(ServerHttpRequest request) {
+        String roles = request.getHeaders().getFirst(SecurityConstants.User.USER_ROLES_HEADER);
+        return roles != null && Arrays.stream(roles.split(SecurityConstants.Permission.PERMISSION_SEPARATOR))
+                .map(String::trim)
+                .anyMatch(role -> SecurityConstants.Role.ADMIN.equals(role)
+                        || (SecurityConstants.Role.ROLE_PREFIX + SecurityConstants.Role.ADMIN).equals(role));
+    }
+
+    private static Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
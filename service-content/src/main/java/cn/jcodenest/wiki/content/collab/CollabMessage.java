@@ -0,0 +1,69 @@
+package cn.jcodenest.wiki.content.collab;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 协作编辑消息
+ * <p>
+ * 客户端只发送 {@code op}；服务端发送 {@code init}（加入或重新同步时的完整文档）、{@code ack}（自己的操作已执行）、
+ * {@code op}（其他人的操作）、{@code join}/{@code leave}（在线成员变化）与 {@code error}。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class CollabMessage {
+
+    public static final String INIT = "init";
+
+    public static final String OP = "op";
+
+    public static final String ACK = "ack";
+
+    public static final String JOIN = "join";
+
+    public static final String LEAVE = "leave";
+
+    public static final String ERROR = "error";
+
+    /**
+     * 消息类型
+     */
+    private String type;
+
+    /**
+     * 修订号：客户端操作所基于的修订号；服务端消息为执行后的修订号
+     */
+    private Long revision;
+
+    /**
+     * 操作分量（见 {@link TextOperation}）
+     */
+    private List<Object> ops;
+
+    /**
+     * 完整正文（init）
+     */
+    private String text;
+
+    /**
+     * 操作或成员变化对应的用户ID
+     */
+    private Long userId;
+
+    /**
+     * 在线人数
+     */
+    private Integer clients;
+
+    /**
+     * 错误信息
+     */
+    private String message;
+}
@@ -0,0 +1,217 @@
+package cn.jcodenest.wiki.content.collab;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.utils.JsonUtils;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+
+/**
+ * 协作编辑 WebSocket 处理器
+ * <p>
+ * 操作在文档锁内执行并立即广播，不等待任何 IO：执行方收到 {@code ack}，其他会话收到变换后的 {@code op}，
+ * 各会话收到的操作顺序与修订号一致。发送经过 {@link ConcurrentWebSocketSessionDecorator} 缓冲，
+ * 慢客户端超出发送时间或缓冲上限时被断开，不会拖慢同一文档的其他人。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollabWebSocketHandler extends TextWebSocketHandler {
+
+    /** 会话属性：加入的文档 */
+    private static final String ATTR_DOCUMENT = "collab.document";
+
+    /** 会话属性：带发送缓冲的会话 */
+    private static final String ATTR_OUTBOUND = "collab.outbound";
+
+    private final CollabDocumentRegistry collabDocumentRegistry;
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        ContentProperties.Collab config = contentProperties.getCollab();
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session,
+                config.getSendTimeLimitMillis(), config.getSendBufferBytes());
+        Long contentId = (Long) session.getAttributes().get(CollabHandshakeInterceptor.ATTR_CONTENT_ID);
+
+        CollabDocument document;
+        try {
+            document = collabDocumentRegistry.join(contentId, outbound);
+        } catch (BusinessException e) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason(e.getMessage()));
+            return;
+        }
+        session.getAttributes().put(ATTR_OUTBOUND, outbound);
+        session.getAttributes().put(ATTR_DOCUMENT, document);
+
+        synchronized (document) {
+            send(outbound, initMessage(document));
+            CollabMessage join = new CollabMessage();
+            join.setType(CollabMessage.JOIN);
+            join.setUserId(userId(session));
+            join.setClients(document.sessions().size());
+            broadcast(document, join, outbound);
+        }
+        log.debug("加入协作: contentId={}, userId={}, clients={}", contentId, userId(session),
+                document.sessions().size());
+    }
+
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) {
+        CollabDocument document = (CollabDocument) session.getAttributes().get(ATTR_DOCUMENT);
+        WebSocketSession outbound = (WebSocketSession) session.getAttributes().get(ATTR_OUTBOUND);
+        if (document == null) {
+            return;
+        }
+
+        CollabMessage request = JsonUtils.parseObject(message.getPayload(), CollabMessage.class);
+        if (request == null || !CollabMessage.OP.equals(request.getType()) || request.getRevision() == null) {
+            send(outbound, errorMessage("无效的消息"));
+            return;
+        }
+        TextOperation operation;
+        try {
+            operation = TextOperation.of(request.getOps());
+        } catch (IllegalArgumentException e) {
+            send(outbound, errorMessage(e.getMessage()));
+            return;
+        }
+
+        Long userId = userId(session);
+        int maxLength = contentProperties.getRender().getMaxLength();
+        synchronized (document) {
+            // 文档已被丢弃（正文在其他途径被修改或内容已不可编辑），会话随后关闭
+            if (document.isClosed()) {
+                send(outbound, errorMessage("协作已结束，请重新加载"));
+                return;
+            }
+            TextOperation applied;
+            try {
+                applied = document.apply(request.getRevision(), operation, userId, maxLength);
+            } catch (BusinessException e) {
+                send(outbound, errorMessage(e.getMessage()));
+                if (ErrorCode.CONFLICT.getCode().equals(e.getCode())
+                        || ErrorCode.PARAMETER_INVALID.getCode().equals(e.getCode())) {
+                    // 客户端落后太多或本地文档已与服务端不一致，下发完整文档重新同步
+                    send(outbound, initMessage(document));
+                }
+                return;
+            } catch (RuntimeException e) {
+                // 不让单个异常操作断开连接，客户端按完整文档重新同步
+                log.warn("执行协作操作失败: contentId={}, userId={}", document.getContentId(), userId, e);
+                send(outbound, errorMessage("操作执行失败"));
+                send(outbound, initMessage(document));
+                return;
+            }
+
+            CollabMessage ack = new CollabMessage();
+            ack.setType(CollabMessage.ACK);
+            ack.setRevision(document.getRevision());
+            send(outbound, ack);
+
+            CollabMessage op = new CollabMessage();
+            op.setType(CollabMessage.OP);
+            op.setRevision(document.getRevision());
+            op.setOps(applied.toList());
+            op.setUserId(userId);
+            broadcast(document, op, outbound);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        CollabDocument document = (CollabDocument) session.getAttributes().get(ATTR_DOCUMENT);
+        WebSocketSession outbound = (WebSocketSession) session.getAttributes().get(ATTR_OUTBOUND);
+        if (document == null) {
+            return;
+        }
+        collabDocumentRegistry.leave(document, outbound);
+
+        synchronized (document) {
+            CollabMessage leave = new CollabMessage();
+            leave.setType(CollabMessage.LEAVE);
+            leave.setUserId(userId(session));
+            leave.setClients(document.sessions().size());
+            broadcast(document, leave, null);
+        }
+        log.debug("离开协作: contentId={}, userId={}, status={}", document.getContentId(), userId(session), status);
+    }
+
+    @Override
+    public void handleTransportError(@NonNull WebSocketSession session, @NonNull Throwable exception) {
+        log.debug("协作连接异常: sessionId={}", session.getId(), exception);
+    }
+
+    /**
+     * 构造完整文档消息（需持有文档锁）
+     */
+    private CollabMessage initMessage(CollabDocument document) {
+        CollabMessage init = new CollabMessage();
+        init.setType(CollabMessage.INIT);
+        init.setRevision(document.getRevision());
+        init.setText(document.text());
+        init.setClients(document.sessions().size());
+        return init;
+    }
+
+    private CollabMessage errorMessage(String error) {
+        CollabMessage message = new CollabMessage();
+        message.setType(CollabMessage.ERROR);
+        message.setMessage(error);
+        return message;
+    }
+
+    /**
+     * 广播消息，只序列化一次（需持有文档锁）
+     *
+     * @param document 文档
+     * @param message  消息
+     * @param exclude  不发送的会话，可为 null
+     */
+    private void broadcast(CollabDocument document, CollabMessage message, WebSocketSession exclude) {
+        TextMessage payload = new TextMessage(JsonUtils.toJsonString(message));
+        for (WebSocketSession session : document.sessions()) {
+            if (exclude == null || !session.getId().equals(exclude.getId())) {
+                send(session, payload);
+            }
+        }
+    }
+
+    private void send(WebSocketSession session, CollabMessage message) {
+        send(session, new TextMessage(JsonUtils.toJsonString(message)));
+    }
+
+    private void send(WebSocketSession session, TextMessage payload) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(payload);
+        } catch (IOException | RuntimeException e) {
+            // 超出发送限制时装饰器已关闭会话，关闭回调中会离开协作
+            log.debug("发送协作消息失败: sessionId={}", session.getId(), e);
+        }
+    }
+
+    private Long userId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(CollabHandshakeInterceptor.ATTR_USER_ID);
+    }
+}
@@ -0,0 +1,277 @@
+package cn.jcodenest.wiki.content.collab;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 文本操作（OT，Operational Transformation）
+ * <p>
+ * 一个操作从头到尾依次描述对整篇文档的处理，由三种分量组成：
+ * <ul>
+ *     <li>正整数 n：保留 n 个字符</li>
+ *     <li>负整数 -n：删除 n 个字符</li>
+ *     <li>字符串 s：插入 s</li>
+ * </ul>
+ * 序列化格式与 ot.js 的 {@code TextOperation#toJSON} 一致（例如 {@code [5, "abc", -3]}），前端可以直接使用 ot.js 客户端。
+ * 长度按 UTF-16 码元计算，与 Java 和 JavaScript 的字符串长度一致。
+ * <p>
+ * 分量在构造时规范化：相邻同类分量合并，插入总是排在删除之前，因此同一效果的操作只有一种表示。
+ * 长度与合并后的分量超出 int 范围时拒绝，避免溢出后得到看似合法的长度。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public final class TextOperation {
+
+    private final List<Object> ops = new ArrayList<>();
+
+    /** 操作前的文档长度 */
+    @Getter
+    private int baseLength;
+
+    /** 操作后的文档长度 */
+    @Getter
+    private int targetLength;
+
+    /**
+     * 从序列化格式解析
+     *
+     * @param components 分量列表
+     * @return 文本操作
+     * @throws IllegalArgumentException 分量格式错误或长度超出范围
+     */
+    public static TextOperation of(List<?> components) {
+        if (components == null) {
+            throw new IllegalArgumentException("操作不能为空");
+        }
+        TextOperation operation = new TextOperation();
+        for (Object component : components) {
+            if (component instanceof String text) {
+                operation.insert(text);
+            } else if (component instanceof Number number) {
+                long n = number.longValue();
+                if (n == 0 || n != number.doubleValue() || Math.abs(n) > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("无效的操作分量: " + component);
+                }
+                if (n > 0) {
+                    operation.retain((int) n);
+                } else {
+                    operation.delete((int) -n);
+                }
+            } else {
+                throw new IllegalArgumentException("无效的操作分量: " + component);
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * 保留字符
+     *
+     * @param n 字符数
+     * @return 当前操作
+     */
+    public TextOperation retain(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("保留长度不能为负数");
+        }
+        if (n == 0) {
+            return this;
+        }
+        baseLength = checkedAdd(baseLength, n);
+        targetLength = checkedAdd(targetLength, n);
+        int last = ops.size() - 1;
+        if (last >= 0 && isRetain(ops.get(last))) {
+            ops.set(last, checkedAdd((Integer) ops.get(last), n));
+        } else {
+            ops.add(n);
+        }
+        return this;
+    }
+
+    /**
+     * 插入文本
+     *
+     * @param text 文本
+     * @return 当前操作
+     */
+    public TextOperation insert(String text) {
+        if (text.isEmpty()) {
+            return this;
+        }
+        targetLength = checkedAdd(targetLength, text.length());
+        int last = ops.size() - 1;
+        if (last >= 0 && ops.get(last) instanceof String previous) {
+            ops.set(last, previous + text);
+        } else if (last >= 0 && isDelete(ops.get(last))) {
+            // 插入与删除相邻时插入在前
+            if (last >= 1 && ops.get(last - 1) instanceof String previous) {
+                ops.set(last - 1, previous + text);
+            } else {
+                ops.add(last, text);
+            }
+        } else {
+            ops.add(text);
+        }
+        return this;
+    }
+
+    /**
+     * 删除字符
+     *
+     * @param n 字符数
+     * @return 当前操作
+     */
+    public TextOperation delete(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("删除长度不能为负数");
+        }
+        if (n == 0) {
+            return this;
+        }
+        baseLength = checkedAdd(baseLength, n);
+        int last = ops.size() - 1;
+        if (last >= 0 && isDelete(ops.get(last))) {
+            ops.set(last, -checkedAdd(-(Integer) ops.get(last), n));
+        } else {
+            ops.add(-n);
+        }
+        return this;
+    }
+
+    /**
+     * 是否为空操作（不改变文档）
+     *
+     * @return 是否为空操作
+     */
+    public boolean isNoop() {
+        return ops.isEmpty() || ops.size() == 1 && isRetain(ops.get(0));
+    }
+
+    /**
+     * 在文档上原地执行操作
+     *
+     * @param document 文档
+     * @throws IllegalArgumentException 文档长度与操作不匹配
+     */
+    public void apply(StringBuilder document) {
+        if (document.length() != baseLength) {
+            throw new IllegalArgumentException("操作长度与文档不匹配: baseLength=" + baseLength
+                    + ", documentLength=" + document.length());
+        }
+        int pos = 0;
+        for (Object op : ops) {
+            if (op instanceof String text) {
+                document.insert(pos, text);
+                pos += text.length();
+            } else if (isRetain(op)) {
+                pos += (Integer) op;
+            } else {
+                document.delete(pos, pos - (Integer) op);
+            }
+        }
+    }
+
+    /**
+     * 变换两个基于同一文档的并发操作
+     * <p>
+     * 返回 {@code [a', b']}，满足 apply(apply(S, a), b') == apply(apply(S, b), a')。
+     * 两个操作在同一位置插入时，a 的插入排在前面。
+     *
+     * @param a 操作 a
+     * @param b 操作 b
+     * @return 变换后的操作对
+     * @throws IllegalArgumentException 两个操作的基准长度不同
+     */
+    public static TextOperation[] transform(TextOperation a, TextOperation b) {
+        if (a.baseLength != b.baseLength) {
+            throw new IllegalArgumentException("并发操作的基准长度不同: " + a.baseLength + " != " + b.baseLength);
+        }
+
+        TextOperation aPrime = new TextOperation();
+        TextOperation bPrime = new TextOperation();
+        List<Object> ops1 = a.ops;
+        List<Object> ops2 = b.ops;
+        int i1 = 0;
+        int i2 = 0;
+        Object op1 = i1 < ops1.size() ? ops1.get(i1++) : null;
+        Object op2 = i2 < ops2.size() ? ops2.get(i2++) : null;
+        while (op1 != null || op2 != null) {
+            if (op1 instanceof String text) {
+                aPrime.insert(text);
+                bPrime.retain(text.length());
+                op1 = i1 < ops1.size() ? ops1.get(i1++) : null;
+                continue;
+            }
+            if (op2 instanceof String text) {
+                aPrime.retain(text.length());
+                bPrime.insert(text);
+                op2 = i2 < ops2.size() ? ops2.get(i2++) : null;
+                continue;
+            }
+            if (op1 == null || op2 == null) {
+                throw new IllegalStateException("操作长度不一致");
+            }
+
+            int n1 = (Integer) op1;
+            int n2 = (Integer) op2;
+            int min = Math.min(Math.abs(n1), Math.abs(n2));
+            if (n1 > 0 && n2 > 0) {
+                aPrime.retain(min);
+                bPrime.retain(min);
+            } else if (n1 < 0 && n2 > 0) {
+                aPrime.delete(min);
+            } else if (n1 > 0) {
+                bPrime.delete(min);
+            }
+            // 两边都删除时不产生输出
+
+            if (Math.abs(n1) == min) {
+                op1 = i1 < ops1.size() ? ops1.get(i1++) : null;
+            } else {
+                op1 = n1 > 0 ? n1 - min : n1 + min;
+            }
+            if (Math.abs(n2) == min) {
+                op2 = i2 < ops2.size() ? ops2.get(i2++) : null;
+            } else {
+                op2 = n2 > 0 ? n2 - min : n2 + min;
+            }
+        }
+        return new TextOperation[]{aPrime, bPrime};
+    }
+
+    /**
+     * 序列化为分量列表
+     *
+     * @return 不可修改的分量列表
+     */
+    public List<Object> toList() {
+        return Collections.unmodifiableList(ops);
+    }
+
+    /**
+     * 长度相加，超出 int 范围时拒绝
+     */
+    private static int checkedAdd(int a, int b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("操作长度超出范围");
+        }
+    }
+
+    private static boolean isRetain(Object op) {
+        return op instanceof Integer n && n > 0;
+    }
+
+    private static boolean isDelete(Object op) {
+        return op instanceof Integer n && n < 0;
+    }
+}
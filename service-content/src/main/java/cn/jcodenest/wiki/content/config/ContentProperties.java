@@ -0,0 +1,510 @@
+package cn.jcodenest.wiki.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 内容服务配置属性
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcodenest.content")
+public class ContentProperties {
+
+    /**
+     * Markdown 渲染配置
+     */
+    private Render render = new Render();
+
+    /**
+     * 正文缓存配置
+     */
+    private BodyCache bodyCache = new BodyCache();
+
+    /**
+     * 版本历史配置
+     */
+    private Version version = new Version();
+
+    /**
+     * 协作编辑配置
+     */
+    private Collab collab = new Collab();
+
+    /**
+     * 分类索引配置
+     */
+    private CategoryIndex categoryIndex = new CategoryIndex();
+
+    /**
+     * 内容过滤索引配置
+     */
+    private FilterIndex filterIndex = new FilterIndex();
+
+    /**
+     * 热门排行配置
+     */
+    private HotRanking hotRanking = new HotRanking();
+
+    /**
+     * 内容审核配置
+     */
+    private Audit audit = new Audit();
+
+    /**
+     * 静态页面配置
+     */
+    private StaticPage staticPage = new StaticPage();
+
+    /**
+     * 列表分页大小上限
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * Markdown 渲染配置
+     */
+    @Data
+    public static class Render {
+
+        /**
+         * 正文最大字符数，保存与预览都会校验
+         */
+        private int maxLength = 2 * 1024 * 1024;
+
+        /**
+         * 块级 HTML 片段缓存容量上限（字节，按片段长度估算）
+         */
+        private long fragmentCacheBytes = 64L * 1024 * 1024;
+
+        /**
+         * 是否保留 Markdown 中的原始 HTML，关闭时原样转义输出
+         */
+        private boolean allowHtml = false;
+
+        /**
+         * 阅读速度（字/分钟），用于计算预计阅读时间
+         */
+        private int wordsPerMinute = 400;
+    }
+
+    /**
+     * 正文缓存配置
+     */
+    @Data
+    public static class BodyCache {
+
+        /**
+         * 本地缓存容量上限（字节，按正文长度估算）
+         */
+        private long localMaxBytes = 128L * 1024 * 1024;
+
+        /**
+         * 本地缓存过期时间（秒）
+         */
+        private long localExpireSeconds = 600L;
+
+        /**
+         * Redis 缓存过期时间（秒），0 表示不使用 Redis
+         */
+        private long redisExpireSeconds = 3600L;
+    }
+
+    /**
+     * 版本历史配置
+     */
+    @Data
+    public static class Version {
+
+        /**
+         * 关键帧间隔：每隔多少个版本保存一次完整快照，还原任意版本最多应用 interval - 1 个增量
+         */
+        private int keyframeInterval = 20;
+
+        /**
+         * 增量大小超过完整内容的该比例时改存完整快照
+         */
+        private double keyframeRatio = 0.5D;
+
+        /**
+         * 存储增量时的编辑距离上限（行），超过时直接存完整快照
+         */
+        private int maxDeltaEdits = 2000;
+
+        /**
+         * 差异对比接口的编辑距离上限（行）
+         */
+        private int maxDiffEdits = 20000;
+
+        /**
+         * 差异对比的上下文行数
+         */
+        private int diffContext = 3;
+    }
+
+    /**
+     * 协作编辑配置
+     */
+    @Data
+    public static class Collab {
+
+        /**
+         * 每篇文档保留的操作历史条数，客户端落后超过该数量时需要重新同步
+         */
+        private int historySize = 1000;
+
+        /**
+         * 每篇文档的最大在线人数
+         */
+        private int maxClients = 50;
+
+        /**
+         * 单条消息的最大字节数
+         */
+        private int maxMessageBytes = 1024 * 1024;
+
+        /**
+         * 单个会话的发送超时（毫秒），超时的慢客户端会被断开
+         */
+        private int sendTimeLimitMillis = 5000;
+
+        /**
+         * 单个会话的发送缓冲上限（字节），超出的慢客户端会被断开
+         */
+        private int sendBufferBytes = 4 * 1024 * 1024;
+
+        /**
+         * 检查待保存文档的间隔（毫秒）
+         */
+        private long flushCheckMillis = 1000L;
+
+        /**
+         * 停止编辑多久后保存快照（毫秒）
+         */
+        private long flushIdleMillis = 3000L;
+
+        /**
+         * 持续编辑时两次保存快照的最大间隔（毫秒）
+         */
+        private long flushMaxIntervalMillis = 60000L;
+
+        /**
+         * 允许的跨域来源
+         */
+        private String[] allowedOrigins = {"*"};
+    }
+
+    /**
+     * 分类索引配置
+     */
+    @Data
+    public static class CategoryIndex {
+
+        /**
+         * 增量同步间隔（毫秒），兜底未收到的变更通知
+         */
+        private long refreshMillis = 30000L;
+
+        /**
+         * 全量重建间隔（毫秒），清理物理删除的分类
+         */
+        private long fullRebuildMillis = 3600000L;
+    }
+
+    /**
+     * 内容过滤索引配置
+     */
+    @Data
+    public static class FilterIndex {
+
+        /**
+         * 增量同步间隔（毫秒），同步其他实例的修改
+         */
+        private long refreshMillis = 5000L;
+
+        /**
+         * 全量重建间隔（毫秒），清理物理删除的内容并压缩序号
+         */
+        private long fullRebuildMillis = 6 * 3600000L;
+
+        /**
+         * 全量加载每批读取的行数
+         */
+        private int loadBatchSize = 5000;
+
+        /**
+         * 增量同步每批读取的行数
+         */
+        private int syncBatchSize = 1000;
+
+        /**
+         * 标签分面数量上限
+         */
+        private int maxFacetSize = 100;
+    }
+
+    /**
+     * 热门排行配置
+     */
+    @Data
+    public static class HotRanking {
+
+        /**
+         * 本地互动分提交到 Redis 的间隔（毫秒）
+         */
+        private long flushMillis = 1000L;
+
+        /**
+         * 排行计算与发布间隔（毫秒）
+         */
+        private long publishMillis = 5000L;
+
+        /**
+         * 全站与每个分类的排行长度
+         */
+        private int topSize = 100;
+
+        /**
+         * 标记为热门（is_hot）的全站前几名
+         */
+        private int hotFlagSize = 20;
+
+        /**
+         * 重力系数，越大旧内容下沉越快
+         */
+        private double gravity = 1.8D;
+
+        /**
+         * 时间偏移（小时）
+         */
+        private double ageOffsetHours = 2D;
+
+        /**
+         * 最长统计时间（小时），发布超过该时间的内容移出排行
+         */
+        private double maxAgeHours = 168D;
+
+        /**
+         * 浏览权重
+         */
+        private double viewWeight = 1D;
+
+        /**
+         * 点赞权重
+         */
+        private double likeWeight = 5D;
+
+        /**
+         * 评论权重
+         */
+        private double commentWeight = 8D;
+
+        /**
+         * 分享权重
+         */
+        private double shareWeight = 10D;
+
+        /**
+         * 同一用户（未登录按客户端IP）对同一内容同类互动的去重窗口（秒）
+         */
+        private long dedupeSeconds = 600L;
+
+        /**
+         * 去重窗口的最大条目数
+         */
+        private long dedupeMaxSize = 1_000_000L;
+
+        /**
+         * 排行元数据（分类、发布时间、状态）的本地缓存时间（秒）
+         */
+        private long metaExpireSeconds = 60L;
+
+        /**
+         * 排行元数据的本地缓存条目上限
+         */
+        private long metaCacheSize = 100_000L;
+
+        /**
+         * 排行键的过期时间（秒），停止发布后自动清理
+         */
+        private long rankingTtlSeconds = 300L;
+    }
+
+    /**
+     * 内容审核配置
+     */
+    @Data
+    public static class Audit {
+
+        /**
+         * 每个实例的审核工作线程数
+         */
+        private int workers = 4;
+
+        /**
+         * 单个检查器的超时时间（毫秒），超时按转人工复核处理
+         */
+        private long checkerTimeoutMillis = 3000L;
+
+        /**
+         * 扫描遗留审核的间隔（毫秒）
+         */
+        private long recoverMillis = 60000L;
+
+        /**
+         * 提交超过该时间（毫秒）仍未自动检查的审核视为遗留（提交实例已停止），重新入队
+         */
+        private long recoverAfterMillis = 300000L;
+
+        /**
+         * 每次扫描遗留审核的最大条数
+         */
+        private int recoverBatchSize = 200;
+
+        /**
+         * 作者信任度上限
+         */
+        private int maxTrust = 10;
+
+        /**
+         * 每篇被拒内容抵消的已发布内容数
+         */
+        private int rejectPenalty = 2;
+
+        /**
+         * 信任度每比上限低 1，排队时间顺延的毫秒数
+         */
+        private long trustStepMillis = 60000L;
+
+        /**
+         * 正文每 1000 字排队时间顺延的毫秒数
+         */
+        private long sizeStepMillis = 10000L;
+
+        /**
+         * 正文长度导致的顺延上限（毫秒）
+         */
+        private long maxSizeDelayMillis = 600000L;
+
+        /**
+         * 作者信任度的本地缓存时间（秒）
+         */
+        private long trustExpireSeconds = 600L;
+
+        /**
+         * 作者信任度的本地缓存条目上限
+         */
+        private long trustCacheSize = 10000L;
+
+        /**
+         * 禁止链接的域名（含子域名）
+         */
+        private List<String> blockedDomains = new ArrayList<>();
+
+        /**
+         * 链接数量上限，超过转人工复核
+         */
+        private int maxLinks = 100;
+
+        /**
+         * 图片域名白名单（含子域名），为空时不限制
+         */
+        private List<String> imageHosts = new ArrayList<>();
+
+        /**
+         * 图片数量上限，超过转人工复核
+         */
+        private int maxImages = 100;
+    }
+
+    /**
+     * 静态页面配置
+     */
+    @Data
+    public static class StaticPage {
+
+        /**
+         * 页面文件目录，启动时清空；多个实例不能共用同一目录
+         */
+        private String directory = System.getProperty("java.io.tmpdir") + "/jcodenest/pages";
+
+        /**
+         * 本地保留的页面数上限，超过时淘汰最久未访问的页面
+         */
+        private long maxPages = 10000L;
+
+        /**
+         * 启动时预渲染的最近发布内容数
+         */
+        private int warmSize = 200;
+
+        /**
+         * 同步其他实例修改的间隔（毫秒）
+         */
+        private long syncMillis = 5000L;
+
+        /**
+         * 同步每批读取的行数
+         */
+        private int syncBatchSize = 1000;
+
+        /**
+         * gzip 压缩级别（1-9）
+         */
+        private int gzipLevel = 9;
+
+        /**
+         * brotli 压缩质量（0-11）
+         */
+        private int brotliQuality = 11;
+
+        /**
+         * 站点名称，拼在页面标题后
+         */
+        private String siteName = "JCodeNest Wiki";
+
+        /**
+         * 站点地址，非空时输出 canonical 链接（站点地址 + /contents/{id}）
+         */
+        private String siteUrl = "";
+
+        /**
+         * 页面引用的样式表地址，为空时不引用
+         */
+        private String stylesheet = "";
+
+        /**
+         * 浏览上报地址，相对地址按页面地址（/contents/{id}/page）解析；为空时页面不上报浏览
+         */
+        private String viewBeaconUrl = "views";
+
+        /**
+         * 浏览器缓存时间（秒）
+         */
+        private long maxAgeSeconds = 60L;
+
+        /**
+         * CDN 等共享缓存的缓存时间（秒），内容修改后最迟在该时间后于边缘节点生效
+         */
+        private long sharedMaxAgeSeconds = 600L;
+
+        /**
+         * 缓存过期后继续返回旧页面并在后台重新验证的时间（秒）
+         */
+        private long staleWhileRevalidateSeconds = 60L;
+
+        /**
+         * 回源失败时继续返回旧页面的时间（秒）
+         */
+        private long staleIfErrorSeconds = 86400L;
+    }
+}
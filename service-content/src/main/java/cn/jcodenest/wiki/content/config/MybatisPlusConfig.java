@@ -0,0 +1,46 @@
+package cn.jcodenest.wiki.content.config;
+
+import cn.jcodenest.wiki.common.id.IdGenerator;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatis Plus 配置类
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Configuration
+public class MybatisPlusConfig {
+
+    /**
+     * 分页插件
+     *
+     * @return MybatisPlusInterceptor
+     */
+    @Bean
+    public MybatisPlusInterceptor mybatisPlusInterceptor() {
+        MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        interceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.MYSQL));
+        return interceptor;
+    }
+
+    /**
+     * 主键生成器：ASSIGN_ID 使用通用模块的雪花算法ID（机器ID由 Redis 租约分配）
+     *
+     * @param idGenerator ID生成器
+     * @return IdentifierGenerator
+     */
+    @Bean
+    public IdentifierGenerator identifierGenerator(IdGenerator idGenerator) {
+        return entity -> idGenerator.nextId();
+    }
+}
@@ -0,0 +1,43 @@
+package cn.jcodenest.wiki.content.config;
+
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.content.category.CategoryIndexManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 发布订阅配置
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Configuration
+public class RedisListenerConfig {
+
+    /**
+     * 消息监听容器：订阅分类变更通知
+     *
+     * @param connectionFactory    Redis 连接工厂
+     * @param categoryIndexManager 分类索引管理
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CategoryIndexManager categoryIndexManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> categoryIndexManager.onCategoryChange(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RedisConstants.Channel.CATEGORY_CHANGE));
+        return container;
+    }
+}
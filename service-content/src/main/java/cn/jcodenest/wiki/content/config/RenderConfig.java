@@ -0,0 +1,73 @@
+package cn.jcodenest.wiki.content.config;
+
+import cn.jcodenest.wiki.content.render.IncrementalMarkdownRenderer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Markdown 渲染配置
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+public class RenderConfig {
+
+    /** HTML 片段缓存名称（指标标签） */
+    public static final String FRAGMENT_CACHE = "markdownFragment";
+
+    /** 单个片段的固定开销估算（缓存键 + Caffeine 节点，字节） */
+    private static final int FRAGMENT_OVERHEAD = 256;
+
+    /**
+     * 增量 Markdown 渲染器
+     * <p>
+     * 片段缓存按 HTML 长度加权淘汰，命中率等指标以 {@code cache.*} 注册到 Micrometer。
+     *
+     * @param contentProperties 内容服务配置
+     * @param meterRegistry     指标注册表
+     * @return IncrementalMarkdownRenderer
+     */
+    @Bean
+    public IncrementalMarkdownRenderer incrementalMarkdownRenderer(ContentProperties contentProperties,
+                                                                   MeterRegistry meterRegistry) {
+        ContentProperties.Render render = contentProperties.getRender();
+        log.info("初始化Markdown渲染器: fragmentCacheBytes={}, allowHtml={}",
+                render.getFragmentCacheBytes(), render.isAllowHtml());
+
+        List<Extension> extensions = List.of(TablesExtension.create(), StrikethroughExtension.create());
+        Parser parser = Parser.builder()
+                .extensions(extensions)
+                .build();
+        HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .escapeHtml(!render.isAllowHtml())
+                .sanitizeUrls(true)
+                .build();
+
+        Cache<String, String> fragmentCache = Caffeine.newBuilder()
+                .maximumWeight(render.getFragmentCacheBytes())
+                .weigher((String key, String html) -> FRAGMENT_OVERHEAD + html.length() * 2)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragmentCache, FRAGMENT_CACHE);
+        return new IncrementalMarkdownRenderer(parser, htmlRenderer, fragmentCache);
+    }
+}
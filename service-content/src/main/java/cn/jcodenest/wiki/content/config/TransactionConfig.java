@@ -0,0 +1,37 @@
+package cn.jcodenest.wiki.content.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 事务配置
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Configuration
+public class TransactionConfig {
+
+    /**
+     * 事务模板（替代 Spring Boot 默认的事务模板）
+     * <p>
+     * 使用读已提交：保存内容时先更新 cnt_content 行（同一内容的并发保存在行锁上排队），
+     * 拿到行锁后读取最新版本必须看到前一个事务已提交的版本，可重复读的快照会读到旧版本而导致版本序号冲突。
+     *
+     * @param transactionManager 事务管理器
+     * @return TransactionTemplate
+     */
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        return template;
+    }
+}
@@ -0,0 +1,53 @@
+package cn.jcodenest.wiki.content.config;
+
+import cn.jcodenest.wiki.content.collab.CollabHandshakeInterceptor;
+import cn.jcodenest.wiki.content.collab.CollabWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * WebSocket 配置
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final CollabWebSocketHandler collabWebSocketHandler;
+
+    private final CollabHandshakeInterceptor collabHandshakeInterceptor;
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public void registerWebSocketHandlers(@NonNull WebSocketHandlerRegistry registry) {
+        registry.addHandler(collabWebSocketHandler, "/contents/*/collab")
+                .addInterceptors(collabHandshakeInterceptor)
+                .setAllowedOriginPatterns(contentProperties.getCollab().getAllowedOrigins());
+    }
+
+    /**
+     * WebSocket 容器配置：限制单条消息大小
+     *
+     * @return ServletServerContainerFactoryBean
+     */
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(contentProperties.getCollab().getMaxMessageBytes());
+        return container;
+    }
+}
@@ -0,0 +1,51 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.service.CategoryService;
+import cn.jcodenest.wiki.content.vo.CategoryTreeVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 分类接口
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/categories")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    /**
+     * 分类树
+     *
+     * @return 顶级分类列表
+     */
+    @GetMapping("/tree")
+    public Result<List<CategoryTreeVO>> tree() {
+        return Result.success(categoryService.tree());
+    }
+
+    /**
+     * 分类路径（面包屑）
+     *
+     * @param categoryId 分类ID
+     * @return 从顶级分类到该分类的路径
+     */
+    @GetMapping("/{categoryId}/path")
+    public Result<List<CategoryTreeVO>> path(@PathVariable Long categoryId) {
+        return Result.success(categoryService.path(categoryId));
+    }
+}
@@ -0,0 +1,98 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.dto.AuditReviewDTO;
+import cn.jcodenest.wiki.content.service.ContentAuditService;
+import cn.jcodenest.wiki.content.vo.ContentAuditVO;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 内容审核接口
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/contents")
+public class ContentAuditController {
+
+    private final ContentAuditService contentAuditService;
+
+    /**
+     * 提交审核，自动检查通过后发布
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return 审核记录
+     */
+    @PostMapping("/{contentId}/audits")
+    public Result<ContentAuditVO> submit(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                         @PathVariable Long contentId) {
+        return Result.success(contentAuditService.submit(userId, contentId));
+    }
+
+    /**
+     * 内容的审核记录
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return 审核记录（按提交时间倒序）
+     */
+    @GetMapping("/{contentId}/audits")
+    public Result<List<ContentAuditVO>> listByContent(
+            @RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId, @PathVariable Long contentId) {
+        return Result.success(contentAuditService.listByContent(userId, contentId));
+    }
+
+    /**
+     * 等待人工复核的审核记录（管理员）
+     *
+     * @param roles   当前用户角色
+     * @param current 页码
+     * @param size    每页条数
+     * @return 分页结果
+     */
+    @GetMapping("/audits/manual")
+    public Result<PageResult<ContentAuditVO>> listManual(
+            @RequestHeader(value = SecurityConstants.User.USER_ROLES_HEADER, required = false) String roles,
+            @RequestParam(defaultValue = "1") long current, @RequestParam(defaultValue = "20") long size) {
+        return Result.success(contentAuditService.listManual(roles, current, size));
+    }
+
+    /**
+     * 人工复核（管理员）
+     *
+     * @param auditorId 审核员ID
+     * @param roles     当前用户角色
+     * @param auditId   审核ID
+     * @param dto       复核结论
+     * @return 复核结果
+     */
+    @PutMapping("/audits/{auditId}")
+    public Result<Void> review(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long auditorId,
+                               @RequestHeader(value = SecurityConstants.User.USER_ROLES_HEADER, required = false)
+                               String roles,
+                               @PathVariable Long auditId, @Valid @RequestBody AuditReviewDTO dto) {
+        contentAuditService.review(auditorId, roles, auditId, dto);
+        return Result.success();
+    }
+}
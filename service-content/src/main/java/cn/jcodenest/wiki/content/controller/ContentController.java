@@ -0,0 +1,124 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.dto.ContentQueryDTO;
+import cn.jcodenest.wiki.content.dto.ContentSaveDTO;
+import cn.jcodenest.wiki.content.dto.MarkdownPreviewDTO;
+import cn.jcodenest.wiki.content.service.ContentService;
+import cn.jcodenest.wiki.content.vo.ContentDetailVO;
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+import cn.jcodenest.wiki.content.vo.MarkdownPreviewVO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 内容管理接口
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/contents")
+public class ContentController {
+
+    private final ContentService contentService;
+
+    /**
+     * 内容列表（只含元数据）
+     *
+     * @param userId 用户ID（未登录时为空）
+     * @param query  查询条件
+     * @return 内容列表
+     */
+    @GetMapping
+    public Result<PageResult<ContentListVO>> listContents(
+            @RequestHeader(value = SecurityConstants.User.USER_ID_HEADER, required = false) Long userId,
+            @Valid ContentQueryDTO query) {
+        return Result.success(contentService.listContents(userId, query));
+    }
+
+    /**
+     * 内容详情
+     *
+     * @param userId    用户ID（未登录时为空）
+     * @param contentId 内容ID
+     * @param request   HTTP请求
+     * @return 内容详情
+     */
+    @GetMapping("/{contentId}")
+    public Result<ContentDetailVO> getContent(
+            @RequestHeader(value = SecurityConstants.User.USER_ID_HEADER, required = false) Long userId,
+            @PathVariable Long contentId, HttpServletRequest request) {
+        return Result.success(contentService.getContent(userId, contentId, request.getRemoteAddr()));
+    }
+
+    /**
+     * 内容的 Markdown 源文（编辑用）
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return Markdown 源文
+     */
+    @GetMapping("/{contentId}/source")
+    public Result<String> getSource(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                    @PathVariable Long contentId) {
+        // String 参数会匹配 success(String message)，这里显式带上默认消息
+        return Result.success(ErrorCode.SUCCESS.getMessage(), contentService.getSource(userId, contentId));
+    }
+
+    /**
+     * 创建内容（草稿）
+     *
+     * @param userId 用户ID
+     * @param dto    内容
+     * @return 内容ID
+     */
+    @PostMapping
+    public Result<Long> createContent(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                      @Valid @RequestBody ContentSaveDTO dto) {
+        return Result.success(contentService.createContent(userId, dto));
+    }
+
+    /**
+     * 更新内容
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @param dto       内容
+     * @return 更新结果
+     */
+    @PutMapping("/{contentId}")
+    public Result<Void> updateContent(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                      @PathVariable Long contentId, @Valid @RequestBody ContentSaveDTO dto) {
+        contentService.updateContent(userId, contentId, dto);
+        return Result.success();
+    }
+
+    /**
+     * Markdown 实时预览
+     *
+     * @param dto 预览请求
+     * @return 预览结果
+     */
+    @PostMapping("/preview")
+    public Result<MarkdownPreviewVO> preview(@RequestBody MarkdownPreviewDTO dto) {
+        return Result.success(contentService.preview(dto.getMarkdown()));
+    }
+}
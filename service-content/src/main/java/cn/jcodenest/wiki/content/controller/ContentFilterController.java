@@ -0,0 +1,58 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.dto.ContentFilterDTO;
+import cn.jcodenest.wiki.content.service.ContentFilterService;
+import cn.jcodenest.wiki.content.vo.ContentFilterVO;
+import cn.jcodenest.wiki.content.vo.FacetVO;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 内容过滤接口（标签与分类的组合筛选、分面计数）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/contents/filter")
+public class ContentFilterController {
+
+    private final ContentFilterService contentFilterService;
+
+    /**
+     * 按标签（全部包含/任一包含/排除）与分类过滤已发布内容
+     *
+     * @param filter 过滤条件
+     * @return 内容与分面
+     */
+    @GetMapping
+    public Result<ContentFilterVO> filter(@Valid ContentFilterDTO filter) {
+        return Result.success(contentFilterService.filter(filter));
+    }
+
+    /**
+     * 相关标签（共同出现次数最多的标签）
+     *
+     * @param tagId 标签ID
+     * @param limit 返回数量（不超过分面数量上限）
+     * @return 相关标签
+     */
+    @GetMapping("/tags/{tagId}/related")
+    public Result<List<FacetVO>> relatedTags(@PathVariable Long tagId,
+                                             @RequestParam(defaultValue = "10") int limit) {
+        return Result.success(contentFilterService.relatedTags(tagId, limit));
+    }
+}
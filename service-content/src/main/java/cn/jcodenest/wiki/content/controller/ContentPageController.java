@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.service.ContentPageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 内容静态页面接口（匿名访问，可由 CDN 缓存）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/contents")
+public class ContentPageController {
+
+    private final ContentPageService contentPageService;
+
+    /**
+     * 已发布公开内容的静态页面，支持 Accept-Encoding（br、gzip）与 If-None-Match，同时处理 HEAD 请求
+     *
+     * @param contentId 内容ID
+     * @param request   HTTP请求
+     * @param response  HTTP响应
+     * @throws IOException 读取页面文件失败
+     */
+    @GetMapping("/{contentId}/page")
+    public void getPage(@PathVariable Long contentId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        contentPageService.getPage(contentId, request, response);
+    }
+
+    /**
+     * 静态页面的浏览上报（页面通过 sendBeacon 调用）
+     *
+     * @param userId    用户ID（未登录时为空）
+     * @param contentId 内容ID
+     * @param request   HTTP请求
+     * @return 操作结果
+     */
+    @PostMapping("/{contentId}/views")
+    public Result<Void> recordView(
+            @RequestHeader(value = SecurityConstants.User.USER_ID_HEADER, required = false) Long userId,
+            @PathVariable Long contentId, HttpServletRequest request) {
+        contentPageService.recordView(userId, contentId, request.getRemoteAddr());
+        return Result.success();
+    }
+}
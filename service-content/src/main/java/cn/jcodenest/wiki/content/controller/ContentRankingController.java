@@ -0,0 +1,62 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.service.ContentRankingService;
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 内容排行接口
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/contents")
+public class ContentRankingController {
+
+    private final ContentRankingService contentRankingService;
+
+    /**
+     * 热门内容
+     *
+     * @param categoryId 分类ID（含子分类），不传为全站排行
+     * @param limit      返回数量（不超过排行长度）
+     * @return 按热度倒序的内容
+     */
+    @GetMapping("/hot")
+    public Result<List<ContentListVO>> hot(@RequestParam(required = false) Long categoryId,
+                                           @RequestParam(defaultValue = "20") int limit) {
+        return Result.success(contentRankingService.hot(categoryId, limit));
+    }
+
+    /**
+     * 记录互动（like-点赞，comment-评论，share-分享）
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @param type      互动类型
+     * @return 记录结果
+     */
+    @PostMapping("/{contentId}/interactions/{type}")
+    public Result<Void> interact(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                 @PathVariable Long contentId, @PathVariable String type) {
+        contentRankingService.interact(userId, contentId, type);
+        return Result.success();
+    }
+}
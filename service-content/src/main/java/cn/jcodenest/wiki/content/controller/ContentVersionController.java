@@ -0,0 +1,78 @@
+package cn.jcodenest.wiki.content.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.content.service.ContentVersionService;
+import cn.jcodenest.wiki.content.vo.ContentDiffVO;
+import cn.jcodenest.wiki.content.vo.ContentVersionVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 内容版本接口（仅作者可用）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/contents/{contentId}/versions")
+public class ContentVersionController {
+
+    private final ContentVersionService contentVersionService;
+
+    /**
+     * 版本列表
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @param current   页码
+     * @param size      每页条数
+     * @return 版本列表
+     */
+    @GetMapping
+    public Result<PageResult<ContentVersionVO>> listVersions(
+            @RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId, @PathVariable Long contentId,
+            @RequestParam(defaultValue = "1") long current, @RequestParam(defaultValue = "20") long size) {
+        return Result.success(contentVersionService.listVersions(userId, contentId, current, size));
+    }
+
+    /**
+     * 版本详情
+     *
+     * @param userId     用户ID
+     * @param contentId  内容ID
+     * @param versionSeq 版本序号
+     * @return 版本详情（含完整内容）
+     */
+    @GetMapping("/{versionSeq}")
+    public Result<ContentVersionVO> getVersion(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                               @PathVariable Long contentId, @PathVariable int versionSeq) {
+        return Result.success(contentVersionService.getVersion(userId, contentId, versionSeq));
+    }
+
+    /**
+     * 版本对比
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @param from      旧版本序号
+     * @param to        新版本序号
+     * @return 版本差异
+     */
+    @GetMapping("/diff")
+    public Result<ContentDiffVO> diff(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                      @PathVariable Long contentId, @RequestParam int from, @RequestParam int to) {
+        return Result.success(contentVersionService.diff(userId, contentId, from, to));
+    }
+}
@@ -0,0 +1,31 @@
+package cn.jcodenest.wiki.content.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 人工复核请求
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class AuditReviewDTO {
+
+    /**
+     * 是否通过
+     */
+    @NotNull(message = "复核结论不能为空")
+    private Boolean approved;
+
+    /**
+     * 审核意见，拒绝时展示给作者
+     */
+    @Size(max = 1000, message = "审核意见不能超过1000个字符")
+    private String reason;
+}
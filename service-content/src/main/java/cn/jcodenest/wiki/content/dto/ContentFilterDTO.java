@@ -0,0 +1,74 @@
+package cn.jcodenest.wiki.content.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 内容多条件过滤请求（只返回已发布、非私有的内容）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentFilterDTO {
+
+    /**
+     * 页码
+     */
+    @Min(value = 1, message = "页码不能小于1")
+    private Long current = 1L;
+
+    /**
+     * 每页条数，为 0 时只返回总数与分面
+     */
+    @Min(value = 0, message = "每页条数不能小于0")
+    private Long size = 20L;
+
+    /**
+     * 必须全部包含的标签
+     */
+    @Size(max = 20, message = "标签条件不能超过20个")
+    private List<Long> allTags;
+
+    /**
+     * 至少包含其中一个的标签
+     */
+    @Size(max = 20, message = "标签条件不能超过20个")
+    private List<Long> anyTags;
+
+    /**
+     * 不能包含的标签
+     */
+    @Size(max = 20, message = "标签条件不能超过20个")
+    private List<Long> excludeTags;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 是否包含子分类下的内容
+     */
+    private Boolean includeSubcategories = Boolean.FALSE;
+
+    /**
+     * 返回的标签分面数量，0 表示不计算
+     */
+    @Min(value = 0, message = "分面数量不能小于0")
+    @Max(value = 100, message = "分面数量不能超过100")
+    private Integer tagFacetSize = 20;
+
+    /**
+     * 是否计算分类分面（当前分类的直接子分类，未指定分类时为顶级分类，计数含各自的子分类）
+     */
+    private Boolean categoryFacets = Boolean.FALSE;
+}
@@ -0,0 +1,55 @@
+package cn.jcodenest.wiki.content.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * 内容列表查询条件
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentQueryDTO {
+
+    /**
+     * 页码
+     */
+    @Min(value = 1, message = "页码不能小于1")
+    private Long current = 1L;
+
+    /**
+     * 每页条数
+     */
+    @Min(value = 1, message = "每页条数不能小于1")
+    private Long size = 20L;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 是否包含子分类下的内容
+     */
+    private Boolean includeSubcategories = Boolean.FALSE;
+
+    /**
+     * 作者用户ID
+     */
+    private Long authorId;
+
+    /**
+     * 内容类型
+     */
+    private String contentType;
+
+    /**
+     * 状态，只有查询自己的内容时生效，其他情况固定为已发布
+     */
+    private Integer status;
+}
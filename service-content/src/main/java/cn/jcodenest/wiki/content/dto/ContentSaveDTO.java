@@ -0,0 +1,78 @@
+package cn.jcodenest.wiki.content.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 内容保存请求
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentSaveDTO {
+
+    /**
+     * 内容标题
+     */
+    @NotBlank(message = "标题不能为空")
+    @Size(max = 200, message = "标题不能超过200个字符")
+    private String title;
+
+    /**
+     * 副标题
+     */
+    @Size(max = 300, message = "副标题不能超过300个字符")
+    private String subtitle;
+
+    /**
+     * 内容摘要
+     */
+    private String summary;
+
+    /**
+     * 内容正文（Markdown格式）
+     */
+    private String content;
+
+    /**
+     * 内容类型：article-文章，video-视频，audio-音频，course-课程
+     */
+    @NotBlank(message = "内容类型不能为空")
+    private String contentType;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 封面图片URL
+     */
+    @Size(max = 500, message = "封面图片URL不能超过500个字符")
+    private String coverImage;
+
+    /**
+     * 可见性：1-公开，2-登录可见，3-VIP可见，4-付费可见，5-私有
+     */
+    private Integer visibility;
+
+    /**
+     * 标签ID列表，传入时整体替换内容的标签，不传则保持不变
+     */
+    @Size(max = 20, message = "标签不能超过20个")
+    private List<Long> tagIds;
+
+    /**
+     * 变更日志（记录到本次产生的内容版本）
+     */
+    @Size(max = 500, message = "变更日志不能超过500个字符")
+    private String changeLog;
+}
@@ -0,0 +1,22 @@
+package cn.jcodenest.wiki.content.dto;
+
+import lombok.Data;
+
+/**
+ * Markdown 预览请求
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class MarkdownPreviewDTO {
+
+    /**
+     * Markdown 文本
+     */
+    private String markdown;
+}
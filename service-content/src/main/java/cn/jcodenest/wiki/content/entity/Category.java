@@ -0,0 +1,101 @@
+package cn.jcodenest.wiki.content.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容分类实体（cnt_category）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("cnt_category")
+public class Category {
+
+    /**
+     * 分类ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 分类名称
+     */
+    private String categoryName;
+
+    /**
+     * 分类编码
+     */
+    private String categoryCode;
+
+    /**
+     * 分类描述
+     */
+    private String description;
+
+    /**
+     * 父分类ID，0表示顶级分类
+     */
+    private Long parentId;
+
+    /**
+     * 分类层级
+     */
+    private Integer level;
+
+    /**
+     * 分类路径，如：/1/2/3/
+     */
+    private String path;
+
+    /**
+     * 分类图标
+     */
+    private String icon;
+
+    /**
+     * 分类封面图
+     */
+    private String coverImage;
+
+    /**
+     * 排序顺序
+     */
+    private Integer sortOrder;
+
+    /**
+     * 内容数量
+     */
+    private Integer contentCount;
+
+    /**
+     * 状态：0-禁用，1-启用
+     */
+    private Integer status;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
@@ -0,0 +1,197 @@
+package cn.jcodenest.wiki.content.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 内容实体（cnt_content）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("cnt_content")
+public class Content {
+
+    /**
+     * 内容ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 内容标题
+     */
+    private String title;
+
+    /**
+     * 副标题
+     */
+    private String subtitle;
+
+    /**
+     * 内容摘要
+     */
+    private String summary;
+
+    /**
+     * 内容正文（Markdown格式）
+     */
+    private String content;
+
+    /**
+     * 内容HTML（渲染后）
+     */
+    private String contentHtml;
+
+    /**
+     * 正文版本号：正文每次修改加1，用作正文缓存键
+     */
+    private Integer bodyVersion;
+
+    /**
+     * 内容类型：article-文章，video-视频，audio-音频，course-课程
+     */
+    private String contentType;
+
+    /**
+     * 作者用户ID
+     */
+    private Long authorId;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 封面图片URL
+     */
+    private String coverImage;
+
+    /**
+     * 状态：0-草稿，1-已发布，2-审核中，3-审核失败，4-已下架
+     */
+    private Integer status;
+
+    /**
+     * 可见性：1-公开，2-登录可见，3-VIP可见，4-付费可见，5-私有
+     */
+    private Integer visibility;
+
+    /**
+     * 价格（元）
+     */
+    private BigDecimal price;
+
+    /**
+     * 原价（元）
+     */
+    private BigDecimal originalPrice;
+
+    /**
+     * 浏览次数
+     */
+    private Integer viewCount;
+
+    /**
+     * 点赞次数
+     */
+    private Integer likeCount;
+
+    /**
+     * 评论次数
+     */
+    private Integer commentCount;
+
+    /**
+     * 分享次数
+     */
+    private Integer shareCount;
+
+    /**
+     * 收藏次数
+     */
+    private Integer favoriteCount;
+
+    /**
+     * 购买次数
+     */
+    private Integer purchaseCount;
+
+    /**
+     * 字数统计
+     */
+    private Integer wordCount;
+
+    /**
+     * 预计阅读时间（分钟）
+     */
+    private Integer readingTime;
+
+    /**
+     * 是否置顶：0-否，1-是
+     */
+    private Integer isTop;
+
+    /**
+     * 是否热门：0-否，1-是
+     */
+    private Integer isHot;
+
+    /**
+     * 是否推荐：0-否，1-是
+     */
+    private Integer isRecommend;
+
+    /**
+     * 排序顺序
+     */
+    private Integer sortOrder;
+
+    /**
+     * SEO标题
+     */
+    private String seoTitle;
+
+    /**
+     * SEO关键词
+     */
+    private String seoKeywords;
+
+    /**
+     * SEO描述
+     */
+    private String seoDescription;
+
+    /**
+     * 发布时间
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
@@ -0,0 +1,86 @@
+package cn.jcodenest.wiki.content.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容审核实体（cnt_content_audit）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("cnt_content_audit")
+public class ContentAudit {
+
+    /**
+     * 审核ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    private Long contentId;
+
+    /**
+     * 审核类型：1-发布审核，2-修改审核，3-举报审核
+     */
+    private Integer auditType;
+
+    /**
+     * 审核状态，见 {@link cn.jcodenest.wiki.content.enums.AuditStatusEnum}
+     */
+    private Integer auditStatus;
+
+    /**
+     * 审核阶段，见 {@link cn.jcodenest.wiki.content.enums.AuditStageEnum}
+     */
+    private Integer auditStage;
+
+    /**
+     * 审核员ID，自动审核为null
+     */
+    private Long auditorId;
+
+    /**
+     * 审核意见
+     */
+    private String auditReason;
+
+    /**
+     * 审核时间
+     */
+    private LocalDateTime auditTime;
+
+    /**
+     * 提交时间
+     */
+    private LocalDateTime submitTime;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
@@ -0,0 +1,56 @@
+package cn.jcodenest.wiki.content.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容标签关联实体（cnt_content_tag）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("cnt_content_tag")
+public class ContentTag {
+
+    /**
+     * 关联ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    private Long contentId;
+
+    /**
+     * 标签ID
+     */
+    private Long tagId;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
@@ -0,0 +1,111 @@
+package cn.jcodenest.wiki.content.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容版本实体（cnt_content_version）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("cnt_content_version")
+public class ContentVersion {
+
+    /**
+     * 版本ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    private Long contentId;
+
+    /**
+     * 版本号，如：v12
+     */
+    private String versionNumber;
+
+    /**
+     * 版本序号，同一内容内从1递增
+     */
+    private Integer versionSeq;
+
+    /**
+     * 版本标题
+     */
+    private String title;
+
+    /**
+     * 版本内容：完整快照或相对上一版本的行增量，见 storageType
+     */
+    private String content;
+
+    /**
+     * 存储方式：0-完整快照（关键帧），1-行增量
+     */
+    private Integer storageType;
+
+    /**
+     * 还原本版本所依赖的关键帧版本序号
+     */
+    private Integer keyframeSeq;
+
+    /**
+     * 版本完整内容的SHA-256
+     */
+    private String contentHash;
+
+    /**
+     * 变更日志
+     */
+    private String changeLog;
+
+    /**
+     * 修改者ID
+     */
+    private Long authorId;
+
+    /**
+     * 内容大小（字节，完整内容）
+     */
+    private Long fileSize;
+
+    /**
+     * 字数统计
+     */
+    private Integer wordCount;
+
+    /**
+     * 是否当前版本：0-否，1-是
+     */
+    private Integer isCurrent;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
@@ -0,0 +1,40 @@
+package cn.jcodenest.wiki.content.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 内容审核阶段枚举（审核状态为待审核时有意义）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum AuditStageEnum {
+
+    /**
+     * 等待自动检查
+     */
+    AUTO(0, "自动检查"),
+
+    /**
+     * 自动检查无法判定，等待人工复核
+     */
+    MANUAL(1, "人工复核");
+
+    /**
+     * 阶段码
+     */
+    private final Integer code;
+
+    /**
+     * 阶段名称
+     */
+    private final String name;
+}
@@ -0,0 +1,45 @@
+package cn.jcodenest.wiki.content.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 内容审核状态枚举
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum AuditStatusEnum {
+
+    /**
+     * 待审核
+     */
+    PENDING(0, "待审核"),
+
+    /**
+     * 审核通过
+     */
+    APPROVED(1, "审核通过"),
+
+    /**
+     * 审核拒绝
+     */
+    REJECTED(2, "审核拒绝");
+
+    /**
+     * 状态码
+     */
+    private final Integer code;
+
+    /**
+     * 状态名称
+     */
+    private final String name;
+}
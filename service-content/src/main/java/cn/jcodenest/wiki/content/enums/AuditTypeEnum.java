@@ -0,0 +1,45 @@
+package cn.jcodenest.wiki.content.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 内容审核类型枚举
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum AuditTypeEnum {
+
+    /**
+     * 发布审核：首次发布
+     */
+    PUBLISH(1, "发布审核"),
+
+    /**
+     * 修改审核：已发布过的内容再次提交
+     */
+    MODIFY(2, "修改审核"),
+
+    /**
+     * 举报审核
+     */
+    REPORT(3, "举报审核");
+
+    /**
+     * 类型码
+     */
+    private final Integer code;
+
+    /**
+     * 类型名称
+     */
+    private final String name;
+}
@@ -0,0 +1,74 @@
+package cn.jcodenest.wiki.content.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 内容可见性枚举（对应 cnt_content.visibility）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum ContentVisibilityEnum {
+
+    /**
+     * 公开
+     */
+    PUBLIC(1, "公开"),
+
+    /**
+     * 登录可见
+     */
+    LOGIN(2, "登录可见"),
+
+    /**
+     * VIP可见
+     */
+    VIP(3, "VIP可见"),
+
+    /**
+     * 付费可见
+     */
+    PAID(4, "付费可见"),
+
+    /**
+     * 私有
+     */
+    PRIVATE(5, "私有");
+
+    /**
+     * 可见性码
+     */
+    private final Integer code;
+
+    /**
+     * 可见性名称
+     */
+    private final String name;
+
+    /**
+     * 根据可见性码获取枚举
+     *
+     * @param code 可见性码
+     * @return ContentVisibilityEnum枚举，如果不存在则返回null
+     */
+    public static ContentVisibilityEnum getByCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (ContentVisibilityEnum visibility : values()) {
+            if (visibility.getCode().equals(code)) {
+                return visibility;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package cn.jcodenest.wiki.content.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 内容互动类型枚举（热度排行的输入）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum InteractionTypeEnum {
+
+    /**
+     * 浏览
+     */
+    VIEW("view", "浏览"),
+
+    /**
+     * 点赞
+     */
+    LIKE("like", "点赞"),
+
+    /**
+     * 评论
+     */
+    COMMENT("comment", "评论"),
+
+    /**
+     * 分享
+     */
+    SHARE("share", "分享");
+
+    /**
+     * 类型码
+     */
+    private final String code;
+
+    /**
+     * 类型名称
+     */
+    private final String name;
+
+    /**
+     * 根据类型码获取枚举
+     *
+     * @param code 类型码
+     * @return InteractionTypeEnum枚举，如果不存在则返回null
+     */
+    public static InteractionTypeEnum getByCode(String code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (InteractionTypeEnum type : values()) {
+            if (type.getCode().equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
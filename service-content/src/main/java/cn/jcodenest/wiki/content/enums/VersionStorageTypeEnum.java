@@ -0,0 +1,59 @@
+package cn.jcodenest.wiki.content.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 版本存储方式枚举（对应 cnt_content_version.storage_type）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum VersionStorageTypeEnum {
+
+    /**
+     * 完整快照（关键帧）
+     */
+    SNAPSHOT(0, "完整快照"),
+
+    /**
+     * 相对上一版本的行增量
+     */
+    DELTA(1, "行增量");
+
+    /**
+     * 类型码
+     */
+    private final Integer code;
+
+    /**
+     * 类型名称
+     */
+    private final String name;
+
+    /**
+     * 根据类型码获取枚举
+     *
+     * @param code 类型码
+     * @return VersionStorageTypeEnum枚举，如果不存在则返回null
+     */
+    public static VersionStorageTypeEnum getByCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (VersionStorageTypeEnum type : values()) {
+            if (type.getCode().equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package cn.jcodenest.wiki.content.event;
+
+/**
+ * 内容变更事件（进程内，事务提交后发布）
+ *
+ * @param contentId 内容ID
+ * @param type      事件类型，见 {@link cn.jcodenest.wiki.common.constant.SystemConstants.Event}
+ *                  的 CONTENT_PUBLISH 与 CONTENT_UPDATE
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record ContentChangedEvent(Long contentId, String type) {
+}
@@ -0,0 +1,20 @@
+package cn.jcodenest.wiki.content.event;
+
+import cn.jcodenest.wiki.content.enums.InteractionTypeEnum;
+
+/**
+ * 内容互动事件（进程内）
+ *
+ * @param contentId 内容ID
+ * @param userId    用户ID，未登录为 null
+ * @param clientIp  客户端IP，未登录时用于去重
+ * @param type      互动类型
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record ContentInteractionEvent(Long contentId, Long userId, String clientIp, InteractionTypeEnum type) {
+}
@@ -0,0 +1,357 @@
+package cn.jcodenest.wiki.content.filter;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 内容位图索引
+ * <p>
+ * 内容ID（雪花ID）映射为连续的序号，每个标签、分类、状态、可见性各对应一个 Roaring 位图，
+ * 多标签的与/或/非过滤与分面计数都是位图运算，不需要多表关联。
+ * <p>
+ * 序号按首次加入的顺序分配，全量加载按内容ID升序进行，序号顺序近似创建时间，分页按序号倒序（新内容在前）。
+ * 删除的内容只从位图中移除，序号不回收，由下一次全量重建压缩。
+ * <p>
+ * 读写通过读写锁隔离：查询持有读锁完成全部位图运算与分页，增量更新持有写锁。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public final class ContentBitmapIndex {
+
+    private static final byte NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 内容ID到序号 */
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+
+    /** 序号到内容ID */
+    private long[] ids = new long[1024];
+
+    /** 序号到分类ID（无分类为 0） */
+    private long[] categories = new long[1024];
+
+    /** 序号到状态 */
+    private byte[] statuses = new byte[1024];
+
+    /** 序号到可见性 */
+    private byte[] visibilities = new byte[1024];
+
+    /** 未删除的内容 */
+    private final RoaringBitmap live = new RoaringBitmap();
+
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+
+    private final Map<Integer, RoaringBitmap> byStatus = new HashMap<>();
+
+    private final Map<Integer, RoaringBitmap> byVisibility = new HashMap<>();
+
+    /**
+     * 加入或更新内容
+     *
+     * @param contentId  内容ID
+     * @param categoryId 分类ID，可为 null
+     * @param status     状态
+     * @param visibility 可见性
+     * @param tagIds     全部标签ID
+     */
+    public void put(Long contentId, Long categoryId, Integer status, Integer visibility, Collection<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(contentId);
+            int ordinal;
+            if (existing == null) {
+                ordinal = ordinals.size();
+                ensureCapacity(ordinal + 1);
+                ordinals.put(contentId, ordinal);
+                ids[ordinal] = contentId;
+            } else {
+                ordinal = existing;
+                detach(ordinal);
+            }
+
+            live.add(ordinal);
+            categories[ordinal] = categoryId == null ? 0L : categoryId;
+            statuses[ordinal] = status == null ? NONE : status.byteValue();
+            visibilities[ordinal] = visibility == null ? NONE : visibility.byteValue();
+            if (categoryId != null) {
+                byCategory.computeIfAbsent(categoryId, key -> new RoaringBitmap()).add(ordinal);
+            }
+            if (status != null) {
+                byStatus.computeIfAbsent(status, key -> new RoaringBitmap()).add(ordinal);
+            }
+            if (visibility != null) {
+                byVisibility.computeIfAbsent(visibility, key -> new RoaringBitmap()).add(ordinal);
+            }
+            for (Long tagId : tagIds) {
+                byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 为内容追加标签（全量加载时使用）
+     *
+     * @param contentId 内容ID
+     * @param tagId     标签ID
+     */
+    public void addTag(Long contentId, Long tagId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(contentId);
+            if (ordinal != null && live.contains(ordinal)) {
+                byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 移除内容
+     *
+     * @param contentId 内容ID
+     */
+    public void remove(Long contentId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(contentId);
+            if (ordinal != null) {
+                detach(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 压缩位图（全量加载完成后调用，连续序号转为 run 容器）
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            live.runOptimize();
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+            byCategory.values().forEach(RoaringBitmap::runOptimize);
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+            byVisibility.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 内容数量（不含已删除）
+     *
+     * @return 内容数量
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 过滤、分页并计算分面
+     *
+     * @param filter 过滤条件
+     * @param offset 跳过条数
+     * @param limit  返回条数
+     * @return 查询结果
+     */
+    public Result query(Filter filter, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = evaluate(filter);
+            long total = matched.getLongCardinality();
+
+            List<Long> contentIds = new ArrayList<>(limit);
+            for (long i = offset; i < total && contentIds.size() < limit; i++) {
+                contentIds.add(ids[matched.select((int) (total - 1 - i))]);
+            }
+
+            List<Count> tagCounts = filter.tagFacetLimit() > 0 ? topCounts(matched, byTag, filter.tagFacetLimit())
+                    : List.of();
+            Map<Long, Integer> categoryCounts = new HashMap<>();
+            if (filter.categoryFacets()) {
+                for (Map.Entry<Long, RoaringBitmap> entry : byCategory.entrySet()) {
+                    int count = RoaringBitmap.andCardinality(matched, entry.getValue());
+                    if (count > 0) {
+                        categoryCounts.put(entry.getKey(), count);
+                    }
+                }
+            }
+            return new Result(total, contentIds, tagCounts, categoryCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 计算匹配的位图：所有“与”条件按基数从小到大依次相交，再减去排除的标签
+     */
+    private RoaringBitmap evaluate(Filter filter) {
+        List<RoaringBitmap> terms = new ArrayList<>();
+        terms.add(live);
+        for (Long tagId : filter.allTags()) {
+            terms.add(byTag.getOrDefault(tagId, new RoaringBitmap()));
+        }
+        addUnion(terms, byTag, filter.anyTags());
+        addUnion(terms, byCategory, filter.categoryIds());
+        addUnion(terms, byStatus, filter.statuses());
+        addUnion(terms, byVisibility, filter.visibilities());
+        terms.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+        RoaringBitmap matched = terms.get(0).clone();
+        for (int i = 1; i < terms.size() && !matched.isEmpty(); i++) {
+            matched.and(terms.get(i));
+        }
+        if (!filter.excludeTags().isEmpty() && !matched.isEmpty()) {
+            matched.andNot(union(byTag, filter.excludeTags()));
+        }
+        return matched;
+    }
+
+    /**
+     * 条件非空时加入“或”条件的并集
+     */
+    private static <K> void addUnion(List<RoaringBitmap> terms, Map<K, RoaringBitmap> bitmaps, Collection<K> keys) {
+        if (!keys.isEmpty()) {
+            terms.add(union(bitmaps, keys));
+        }
+    }
+
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, Collection<K> keys) {
+        List<RoaringBitmap> selected = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                selected.add(bitmap);
+            }
+        }
+        return selected.isEmpty() ? new RoaringBitmap() : FastAggregation.or(selected.iterator());
+    }
+
+    /**
+     * 与匹配结果交集最大的前 N 个键
+     */
+    private static List<Count> topCounts(RoaringBitmap matched, Map<Long, RoaringBitmap> bitmaps, int limit) {
+        PriorityQueue<Count> top = new PriorityQueue<>(Comparator.comparingInt(Count::count));
+        for (Map.Entry<Long, RoaringBitmap> entry : bitmaps.entrySet()) {
+            if (top.size() == limit && entry.getValue().getCardinality() <= top.peek().count()) {
+                continue;
+            }
+            int count = RoaringBitmap.andCardinality(matched, entry.getValue());
+            if (count == 0) {
+                continue;
+            }
+            if (top.size() < limit) {
+                top.add(new Count(entry.getKey(), count));
+            } else if (count > top.peek().count()) {
+                top.poll();
+                top.add(new Count(entry.getKey(), count));
+            }
+        }
+        List<Count> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingInt(Count::count).reversed().thenComparing(Count::key));
+        return result;
+    }
+
+    /**
+     * 从全部位图中移除序号（需持有写锁）
+     */
+    private void detach(int ordinal) {
+        if (!live.contains(ordinal)) {
+            return;
+        }
+        live.remove(ordinal);
+        removeFrom(byCategory, categories[ordinal], ordinal);
+        removeFrom(byStatus, (int) statuses[ordinal], ordinal);
+        removeFrom(byVisibility, (int) visibilities[ordinal], ordinal);
+        // 不保存每篇内容的标签列表，逐个标签检查；标签数量在万级以内，单次更新的开销可以接受
+        byTag.values().removeIf(bitmap -> {
+            bitmap.remove(ordinal);
+            return bitmap.isEmpty();
+        });
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int length = Math.max(capacity, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, length);
+            categories = Arrays.copyOf(categories, length);
+            statuses = Arrays.copyOf(statuses, length);
+            visibilities = Arrays.copyOf(visibilities, length);
+        }
+    }
+
+    /**
+     * 过滤条件，各集合为空表示不限制
+     *
+     * @param allTags         必须全部包含的标签（与）
+     * @param anyTags         至少包含一个的标签（或）
+     * @param excludeTags     不能包含的标签（非）
+     * @param categoryIds     分类（或，调用方负责展开子分类）
+     * @param statuses        状态（或）
+     * @param visibilities    可见性（或）
+     * @param tagFacetLimit   返回的标签分面数量，0 表示不计算
+     * @param categoryFacets  是否计算分类分面
+     */
+    public record Filter(Collection<Long> allTags, Collection<Long> anyTags, Collection<Long> excludeTags,
+                         Collection<Long> categoryIds, Collection<Integer> statuses,
+                         Collection<Integer> visibilities, int tagFacetLimit, boolean categoryFacets) {
+    }
+
+    /**
+     * 查询结果
+     *
+     * @param total          匹配总数
+     * @param contentIds     当前页的内容ID（新内容在前）
+     * @param tagCounts      标签分面（按数量倒序）
+     * @param categoryCounts 分类分面（仅各分类自身，不含子分类）
+     */
+    public record Result(long total, List<Long> contentIds, List<Count> tagCounts, Map<Long, Integer> categoryCounts) {
+    }
+
+    /**
+     * 分面计数
+     *
+     * @param key   标签或分类ID
+     * @param count 数量
+     */
+    public record Count(Long key, int count) {
+    }
+}
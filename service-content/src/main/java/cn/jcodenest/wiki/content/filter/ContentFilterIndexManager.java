@@ -0,0 +1,304 @@
+package cn.jcodenest.wiki.content.filter;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.ContentTag;
+import cn.jcodenest.wiki.content.event.ContentChangedEvent;
+import cn.jcodenest.wiki.content.mapper.ContentMapper;
+import cn.jcodenest.wiki.content.mapper.ContentTagMapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 内容过滤索引管理
+ * <p>
+ * 启动完成后在后台按主键游标分批全量加载内容与标签关联，构建新的 {@link ContentBitmapIndex} 后整体替换；
+ * 加载完成前 {@link #current()} 返回 null，调用方应提示稍后重试。
+ * <p>
+ * 之后的变更有两条路径：
+ * <ul>
+ *     <li>本实例的内容发布、更新事件（{@link ContentChangedEvent}）在异步线程中按内容ID重新读取并更新索引；</li>
+ *     <li>定时按 (updated_at, id) 游标增量同步，覆盖其他实例的修改与丢失的事件。</li>
+ * </ul>
+ * 两条路径都在对象锁内“读库再写索引”，同一内容的多次更新按读库顺序生效，不会被较旧的读取覆盖。
+ * 物理删除与提交晚于游标的修改由低频的全量重建修正。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+public class ContentFilterIndexManager {
+
+    /** 初始水位 */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ContentMapper contentMapper;
+
+    private final ContentTagMapper contentTagMapper;
+
+    private final ContentProperties contentProperties;
+
+    private final Executor asyncExecutor;
+
+    /** 当前索引，全量加载完成前为 null */
+    private volatile ContentBitmapIndex index;
+
+    /** 是否正在全量加载 */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /** 增量同步游标：已同步到的 updated_at 与同一时间内的最大内容ID，只在持有对象锁时读写 */
+    private LocalDateTime watermark = EPOCH;
+
+    private long watermarkId;
+
+    /** 上次全量重建完成时间（毫秒） */
+    private volatile long lastRebuildMillis;
+
+    public ContentFilterIndexManager(ContentMapper contentMapper, ContentTagMapper contentTagMapper,
+                                     ContentProperties contentProperties,
+                                     @Qualifier(SystemConstants.ThreadPool.ASYNC_EXECUTOR) Executor asyncExecutor) {
+        this.contentMapper = contentMapper;
+        this.contentTagMapper = contentTagMapper;
+        this.contentProperties = contentProperties;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * 启动完成后在后台全量加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (index == null) {
+            asyncExecutor.execute(this::rebuildQuietly);
+        }
+    }
+
+    /**
+     * 当前索引
+     *
+     * @return 索引，全量加载完成前返回 null
+     */
+    public ContentBitmapIndex current() {
+        return index;
+    }
+
+    /**
+     * 全量重建：加载期间不持有对象锁，新索引替换后从加载前的水位补齐加载期间的变更
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            LocalDateTime since = contentMapper.selectMaxUpdatedAt();
+            ContentBitmapIndex fresh = load();
+
+            synchronized (this) {
+                index = fresh;
+                watermark = since == null ? EPOCH : since;
+                watermarkId = 0L;
+            }
+            lastRebuildMillis = System.currentTimeMillis();
+            log.info("重建内容过滤索引: contents={}, cost={}ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+            sync();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 增量同步，到达全量重建间隔时改为全量重建
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.filter-index.refresh-millis:5000}")
+    public void refresh() {
+        if (index == null || System.currentTimeMillis() - lastRebuildMillis >= contentProperties.getFilterIndex()
+                .getFullRebuildMillis()) {
+            rebuildQuietly();
+            return;
+        }
+        sync();
+    }
+
+    /**
+     * 收到本实例的内容变更事件，异步更新索引
+     *
+     * @param event 内容变更事件
+     */
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        asyncExecutor.execute(() -> {
+            try {
+                reload(List.of(event.contentId()));
+            } catch (Exception e) {
+                log.warn("更新内容过滤索引失败，等待定时同步: contentId={}, type={}", event.contentId(), event.type(), e);
+            }
+        });
+    }
+
+    /**
+     * 按游标分批同步变更，直到追上最新修改
+     */
+    private synchronized void sync() {
+        if (index == null) {
+            return;
+        }
+        int batchSize = contentProperties.getFilterIndex().getSyncBatchSize();
+        int total = 0;
+        List<Content> changes;
+        do {
+            changes = contentMapper.selectChangedSince(watermark, watermarkId, batchSize);
+            if (changes.isEmpty()) {
+                break;
+            }
+            applyChanges(changes);
+            Content last = changes.get(changes.size() - 1);
+            watermark = last.getUpdatedAt();
+            watermarkId = last.getId();
+            total += changes.size();
+        } while (changes.size() == batchSize);
+
+        if (total > 0) {
+            log.debug("增量同步内容过滤索引: changes={}", total);
+        }
+    }
+
+    /**
+     * 重新读取指定内容并更新索引
+     *
+     * @param contentIds 内容ID
+     */
+    private synchronized void reload(Collection<Long> contentIds) {
+        ContentBitmapIndex current = index;
+        if (current == null) {
+            return;
+        }
+        List<Content> contents = contentMapper.selectList(Wrappers.<Content>lambdaQuery()
+                .select(Content::getId, Content::getCategoryId, Content::getStatus, Content::getVisibility)
+                .in(Content::getId, contentIds));
+        update(current, contentIds, contents);
+    }
+
+    /**
+     * 用已读取的变更行更新索引：已删除的移除，其余连同标签重新加入
+     *
+     * @param changes 变更的内容（含 is_deleted）
+     */
+    private synchronized void applyChanges(List<Content> changes) {
+        List<Long> contentIds = new ArrayList<>(changes.size());
+        List<Content> live = new ArrayList<>(changes.size());
+        for (Content content : changes) {
+            contentIds.add(content.getId());
+            if (!CommonConstants.Status.YES.equals(content.getIsDeleted())) {
+                live.add(content);
+            }
+        }
+        update(index, contentIds, live);
+    }
+
+    /**
+     * 更新索引：live 中的内容连同标签重新加入，其余ID视为已删除
+     *
+     * @param current    当前索引
+     * @param contentIds 变更的内容ID
+     * @param live       其中未删除的内容
+     */
+    private void update(ContentBitmapIndex current, Collection<Long> contentIds, List<Content> live) {
+        Set<Long> removed = new LinkedHashSet<>(contentIds);
+        Map<Long, List<Long>> tags = loadTags(live);
+        for (Content content : live) {
+            removed.remove(content.getId());
+            current.put(content.getId(), content.getCategoryId(), content.getStatus(), content.getVisibility(),
+                    tags.getOrDefault(content.getId(), List.of()));
+        }
+        removed.forEach(current::remove);
+    }
+
+    /**
+     * 查询内容的标签
+     */
+    private Map<Long, List<Long>> loadTags(List<Content> contents) {
+        if (contents.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> contentIds = contents.stream().map(Content::getId).toList();
+        Map<Long, List<Long>> tags = new HashMap<>();
+        for (ContentTag contentTag : contentTagMapper.selectList(Wrappers.<ContentTag>lambdaQuery()
+                .select(ContentTag::getContentId, ContentTag::getTagId)
+                .in(ContentTag::getContentId, contentIds))) {
+            tags.computeIfAbsent(contentTag.getContentId(), key -> new ArrayList<>()).add(contentTag.getTagId());
+        }
+        return tags;
+    }
+
+    /**
+     * 按主键游标分批加载全部内容与标签关联
+     */
+    private ContentBitmapIndex load() {
+        int batchSize = contentProperties.getFilterIndex().getLoadBatchSize();
+        ContentBitmapIndex fresh = new ContentBitmapIndex();
+
+        long lastId = 0L;
+        List<Content> contents;
+        do {
+            contents = contentMapper.selectList(Wrappers.<Content>lambdaQuery()
+                    .select(Content::getId, Content::getCategoryId, Content::getStatus, Content::getVisibility)
+                    .gt(Content::getId, lastId)
+                    .orderByAsc(Content::getId)
+                    .last("LIMIT " + batchSize));
+            for (Content content : contents) {
+                fresh.put(content.getId(), content.getCategoryId(), content.getStatus(), content.getVisibility(),
+                        List.of());
+                lastId = content.getId();
+            }
+        } while (contents.size() == batchSize);
+
+        lastId = 0L;
+        List<ContentTag> contentTags;
+        do {
+            contentTags = contentTagMapper.selectList(Wrappers.<ContentTag>lambdaQuery()
+                    .select(ContentTag::getId, ContentTag::getContentId, ContentTag::getTagId)
+                    .gt(ContentTag::getId, lastId)
+                    .orderByAsc(ContentTag::getId)
+                    .last("LIMIT " + batchSize));
+            for (ContentTag contentTag : contentTags) {
+                fresh.addTag(contentTag.getContentId(), contentTag.getTagId());
+                lastId = contentTag.getId();
+            }
+        } while (contentTags.size() == batchSize);
+
+        fresh.optimize();
+        return fresh;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("重建内容过滤索引失败，稍后重试", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cn.jcodenest.wiki.content.mapper;
+
+import cn.jcodenest.wiki.content.entity.Category;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 内容分类 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface CategoryMapper extends BaseMapper<Category> {
+
+    /**
+     * 查询指定时间之后变更的分类（含已逻辑删除的分类）
+     * <p>
+     * 条件构造器会被 {@code @TableLogic} 追加 is_deleted = 0，增量同步需要看到删除，因此直接写 SQL。
+     * 逻辑删除会触发 updated_at 的 ON UPDATE 更新，删除与修改一样按更新时间查出。
+     *
+     * @param since 起始时间（含）
+     * @return 变更的分类（不含描述、图标等展示字段）
+     */
+    @Select("SELECT id, category_name, category_code, parent_id, level, path, sort_order, content_count, status, "
+            + "updated_at, is_deleted FROM cnt_category WHERE updated_at >= #{since}")
+    List<Category> selectChangedSince(@Param("since") LocalDateTime since);
+}
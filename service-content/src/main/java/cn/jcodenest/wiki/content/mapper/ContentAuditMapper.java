@@ -0,0 +1,17 @@
+package cn.jcodenest.wiki.content.mapper;
+
+import cn.jcodenest.wiki.content.entity.ContentAudit;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+/**
+ * 内容审核 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentAuditMapper extends BaseMapper<ContentAudit> {
+}
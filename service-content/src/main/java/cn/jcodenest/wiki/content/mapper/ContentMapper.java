@@ -0,0 +1,47 @@
+package cn.jcodenest.wiki.content.mapper;
+
+import cn.jcodenest.wiki.content.entity.Content;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 内容 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentMapper extends BaseMapper<Content> {
+
+    /**
+     * 按 (updated_at, id) 游标查询之后变更的内容（含已逻辑删除的内容）
+     * <p>
+     * 条件构造器会被 {@code @TableLogic} 追加 is_deleted = 0，增量同步需要看到删除，因此直接写 SQL；
+     * 只投影过滤索引需要的列。
+     *
+     * @param since   游标时间
+     * @param sinceId 游标内容ID，同一时间内只返回更大的ID
+     * @param limit   返回条数
+     * @return 变更的内容
+     */
+    @Select("SELECT id, category_id, status, visibility, updated_at, is_deleted FROM cnt_content "
+            + "WHERE updated_at >= #{since} AND (updated_at > #{since} OR id > #{sinceId}) "
+            + "ORDER BY updated_at, id LIMIT #{limit}")
+    List<Content> selectChangedSince(@Param("since") LocalDateTime since, @Param("sinceId") Long sinceId,
+                                     @Param("limit") int limit);
+
+    /**
+     * 查询最大更新时间（含已逻辑删除的内容），作为全量加载前的同步水位
+     *
+     * @return 最大更新时间，表为空时返回 null
+     */
+    @Select("SELECT MAX(updated_at) FROM cnt_content")
+    LocalDateTime selectMaxUpdatedAt();
+}
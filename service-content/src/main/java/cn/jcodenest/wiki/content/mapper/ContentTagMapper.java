@@ -0,0 +1,30 @@
+package cn.jcodenest.wiki.content.mapper;
+
+import cn.jcodenest.wiki.content.entity.ContentTag;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 内容标签关联 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentTagMapper extends BaseMapper<ContentTag> {
+
+    /**
+     * 物理删除内容的全部标签关联
+     * <p>
+     * 关联表有 (content_id, tag_id) 唯一键，逻辑删除后无法重新关联同一标签，因此替换标签时直接物理删除。
+     *
+     * @param contentId 内容ID
+     * @return 删除行数
+     */
+    @Delete("DELETE FROM cnt_content_tag WHERE content_id = #{contentId}")
+    int physicalDeleteByContentId(@Param("contentId") Long contentId);
+}
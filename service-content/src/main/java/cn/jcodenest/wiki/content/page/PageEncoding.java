@@ -0,0 +1,108 @@
+package cn.jcodenest.wiki.content.page;
+
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 静态页面的内容编码
+ * <p>
+ * 每种编码对应一个预先生成的文件与一个强 ETag：同一页面的不同编码是不同的字节序列，
+ * 强校验器必须不同，这里在页面摘要后追加编码后缀区分。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum PageEncoding {
+
+    /**
+     * 不压缩
+     */
+    IDENTITY(null, ".html", ""),
+
+    /**
+     * gzip
+     */
+    GZIP("gzip", ".html.gz", "-gz"),
+
+    /**
+     * brotli
+     */
+    BROTLI("br", ".html.br", "-br");
+
+    /**
+     * Content-Encoding 取值，不压缩时为 null
+     */
+    private final String coding;
+
+    /**
+     * 文件后缀
+     */
+    private final String fileSuffix;
+
+    /**
+     * ETag 后缀
+     */
+    private final String etagSuffix;
+
+    /**
+     * 按 Accept-Encoding 选择编码：优先 brotli，其次 gzip，都不接受时不压缩
+     *
+     * @param acceptEncoding  Accept-Encoding 请求头
+     * @param brotliAvailable 页面是否有 brotli 文件
+     * @return 编码
+     */
+    public static PageEncoding negotiate(String acceptEncoding, boolean brotliAvailable) {
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return IDENTITY;
+        }
+        double brotli = -1D;
+        double gzip = -1D;
+        double any = -1D;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            double quality = quality(tokens);
+            switch (tokens[0].trim().toLowerCase(Locale.ROOT)) {
+                case "br" -> brotli = Math.max(brotli, quality);
+                case "gzip", "x-gzip" -> gzip = Math.max(gzip, quality);
+                case "*" -> any = Math.max(any, quality);
+                default -> {
+                }
+            }
+        }
+        // 未列出的编码按 * 的权重处理
+        brotli = brotli < 0D ? any : brotli;
+        gzip = gzip < 0D ? any : gzip;
+
+        if (brotliAvailable && brotli > 0D && brotli >= gzip) {
+            return BROTLI;
+        }
+        return gzip > 0D ? GZIP : IDENTITY;
+    }
+
+    /**
+     * 解析 q 参数，缺省为 1，无法解析时视为不接受
+     */
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0D;
+                }
+            }
+        }
+        return 1D;
+    }
+}
@@ -0,0 +1,65 @@
+package cn.jcodenest.wiki.content.page;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 已生成的静态页面
+ * <p>
+ * 文件名带生成序号，同一内容重新生成时写入新文件，不会覆盖正在被读取的旧文件。
+ *
+ * @param contentId    内容ID
+ * @param digest       未压缩 HTML 的 SHA-256 摘要（十六进制前 32 位），作为强 ETag
+ * @param lastModified 内容更新时间（毫秒）
+ * @param basePath     文件路径前缀，加上 {@link PageEncoding#getFileSuffix()} 即为各编码的文件
+ * @param lengths      已生成的编码及其文件大小（字节）
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record StaticPage(Long contentId, String digest, long lastModified, Path basePath,
+                         Map<PageEncoding, Long> lengths) {
+
+    /**
+     * 是否生成了指定编码的文件
+     *
+     * @param encoding 编码
+     * @return true-已生成
+     */
+    public boolean has(PageEncoding encoding) {
+        return lengths.containsKey(encoding);
+    }
+
+    /**
+     * 指定编码的文件路径
+     *
+     * @param encoding 编码
+     * @return 文件路径
+     */
+    public Path path(PageEncoding encoding) {
+        return basePath.resolveSibling(basePath.getFileName() + encoding.getFileSuffix());
+    }
+
+    /**
+     * 指定编码的强 ETag
+     *
+     * @param encoding 编码
+     * @return ETag（含引号）
+     */
+    public String etag(PageEncoding encoding) {
+        return "\"" + digest + encoding.getEtagSuffix() + "\"";
+    }
+
+    /**
+     * 指定编码的文件大小
+     *
+     * @param encoding 编码
+     * @return 字节数
+     */
+    public long length(PageEncoding encoding) {
+        return lengths.get(encoding);
+    }
+}
@@ -0,0 +1,407 @@
+package cn.jcodenest.wiki.content.page;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.utils.FileUtils;
+import cn.jcodenest.wiki.content.cache.ContentBody;
+import cn.jcodenest.wiki.content.cache.ContentBodyCache;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.enums.ContentVisibilityEnum;
+import cn.jcodenest.wiki.content.event.ContentChangedEvent;
+import cn.jcodenest.wiki.content.mapper.ContentMapper;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 公开内容的静态页面缓存
+ * <p>
+ * 已发布且公开（visibility = 1）的内容预先生成完整 HTML，连同 gzip 与 brotli 压缩结果写入本地目录，
+ * 匿名访问直接输出文件，不再经过正文组装；页面以未压缩 HTML 的 SHA-256 作为强 ETag，配合
+ * {@code Cache-Control: public, s-maxage} 交给 CDN 缓存，CDN 过期后带 If-None-Match 回源只得到 304。
+ * <p>
+ * 页面在以下时机生成或更新：
+ * <ul>
+ *     <li>本实例的内容发布、更新事件（{@link ContentChangedEvent}）在异步线程中预渲染；</li>
+ *     <li>定时按 (updated_at, id) 游标同步，更新本实例已缓存的、被其他实例修改的页面；</li>
+ *     <li>启动完成后预渲染最近发布的内容；</li>
+ *     <li>其余页面在首次访问时生成。</li>
+ * </ul>
+ * 同一内容的生成在 {@link Cache} 的键锁内串行，每次都重新读库，较晚的生成总能看到较新的数据；
+ * HTML 与当前页面相同时（如只修改了计数或热门标记）保留原文件，不重新压缩，ETag 也不变。
+ * 内容下线、转为非公开或删除时移除页面；CDN 上的副本最迟在 s-maxage 后失效。
+ * <p>
+ * 文件名带生成序号，替换页面时写新文件、再删除旧文件，已打开旧文件的请求不受影响。
+ * 页面目录只保存本实例生成的文件，启动时清空。经 CDN 命中的访问不会到达服务，页面加载后通过
+ * {@code POST /contents/{id}/views} 上报浏览量（见 {@link StaticPageRenderer}）。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+public class StaticPageCache {
+
+    /** 本地缓存名称（指标标签） */
+    public static final String CACHE_NAME = "staticPage";
+
+    /** 初始水位 */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** ETag 使用的摘要长度（十六进制位数） */
+    private static final int DIGEST_LENGTH = 32;
+
+    private final ContentRepository contentRepository;
+
+    private final ContentMapper contentMapper;
+
+    private final ContentBodyCache contentBodyCache;
+
+    private final StaticPageRenderer staticPageRenderer;
+
+    private final ContentProperties.StaticPage config;
+
+    private final Executor asyncExecutor;
+
+    private final Path directory;
+
+    /** brotli 原生库是否可用，不可用时只生成 gzip */
+    private final boolean brotliAvailable;
+
+    private final Cache<Long, StaticPage> pages;
+
+    /** 文件名中的生成序号 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Timer renderTimer;
+
+    /** 同步游标：已同步到的 updated_at 与同一时间内的最大内容ID，启动完成前为 null，只在持有对象锁时读写 */
+    private LocalDateTime watermark;
+
+    private long watermarkId;
+
+    public StaticPageCache(ContentRepository contentRepository, ContentMapper contentMapper,
+                           ContentBodyCache contentBodyCache, StaticPageRenderer staticPageRenderer,
+                           ContentProperties contentProperties, MeterRegistry meterRegistry,
+                           @Qualifier(SystemConstants.ThreadPool.ASYNC_EXECUTOR) Executor asyncExecutor)
+            throws IOException {
+        this.contentRepository = contentRepository;
+        this.contentMapper = contentMapper;
+        this.contentBodyCache = contentBodyCache;
+        this.staticPageRenderer = staticPageRenderer;
+        this.config = contentProperties.getStaticPage();
+        this.asyncExecutor = asyncExecutor;
+        this.directory = Path.of(config.getDirectory()).toAbsolutePath().normalize();
+        this.brotliAvailable = loadBrotli();
+        clearDirectory();
+
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(config.getMaxPages())
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+        this.renderTimer = Timer.builder("jcodenest.content.page.render")
+                .description("静态页面生成与压缩耗时")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 获取页面，未生成时当场生成（同一内容的并发请求只生成一次）
+     *
+     * @param contentId 内容ID
+     * @return 页面，内容不存在、未发布或非公开时返回 null
+     */
+    public StaticPage get(Long contentId) {
+        return pages.get(contentId, id -> build(id, null));
+    }
+
+    /**
+     * 重新读取内容并更新页面
+     *
+     * @param contentId 内容ID
+     */
+    public void refresh(Long contentId) {
+        pages.asMap().compute(contentId, this::build);
+    }
+
+    /**
+     * 移除页面（文件已被外部删除时使用），页面已被替换时不做处理
+     *
+     * @param contentId 内容ID
+     * @param page      页面
+     */
+    public void invalidate(Long contentId, StaticPage page) {
+        pages.asMap().remove(contentId, page);
+    }
+
+    /**
+     * 启动完成后记录同步水位，在后台预渲染最近发布的内容
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        asyncExecutor.execute(() -> {
+            try {
+                synchronized (this) {
+                    LocalDateTime since = contentMapper.selectMaxUpdatedAt();
+                    watermark = since == null ? EPOCH : since;
+                    watermarkId = 0L;
+                }
+                warm();
+            } catch (Exception e) {
+                log.warn("预渲染静态页面失败", e);
+            }
+        });
+    }
+
+    /**
+     * 收到本实例的内容变更事件，异步更新页面
+     *
+     * @param event 内容变更事件
+     */
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        asyncExecutor.execute(() -> refreshQuietly(event.contentId()));
+    }
+
+    /**
+     * 按游标同步其他实例的修改：只更新本实例已缓存的页面，其余页面在下次访问时按最新数据生成
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.static-page.sync-millis:5000}")
+    public synchronized void sync() {
+        if (watermark == null) {
+            return;
+        }
+        int batchSize = config.getSyncBatchSize();
+        List<Content> changes;
+        do {
+            changes = contentMapper.selectChangedSince(watermark, watermarkId, batchSize);
+            if (changes.isEmpty()) {
+                break;
+            }
+            for (Content change : changes) {
+                if (pages.getIfPresent(change.getId()) != null) {
+                    asyncExecutor.execute(() -> refreshQuietly(change.getId()));
+                }
+            }
+            Content last = changes.get(changes.size() - 1);
+            watermark = last.getUpdatedAt();
+            watermarkId = last.getId();
+        } while (changes.size() == batchSize);
+    }
+
+    /**
+     * 预渲染最近发布的公开内容
+     */
+    private void warm() {
+        if (config.getWarmSize() <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Content> recent = contentMapper.selectList(Wrappers.<Content>lambdaQuery()
+                .select(Content::getId)
+                .eq(Content::getStatus, ContentStatusEnum.PUBLISHED.getCode())
+                .eq(Content::getVisibility, ContentVisibilityEnum.PUBLIC.getCode())
+                .orderByDesc(Content::getPublishedAt)
+                .last("LIMIT " + config.getWarmSize()));
+        recent.forEach(content -> refreshQuietly(content.getId()));
+        log.info("预渲染静态页面: pages={}, brotli={}, cost={}ms", recent.size(), brotliAvailable,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void refreshQuietly(Long contentId) {
+        try {
+            refresh(contentId);
+        } catch (Exception e) {
+            log.warn("更新静态页面失败，下次访问时重新生成: contentId={}", contentId, e);
+            pages.invalidate(contentId);
+        }
+    }
+
+    /**
+     * 读取内容并生成页面
+     *
+     * @param contentId 内容ID
+     * @param current   当前页面，HTML 未变化时原样返回
+     * @return 页面，内容不可缓存时返回 null（移除当前页面）
+     */
+    private StaticPage build(Long contentId, StaticPage current) {
+        Content meta = contentRepository.findMeta(contentId);
+        if (meta == null || !ContentStatusEnum.isPublished(meta.getStatus())
+                || !ContentVisibilityEnum.PUBLIC.getCode().equals(meta.getVisibility())) {
+            return null;
+        }
+        ContentBody body = contentBodyCache.get(contentId, meta.getBodyVersion());
+        if (body == null) {
+            return null;
+        }
+
+        byte[] html = staticPageRenderer.render(meta, body).getBytes(StandardCharsets.UTF_8);
+        String digest = digest(html);
+        if (current != null && current.digest().equals(digest)) {
+            return current;
+        }
+        long lastModified = meta.getUpdatedAt() == null ? -1L
+                : meta.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return renderTimer.record(() -> write(contentId, digest, lastModified, html));
+    }
+
+    /**
+     * 写出页面的各编码文件，失败时删除已写出的文件
+     */
+    private StaticPage write(Long contentId, String digest, long lastModified, byte[] html) {
+        Path basePath = directory.resolve(contentId + "." + digest + "." + generation.incrementAndGet());
+        Map<PageEncoding, Long> lengths = new EnumMap<>(PageEncoding.class);
+        StaticPage page = new StaticPage(contentId, digest, lastModified, basePath,
+                Collections.unmodifiableMap(lengths));
+        try {
+            writeFile(page, PageEncoding.IDENTITY, html, lengths);
+            writeFile(page, PageEncoding.GZIP, gzip(html), lengths);
+            if (brotliAvailable) {
+                writeBrotli(page, html, lengths);
+            }
+        } catch (IOException e) {
+            delete(page);
+            throw new UncheckedIOException("写入静态页面失败: contentId=" + contentId, e);
+        }
+        log.debug("生成静态页面: contentId={}, digest={}, lengths={}", contentId, digest, lengths);
+        return page;
+    }
+
+    /**
+     * brotli 压缩失败时只记录日志，页面仍可按 gzip 输出
+     */
+    private void writeBrotli(StaticPage page, byte[] html, Map<PageEncoding, Long> lengths) {
+        try {
+            Encoder.Parameters parameters = new Encoder.Parameters()
+                    .setQuality(config.getBrotliQuality())
+                    .setMode(Encoder.Mode.TEXT);
+            writeFile(page, PageEncoding.BROTLI, Encoder.compress(html, parameters), lengths);
+        } catch (IOException | RuntimeException e) {
+            log.warn("brotli 压缩静态页面失败: contentId={}", page.contentId(), e);
+        }
+    }
+
+    private static void writeFile(StaticPage page, PageEncoding encoding, byte[] data,
+                                  Map<PageEncoding, Long> lengths) throws IOException {
+        Files.write(page.path(encoding), data);
+        lengths.put(encoding, (long) data.length);
+    }
+
+    private byte[] gzip(byte[] html) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(html.length / 4 + 64);
+        try (OutputStream gzip = new LeveledGzipOutputStream(out, config.getGzipLevel())) {
+            gzip.write(html);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 页面被替换、移除或淘汰后删除其文件
+     */
+    private void onRemoval(Long contentId, StaticPage page, RemovalCause cause) {
+        if (page == null || cause == RemovalCause.REPLACED && pages.asMap().get(contentId) == page) {
+            return;
+        }
+        delete(page);
+    }
+
+    private static void delete(StaticPage page) {
+        for (PageEncoding encoding : PageEncoding.values()) {
+            try {
+                Files.deleteIfExists(page.path(encoding));
+            } catch (IOException e) {
+                log.warn("删除静态页面失败: path={}", page.path(encoding), e);
+            }
+        }
+    }
+
+    /**
+     * 清空页面目录（上次运行留下的文件不在内存索引中，无法再被引用）
+     */
+    private void clearDirectory() throws IOException {
+        Files.createDirectories(directory);
+        int deleted = 0;
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isRegularFile(path)) {
+                    Files.deleteIfExists(path);
+                    deleted++;
+                }
+            }
+        }
+        log.info("初始化静态页面目录: directory={}, cleared={}", directory, deleted);
+    }
+
+    private static String digest(byte[] html) {
+        try {
+            byte[] hash = MessageDigest.getInstance(CommonConstants.Digest.SHA256).digest(html);
+            return FileUtils.encodeHex(hash).substring(0, DIGEST_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            if (Brotli4jLoader.isAvailable()) {
+                return true;
+            }
+            log.warn("brotli 原生库不可用，静态页面只生成 gzip", Brotli4jLoader.getUnavailabilityCause());
+        } catch (LinkageError e) {
+            log.warn("brotli 原生库不可用，静态页面只生成 gzip", e);
+        }
+        return false;
+    }
+
+    /**
+     * 可指定压缩级别的 gzip 输出流
+     */
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, level)));
+        }
+    }
+}
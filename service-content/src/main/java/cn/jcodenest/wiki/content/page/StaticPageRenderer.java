@@ -0,0 +1,115 @@
+package cn.jcodenest.wiki.content.page;
+
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.content.cache.ContentBody;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 静态页面模板
+ * <p>
+ * 输出只依赖内容本身（不含渲染时间、实例信息），同一内容在任何实例上生成的字节完全相同，
+ * ETag 因此跨实例一致，CDN 回源到任一实例都能得到 304。正文 HTML 是保存时已渲染并过滤过的结果，原样嵌入；
+ * 其余字段一律转义。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Component
+@RequiredArgsConstructor
+public class StaticPageRenderer {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final ContentProperties contentProperties;
+
+    /**
+     * 生成页面
+     *
+     * @param meta 内容元数据
+     * @param body 正文
+     * @return HTML
+     */
+    public String render(Content meta, ContentBody body) {
+        ContentProperties.StaticPage config = contentProperties.getStaticPage();
+        String title = StringUtils.isNotBlank(meta.getSeoTitle()) ? meta.getSeoTitle() : meta.getTitle();
+        String description = StringUtils.isNotBlank(body.getSeoDescription())
+                ? body.getSeoDescription() : body.getSummary();
+        String contentHtml = body.getContentHtml() == null ? "" : body.getContentHtml();
+
+        StringBuilder html = new StringBuilder(contentHtml.length() + 2048);
+        html.append("<!DOCTYPE html>\n<html lang=\"zh-CN\">\n<head>\n")
+                .append("<meta charset=\"utf-8\">\n")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n")
+                .append("<title>").append(escape(title));
+        if (StringUtils.isNotBlank(config.getSiteName())) {
+            html.append(" - ").append(escape(config.getSiteName()));
+        }
+        html.append("</title>\n");
+        meta(html, "name", "description", description);
+        meta(html, "name", "keywords", meta.getSeoKeywords());
+        if (StringUtils.isNotBlank(config.getSiteUrl())) {
+            String siteUrl = config.getSiteUrl().endsWith("/")
+                    ? config.getSiteUrl().substring(0, config.getSiteUrl().length() - 1) : config.getSiteUrl();
+            String url = siteUrl + "/contents/" + meta.getId();
+            html.append("<link rel=\"canonical\" href=\"").append(escape(url)).append("\">\n");
+            meta(html, "property", "og:url", url);
+        }
+        meta(html, "property", "og:type", "article");
+        meta(html, "property", "og:title", title);
+        meta(html, "property", "og:description", description);
+        meta(html, "property", "og:image", meta.getCoverImage());
+        meta(html, "property", "article:published_time", isoTime(meta.getPublishedAt()));
+        if (StringUtils.isNotBlank(config.getStylesheet())) {
+            html.append("<link rel=\"stylesheet\" href=\"").append(escape(config.getStylesheet())).append("\">\n");
+        }
+        html.append("</head>\n<body>\n<article data-content-id=\"").append(meta.getId()).append("\">\n")
+                .append("<header>\n<h1>").append(escape(meta.getTitle())).append("</h1>\n");
+        if (StringUtils.isNotBlank(meta.getSubtitle())) {
+            html.append("<p class=\"subtitle\">").append(escape(meta.getSubtitle())).append("</p>\n");
+        }
+        if (meta.getPublishedAt() != null) {
+            html.append("<time datetime=\"").append(isoTime(meta.getPublishedAt())).append("\">")
+                    .append(DATE_FORMATTER.format(meta.getPublishedAt())).append("</time>\n");
+        }
+        html.append("</header>\n<div class=\"content\">\n").append(contentHtml)
+                .append("\n</div>\n</article>\n");
+        if (StringUtils.isNotBlank(config.getViewBeaconUrl())) {
+            // 页面可能由 CDN 直接返回，浏览量由浏览器加载页面后上报
+            html.append("<script data-beacon=\"").append(escape(config.getViewBeaconUrl())).append("\">")
+                    .append("navigator.sendBeacon&&navigator.sendBeacon(document.currentScript.dataset.beacon)")
+                    .append("</script>\n");
+        }
+        html.append("</body>\n</html>\n");
+        return html.toString();
+    }
+
+    /**
+     * 输出 meta 标签，值为空时跳过
+     */
+    private static void meta(StringBuilder html, String attribute, String name, String value) {
+        if (StringUtils.isBlank(value)) {
+            return;
+        }
+        html.append("<meta ").append(attribute).append("=\"").append(name).append("\" content=\"")
+                .append(escape(value)).append("\">\n");
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : HtmlUtils.htmlEscape(value, "UTF-8");
+    }
+
+    private static String isoTime(LocalDateTime time) {
+        return time == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time);
+    }
+}
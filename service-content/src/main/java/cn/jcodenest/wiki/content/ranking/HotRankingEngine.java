@@ -0,0 +1,366 @@
+package cn.jcodenest.wiki.content.ranking;
+
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.content.category.CategoryIndex;
+import cn.jcodenest.wiki.content.category.CategoryIndexManager;
+import cn.jcodenest.wiki.content.category.CategoryNode;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.enums.ContentVisibilityEnum;
+import cn.jcodenest.wiki.content.enums.InteractionTypeEnum;
+import cn.jcodenest.wiki.content.event.ContentChangedEvent;
+import cn.jcodenest.wiki.content.event.ContentInteractionEvent;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 热门内容排行引擎
+ * <p>
+ * 数据流分三段，全程不扫描内容表：
+ * <ol>
+ *     <li>采集：浏览、点赞、评论、分享事件按权重累加到本地待提交表，同一用户（未登录按客户端IP）对同一内容的
+ *     同类互动在去重窗口内只计一次；</li>
+ *     <li>汇总：每秒把本地累加值以 HINCRBYFLOAT 合并到 Redis 哈希 {@code HOT_POINTS}，多实例的互动在这里汇总；</li>
+ *     <li>发布：每隔几秒由一个实例（Redis 锁）读取互动分，按发布时间计算重力热度分，写出全站与各分类（含祖先分类）
+ *     的前 N 名有序集合，并同步全站前几名的 is_hot 标记。</li>
+ * </ol>
+ * 内容的分类与发布时间按ID从数据库读取并短时缓存；已下线、已删除或超过最长统计时间的内容从互动分中移除，
+ * 互动分哈希的大小因此只与近期有互动的内容数量有关。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+public class HotRankingEngine {
+
+    /** 读取元数据的批大小 */
+    private static final int META_BATCH_SIZE = 500;
+
+    /** 毫秒/小时 */
+    private static final double MILLIS_PER_HOUR = 3_600_000D;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ContentRepository contentRepository;
+
+    private final CategoryIndexManager categoryIndexManager;
+
+    private final ContentProperties.HotRanking config;
+
+    /** 待提交的互动分：内容ID -> 加权分 */
+    private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+
+    /** 互动去重窗口：访客标识:内容ID:类型 */
+    private final Cache<String, Boolean> recentInteractions;
+
+    /** 内容排行元数据 */
+    private final Cache<Long, RankMeta> metas;
+
+    /** 上次同步 is_hot 的内容 */
+    private volatile Set<Long> lastHotIds;
+
+    /**
+     * 构造函数
+     *
+     * @param stringRedisTemplate  StringRedisTemplate
+     * @param contentRepository    内容数据访问
+     * @param categoryIndexManager 分类索引管理
+     * @param contentProperties    内容服务配置
+     */
+    public HotRankingEngine(StringRedisTemplate stringRedisTemplate, ContentRepository contentRepository,
+                            CategoryIndexManager categoryIndexManager, ContentProperties contentProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.contentRepository = contentRepository;
+        this.categoryIndexManager = categoryIndexManager;
+        this.config = contentProperties.getHotRanking();
+        this.recentInteractions = Caffeine.newBuilder()
+                .maximumSize(config.getDedupeMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getDedupeSeconds()))
+                .build();
+        this.metas = Caffeine.newBuilder()
+                .maximumSize(config.getMetaCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getMetaExpireSeconds()))
+                .build();
+    }
+
+    /**
+     * 记录互动
+     * <p>
+     * 登录用户按用户ID去重，未登录访客按客户端IP去重；两者都没有时无法去重，不计入热度。
+     * 客户端IP必须是经可信代理解析的远端地址（{@code server.forward-headers-strategy=native}），
+     * 否则轮换 X-Forwarded-For 即可绕过去重刷高热度。
+     *
+     * @param contentId 内容ID
+     * @param userId    用户ID，未登录为 null
+     * @param clientIp  客户端IP，登录用户可为 null
+     * @param type      互动类型
+     */
+    public void record(Long contentId, Long userId, String clientIp, InteractionTypeEnum type) {
+        double weight = weight(type);
+        if (weight <= 0D) {
+            return;
+        }
+        String visitor = userId != null ? "user:" + userId
+                : StringUtils.isNotBlank(clientIp) ? "ip:" + clientIp : null;
+        if (visitor == null || recentInteractions.asMap()
+                .putIfAbsent(visitor + ":" + contentId + ":" + type.getCode(), Boolean.TRUE) != null) {
+            return;
+        }
+        pending.merge(contentId, weight, Double::sum);
+    }
+
+    /**
+     * 收到互动事件
+     *
+     * @param event 互动事件
+     */
+    @EventListener
+    public void onInteraction(ContentInteractionEvent event) {
+        record(event.contentId(), event.userId(), event.clientIp(), event.type());
+    }
+
+    /**
+     * 内容变更后丢弃缓存的元数据，下次发布时重新读取状态与分类
+     *
+     * @param event 内容变更事件
+     */
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        metas.invalidate(event.contentId());
+    }
+
+    /**
+     * 把本地累加的互动分合并到 Redis，失败时放回待提交表
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.hot-ranking.flush-millis:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 逐个 remove 取走当前值，并发累加到已取走的键会新建条目，留到下一轮提交
+        Map<Long, Double> drained = new HashMap<>();
+        for (Long contentId : pending.keySet()) {
+            Double points = pending.remove(contentId);
+            if (points != null) {
+                drained.put(contentId, points);
+            }
+        }
+        byte[] key = bytes(RedisConstants.ContentKey.HOT_POINTS);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                drained.forEach((contentId, points) ->
+                        connection.hashCommands().hIncrBy(key, bytes(contentId.toString()), points));
+                return null;
+            });
+        } catch (Exception e) {
+            drained.forEach((contentId, points) -> pending.merge(contentId, points, Double::sum));
+            log.warn("提交互动分失败，下次重试: contents={}", drained.size(), e);
+        }
+    }
+
+    /**
+     * 计算并发布排行
+     * <p>
+     * 锁在发布间隔内自然过期，不主动释放：集群内每个间隔只有一个实例计算，个别情况下重复计算也只是覆盖写。
+     */
+    @Scheduled(fixedDelayString = "${jcodenest.content.hot-ranking.publish-millis:5000}")
+    public void publish() {
+        String lockKey = RedisConstants.LockKey.SCHEDULED_TASK + SystemConstants.Task.HOT_CONTENT_RANKING;
+        Duration lockTimeout = Duration.ofMillis(Math.max(config.getPublishMillis() - 100L, 100L));
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", lockTimeout))) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Map<Long, Double> points = readPoints();
+        Map<Long, RankMeta> rankMetas = points.isEmpty() ? Map.of() : metas.getAll(points.keySet(), this::loadMetas);
+        CategoryIndex categories = categoryIndexManager.current();
+        long now = System.currentTimeMillis();
+
+        HotScore.TopN global = new HotScore.TopN(config.getTopSize());
+        Map<Long, HotScore.TopN> byCategory = new HashMap<>();
+        List<String> expired = new ArrayList<>();
+        for (Map.Entry<Long, Double> entry : points.entrySet()) {
+            RankMeta meta = rankMetas.get(entry.getKey());
+            double ageHours = meta == null ? 0D : (now - meta.publishedAtMillis()) / MILLIS_PER_HOUR;
+            if (meta == null || !meta.rankable() || ageHours > config.getMaxAgeHours()) {
+                expired.add(entry.getKey().toString());
+                continue;
+            }
+
+            double score = HotScore.score(entry.getValue(), ageHours, config.getAgeOffsetHours(),
+                    config.getGravity());
+            global.offer(entry.getKey(), score);
+            for (Long categoryId : rankingCategories(categories, meta.categoryId())) {
+                byCategory.computeIfAbsent(categoryId, key -> new HotScore.TopN(config.getTopSize()))
+                        .offer(entry.getKey(), score);
+            }
+        }
+
+        List<HotScore.Entry> globalTop = global.sorted();
+        writeRankings(globalTop, byCategory, expired);
+        syncHotFlags(globalTop);
+        log.debug("发布热门排行: tracked={}, expired={}, categories={}, cost={}ms", points.size(), expired.size(),
+                byCategory.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 读取互动分
+     */
+    private Map<Long, Double> readPoints() {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(RedisConstants.ContentKey.HOT_POINTS);
+        Map<Long, Double> points = new HashMap<>(entries.size() * 4 / 3 + 1);
+        entries.forEach((field, value) -> {
+            try {
+                points.put(Long.valueOf(field.toString()), Double.valueOf(value.toString()));
+            } catch (NumberFormatException e) {
+                log.warn("忽略无效的互动分: field={}, value={}", field, value);
+            }
+        });
+        return points;
+    }
+
+    /**
+     * 内容计入的分类排行：所在分类及其全部祖先分类
+     */
+    private static List<Long> rankingCategories(CategoryIndex categories, Long categoryId) {
+        if (categoryId == null) {
+            return List.of();
+        }
+        List<CategoryNode> path = categories.path(categoryId);
+        return path.isEmpty() ? List.of(categoryId) : path.stream().map(CategoryNode::id).toList();
+    }
+
+    /**
+     * 写出排行：先写临时键再 RENAME 整体替换，读取方不会看到写了一半的排行；
+     * 排行键设置过期时间，停止发布（或分类不再有热门内容）后自动清理
+     */
+    private void writeRankings(List<HotScore.Entry> globalTop, Map<Long, HotScore.TopN> byCategory,
+                               List<String> expired) {
+        Map<String, List<HotScore.Entry>> rankings = new HashMap<>(byCategory.size() + 1);
+        rankings.put(RedisConstants.ContentKey.HOT_CONTENT, globalTop);
+        byCategory.forEach((categoryId, top) ->
+                rankings.put(RedisConstants.ContentKey.HOT_CATEGORY_CONTENT + categoryId, top.sorted()));
+        long ttlSeconds = config.getRankingTtlSeconds();
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            rankings.forEach((key, entries) -> {
+                byte[] target = bytes(key);
+                if (entries.isEmpty()) {
+                    connection.keyCommands().del(target);
+                    return;
+                }
+                byte[] staging = bytes(key + ":staging");
+                Set<Tuple> tuples = entries.stream()
+                        .map(entry -> (Tuple) new DefaultTuple(bytes(entry.id().toString()), entry.score()))
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                connection.keyCommands().del(staging);
+                connection.zSetCommands().zAdd(staging, tuples);
+                connection.keyCommands().rename(staging, target);
+                connection.keyCommands().expire(target, ttlSeconds);
+            });
+            if (!expired.isEmpty()) {
+                connection.hashCommands().hDel(bytes(RedisConstants.ContentKey.HOT_POINTS),
+                        expired.stream().map(HotRankingEngine::bytes).toArray(byte[][]::new));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 同步全站前几名的 is_hot 标记，前几名没有变化时不写库
+     */
+    private void syncHotFlags(List<HotScore.Entry> globalTop) {
+        Set<Long> hotIds = globalTop.stream()
+                .limit(config.getHotFlagSize())
+                .map(HotScore.Entry::id)
+                .collect(Collectors.toSet());
+        if (hotIds.equals(lastHotIds)) {
+            return;
+        }
+        try {
+            contentRepository.updateHotFlags(hotIds);
+            lastHotIds = hotIds;
+        } catch (Exception e) {
+            log.warn("同步热门标记失败: hotIds={}", hotIds, e);
+        }
+    }
+
+    /**
+     * 按ID批量读取排行元数据，不存在的内容不返回
+     */
+    private Map<Long, RankMeta> loadMetas(Set<? extends Long> contentIds) {
+        List<Long> ids = new ArrayList<>(contentIds);
+        Map<Long, RankMeta> result = new HashMap<>(ids.size() * 4 / 3 + 1);
+        for (int from = 0; from < ids.size(); from += META_BATCH_SIZE) {
+            for (Content content : contentRepository.listMeta(ids.subList(from,
+                    Math.min(from + META_BATCH_SIZE, ids.size())))) {
+                result.put(content.getId(), RankMeta.of(content));
+            }
+        }
+        return result;
+    }
+
+    private double weight(InteractionTypeEnum type) {
+        return switch (type) {
+            case VIEW -> config.getViewWeight();
+            case LIKE -> config.getLikeWeight();
+            case COMMENT -> config.getCommentWeight();
+            case SHARE -> config.getShareWeight();
+        };
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 排行元数据
+     *
+     * @param categoryId        分类ID
+     * @param publishedAtMillis 发布时间（毫秒）
+     * @param rankable          是否参与排行（已发布且非私有）
+     */
+    private record RankMeta(Long categoryId, long publishedAtMillis, boolean rankable) {
+
+        static RankMeta of(Content content) {
+            LocalDateTime publishedAt = content.getPublishedAt() != null ? content.getPublishedAt()
+                    : content.getCreatedAt();
+            boolean rankable = publishedAt != null && ContentStatusEnum.isPublished(content.getStatus())
+                    && !ContentVisibilityEnum.PRIVATE.getCode().equals(content.getVisibility());
+            long millis = publishedAt == null ? 0L : publishedAt.atZone(ZoneId.systemDefault()).toInstant()
+                    .toEpochMilli();
+            return new RankMeta(content.getCategoryId(), millis, rankable);
+        }
+    }
+}
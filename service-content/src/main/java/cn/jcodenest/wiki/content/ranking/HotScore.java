@@ -0,0 +1,95 @@
+package cn.jcodenest.wiki.content.ranking;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 热度分计算
+ * <p>
+ * 采用 Hacker News 的重力公式：{@code score = points / (ageHours + offset) ^ gravity}。
+ * 互动分随互动累加，发布时间越久分母越大，新内容只需要较少的互动就能进入排行，旧内容自然下沉，
+ * 不需要定期衰减已累计的互动分。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HotScore {
+
+    /**
+     * 计算热度分
+     *
+     * @param points   加权互动分
+     * @param ageHours 发布至今的小时数
+     * @param offset   时间偏移（小时），避免刚发布的内容分母过小
+     * @param gravity  重力系数，越大下沉越快
+     * @return 热度分
+     */
+    public static double score(double points, double ageHours, double offset, double gravity) {
+        return points / Math.pow(Math.max(ageHours, 0D) + offset, gravity);
+    }
+
+    /**
+     * 固定容量的前 N 名（小顶堆，堆顶为当前第 N 名）
+     */
+    public static final class TopN {
+
+        private final int capacity;
+
+        private final PriorityQueue<Entry> heap;
+
+        /**
+         * 构造函数
+         *
+         * @param capacity 容量
+         */
+        public TopN(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(Comparator.comparingDouble(Entry::score));
+        }
+
+        /**
+         * 加入候选，分数不足当前第 N 名时丢弃
+         *
+         * @param id    内容ID
+         * @param score 热度分
+         */
+        public void offer(Long id, double score) {
+            if (heap.size() < capacity) {
+                heap.add(new Entry(id, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Entry(id, score));
+            }
+        }
+
+        /**
+         * 按热度分倒序的结果
+         *
+         * @return 排行
+         */
+        public List<Entry> sorted() {
+            List<Entry> entries = new ArrayList<>(heap);
+            entries.sort(Comparator.comparingDouble(Entry::score).reversed());
+            return entries;
+        }
+    }
+
+    /**
+     * 排行条目
+     *
+     * @param id    内容ID
+     * @param score 热度分
+     */
+    public record Entry(Long id, double score) {
+    }
+}
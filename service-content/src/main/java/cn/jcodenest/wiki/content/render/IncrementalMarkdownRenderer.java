@@ -0,0 +1,116 @@
+package cn.jcodenest.wiki.content.render;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.commonmark.node.LinkReferenceDefinition;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+
+import java.util.List;
+
+/**
+ * 增量 Markdown 渲染器
+ * <p>
+ * 将文档切分为顶层块（见 {@link MarkdownBlockSplitter}），以块源文本的 SHA-256 为键缓存 HTML 片段，
+ * 每次渲染只解析未命中的块，再按顺序拼接。编辑一段文字时只有该段所在的块需要重新渲染，
+ * 保存与预览的耗时与改动大小相关，而不是与文档长度相关。
+ * <p>
+ * 链接引用定义对全文生效：含 {@code [} 的块在渲染时会把全文的定义放在前面一起解析，并把定义计入缓存键，
+ * 修改定义只会使引用了链接的块失效。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class IncrementalMarkdownRenderer {
+
+    private final Parser parser;
+
+    private final HtmlRenderer htmlRenderer;
+
+    private final Cache<String, String> fragmentCache;
+
+    /**
+     * 渲染结果
+     *
+     * @param html     HTML
+     * @param blocks   块数
+     * @param rendered 本次实际渲染（缓存未命中）的块数
+     */
+    public record Result(String html, int blocks, int rendered) {
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param parser        Markdown 解析器（线程安全）
+     * @param htmlRenderer  HTML 渲染器（线程安全）
+     * @param fragmentCache HTML 片段缓存
+     */
+    public IncrementalMarkdownRenderer(Parser parser, HtmlRenderer htmlRenderer, Cache<String, String> fragmentCache) {
+        this.parser = parser;
+        this.htmlRenderer = htmlRenderer;
+        this.fragmentCache = fragmentCache;
+    }
+
+    /**
+     * 渲染 Markdown
+     *
+     * @param markdown Markdown 文本
+     * @return 渲染结果
+     */
+    public Result render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return new Result("", 0, 0);
+        }
+
+        MarkdownBlockSplitter.Blocks split = MarkdownBlockSplitter.split(markdown);
+        String definitions = split.definitions();
+        if (!definitions.isEmpty() && !isDefinitionsOnly(definitions)) {
+            // 定义识别有误时（如跨多行的标题）逐块拼接会把残留文本渲染进每个块，退回整篇渲染
+            log.debug("链接引用定义无法单独解析，整篇渲染: blocks={}", split.blocks().size());
+            return new Result(htmlRenderer.render(parser.parse(markdown)), 1, 1);
+        }
+        String definitionsKey = definitions.isEmpty() ? "" : DigestUtils.sha256Hex(definitions);
+
+        List<String> blocks = split.blocks();
+        StringBuilder html = new StringBuilder(markdown.length() + (markdown.length() >> 2));
+        int rendered = 0;
+        for (String block : blocks) {
+            boolean withDefinitions = !definitionsKey.isEmpty() && block.indexOf('[') >= 0;
+            String key = withDefinitions
+                    ? DigestUtils.sha256Hex(definitionsKey + '\n' + block)
+                    : DigestUtils.sha256Hex(block);
+            String fragment = fragmentCache.getIfPresent(key);
+            if (fragment == null) {
+                String source = withDefinitions ? definitions + '\n' + block : block;
+                fragment = htmlRenderer.render(parser.parse(source));
+                fragmentCache.put(key, fragment);
+                rendered++;
+            }
+            html.append(fragment);
+        }
+        return new Result(html.toString(), blocks.size(), rendered);
+    }
+
+    /**
+     * 判断定义文本是否只解析出链接引用定义
+     *
+     * @param definitions 定义文本
+     * @return true-只有定义
+     */
+    private boolean isDefinitionsOnly(String definitions) {
+        for (Node node = parser.parse(definitions).getFirstChild(); node != null; node = node.getNext()) {
+            if (!(node instanceof LinkReferenceDefinition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,230 @@
+package cn.jcodenest.wiki.content.render;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Markdown 顶层块切分器
+ * <p>
+ * 只在“切开后各块单独渲染、再拼接的结果与整篇渲染一致”的位置切分：空行之后、下一行顶格且不会延续前一块的位置。
+ * 围栏代码块与可包含空行的 HTML 块（script/pre/style/textarea、注释、处理指令、CDATA）内部不切分；
+ * 缩进行可能是列表续行或缩进代码块，并入前一块；前一块含列表项时，空行后的下一个列表项也并入（松散列表）。
+ * 判断不确定时宁可合并，合并只会降低缓存粒度，不影响渲染结果。
+ * <p>
+ * 链接引用定义（{@code [label]: url}）对全文生效，单独收集，由渲染器附加到引用了链接的块前面。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MarkdownBlockSplitter {
+
+    /** 围栏代码块起始行 */
+    private static final Pattern FENCE_OPEN = Pattern.compile("^ {0,3}(`{3,}|~{3,})");
+
+    /** 列表项起始行 */
+    private static final Pattern LIST_ITEM = Pattern.compile("^ {0,3}([-+*]|\\d{1,9}[.)])([ \\t]|$)");
+
+    /** 链接引用定义行 */
+    private static final Pattern LINK_DEFINITION = Pattern.compile("^ {0,3}\\[[^\\]^][^\\]]*]:\\s*\\S");
+
+    /** 链接引用定义的标题续行 */
+    private static final Pattern LINK_TITLE = Pattern.compile("^\\s*[\"'(]");
+
+    /** 可包含空行的 HTML 块起始行（CommonMark HTML 块类型 1） */
+    private static final Pattern HTML_RAW_OPEN = Pattern.compile("^ {0,3}<(script|pre|style|textarea)(\\s|>|$)",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 切分结果
+     *
+     * @param blocks      顶层块源文本（不含链接引用定义块）
+     * @param definitions 全文的链接引用定义，每行一个，无定义时为空串
+     */
+    public record Blocks(List<String> blocks, String definitions) {
+    }
+
+    /**
+     * 切分 Markdown 文本
+     *
+     * @param markdown Markdown 文本
+     * @return 切分结果
+     */
+    public static Blocks split(String markdown) {
+        List<String> blocks = new ArrayList<>();
+        StringBuilder definitions = new StringBuilder();
+        StringBuilder block = new StringBuilder();
+
+        // 当前所在的围栏（字符与长度）或 HTML 块的结束标记
+        char fenceChar = 0;
+        int fenceLength = 0;
+        String htmlEnd = null;
+        StringBuilder blanks = new StringBuilder();
+        boolean blockHasList = false;
+        boolean inDefinitions = false;
+
+        int length = markdown.length();
+        int start = 0;
+        while (start <= length) {
+            int end = markdown.indexOf('\n', start);
+            if (end < 0) {
+                end = length;
+            }
+            String line = stripCarriageReturn(markdown.substring(start, end));
+            start = end + 1;
+
+            if (fenceChar != 0) {
+                block.append(line).append('\n');
+                if (closesFence(line, fenceChar, fenceLength)) {
+                    fenceChar = 0;
+                }
+                continue;
+            }
+            if (htmlEnd != null) {
+                block.append(line).append('\n');
+                if (line.toLowerCase(Locale.ROOT).contains(htmlEnd)) {
+                    htmlEnd = null;
+                }
+                continue;
+            }
+
+            if (line.isBlank()) {
+                // 空行原样保留到确定是否切分，缩进代码块中的空行会出现在输出里
+                blanks.append(line).append('\n');
+                inDefinitions = false;
+                continue;
+            }
+            boolean afterBlank = !blanks.isEmpty();
+
+            // 行首有空白的行可能是列表续行或缩进代码块，只会延续前一块
+            char first = line.charAt(0);
+            boolean continuation = first == ' ' || first == '\t';
+            boolean codeIndent = first == '\t' || line.startsWith("    ");
+            boolean listItem = !codeIndent && LIST_ITEM.matcher(line).find();
+            boolean blockStart = block.isEmpty() || afterBlank && !continuation && !(listItem && blockHasList);
+
+            // 定义的标题可以写在下一行
+            if (inDefinitions && !afterBlank && LINK_TITLE.matcher(line).find()) {
+                definitions.append(line).append('\n');
+                inDefinitions = false;
+                continue;
+            }
+            // 链接引用定义只能出现在块首或紧跟另一条定义，不能打断段落
+            if (!codeIndent && (blockStart || inDefinitions) && LINK_DEFINITION.matcher(line).find()) {
+                flush(block, blocks);
+                blockHasList = false;
+                definitions.append(line).append('\n');
+                inDefinitions = true;
+                blanks.setLength(0);
+                continue;
+            }
+            inDefinitions = false;
+
+            if (blockStart) {
+                flush(block, blocks);
+                blockHasList = false;
+            } else {
+                block.append(blanks);
+            }
+            blanks.setLength(0);
+            block.append(line).append('\n');
+            blockHasList |= listItem;
+
+            if (codeIndent) {
+                continue;
+            }
+            Matcher fence = FENCE_OPEN.matcher(line);
+            if (fence.find() && (fence.group(1).charAt(0) == '~' || line.indexOf('`', fence.end()) < 0)) {
+                fenceChar = fence.group(1).charAt(0);
+                fenceLength = fence.group(1).length();
+                continue;
+            }
+            htmlEnd = htmlBlockEnd(line);
+        }
+        flush(block, blocks);
+        return new Blocks(blocks, definitions.toString());
+    }
+
+    /**
+     * 判断是否为围栏代码块的结束行
+     *
+     * @param line        当前行
+     * @param fenceChar   围栏字符
+     * @param fenceLength 围栏长度
+     * @return true-结束
+     */
+    private static boolean closesFence(String line, char fenceChar, int fenceLength) {
+        int i = 0;
+        while (i < line.length() && i < 3 && line.charAt(i) == ' ') {
+            i++;
+        }
+        int count = 0;
+        while (i < line.length() && line.charAt(i) == fenceChar) {
+            i++;
+            count++;
+        }
+        return count >= fenceLength && line.substring(i).isBlank();
+    }
+
+    /**
+     * 可包含空行的 HTML 块的结束标记
+     *
+     * @param line 块起始行
+     * @return 结束标记（小写），不是此类 HTML 块或在同一行结束时返回 null
+     */
+    private static String htmlBlockEnd(String line) {
+        String trimmed = line.stripLeading();
+        String end;
+        int from;
+        Matcher raw = HTML_RAW_OPEN.matcher(line);
+        if (raw.find()) {
+            end = "</" + raw.group(1).toLowerCase(Locale.ROOT) + ">";
+            from = raw.end();
+        } else if (trimmed.startsWith("<!--")) {
+            end = "-->";
+            from = line.indexOf("<!--") + 4;
+        } else if (trimmed.startsWith("<?")) {
+            end = "?>";
+            from = line.indexOf("<?") + 2;
+        } else if (trimmed.startsWith("<![CDATA[")) {
+            end = "]]>";
+            from = line.indexOf("<![CDATA[") + 9;
+        } else {
+            return null;
+        }
+        return line.substring(from).toLowerCase(Locale.ROOT).contains(end) ? null : end;
+    }
+
+    /**
+     * 去掉行尾的回车符
+     *
+     * @param line 行
+     * @return 处理后的行
+     */
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    /**
+     * 结束当前块
+     *
+     * @param block  当前块
+     * @param blocks 块列表
+     */
+    private static void flush(StringBuilder block, List<String> blocks) {
+        if (!block.isEmpty()) {
+            blocks.add(block.toString());
+            block.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package cn.jcodenest.wiki.content.render;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 字数统计
+ * <p>
+ * 中日韩文字每字计一个，其他文字按连续的字母数字计一个词；Markdown 标记符号不计入。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WordCounter {
+
+    /**
+     * 统计字数
+     *
+     * @param text 文本
+     * @return 字数
+     */
+    public static int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                count++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                if (!inWord) {
+                    count++;
+                    inWord = true;
+                }
+            } else {
+                inWord = false;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 预计阅读时间
+     *
+     * @param wordCount      字数
+     * @param wordsPerMinute 阅读速度（字/分钟）
+     * @return 分钟数，有内容时至少为 1
+     */
+    public static int readingMinutes(int wordCount, int wordsPerMinute) {
+        if (wordCount <= 0) {
+            return 0;
+        }
+        return Math.max(1, (wordCount + wordsPerMinute - 1) / Math.max(1, wordsPerMinute));
+    }
+
+    /**
+     * 判断是否为中日韩文字
+     *
+     * @param codePoint 码点
+     * @return true-是
+     */
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
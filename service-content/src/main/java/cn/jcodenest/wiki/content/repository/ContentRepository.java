@@ -0,0 +1,237 @@
+package cn.jcodenest.wiki.content.repository;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.content.cache.ContentBody;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.mapper.ContentMapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 内容数据访问
+ * <p>
+ * {@code cnt_content} 的正文、HTML、摘要与 SEO 描述是 TEXT/LONGTEXT 大字段，InnoDB 将其存放在溢出页，
+ * 读取它们需要额外的页访问，列表查询若带上这些列会把每行的整篇正文读出并传给应用。
+ * 这里把查询分成两类：元数据查询只投影小字段，正文通过 {@link #findBody(Long)} 按需单独读取。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentRepository {
+
+    /** 大字段属性名，元数据查询中排除 */
+    private static final Set<String> BODY_PROPERTIES = Set.of("content", "contentHtml", "summary", "seoDescription");
+
+    /** 元数据列（主键总是包含在内） */
+    private static final Predicate<TableFieldInfo> META_COLUMNS =
+            field -> !BODY_PROPERTIES.contains(field.getProperty());
+
+    /** 可编辑的状态，与 {@link ContentStatusEnum#canEdit(Integer)} 一致 */
+    private static final List<Integer> EDITABLE_STATUSES = List.of(ContentStatusEnum.DRAFT.getCode(),
+            ContentStatusEnum.REVIEW_FAILED.getCode());
+
+    private final ContentMapper contentMapper;
+
+    /**
+     * 新增内容
+     *
+     * @param content 内容
+     */
+    public void insert(Content content) {
+        contentMapper.insert(content);
+    }
+
+    /**
+     * 查询内容元数据
+     *
+     * @param id 内容ID
+     * @return 内容元数据（不含大字段），不存在时返回null
+     */
+    public Content findMeta(Long id) {
+        return contentMapper.selectOne(metaQuery().eq(Content::getId, id));
+    }
+
+    /**
+     * 批量查询内容元数据
+     *
+     * @param ids 内容ID
+     * @return 内容元数据列表（顺序不保证）
+     */
+    public List<Content> listMeta(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return contentMapper.selectList(metaQuery().in(Content::getId, ids));
+    }
+
+    /**
+     * 分页查询内容元数据
+     *
+     * @param page  分页参数
+     * @param query 查询条件（不需要再指定查询列）
+     * @return 分页结果
+     */
+    public IPage<Content> pageMeta(Page<Content> page, LambdaQueryWrapper<Content> query) {
+        return contentMapper.selectPage(page, query.select(Content.class, META_COLUMNS));
+    }
+
+    /**
+     * 查询正文（HTML、摘要与 SEO 描述）
+     *
+     * @param id 内容ID
+     * @return 正文，不存在时返回null
+     */
+    public ContentBody findBody(Long id) {
+        Content content = contentMapper.selectOne(Wrappers.<Content>lambdaQuery()
+                .select(Content::getId, Content::getBodyVersion, Content::getSummary, Content::getContentHtml,
+                        Content::getSeoDescription)
+                .eq(Content::getId, id));
+        if (content == null) {
+            return null;
+        }
+
+        ContentBody body = new ContentBody();
+        body.setId(content.getId());
+        body.setVersion(content.getBodyVersion());
+        body.setSummary(content.getSummary());
+        body.setContentHtml(content.getContentHtml());
+        body.setSeoDescription(content.getSeoDescription());
+        return body;
+    }
+
+    /**
+     * 查询 Markdown 源文（编辑时使用，不缓存）
+     *
+     * @param id 内容ID
+     * @return Markdown 源文
+     */
+    public String findSource(Long id) {
+        Content content = contentMapper.selectOne(Wrappers.<Content>lambdaQuery()
+                .select(Content::getId, Content::getContent)
+                .eq(Content::getId, id));
+        return content == null ? null : content.getContent();
+    }
+
+    /**
+     * 查询 Markdown 源文及其正文版本号（协作编辑加载时使用，不缓存）
+     *
+     * @param id 内容ID
+     * @return 只含ID、源文与正文版本号的内容，不存在时返回null
+     */
+    public Content findSourceWithVersion(Long id) {
+        return contentMapper.selectOne(Wrappers.<Content>lambdaQuery()
+                .select(Content::getId, Content::getContent, Content::getBodyVersion)
+                .eq(Content::getId, id));
+    }
+
+    /**
+     * 更新内容，正文变化时正文版本号加1，旧版本的正文缓存随之失效
+     * <p>
+     * 只更新可编辑状态（草稿、审核失败）的内容：调用方在事务外检查状态，提交审核可能在检查之后先提交，
+     * 条件写在 WHERE 中才能保证送审后的正文不再被修改。
+     * <p>
+     * updated_at 总是显式刷新：列值没有变化时 ON UPDATE 不会生效，而只修改标签等关联数据时
+     * 过滤索引的增量同步仍需按更新时间看到这次修改。
+     *
+     * @param update      待更新字段（id 必填，null 字段不更新）
+     * @param bodyChanged 正文是否变化
+     * @return true-更新成功，false-内容不存在或已不可编辑
+     */
+    public boolean update(Content update, boolean bodyChanged) {
+        return update(update, bodyChanged, null);
+    }
+
+    /**
+     * 更新内容，指定正文版本号时只在当前正文版本号与之相同时更新（条件写，防止覆盖其他途径的正文修改）
+     *
+     * @param update          待更新字段（id 必填，null 字段不更新）
+     * @param bodyChanged     正文是否变化
+     * @param baseBodyVersion 修改所基于的正文版本号，为 null 时不校验
+     * @return true-更新成功，false-内容不存在、已不可编辑或正文版本号不一致
+     */
+    public boolean update(Content update, boolean bodyChanged, Integer baseBodyVersion) {
+        return contentMapper.update(update, Wrappers.<Content>lambdaUpdate()
+                .setSql(bodyChanged, "body_version = body_version + 1")
+                .setSql("updated_at = NOW()")
+                .eq(Content::getId, update.getId())
+                .in(Content::getStatus, EDITABLE_STATUSES)
+                .eq(baseBodyVersion != null, Content::getBodyVersion, baseBodyVersion)) > 0;
+    }
+
+    /**
+     * 按当前状态条件更新状态：只有当前状态在 from 中时才更新，并发的状态流转只有一个成功
+     *
+     * @param id            内容ID
+     * @param from          允许的当前状态
+     * @param to            目标状态
+     * @param markPublished 是否同时记录首次发布时间
+     * @return true-更新成功
+     */
+    public boolean transitStatus(Long id, Collection<Integer> from, Integer to, boolean markPublished) {
+        return contentMapper.update(null, Wrappers.<Content>lambdaUpdate()
+                .set(Content::getStatus, to)
+                .setSql(markPublished, "published_at = IFNULL(published_at, NOW())")
+                .setSql("updated_at = NOW()")
+                .eq(Content::getId, id)
+                .in(Content::getStatus, from)) > 0;
+    }
+
+    /**
+     * 统计作者某个状态的内容数
+     *
+     * @param authorId 作者ID
+     * @param status   内容状态
+     * @return 内容数
+     */
+    public long countByAuthor(Long authorId, Integer status) {
+        return contentMapper.selectCount(Wrappers.<Content>lambdaQuery()
+                .eq(Content::getAuthorId, authorId)
+                .eq(Content::getStatus, status));
+    }
+
+    /**
+     * 同步热门标记：只有给定内容标记为热门，其余已标记的内容取消
+     * <p>
+     * 两条更新都只命中标记需要变化的行；排行没有变化时调用方不应重复调用。
+     *
+     * @param hotIds 热门内容ID
+     */
+    public void updateHotFlags(Collection<Long> hotIds) {
+        contentMapper.update(null, Wrappers.<Content>lambdaUpdate()
+                .set(Content::getIsHot, CommonConstants.Status.NO)
+                .eq(Content::getIsHot, CommonConstants.Status.YES)
+                .notIn(!hotIds.isEmpty(), Content::getId, hotIds));
+        if (!hotIds.isEmpty()) {
+            contentMapper.update(null, Wrappers.<Content>lambdaUpdate()
+                    .set(Content::getIsHot, CommonConstants.Status.YES)
+                    .ne(Content::getIsHot, CommonConstants.Status.YES)
+                    .in(Content::getId, hotIds));
+        }
+    }
+
+    /**
+     * 元数据查询
+     *
+     * @return 只投影元数据列的查询
+     */
+    private LambdaQueryWrapper<Content> metaQuery() {
+        return Wrappers.<Content>lambdaQuery().select(Content.class, META_COLUMNS);
+    }
+}
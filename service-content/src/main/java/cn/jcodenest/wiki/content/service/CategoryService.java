@@ -0,0 +1,33 @@
+package cn.jcodenest.wiki.content.service;
+
+import cn.jcodenest.wiki.content.vo.CategoryTreeVO;
+
+import java.util.List;
+
+/**
+ * 分类服务
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface CategoryService {
+
+    /**
+     * 分类树（只含启用的分类，禁用分类的子分类一并隐藏）
+     *
+     * @return 顶级分类列表
+     */
+    List<CategoryTreeVO> tree();
+
+    /**
+     * 分类路径（面包屑）
+     *
+     * @param categoryId 分类ID
+     * @return 从顶级分类到该分类的路径
+     */
+    List<CategoryTreeVO> path(Long categoryId);
+}
@@ -0,0 +1,58 @@
+package cn.jcodenest.wiki.content.service;
+
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.content.dto.AuditReviewDTO;
+import cn.jcodenest.wiki.content.vo.ContentAuditVO;
+
+import java.util.List;
+
+/**
+ * 内容审核服务
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentAuditService {
+
+    /**
+     * 作者提交审核（草稿或审核失败的内容）
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return 审核记录
+     */
+    ContentAuditVO submit(Long userId, Long contentId);
+
+    /**
+     * 作者查看内容的审核记录（按提交时间倒序）
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return 审核记录
+     */
+    List<ContentAuditVO> listByContent(Long userId, Long contentId);
+
+    /**
+     * 等待人工复核的审核记录（按提交时间正序），仅管理员
+     *
+     * @param roles   当前用户角色
+     * @param current 页码
+     * @param size    每页条数
+     * @return 分页结果
+     */
+    PageResult<ContentAuditVO> listManual(String roles, long current, long size);
+
+    /**
+     * 人工复核，仅管理员
+     *
+     * @param auditorId 审核员ID
+     * @param roles     当前用户角色
+     * @param auditId   审核ID
+     * @param dto       复核结论
+     */
+    void review(Long auditorId, String roles, Long auditId, AuditReviewDTO dto);
+}
@@ -0,0 +1,37 @@
+package cn.jcodenest.wiki.content.service;
+
+import cn.jcodenest.wiki.content.dto.ContentFilterDTO;
+import cn.jcodenest.wiki.content.vo.ContentFilterVO;
+import cn.jcodenest.wiki.content.vo.FacetVO;
+
+import java.util.List;
+
+/**
+ * 内容过滤服务（基于内存位图索引）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentFilterService {
+
+    /**
+     * 按标签（与/或/非）、分类过滤已发布的公开内容，并计算分面
+     *
+     * @param filter 过滤条件
+     * @return 过滤结果
+     */
+    ContentFilterVO filter(ContentFilterDTO filter);
+
+    /**
+     * 相关标签：与指定标签同时出现在已发布内容上次数最多的标签
+     *
+     * @param tagId 标签ID
+     * @param limit 返回数量
+     * @return 相关标签（按共同出现次数倒序）
+     */
+    List<FacetVO> relatedTags(Long tagId, int limit);
+}
@@ -0,0 +1,42 @@
+package cn.jcodenest.wiki.content.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 内容静态页面服务
+ * <p>
+ * 已发布的公开内容输出预先生成的静态 HTML：按 Accept-Encoding 选择 brotli、gzip 或未压缩文件，
+ * 支持基于强 ETag 的 If-None-Match 协商，响应带 {@code Cache-Control: public} 与 {@code Vary: Accept-Encoding}，
+ * 可由 CDN 直接缓存。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentPageService {
+
+    /**
+     * 输出内容页面
+     *
+     * @param contentId 内容ID
+     * @param request   HTTP请求
+     * @param response  HTTP响应
+     * @throws IOException 读取页面文件失败
+     */
+    void getPage(Long contentId, HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    /**
+     * 记录静态页面的一次浏览（页面加载后上报，经 CDN 命中的访问也会计入）
+     *
+     * @param userId    用户ID（未登录为null）
+     * @param contentId 内容ID
+     * @param clientIp  客户端IP
+     */
+    void recordView(Long userId, Long contentId, String clientIp);
+}
@@ -0,0 +1,36 @@
+package cn.jcodenest.wiki.content.service;
+
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+
+import java.util.List;
+
+/**
+ * 内容排行服务
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentRankingService {
+
+    /**
+     * 热门内容
+     *
+     * @param categoryId 分类ID（含子分类），为 null 时返回全站排行
+     * @param limit      返回数量
+     * @return 按热度倒序的内容
+     */
+    List<ContentListVO> hot(Long categoryId, int limit);
+
+    /**
+     * 记录点赞、评论、分享等互动（浏览在读取详情时自动记录）
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @param type      互动类型码
+     */
+    void interact(Long userId, Long contentId, String type);
+}
@@ -0,0 +1,89 @@
+package cn.jcodenest.wiki.content.service;
+
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.content.dto.ContentQueryDTO;
+import cn.jcodenest.wiki.content.dto.ContentSaveDTO;
+import cn.jcodenest.wiki.content.vo.ContentDetailVO;
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+import cn.jcodenest.wiki.content.vo.MarkdownPreviewVO;
+
+/**
+ * 内容服务
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentService {
+
+    /**
+     * 创建内容（草稿）
+     *
+     * @param userId 作者用户ID
+     * @param dto    内容
+     * @return 内容ID
+     */
+    Long createContent(Long userId, ContentSaveDTO dto);
+
+    /**
+     * 更新内容，正文按块增量渲染为HTML
+     *
+     * @param userId    作者用户ID
+     * @param contentId 内容ID
+     * @param dto       内容
+     */
+    void updateContent(Long userId, Long contentId, ContentSaveDTO dto);
+
+    /**
+     * 保存正文并记录版本（协作编辑快照）
+     * <p>
+     * 不校验作者身份，编辑权限由调用方在加入协作时校验。只在当前正文版本号等于 {@code baseBodyVersion} 时保存，
+     * 保存成功后正文版本号为 {@code baseBodyVersion + 1}；正文已在其他途径被修改时抛出冲突异常，不覆盖。
+     *
+     * @param editorId        最后修改的用户ID
+     * @param contentId       内容ID
+     * @param markdown        正文
+     * @param changeLog       变更日志
+     * @param baseBodyVersion 正文所基于的正文版本号
+     */
+    void saveBody(Long editorId, Long contentId, String markdown, String changeLog, int baseBodyVersion);
+
+    /**
+     * 分页查询内容列表，只读取元数据列
+     *
+     * @param userId 当前用户ID（未登录为null），查询自己的内容时可按任意状态筛选
+     * @param query  查询条件
+     * @return 内容列表
+     */
+    PageResult<ContentListVO> listContents(Long userId, ContentQueryDTO query);
+
+    /**
+     * 查询内容详情，正文从正文缓存读取
+     *
+     * @param userId    当前用户ID（未登录为null）
+     * @param contentId 内容ID
+     * @param clientIp  客户端IP（未登录访客的浏览按IP去重）
+     * @return 内容详情
+     */
+    ContentDetailVO getContent(Long userId, Long contentId, String clientIp);
+
+    /**
+     * 查询 Markdown 源文，仅作者可用
+     *
+     * @param userId    当前用户ID
+     * @param contentId 内容ID
+     * @return Markdown 源文
+     */
+    String getSource(Long userId, Long contentId);
+
+    /**
+     * 渲染 Markdown 预览，编辑器每次输入都可调用，未改动的块直接复用缓存
+     *
+     * @param markdown Markdown 文本
+     * @return 预览结果
+     */
+    MarkdownPreviewVO preview(String markdown);
+}
@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.content.service;
+
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.content.vo.ContentDiffVO;
+import cn.jcodenest.wiki.content.vo.ContentVersionVO;
+
+/**
+ * 内容版本服务
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ContentVersionService {
+
+    /**
+     * 记录新版本，内容与最新版本相同时不记录
+     * <p>
+     * 需要在已锁定 cnt_content 对应行的事务中调用，保证同一内容的版本序号串行分配。
+     *
+     * @param contentId 内容ID
+     * @param authorId  修改者ID
+     * @param title     标题
+     * @param markdown  完整正文
+     * @param changeLog 变更日志
+     * @return 新版本序号，未记录时返回最新版本序号
+     */
+    int createVersion(Long contentId, Long authorId, String title, String markdown, String changeLog);
+
+    /**
+     * 分页查询版本列表（不含版本内容）
+     *
+     * @param userId    当前用户ID
+     * @param contentId 内容ID
+     * @param current   页码
+     * @param size      每页条数
+     * @return 版本列表，按版本序号倒序
+     */
+    PageResult<ContentVersionVO> listVersions(Long userId, Long contentId, long current, long size);
+
+    /**
+     * 查询指定版本（含还原后的完整内容）
+     *
+     * @param userId     当前用户ID
+     * @param contentId  内容ID
+     * @param versionSeq 版本序号
+     * @return 版本详情
+     */
+    ContentVersionVO getVersion(Long userId, Long contentId, int versionSeq);
+
+    /**
+     * 对比两个版本
+     *
+     * @param userId    当前用户ID
+     * @param contentId 内容ID
+     * @param from      旧版本序号
+     * @param to        新版本序号
+     * @return 版本差异
+     */
+    ContentDiffVO diff(Long userId, Long contentId, int from, int to);
+}
@@ -0,0 +1,103 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.content.category.CategoryIndex;
+import cn.jcodenest.wiki.content.category.CategoryIndexManager;
+import cn.jcodenest.wiki.content.category.CategoryNode;
+import cn.jcodenest.wiki.content.service.CategoryService;
+import cn.jcodenest.wiki.content.vo.CategoryTreeVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分类服务实现
+ * <p>
+ * 分类树直接由内存中的 {@link CategoryIndex} 生成，并按索引快照缓存：索引未变化时重复返回同一棵树。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryServiceImpl implements CategoryService {
+
+    private final CategoryIndexManager categoryIndexManager;
+
+    /** 最近一次生成的分类树及其对应的索引快照 */
+    private volatile CachedTree cachedTree;
+
+    @Override
+    public List<CategoryTreeVO> tree() {
+        CategoryIndex index = categoryIndexManager.current();
+        CachedTree cached = cachedTree;
+        if (cached == null || cached.index() != index) {
+            cached = new CachedTree(index, Collections.unmodifiableList(children(index, null, 1)));
+            cachedTree = cached;
+        }
+        return cached.tree();
+    }
+
+    @Override
+    public List<CategoryTreeVO> path(Long categoryId) {
+        CategoryIndex index = categoryIndexManager.current();
+        List<CategoryNode> path = index.path(categoryId);
+        if (path.isEmpty() || path.stream().anyMatch(node -> !node.enabled())) {
+            throw BusinessException.of(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        List<CategoryTreeVO> result = new ArrayList<>(path.size());
+        for (int i = 0; i < path.size(); i++) {
+            result.add(toVO(index, path.get(i), i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * 递归生成启用的子分类（分类层级很浅）
+     *
+     * @param index    分类索引
+     * @param parentId 父分类ID，null 表示顶级
+     * @param level    子分类层级
+     * @return 子分类
+     */
+    private List<CategoryTreeVO> children(CategoryIndex index, Long parentId, int level) {
+        List<CategoryTreeVO> children = new ArrayList<>();
+        for (CategoryNode node : index.children(parentId)) {
+            if (node.enabled()) {
+                CategoryTreeVO vo = toVO(index, node, level);
+                vo.setChildren(children(index, node.id(), level + 1));
+                children.add(vo);
+            }
+        }
+        return children;
+    }
+
+    private CategoryTreeVO toVO(CategoryIndex index, CategoryNode node, int level) {
+        CategoryTreeVO vo = new CategoryTreeVO();
+        vo.setId(node.id());
+        vo.setCategoryName(node.name());
+        vo.setCategoryCode(node.code());
+        vo.setParentId(node.parentId());
+        vo.setLevel(level);
+        vo.setContentCount(node.contentCount());
+        vo.setTotalContentCount(index.subtreeContentCount(node.id()));
+        return vo;
+    }
+
+    /**
+     * 分类树缓存
+     *
+     * @param index 生成时的索引快照
+     * @param tree  分类树
+     */
+    private record CachedTree(CategoryIndex index, List<CategoryTreeVO> tree) {
+    }
+}
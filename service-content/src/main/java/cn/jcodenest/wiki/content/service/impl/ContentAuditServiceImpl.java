@@ -0,0 +1,131 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.utils.BeanUtils;
+import cn.jcodenest.wiki.content.audit.ContentAuditWorkflow;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.dto.AuditReviewDTO;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.ContentAudit;
+import cn.jcodenest.wiki.content.enums.AuditStageEnum;
+import cn.jcodenest.wiki.content.enums.AuditStatusEnum;
+import cn.jcodenest.wiki.content.mapper.ContentAuditMapper;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import cn.jcodenest.wiki.content.service.ContentAuditService;
+import cn.jcodenest.wiki.content.vo.ContentAuditVO;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 内容审核服务实现
+ * <p>
+ * 提交与复核的状态流转由 {@link ContentAuditWorkflow} 完成，自动检查由审核流水线在后台执行。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentAuditServiceImpl implements ContentAuditService {
+
+    private final ContentAuditWorkflow contentAuditWorkflow;
+
+    private final ContentAuditMapper contentAuditMapper;
+
+    private final ContentRepository contentRepository;
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public ContentAuditVO submit(Long userId, Long contentId) {
+        Content meta = getOwnedMeta(userId, contentId);
+        return BeanUtils.copyProperties(contentAuditWorkflow.submit(meta), ContentAuditVO.class);
+    }
+
+    @Override
+    public List<ContentAuditVO> listByContent(Long userId, Long contentId) {
+        getOwnedMeta(userId, contentId);
+        List<ContentAudit> audits = contentAuditMapper.selectList(Wrappers.<ContentAudit>lambdaQuery()
+                .eq(ContentAudit::getContentId, contentId)
+                .orderByDesc(ContentAudit::getSubmitTime)
+                .last("LIMIT " + contentProperties.getMaxPageSize()));
+        return BeanUtils.copyList(audits, ContentAuditVO.class);
+    }
+
+    @Override
+    public PageResult<ContentAuditVO> listManual(String roles, long current, long size) {
+        checkAdmin(roles);
+        IPage<ContentAudit> page = contentAuditMapper.selectPage(
+                new Page<>(current, Math.min(size, contentProperties.getMaxPageSize())),
+                Wrappers.<ContentAudit>lambdaQuery()
+                        .eq(ContentAudit::getAuditStatus, AuditStatusEnum.PENDING.getCode())
+                        .eq(ContentAudit::getAuditStage, AuditStageEnum.MANUAL.getCode())
+                        .orderByAsc(ContentAudit::getSubmitTime));
+        return PageResult.of(BeanUtils.copyList(page.getRecords(), ContentAuditVO.class), page.getTotal(),
+                page.getCurrent(), page.getSize());
+    }
+
+    @Override
+    public void review(Long auditorId, String roles, Long auditId, AuditReviewDTO dto) {
+        checkAdmin(roles);
+        ContentAudit audit = contentAuditMapper.selectById(auditId);
+        if (audit == null) {
+            throw BusinessException.of(ErrorCode.NOT_FOUND, "审核记录不存在");
+        }
+        Content meta = contentRepository.findMeta(audit.getContentId());
+        if (meta == null || !ContentStatusEnum.isUnderReview(meta.getStatus())) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "内容已不在审核中");
+        }
+        if (!contentAuditWorkflow.complete(audit, meta.getAuthorId(), dto.getApproved(), auditorId,
+                dto.getReason())) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "该审核已处理");
+        }
+    }
+
+    /**
+     * 查询当前用户自己的内容
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return 内容元数据
+     */
+    private Content getOwnedMeta(Long userId, Long contentId) {
+        Content meta = contentRepository.findMeta(contentId);
+        if (meta == null) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        if (!meta.getAuthorId().equals(userId)) {
+            throw BusinessException.of(ErrorCode.CONTENT_ACCESS_DENIED);
+        }
+        return meta;
+    }
+
+    /**
+     * 校验管理员角色（网关透传的角色列表，逗号分隔）
+     *
+     * @param roles 角色列表
+     */
+    private static void checkAdmin(String roles) {
+        boolean admin = roles != null && Arrays.stream(roles.split(SecurityConstants.Permission.PERMISSION_SEPARATOR))
+                .map(String::trim)
+                .anyMatch(role -> SecurityConstants.Role.ADMIN.equals(role)
+                        || (SecurityConstants.Role.ROLE_PREFIX + SecurityConstants.Role.ADMIN).equals(role));
+        if (!admin) {
+            throw BusinessException.of(ErrorCode.PERMISSION_DENIED);
+        }
+    }
+}
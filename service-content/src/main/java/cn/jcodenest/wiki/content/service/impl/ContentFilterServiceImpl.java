@@ -0,0 +1,194 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.utils.BeanUtils;
+import cn.jcodenest.wiki.content.category.CategoryIndex;
+import cn.jcodenest.wiki.content.category.CategoryIndexManager;
+import cn.jcodenest.wiki.content.category.CategoryNode;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.dto.ContentFilterDTO;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.Tag;
+import cn.jcodenest.wiki.content.enums.ContentVisibilityEnum;
+import cn.jcodenest.wiki.content.filter.ContentBitmapIndex;
+import cn.jcodenest.wiki.content.filter.ContentFilterIndexManager;
+import cn.jcodenest.wiki.content.mapper.TagMapper;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import cn.jcodenest.wiki.content.service.ContentFilterService;
+import cn.jcodenest.wiki.content.vo.ContentFilterVO;
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+import cn.jcodenest.wiki.content.vo.FacetVO;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 内容过滤服务实现
+ * <p>
+ * 过滤、计数与分页在 {@link ContentBitmapIndex} 中完成，数据库只按当前页的内容ID读取元数据。
+ * 索引与数据库之间有秒级延迟，读取的元数据会再校验一次状态与可见性，刚下线的内容不会出现在结果中。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentFilterServiceImpl implements ContentFilterService {
+
+    /** 公开内容的可见性：除私有外的全部 */
+    private static final List<Integer> PUBLIC_VISIBILITIES = Arrays.stream(ContentVisibilityEnum.values())
+            .filter(visibility -> visibility != ContentVisibilityEnum.PRIVATE)
+            .map(ContentVisibilityEnum::getCode)
+            .toList();
+
+    private static final List<Integer> PUBLISHED = List.of(ContentStatusEnum.PUBLISHED.getCode());
+
+    private final ContentFilterIndexManager contentFilterIndexManager;
+
+    private final CategoryIndexManager categoryIndexManager;
+
+    private final ContentRepository contentRepository;
+
+    private final TagMapper tagMapper;
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public ContentFilterVO filter(ContentFilterDTO dto) {
+        ContentBitmapIndex index = currentIndex();
+        CategoryIndex categories = categoryIndexManager.current();
+        long size = Math.min(dto.getSize(), contentProperties.getMaxPageSize());
+
+        List<Long> categoryIds = List.of();
+        if (dto.getCategoryId() != null) {
+            categoryIds = Boolean.TRUE.equals(dto.getIncludeSubcategories())
+                    ? categories.subtreeIds(dto.getCategoryId())
+                    : List.of(dto.getCategoryId());
+            if (categoryIds.isEmpty()) {
+                throw BusinessException.of(ErrorCode.CATEGORY_NOT_FOUND);
+            }
+        }
+        boolean categoryFacets = Boolean.TRUE.equals(dto.getCategoryFacets());
+        ContentBitmapIndex.Filter filter = new ContentBitmapIndex.Filter(nullToEmpty(dto.getAllTags()),
+                nullToEmpty(dto.getAnyTags()), nullToEmpty(dto.getExcludeTags()), categoryIds, PUBLISHED,
+                PUBLIC_VISIBILITIES, Math.min(dto.getTagFacetSize(), contentProperties.getFilterIndex()
+                .getMaxFacetSize()), categoryFacets);
+        ContentBitmapIndex.Result result = index.query(filter, (dto.getCurrent() - 1) * size, (int) size);
+
+        ContentFilterVO vo = new ContentFilterVO();
+        vo.setContents(PageResult.of(loadContents(result.contentIds()), result.total(), dto.getCurrent(), size));
+        vo.setTags(tagFacets(result.tagCounts()));
+        vo.setCategories(categoryFacets ? categoryFacets(categories, dto.getCategoryId(), result.categoryCounts())
+                : List.of());
+        return vo;
+    }
+
+    @Override
+    public List<FacetVO> relatedTags(Long tagId, int limit) {
+        ContentBitmapIndex index = currentIndex();
+        int facetSize = Math.max(1, Math.min(limit, contentProperties.getFilterIndex().getMaxFacetSize()));
+        // 多取一个：指定标签自身总是排在第一位
+        ContentBitmapIndex.Filter filter = new ContentBitmapIndex.Filter(List.of(tagId), List.of(), List.of(),
+                List.of(), PUBLISHED, PUBLIC_VISIBILITIES, facetSize + 1, false);
+        List<ContentBitmapIndex.Count> counts = index.query(filter, 0, 0).tagCounts().stream()
+                .filter(count -> !count.key().equals(tagId))
+                .limit(facetSize)
+                .toList();
+        return tagFacets(counts);
+    }
+
+    /**
+     * 当前索引，加载完成前提示稍后重试
+     */
+    private ContentBitmapIndex currentIndex() {
+        ContentBitmapIndex index = contentFilterIndexManager.current();
+        if (index == null) {
+            throw BusinessException.of(ErrorCode.SYSTEM_BUSY, "内容索引加载中，请稍后重试");
+        }
+        return index;
+    }
+
+    /**
+     * 按索引给出的顺序读取元数据，跳过索引尚未同步的下线内容
+     */
+    private List<ContentListVO> loadContents(List<Long> contentIds) {
+        Map<Long, Content> contents = contentRepository.listMeta(contentIds).stream()
+                .collect(Collectors.toMap(Content::getId, Function.identity()));
+        List<Content> ordered = new ArrayList<>(contentIds.size());
+        for (Long contentId : contentIds) {
+            Content content = contents.get(contentId);
+            if (content != null && ContentStatusEnum.isPublished(content.getStatus())
+                    && PUBLIC_VISIBILITIES.contains(content.getVisibility())) {
+                ordered.add(content);
+            }
+        }
+        return BeanUtils.copyList(ordered, ContentListVO.class);
+    }
+
+    /**
+     * 标签分面补充标签名称，已删除的标签不返回
+     */
+    private List<FacetVO> tagFacets(List<ContentBitmapIndex.Count> counts) {
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> names = tagMapper.selectList(Wrappers.<Tag>lambdaQuery()
+                        .select(Tag::getId, Tag::getTagName)
+                        .in(Tag::getId, counts.stream().map(ContentBitmapIndex.Count::key).toList()))
+                .stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getTagName));
+        List<FacetVO> facets = new ArrayList<>(counts.size());
+        for (ContentBitmapIndex.Count count : counts) {
+            String name = names.get(count.key());
+            if (name != null) {
+                facets.add(facet(count.key(), name, count.count()));
+            }
+        }
+        return facets;
+    }
+
+    /**
+     * 分类分面：指定分类的直接子分类（未指定时为顶级分类），每项计数为其子树内各分类的计数之和
+     */
+    private List<FacetVO> categoryFacets(CategoryIndex categories, Long categoryId, Map<Long, Integer> counts) {
+        List<FacetVO> facets = new ArrayList<>();
+        for (CategoryNode child : categories.children(categoryId)) {
+            int count = categories.subtreeIds(child.id()).stream()
+                    .map(counts::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .sum();
+            if (count > 0) {
+                facets.add(facet(child.id(), child.name(), count));
+            }
+        }
+        return facets;
+    }
+
+    private static FacetVO facet(Long id, String name, int count) {
+        FacetVO facet = new FacetVO();
+        facet.setId(id);
+        facet.setName(name);
+        facet.setCount(count);
+        return facet;
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
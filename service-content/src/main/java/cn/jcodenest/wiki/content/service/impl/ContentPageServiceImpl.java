@@ -0,0 +1,148 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.enums.InteractionTypeEnum;
+import cn.jcodenest.wiki.content.event.ContentInteractionEvent;
+import cn.jcodenest.wiki.content.page.PageEncoding;
+import cn.jcodenest.wiki.content.page.StaticPage;
+import cn.jcodenest.wiki.content.page.StaticPageCache;
+import cn.jcodenest.wiki.content.service.ContentPageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 内容静态页面服务实现
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentPageServiceImpl implements ContentPageService {
+
+    /** 页面文件已被删除时重新获取的次数 */
+    private static final int MAX_ATTEMPTS = 2;
+
+    private static final String HTML_CONTENT_TYPE = MediaType.TEXT_HTML_VALUE + ";charset="
+            + StandardCharsets.UTF_8.name();
+
+    private final StaticPageCache staticPageCache;
+
+    private final ContentProperties contentProperties;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void getPage(Long contentId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            StaticPage page = staticPageCache.get(contentId);
+            if (page == null) {
+                throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+            }
+            PageEncoding encoding = PageEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING),
+                    page.has(PageEncoding.BROTLI));
+
+            // 304 也要带上缓存策略，CDN 据此延长缓存
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl());
+            if (new ServletWebRequest(request, response).checkNotModified(page.etag(encoding), page.lastModified())) {
+                return;
+            }
+
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(page.path(encoding), StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                // 页面在取得后被替换或淘汰，文件已删除；打开之后再删除不影响读取
+                staticPageCache.invalidate(contentId, page);
+                if (attempt < MAX_ATTEMPTS) {
+                    continue;
+                }
+                throw e;
+            }
+            try (channel) {
+                write(page, encoding, channel, request, response);
+            }
+            return;
+        }
+    }
+
+    @Override
+    public void recordView(Long userId, Long contentId, String clientIp) {
+        // 不查库校验内容状态：热度排行发布时会移除已下线、非公开或不存在的内容
+        eventPublisher.publishEvent(new ContentInteractionEvent(contentId, userId, clientIp,
+                InteractionTypeEnum.VIEW));
+    }
+
+    /**
+     * 写出页面文件
+     */
+    private static void write(StaticPage page, PageEncoding encoding, FileChannel channel,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = page.length(encoding);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(HTML_CONTENT_TYPE);
+        if (encoding.getCoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getCoding());
+        }
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        try {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0L;
+            while (position < length) {
+                long sent = channel.transferTo(position, length - position, out);
+                if (sent <= 0) {
+                    throw new EOFException("静态页面在传输过程中被截断: " + page.path(encoding));
+                }
+                position += sent;
+            }
+        } catch (IOException e) {
+            if (!DisconnectedClientHelper.isClientDisconnectedException(e)) {
+                throw e;
+            }
+            log.debug("页面连接中断: contentId={}, reason={}", page.contentId(), e.getMessage());
+        }
+    }
+
+    private String cacheControl() {
+        ContentProperties.StaticPage config = contentProperties.getStaticPage();
+        return CacheControl.maxAge(config.getMaxAgeSeconds(), TimeUnit.SECONDS)
+                .cachePublic()
+                .sMaxAge(config.getSharedMaxAgeSeconds(), TimeUnit.SECONDS)
+                .staleWhileRevalidate(config.getStaleWhileRevalidateSeconds(), TimeUnit.SECONDS)
+                .staleIfError(config.getStaleIfErrorSeconds(), TimeUnit.SECONDS)
+                .getHeaderValue();
+    }
+}
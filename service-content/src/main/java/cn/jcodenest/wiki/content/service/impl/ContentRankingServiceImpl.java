@@ -0,0 +1,84 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.utils.BeanUtils;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.enums.ContentVisibilityEnum;
+import cn.jcodenest.wiki.content.enums.InteractionTypeEnum;
+import cn.jcodenest.wiki.content.ranking.HotRankingEngine;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import cn.jcodenest.wiki.content.service.ContentRankingService;
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 内容排行服务实现
+ * <p>
+ * 排行由 {@link HotRankingEngine} 定时写入 Redis 有序集合，这里只按名次读取内容ID，再按ID读取元数据。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentRankingServiceImpl implements ContentRankingService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ContentRepository contentRepository;
+
+    private final HotRankingEngine hotRankingEngine;
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public List<ContentListVO> hot(Long categoryId, int limit) {
+        int size = Math.max(1, Math.min(limit, contentProperties.getHotRanking().getTopSize()));
+        String key = categoryId == null ? RedisConstants.ContentKey.HOT_CONTENT
+                : RedisConstants.ContentKey.HOT_CATEGORY_CONTENT + categoryId;
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, size - 1L);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = members.stream().map(Long::valueOf).toList();
+        Map<Long, Content> contents = contentRepository.listMeta(ids).stream()
+                .collect(Collectors.toMap(Content::getId, Function.identity()));
+        List<Content> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            // 排行每隔几秒才刷新，刚下线的内容在这里过滤
+            Content content = contents.get(id);
+            if (content != null && ContentStatusEnum.isPublished(content.getStatus())
+                    && !ContentVisibilityEnum.PRIVATE.getCode().equals(content.getVisibility())) {
+                ordered.add(content);
+            }
+        }
+        return BeanUtils.copyList(ordered, ContentListVO.class);
+    }
+
+    @Override
+    public void interact(Long userId, Long contentId, String type) {
+        InteractionTypeEnum interaction = InteractionTypeEnum.getByCode(type);
+        if (interaction == null || interaction == InteractionTypeEnum.VIEW) {
+            throw BusinessException.of(ErrorCode.PARAMETER_INVALID, "不支持的互动类型: " + type);
+        }
+        hotRankingEngine.record(contentId, userId, null, interaction);
+    }
+}
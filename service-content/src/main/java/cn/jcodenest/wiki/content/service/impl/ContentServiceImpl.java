@@ -0,0 +1,359 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.enums.ContentStatusEnum;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.utils.BeanUtils;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.content.cache.ContentBody;
+import cn.jcodenest.wiki.content.cache.ContentBodyCache;
+import cn.jcodenest.wiki.content.category.CategoryIndexManager;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.dto.ContentQueryDTO;
+import cn.jcodenest.wiki.content.dto.ContentSaveDTO;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.ContentTag;
+import cn.jcodenest.wiki.content.entity.Tag;
+import cn.jcodenest.wiki.content.enums.ContentVisibilityEnum;
+import cn.jcodenest.wiki.content.enums.InteractionTypeEnum;
+import cn.jcodenest.wiki.content.event.ContentChangedEvent;
+import cn.jcodenest.wiki.content.event.ContentInteractionEvent;
+import cn.jcodenest.wiki.content.mapper.ContentTagMapper;
+import cn.jcodenest.wiki.content.mapper.TagMapper;
+import cn.jcodenest.wiki.content.render.IncrementalMarkdownRenderer;
+import cn.jcodenest.wiki.content.render.WordCounter;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import cn.jcodenest.wiki.content.service.ContentService;
+import cn.jcodenest.wiki.content.service.ContentVersionService;
+import cn.jcodenest.wiki.content.vo.ContentDetailVO;
+import cn.jcodenest.wiki.content.vo.ContentListVO;
+import cn.jcodenest.wiki.content.vo.MarkdownPreviewVO;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 内容服务实现
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentServiceImpl implements ContentService {
+
+    private final ContentRepository contentRepository;
+
+    private final ContentBodyCache contentBodyCache;
+
+    private final IncrementalMarkdownRenderer markdownRenderer;
+
+    private final ContentProperties contentProperties;
+
+    private final ContentVersionService contentVersionService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final CategoryIndexManager categoryIndexManager;
+
+    private final TagMapper tagMapper;
+
+    private final ContentTagMapper contentTagMapper;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Long createContent(Long userId, ContentSaveDTO dto) {
+        Content content = BeanUtils.copyProperties(dto, Content.class);
+        content.setAuthorId(userId);
+        content.setStatus(ContentStatusEnum.DRAFT.getCode());
+        applyBody(content, dto.getContent());
+        List<Long> tagIds = checkTags(dto.getTagIds());
+        transactionTemplate.executeWithoutResult(status -> {
+            contentRepository.insert(content);
+            replaceTags(content.getId(), tagIds);
+            contentVersionService.createVersion(content.getId(), userId, content.getTitle(), content.getContent(),
+                    dto.getChangeLog());
+        });
+        eventPublisher.publishEvent(new ContentChangedEvent(content.getId(), SystemConstants.Event.CONTENT_UPDATE));
+
+        log.info("创建内容: contentId={}, authorId={}", content.getId(), userId);
+        return content.getId();
+    }
+
+    @Override
+    public void updateContent(Long userId, Long contentId, ContentSaveDTO dto) {
+        Content existing = getOwnedMeta(userId, contentId);
+        if (!ContentStatusEnum.canEdit(existing.getStatus())) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "当前状态的内容不允许编辑");
+        }
+
+        // 未传的字段保持不变（null 字段不更新）
+        Content update = BeanUtils.copyProperties(dto, Content.class);
+        update.setId(contentId);
+        applyBody(update, dto.getContent());
+        List<Long> tagIds = checkTags(dto.getTagIds());
+        boolean bodyChanged = dto.getContent() != null;
+
+        // 先更新内容行再记录版本：同一内容的并发保存在行锁上排队，版本序号按提交顺序分配
+        transactionTemplate.executeWithoutResult(status -> {
+            updateEditable(update, bodyChanged, null);
+            replaceTags(contentId, tagIds);
+            if (bodyChanged) {
+                contentVersionService.createVersion(contentId, userId, dto.getTitle(), dto.getContent(),
+                        dto.getChangeLog());
+            }
+        });
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId, SystemConstants.Event.CONTENT_UPDATE));
+    }
+
+    @Override
+    public void saveBody(Long editorId, Long contentId, String markdown, String changeLog, int baseBodyVersion) {
+        Content meta = contentRepository.findMeta(contentId);
+        if (meta == null) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        if (!ContentStatusEnum.canEdit(meta.getStatus())) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "当前状态的内容不允许编辑");
+        }
+
+        Content update = new Content();
+        update.setId(contentId);
+        applyBody(update, markdown);
+        transactionTemplate.executeWithoutResult(status -> {
+            updateEditable(update, true, baseBodyVersion);
+            contentVersionService.createVersion(contentId, editorId, meta.getTitle(), markdown, changeLog);
+        });
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId, SystemConstants.Event.CONTENT_UPDATE));
+    }
+
+    @Override
+    public PageResult<ContentListVO> listContents(Long userId, ContentQueryDTO query) {
+        long size = Math.min(query.getSize(), contentProperties.getMaxPageSize());
+        LambdaQueryWrapper<Content> wrapper = Wrappers.<Content>lambdaQuery();
+        if (query.getCategoryId() != null) {
+            List<Long> categoryIds = Boolean.TRUE.equals(query.getIncludeSubcategories())
+                    ? categoryIndexManager.current().subtreeIds(query.getCategoryId())
+                    : List.of();
+            if (categoryIds.size() > 1) {
+                wrapper.in(Content::getCategoryId, categoryIds);
+            } else {
+                wrapper.eq(Content::getCategoryId, query.getCategoryId());
+            }
+        }
+        wrapper.eq(query.getAuthorId() != null, Content::getAuthorId, query.getAuthorId())
+                .eq(StringUtils.isNotBlank(query.getContentType()), Content::getContentType, query.getContentType());
+        if (userId != null && userId.equals(query.getAuthorId())) {
+            wrapper.eq(query.getStatus() != null, Content::getStatus, query.getStatus())
+                    .orderByDesc(Content::getCreatedAt);
+        } else {
+            wrapper.eq(Content::getStatus, ContentStatusEnum.PUBLISHED.getCode())
+                    .ne(Content::getVisibility, ContentVisibilityEnum.PRIVATE.getCode())
+                    .orderByDesc(Content::getPublishedAt);
+        }
+        wrapper.orderByDesc(Content::getId);
+
+        IPage<Content> page = contentRepository.pageMeta(new Page<>(query.getCurrent(), size), wrapper);
+        return PageResult.of(BeanUtils.copyList(page.getRecords(), ContentListVO.class), page.getTotal(),
+                page.getCurrent(), page.getSize());
+    }
+
+    @Override
+    public ContentDetailVO getContent(Long userId, Long contentId, String clientIp) {
+        Content meta = contentRepository.findMeta(contentId);
+        if (meta == null) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        checkReadable(userId, meta);
+        if (!meta.getAuthorId().equals(userId)) {
+            eventPublisher.publishEvent(new ContentInteractionEvent(contentId, userId, clientIp,
+                    InteractionTypeEnum.VIEW));
+        }
+
+        ContentDetailVO vo = BeanUtils.copyProperties(meta, ContentDetailVO.class);
+        ContentBody body = contentBodyCache.get(contentId, meta.getBodyVersion());
+        if (body != null) {
+            vo.setSummary(body.getSummary());
+            vo.setContentHtml(body.getContentHtml());
+            vo.setSeoDescription(body.getSeoDescription());
+            vo.setBodyVersion(body.getVersion());
+        }
+        return vo;
+    }
+
+    @Override
+    public String getSource(Long userId, Long contentId) {
+        getOwnedMeta(userId, contentId);
+        return contentRepository.findSource(contentId);
+    }
+
+    @Override
+    public MarkdownPreviewVO preview(String markdown) {
+        checkLength(markdown);
+        IncrementalMarkdownRenderer.Result result = markdownRenderer.render(markdown);
+        int wordCount = WordCounter.count(markdown);
+
+        MarkdownPreviewVO vo = new MarkdownPreviewVO();
+        vo.setHtml(result.html());
+        vo.setWordCount(wordCount);
+        vo.setReadingTime(WordCounter.readingMinutes(wordCount,
+                contentProperties.getRender().getWordsPerMinute()));
+        vo.setBlocks(result.blocks());
+        vo.setRenderedBlocks(result.rendered());
+        return vo;
+    }
+
+    /**
+     * 查询当前用户自己的内容
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     * @return 内容元数据
+     */
+    private Content getOwnedMeta(Long userId, Long contentId) {
+        Content meta = contentRepository.findMeta(contentId);
+        if (meta == null) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        if (!meta.getAuthorId().equals(userId)) {
+            throw BusinessException.of(ErrorCode.CONTENT_ACCESS_DENIED);
+        }
+        return meta;
+    }
+
+    /**
+     * 更新可编辑状态的内容（需在事务内调用）
+     * <p>
+     * 事务外的状态检查与提交审核之间存在竞争，以更新行数为准：没有更新到行时抛出异常回滚事务，不写入版本记录。
+     *
+     * @param update          待更新字段
+     * @param bodyChanged     正文是否变化
+     * @param baseBodyVersion 修改所基于的正文版本号，为 null 时不校验
+     */
+    private void updateEditable(Content update, boolean bodyChanged, Integer baseBodyVersion) {
+        if (!contentRepository.update(update, bodyChanged, baseBodyVersion)) {
+            throw BusinessException.of(ErrorCode.CONFLICT,
+                    baseBodyVersion == null ? "当前状态的内容不允许编辑" : "内容已不可编辑或正文已被修改");
+        }
+    }
+
+    /**
+     * 校验阅读权限：作者总是可读；其他用户只能读已发布的内容，并按可见性限制
+     *
+     * @param userId 当前用户ID（未登录为null）
+     * @param meta   内容元数据
+     */
+    private void checkReadable(Long userId, Content meta) {
+        if (meta.getAuthorId().equals(userId)) {
+            return;
+        }
+        if (!ContentStatusEnum.isPublished(meta.getStatus())) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        ContentVisibilityEnum visibility = ContentVisibilityEnum.getByCode(meta.getVisibility());
+        if (visibility == null || visibility == ContentVisibilityEnum.PUBLIC) {
+            return;
+        }
+        if (visibility == ContentVisibilityEnum.LOGIN && userId != null) {
+            return;
+        }
+        // VIP 与付费内容的权益校验由会员、订单服务提供，接入前一律拒绝
+        throw BusinessException.of(ErrorCode.CONTENT_ACCESS_DENIED);
+    }
+
+    /**
+     * 校验标签存在且启用
+     *
+     * @param tagIds 标签ID，为 null 时不修改标签
+     * @return 去重后的标签ID，为 null 时不修改标签
+     */
+    private List<Long> checkTags(List<Long> tagIds) {
+        if (tagIds == null) {
+            return null;
+        }
+        List<Long> distinct = tagIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            return distinct;
+        }
+        long enabled = tagMapper.selectCount(Wrappers.<Tag>lambdaQuery()
+                .in(Tag::getId, distinct)
+                .eq(Tag::getStatus, CommonConstants.Status.ENABLED));
+        if (enabled != distinct.size()) {
+            throw BusinessException.of(ErrorCode.TAG_NOT_FOUND);
+        }
+        return distinct;
+    }
+
+    /**
+     * 整体替换内容的标签（需在事务内调用）
+     *
+     * @param contentId 内容ID
+     * @param tagIds    标签ID，为 null 时不修改
+     */
+    private void replaceTags(Long contentId, List<Long> tagIds) {
+        if (tagIds == null) {
+            return;
+        }
+        contentTagMapper.physicalDeleteByContentId(contentId);
+        for (Long tagId : tagIds) {
+            ContentTag contentTag = new ContentTag();
+            contentTag.setContentId(contentId);
+            contentTag.setTagId(tagId);
+            contentTagMapper.insert(contentTag);
+        }
+    }
+
+    /**
+     * 渲染正文并填充 HTML、字数与阅读时间
+     *
+     * @param content  内容实体
+     * @param markdown 正文，为 null 时不修改
+     */
+    private void applyBody(Content content, String markdown) {
+        if (markdown == null) {
+            return;
+        }
+        checkLength(markdown);
+
+        long start = System.nanoTime();
+        IncrementalMarkdownRenderer.Result result = markdownRenderer.render(markdown);
+        int wordCount = WordCounter.count(markdown);
+        content.setContent(markdown);
+        content.setContentHtml(result.html());
+        content.setWordCount(wordCount);
+        content.setReadingTime(WordCounter.readingMinutes(wordCount,
+                contentProperties.getRender().getWordsPerMinute()));
+
+        log.debug("渲染正文: contentId={}, blocks={}, rendered={}, costMs={}", content.getId(), result.blocks(),
+                result.rendered(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 校验正文长度
+     *
+     * @param markdown 正文
+     */
+    private void checkLength(String markdown) {
+        int maxLength = contentProperties.getRender().getMaxLength();
+        if (markdown != null && markdown.length() > maxLength) {
+            throw BusinessException.of(ErrorCode.PARAMETER_LENGTH_ERROR, "正文不能超过" + maxLength + "个字符");
+        }
+    }
+}
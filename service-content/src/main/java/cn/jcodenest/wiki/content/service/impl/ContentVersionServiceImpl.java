@@ -0,0 +1,256 @@
+package cn.jcodenest.wiki.content.service.impl;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.exception.SystemException;
+import cn.jcodenest.wiki.common.response.PageResult;
+import cn.jcodenest.wiki.common.utils.BeanUtils;
+import cn.jcodenest.wiki.content.config.ContentProperties;
+import cn.jcodenest.wiki.content.entity.Content;
+import cn.jcodenest.wiki.content.entity.ContentVersion;
+import cn.jcodenest.wiki.content.enums.VersionStorageTypeEnum;
+import cn.jcodenest.wiki.content.mapper.ContentVersionMapper;
+import cn.jcodenest.wiki.content.render.WordCounter;
+import cn.jcodenest.wiki.content.repository.ContentRepository;
+import cn.jcodenest.wiki.content.service.ContentVersionService;
+import cn.jcodenest.wiki.content.version.Edit;
+import cn.jcodenest.wiki.content.version.LineDelta;
+import cn.jcodenest.wiki.content.version.MyersDiff;
+import cn.jcodenest.wiki.content.version.UnifiedDiff;
+import cn.jcodenest.wiki.content.vo.ContentDiffVO;
+import cn.jcodenest.wiki.content.vo.ContentVersionVO;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 内容版本服务实现
+ * <p>
+ * 版本内容按“关键帧 + 行增量”存储：每隔 {@code keyframe-interval} 个版本保存一次完整快照，
+ * 其余版本只保存相对上一版本的行增量（{@link LineDelta}）。还原任意版本只需读取所在关键帧到目标版本之间的行，
+ * 最多应用 interval - 1 个增量。增量过大（编辑距离超限或超过完整内容的一定比例）时直接保存快照，
+ * 保证增量链不会比快照更占空间。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentVersionServiceImpl implements ContentVersionService {
+
+    private final ContentVersionMapper contentVersionMapper;
+
+    private final ContentRepository contentRepository;
+
+    private final ContentProperties contentProperties;
+
+    @Override
+    public int createVersion(Long contentId, Long authorId, String title, String markdown, String changeLog) {
+        String text = markdown == null ? "" : markdown;
+        String hash = DigestUtils.sha256Hex(text);
+        ContentVersion latest = contentVersionMapper.selectOne(Wrappers.<ContentVersion>lambdaQuery()
+                .select(ContentVersion::getId, ContentVersion::getVersionSeq, ContentVersion::getKeyframeSeq,
+                        ContentVersion::getContentHash)
+                .eq(ContentVersion::getContentId, contentId)
+                .orderByDesc(ContentVersion::getVersionSeq)
+                .last("LIMIT 1"));
+        if (latest != null && hash.equals(latest.getContentHash())) {
+            return latest.getVersionSeq();
+        }
+
+        ContentVersion version = new ContentVersion();
+        version.setContentId(contentId);
+        version.setTitle(title);
+        version.setChangeLog(changeLog);
+        version.setAuthorId(authorId);
+        version.setContentHash(hash);
+        version.setFileSize((long) text.getBytes(StandardCharsets.UTF_8).length);
+        version.setWordCount(WordCounter.count(text));
+        version.setIsCurrent(CommonConstants.Status.YES);
+
+        int seq = latest == null ? 1 : latest.getVersionSeq() + 1;
+        version.setVersionSeq(seq);
+        version.setVersionNumber("v" + seq);
+        String delta = latest == null ? null : encodeDelta(contentId, latest, text);
+        if (delta == null) {
+            version.setStorageType(VersionStorageTypeEnum.SNAPSHOT.getCode());
+            version.setKeyframeSeq(seq);
+            version.setContent(text);
+        } else {
+            version.setStorageType(VersionStorageTypeEnum.DELTA.getCode());
+            version.setKeyframeSeq(latest.getKeyframeSeq());
+            version.setContent(delta);
+        }
+
+        if (latest != null) {
+            contentVersionMapper.update(null, Wrappers.<ContentVersion>lambdaUpdate()
+                    .set(ContentVersion::getIsCurrent, CommonConstants.Status.NO)
+                    .eq(ContentVersion::getContentId, contentId)
+                    .eq(ContentVersion::getIsCurrent, CommonConstants.Status.YES));
+        }
+        contentVersionMapper.insert(version);
+
+        log.debug("记录内容版本: contentId={}, seq={}, storageType={}, storedChars={}, fullBytes={}", contentId, seq,
+                version.getStorageType(), version.getContent().length(), version.getFileSize());
+        return seq;
+    }
+
+    @Override
+    public PageResult<ContentVersionVO> listVersions(Long userId, Long contentId, long current, long size) {
+        checkOwner(userId, contentId);
+        IPage<ContentVersion> page = contentVersionMapper.selectPage(
+                new Page<>(current, Math.min(size, contentProperties.getMaxPageSize())),
+                Wrappers.<ContentVersion>lambdaQuery()
+                        .select(ContentVersion::getId, ContentVersion::getContentId, ContentVersion::getVersionNumber,
+                                ContentVersion::getVersionSeq, ContentVersion::getTitle, ContentVersion::getAuthorId,
+                                ContentVersion::getFileSize, ContentVersion::getWordCount,
+                                ContentVersion::getIsCurrent, ContentVersion::getCreatedAt)
+                        .eq(ContentVersion::getContentId, contentId)
+                        .orderByDesc(ContentVersion::getVersionSeq));
+        return PageResult.of(BeanUtils.copyList(page.getRecords(), ContentVersionVO.class), page.getTotal(),
+                page.getCurrent(), page.getSize());
+    }
+
+    @Override
+    public ContentVersionVO getVersion(Long userId, Long contentId, int versionSeq) {
+        checkOwner(userId, contentId);
+        List<ContentVersion> chain = loadChain(contentId, versionSeq);
+        ContentVersion target = chain.get(chain.size() - 1);
+        ContentVersionVO vo = BeanUtils.copyProperties(target, ContentVersionVO.class);
+        vo.setContent(reconstruct(chain));
+        return vo;
+    }
+
+    @Override
+    public ContentDiffVO diff(Long userId, Long contentId, int from, int to) {
+        checkOwner(userId, contentId);
+        List<String> a = LineDelta.lines(reconstruct(loadChain(contentId, from)));
+        List<String> b = LineDelta.lines(reconstruct(loadChain(contentId, to)));
+
+        ContentProperties.Version config = contentProperties.getVersion();
+        List<Edit> edits = MyersDiff.diff(a, b, config.getMaxDiffEdits());
+        if (edits == null) {
+            throw BusinessException.of(ErrorCode.PARAMETER_RANGE_ERROR, "两个版本差异过大，无法对比");
+        }
+
+        int additions = 0;
+        int deletions = 0;
+        for (Edit edit : edits) {
+            if (edit.type() == Edit.Type.INSERT) {
+                additions += edit.lengthB();
+            } else if (edit.type() == Edit.Type.DELETE) {
+                deletions += edit.lengthA();
+            }
+        }
+
+        ContentDiffVO vo = new ContentDiffVO();
+        vo.setFromVersion(from);
+        vo.setToVersion(to);
+        vo.setAdditions(additions);
+        vo.setDeletions(deletions);
+        vo.setHunks(UnifiedDiff.hunks(a, b, edits, config.getDiffContext()));
+        return vo;
+    }
+
+    /**
+     * 计算相对最新版本的增量
+     *
+     * @param contentId 内容ID
+     * @param latest    最新版本
+     * @param text      新版本完整内容
+     * @return 增量，应保存完整快照时返回 null
+     */
+    private String encodeDelta(Long contentId, ContentVersion latest, String text) {
+        ContentProperties.Version config = contentProperties.getVersion();
+        if (latest.getVersionSeq() + 1 - latest.getKeyframeSeq() >= config.getKeyframeInterval()) {
+            return null;
+        }
+
+        List<String> base = LineDelta.lines(reconstruct(loadChain(contentId, latest.getVersionSeq())));
+        List<String> target = LineDelta.lines(text);
+        List<Edit> edits = MyersDiff.diff(base, target, config.getMaxDeltaEdits());
+        if (edits == null) {
+            return null;
+        }
+        String delta = LineDelta.encode(target, edits);
+        return delta.length() > text.length() * config.getKeyframeRatio() ? null : delta;
+    }
+
+    /**
+     * 读取还原指定版本所需的版本链：关键帧到目标版本
+     *
+     * @param contentId  内容ID
+     * @param versionSeq 目标版本序号
+     * @return 按版本序号升序的版本链，最后一个为目标版本
+     */
+    private List<ContentVersion> loadChain(Long contentId, int versionSeq) {
+        ContentVersion target = contentVersionMapper.selectOne(Wrappers.<ContentVersion>lambdaQuery()
+                .select(ContentVersion::getId, ContentVersion::getKeyframeSeq)
+                .eq(ContentVersion::getContentId, contentId)
+                .eq(ContentVersion::getVersionSeq, versionSeq));
+        if (target == null) {
+            throw BusinessException.of(ErrorCode.NOT_FOUND, "版本不存在");
+        }
+
+        List<ContentVersion> chain = contentVersionMapper.selectList(Wrappers.<ContentVersion>lambdaQuery()
+                .eq(ContentVersion::getContentId, contentId)
+                .between(ContentVersion::getVersionSeq, target.getKeyframeSeq(), versionSeq)
+                .orderByAsc(ContentVersion::getVersionSeq));
+        if (chain.isEmpty() || chain.size() != versionSeq - target.getKeyframeSeq() + 1
+                || !VersionStorageTypeEnum.SNAPSHOT.getCode().equals(chain.get(0).getStorageType())) {
+            throw SystemException.of(ErrorCode.DATABASE_ERROR, "版本链不完整: contentId=" + contentId
+                    + ", seq=" + versionSeq);
+        }
+        return chain;
+    }
+
+    /**
+     * 从关键帧依次应用增量还原完整内容，并校验内容哈希
+     *
+     * @param chain 版本链
+     * @return 完整内容
+     */
+    private String reconstruct(List<ContentVersion> chain) {
+        String text = chain.get(0).getContent();
+        for (int i = 1; i < chain.size(); i++) {
+            text = LineDelta.apply(text, chain.get(i).getContent());
+        }
+        text = text == null ? "" : text;
+
+        ContentVersion target = chain.get(chain.size() - 1);
+        if (target.getContentHash() != null && !target.getContentHash().equals(DigestUtils.sha256Hex(text))) {
+            throw SystemException.of(ErrorCode.DATABASE_ERROR, "版本内容校验失败: contentId="
+                    + target.getContentId() + ", seq=" + target.getVersionSeq());
+        }
+        return text;
+    }
+
+    /**
+     * 校验当前用户为内容作者
+     *
+     * @param userId    用户ID
+     * @param contentId 内容ID
+     */
+    private void checkOwner(Long userId, Long contentId) {
+        Content meta = contentRepository.findMeta(contentId);
+        if (meta == null) {
+            throw BusinessException.of(ErrorCode.CONTENT_NOT_FOUND);
+        }
+        if (!meta.getAuthorId().equals(userId)) {
+            throw BusinessException.of(ErrorCode.CONTENT_ACCESS_DENIED);
+        }
+    }
+}
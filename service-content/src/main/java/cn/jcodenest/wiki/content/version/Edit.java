@@ -0,0 +1,58 @@
+package cn.jcodenest.wiki.content.version;
+
+/**
+ * 差异片段：旧序列 [beginA, endA) 与新序列 [beginB, endB) 的对应关系
+ *
+ * @param type   片段类型
+ * @param beginA 旧序列起始下标（含）
+ * @param endA   旧序列结束下标（不含）
+ * @param beginB 新序列起始下标（含）
+ * @param endB   新序列结束下标（不含）
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public record Edit(Type type, int beginA, int endA, int beginB, int endB) {
+
+    /**
+     * 片段类型
+     */
+    public enum Type {
+
+        /**
+         * 相同
+         */
+        EQUAL,
+
+        /**
+         * 删除（只占旧序列）
+         */
+        DELETE,
+
+        /**
+         * 插入（只占新序列）
+         */
+        INSERT
+    }
+
+    /**
+     * 旧序列中的长度
+     *
+     * @return 长度
+     */
+    public int lengthA() {
+        return endA - beginA;
+    }
+
+    /**
+     * 新序列中的长度
+     *
+     * @return 长度
+     */
+    public int lengthB() {
+        return endB - beginB;
+    }
+}
@@ -0,0 +1,132 @@
+package cn.jcodenest.wiki.content.version;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 行级增量编码
+ * <p>
+ * 增量由若干指令顺序组成，每条指令一行：
+ * <ul>
+ *     <li>{@code =n}：从基准文本复制 n 行</li>
+ *     <li>{@code -n}：跳过基准文本 n 行</li>
+ *     <li>{@code +c}：插入紧随其后的 c 个字符（原样保存，不做转义）</li>
+ * </ul>
+ * 行包含行尾换行符，基准文本与结果文本可以逐字符还原（包括末尾是否有换行）。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LineDelta {
+
+    /**
+     * 按行切分文本，每行保留行尾的换行符
+     *
+     * @param text 文本
+     * @return 行列表
+     */
+    public static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return lines;
+        }
+        int start = 0;
+        int end;
+        while ((end = text.indexOf('\n', start)) >= 0) {
+            lines.add(text.substring(start, end + 1));
+            start = end + 1;
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    /**
+     * 根据差异片段编码增量
+     *
+     * @param target 新文本行
+     * @param edits  差异片段
+     * @return 增量
+     */
+    public static String encode(List<String> target, List<Edit> edits) {
+        StringBuilder delta = new StringBuilder();
+        for (Edit edit : edits) {
+            switch (edit.type()) {
+                case EQUAL -> delta.append('=').append(edit.lengthA()).append('\n');
+                case DELETE -> delta.append('-').append(edit.lengthA()).append('\n');
+                case INSERT -> {
+                    int length = 0;
+                    for (int j = edit.beginB(); j < edit.endB(); j++) {
+                        length += target.get(j).length();
+                    }
+                    delta.append('+').append(length).append('\n');
+                    for (int j = edit.beginB(); j < edit.endB(); j++) {
+                        delta.append(target.get(j));
+                    }
+                }
+            }
+        }
+        return delta.toString();
+    }
+
+    /**
+     * 将增量应用到基准文本
+     *
+     * @param base  基准文本
+     * @param delta 增量
+     * @return 结果文本
+     * @throws IllegalArgumentException 增量格式错误或与基准文本不匹配
+     */
+    public static String apply(String base, String delta) {
+        List<String> lines = lines(base);
+        StringBuilder result = new StringBuilder(base == null ? delta.length() : base.length() + delta.length());
+        int line = 0;
+        int pos = 0;
+        while (pos < delta.length()) {
+            char op = delta.charAt(pos);
+            int newline = delta.indexOf('\n', pos);
+            if (newline < 0) {
+                throw new IllegalArgumentException("增量指令不完整: pos=" + pos);
+            }
+            int count = Integer.parseInt(delta, pos + 1, newline, 10);
+            pos = newline + 1;
+            switch (op) {
+                case '=' -> {
+                    if (line + count > lines.size()) {
+                        throw new IllegalArgumentException("增量与基准文本不匹配: line=" + line + ", count=" + count);
+                    }
+                    for (int i = 0; i < count; i++) {
+                        result.append(lines.get(line++));
+                    }
+                }
+                case '-' -> {
+                    if (line + count > lines.size()) {
+                        throw new IllegalArgumentException("增量与基准文本不匹配: line=" + line + ", count=" + count);
+                    }
+                    line += count;
+                }
+                case '+' -> {
+                    if (pos + count > delta.length()) {
+                        throw new IllegalArgumentException("增量插入内容不完整: pos=" + pos);
+                    }
+                    result.append(delta, pos, pos + count);
+                    pos += count;
+                }
+                default -> throw new IllegalArgumentException("未知的增量指令: " + op);
+            }
+        }
+        if (line != lines.size()) {
+            throw new IllegalArgumentException("增量未覆盖全部基准文本: line=" + line + ", total=" + lines.size());
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,232 @@
+package cn.jcodenest.wiki.content.version;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Myers 差异算法（线性空间版本）
+ * <p>
+ * 先去掉公共前后缀，再用“中间蛇”二分递归：每层从两端同时推进 D-path，相遇处把问题一分为二，
+ * 时间 O((N+M)·D)，空间 O(N+M)。D 为最短编辑距离，文档编辑通常只改动少量行，D 远小于行数。
+ * <p>
+ * 调用方可以给出编辑距离上限：超过上限时放弃计算并返回 null（用于判断差异是否值得存储）。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MyersDiff {
+
+    /**
+     * 计算两组文本行的差异
+     *
+     * @param a        旧文本行
+     * @param b        新文本行
+     * @param maxEdits 编辑距离上限（插入行数 + 删除行数），小于等于 0 表示不限制
+     * @return 按顺序排列、覆盖两个序列全部范围的差异片段，超过上限时返回 null
+     */
+    public static List<Edit> diff(List<String> a, List<String> b, int maxEdits) {
+        // 行内容映射为整数，比较时不再逐字符比较字符串
+        Map<String, Integer> ids = new HashMap<>(a.size() + b.size());
+        int[] x = intern(a, ids);
+        int[] y = intern(b, ids);
+
+        Builder builder = new Builder();
+        int limit = maxEdits > 0 ? maxEdits : Integer.MAX_VALUE;
+        if (!new Solver(x, y, limit).diff(0, x.length, 0, y.length, builder)) {
+            return null;
+        }
+        return builder.edits;
+    }
+
+    /**
+     * 行内容映射为整数ID
+     *
+     * @param lines 文本行
+     * @param ids   内容到ID的映射
+     * @return ID序列
+     */
+    private static int[] intern(List<String> lines, Map<String, Integer> ids) {
+        int[] result = new int[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.computeIfAbsent(lines.get(i), key -> ids.size());
+        }
+        return result;
+    }
+
+    /**
+     * 递归求解器
+     */
+    private static final class Solver {
+
+        private final int[] a;
+
+        private final int[] b;
+
+        private final int limit;
+
+        /** 正向与反向推进时各对角线上到达的最远 x（反向为距末尾的距离） */
+        private final int[] forward;
+
+        private final int[] backward;
+
+        /** 对角线下标偏移，k ∈ [-max, max] 映射到 [0, 2·max] */
+        private final int offset;
+
+        Solver(int[] a, int[] b, int limit) {
+            this.a = a;
+            this.b = b;
+            this.limit = limit;
+            this.offset = (a.length + b.length + 1) / 2 + 1;
+            this.forward = new int[2 * offset + 1];
+            this.backward = new int[2 * offset + 1];
+        }
+
+        /**
+         * 求解 a[aLo, aHi) 与 b[bLo, bHi) 的差异
+         *
+         * @return false-编辑距离超过上限
+         */
+        boolean diff(int aLo, int aHi, int bLo, int bHi, Builder builder) {
+            int prefixEnd = aLo;
+            int bPrefixEnd = bLo;
+            while (prefixEnd < aHi && bPrefixEnd < bHi && a[prefixEnd] == b[bPrefixEnd]) {
+                prefixEnd++;
+                bPrefixEnd++;
+            }
+            builder.equal(aLo, prefixEnd, bLo, bPrefixEnd);
+
+            int suffixStart = aHi;
+            int bSuffixStart = bHi;
+            while (suffixStart > prefixEnd && bSuffixStart > bPrefixEnd && a[suffixStart - 1] == b[bSuffixStart - 1]) {
+                suffixStart--;
+                bSuffixStart--;
+            }
+
+            if (prefixEnd == suffixStart) {
+                builder.insert(prefixEnd, bPrefixEnd, bSuffixStart);
+            } else if (bPrefixEnd == bSuffixStart) {
+                builder.delete(prefixEnd, suffixStart, bPrefixEnd);
+            } else {
+                int[] snake = middleSnake(prefixEnd, suffixStart, bPrefixEnd, bSuffixStart);
+                if (snake == null) {
+                    return false;
+                }
+                if (!diff(prefixEnd, snake[0], bPrefixEnd, snake[1], builder)) {
+                    return false;
+                }
+                builder.equal(snake[0], snake[2], snake[1], snake[3]);
+                if (!diff(snake[2], suffixStart, snake[3], bSuffixStart, builder)) {
+                    return false;
+                }
+            }
+
+            builder.equal(suffixStart, aHi, bSuffixStart, bHi);
+            return true;
+        }
+
+        /**
+         * 查找中间蛇
+         *
+         * @return {x0, y0, x1, y1}：蛇的起点与终点（绝对下标），编辑距离超过上限时返回 null
+         */
+        private int[] middleSnake(int aLo, int aHi, int bLo, int bHi) {
+            int n = aHi - aLo;
+            int m = bHi - bLo;
+            int delta = n - m;
+            boolean odd = (delta & 1) != 0;
+            int max = (n + m + 1) / 2;
+
+            forward[offset + 1] = 0;
+            backward[offset + 1] = 0;
+            for (int d = 0; d <= max; d++) {
+                // 最短编辑距离至少为 2d - 1
+                if (2 * d - 1 > limit) {
+                    return null;
+                }
+
+                for (int k = -d; k <= d; k += 2) {
+                    int x = k == -d || k != d && forward[offset + k - 1] < forward[offset + k + 1]
+                            ? forward[offset + k + 1]
+                            : forward[offset + k - 1] + 1;
+                    int y = x - k;
+                    int x0 = x;
+                    int y0 = y;
+                    while (x < n && y < m && a[aLo + x] == b[bLo + y]) {
+                        x++;
+                        y++;
+                    }
+                    forward[offset + k] = x;
+
+                    int c = delta - k;
+                    if (odd && c >= -(d - 1) && c <= d - 1 && x + backward[offset + c] >= n) {
+                        return new int[]{aLo + x0, bLo + y0, aLo + x, bLo + y};
+                    }
+                }
+
+                for (int k = -d; k <= d; k += 2) {
+                    int x = k == -d || k != d && backward[offset + k - 1] < backward[offset + k + 1]
+                            ? backward[offset + k + 1]
+                            : backward[offset + k - 1] + 1;
+                    int y = x - k;
+                    int x0 = x;
+                    int y0 = y;
+                    while (x < n && y < m && a[aHi - 1 - x] == b[bHi - 1 - y]) {
+                        x++;
+                        y++;
+                    }
+                    backward[offset + k] = x;
+
+                    int c = delta - k;
+                    if (!odd && c >= -d && c <= d && x + forward[offset + c] >= n) {
+                        return new int[]{aHi - x, bHi - y, aHi - x0, bHi - y0};
+                    }
+                }
+            }
+            throw new IllegalStateException("middle snake not found");
+        }
+    }
+
+    /**
+     * 差异片段收集器，合并相邻的同类片段
+     */
+    private static final class Builder {
+
+        private final List<Edit> edits = new ArrayList<>();
+
+        void equal(int beginA, int endA, int beginB, int endB) {
+            add(Edit.Type.EQUAL, beginA, endA, beginB, endB);
+        }
+
+        void delete(int beginA, int endA, int b) {
+            add(Edit.Type.DELETE, beginA, endA, b, b);
+        }
+
+        void insert(int a, int beginB, int endB) {
+            add(Edit.Type.INSERT, a, a, beginB, endB);
+        }
+
+        private void add(Edit.Type type, int beginA, int endA, int beginB, int endB) {
+            if (beginA == endA && beginB == endB) {
+                return;
+            }
+            if (!edits.isEmpty()) {
+                Edit last = edits.get(edits.size() - 1);
+                if (last.type() == type) {
+                    edits.set(edits.size() - 1, new Edit(type, last.beginA(), endA, last.beginB(), endB));
+                    return;
+                }
+            }
+            edits.add(new Edit(type, beginA, endA, beginB, endB));
+        }
+    }
+}
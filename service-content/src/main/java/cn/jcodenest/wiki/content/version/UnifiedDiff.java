@@ -0,0 +1,107 @@
+package cn.jcodenest.wiki.content.version;
+
+import cn.jcodenest.wiki.content.vo.DiffHunkVO;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 统一差异格式（unified diff）的差异块生成
+ * <p>
+ * 相邻改动之间相同的行不超过两倍上下文时合并为一个差异块。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UnifiedDiff {
+
+    /**
+     * 生成差异块
+     *
+     * @param a       旧文本行
+     * @param b       新文本行
+     * @param edits   差异片段（{@link MyersDiff#diff} 的结果）
+     * @param context 上下文行数
+     * @return 差异块
+     */
+    public static List<DiffHunkVO> hunks(List<String> a, List<String> b, List<Edit> edits, int context) {
+        List<DiffHunkVO> hunks = new ArrayList<>();
+        int i = 0;
+        while (i < edits.size()) {
+            if (edits.get(i).type() == Edit.Type.EQUAL) {
+                i++;
+                continue;
+            }
+
+            int first = i;
+            int last = i;
+            for (int j = i + 1; j < edits.size(); j++) {
+                Edit edit = edits.get(j);
+                if (edit.type() != Edit.Type.EQUAL) {
+                    last = j;
+                } else if (edit.lengthA() > 2 * context || j == edits.size() - 1) {
+                    break;
+                }
+            }
+
+            int before = first > 0 ? Math.min(context, edits.get(first - 1).lengthA()) : 0;
+            int after = last + 1 < edits.size() ? Math.min(context, edits.get(last + 1).lengthA()) : 0;
+            int startA = edits.get(first).beginA() - before;
+            int startB = edits.get(first).beginB() - before;
+            int endA = edits.get(last).endA() + after;
+            int endB = edits.get(last).endB() + after;
+
+            List<String> lines = new ArrayList<>();
+            append(lines, ' ', a, startA, edits.get(first).beginA());
+            for (int k = first; k <= last; k++) {
+                Edit edit = edits.get(k);
+                switch (edit.type()) {
+                    case EQUAL -> append(lines, ' ', a, edit.beginA(), edit.endA());
+                    case DELETE -> append(lines, '-', a, edit.beginA(), edit.endA());
+                    case INSERT -> append(lines, '+', b, edit.beginB(), edit.endB());
+                }
+            }
+            append(lines, ' ', a, edits.get(last).endA(), endA);
+
+            DiffHunkVO hunk = new DiffHunkVO();
+            hunk.setOldStart(startA + 1);
+            hunk.setOldLines(endA - startA);
+            hunk.setNewStart(startB + 1);
+            hunk.setNewLines(endB - startB);
+            hunk.setLines(lines);
+            hunks.add(hunk);
+            i = last + 1;
+        }
+        return hunks;
+    }
+
+    /**
+     * 追加差异行
+     *
+     * @param lines  差异行
+     * @param prefix 行首标记
+     * @param source 来源文本行
+     * @param begin  起始下标（含）
+     * @param end    结束下标（不含）
+     */
+    private static void append(List<String> lines, char prefix, List<String> source, int begin, int end) {
+        for (int i = begin; i < end; i++) {
+            String line = source.get(i);
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\n') {
+                length--;
+            }
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                length--;
+            }
+            lines.add(prefix + line.substring(0, length));
+        }
+    }
+}
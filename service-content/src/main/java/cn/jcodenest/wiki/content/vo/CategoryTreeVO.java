@@ -0,0 +1,59 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 分类树节点
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class CategoryTreeVO {
+
+    /**
+     * 分类ID
+     */
+    private Long id;
+
+    /**
+     * 分类名称
+     */
+    private String categoryName;
+
+    /**
+     * 分类编码
+     */
+    private String categoryCode;
+
+    /**
+     * 父分类ID，0表示顶级分类
+     */
+    private Long parentId;
+
+    /**
+     * 分类层级（顶级为1）
+     */
+    private Integer level;
+
+    /**
+     * 本分类的内容数量
+     */
+    private Integer contentCount;
+
+    /**
+     * 含全部子分类的内容数量
+     */
+    private Long totalContentCount;
+
+    /**
+     * 子分类（路径查询时为空）
+     */
+    private List<CategoryTreeVO> children;
+}
@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容审核记录
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentAuditVO {
+
+    /**
+     * 审核ID
+     */
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    private Long contentId;
+
+    /**
+     * 审核类型：1-发布审核，2-修改审核，3-举报审核
+     */
+    private Integer auditType;
+
+    /**
+     * 审核状态：0-待审核，1-审核通过，2-审核拒绝
+     */
+    private Integer auditStatus;
+
+    /**
+     * 审核阶段：0-自动检查，1-人工复核
+     */
+    private Integer auditStage;
+
+    /**
+     * 审核员ID，自动审核为null
+     */
+    private Long auditorId;
+
+    /**
+     * 审核意见
+     */
+    private String auditReason;
+
+    /**
+     * 审核时间
+     */
+    private LocalDateTime auditTime;
+
+    /**
+     * 提交时间
+     */
+    private LocalDateTime submitTime;
+}
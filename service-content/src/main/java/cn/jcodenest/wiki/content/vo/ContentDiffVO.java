@@ -0,0 +1,44 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 版本差异
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentDiffVO {
+
+    /**
+     * 旧版本序号
+     */
+    private Integer fromVersion;
+
+    /**
+     * 新版本序号
+     */
+    private Integer toVersion;
+
+    /**
+     * 新增行数
+     */
+    private Integer additions;
+
+    /**
+     * 删除行数
+     */
+    private Integer deletions;
+
+    /**
+     * 差异块
+     */
+    private List<DiffHunkVO> hunks;
+}
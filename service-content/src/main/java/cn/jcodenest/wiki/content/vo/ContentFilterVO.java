@@ -0,0 +1,35 @@
+package cn.jcodenest.wiki.content.vo;
+
+import cn.jcodenest.wiki.common.response.PageResult;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 内容过滤结果
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentFilterVO {
+
+    /**
+     * 匹配的内容（新内容在前）
+     */
+    private PageResult<ContentListVO> contents;
+
+    /**
+     * 标签分面（按数量倒序）
+     */
+    private List<FacetVO> tags;
+
+    /**
+     * 分类分面（按分类排序顺序）
+     */
+    private List<FacetVO> categories;
+}
@@ -0,0 +1,120 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 内容列表项（只含元数据，不含正文）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentListVO {
+
+    /**
+     * 内容ID
+     */
+    private Long id;
+
+    /**
+     * 内容标题
+     */
+    private String title;
+
+    /**
+     * 副标题
+     */
+    private String subtitle;
+
+    /**
+     * 内容类型
+     */
+    private String contentType;
+
+    /**
+     * 作者用户ID
+     */
+    private Long authorId;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 封面图片URL
+     */
+    private String coverImage;
+
+    /**
+     * 状态
+     */
+    private Integer status;
+
+    /**
+     * 可见性
+     */
+    private Integer visibility;
+
+    /**
+     * 价格（元）
+     */
+    private BigDecimal price;
+
+    /**
+     * 浏览次数
+     */
+    private Integer viewCount;
+
+    /**
+     * 点赞次数
+     */
+    private Integer likeCount;
+
+    /**
+     * 评论次数
+     */
+    private Integer commentCount;
+
+    /**
+     * 收藏次数
+     */
+    private Integer favoriteCount;
+
+    /**
+     * 字数统计
+     */
+    private Integer wordCount;
+
+    /**
+     * 预计阅读时间（分钟）
+     */
+    private Integer readingTime;
+
+    /**
+     * 是否置顶
+     */
+    private Integer isTop;
+
+    /**
+     * 是否推荐
+     */
+    private Integer isRecommend;
+
+    /**
+     * 发布时间
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
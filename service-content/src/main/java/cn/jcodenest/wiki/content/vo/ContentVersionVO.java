@@ -0,0 +1,74 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容版本列表项（不含版本内容）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ContentVersionVO {
+
+    /**
+     * 版本ID
+     */
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    private Long contentId;
+
+    /**
+     * 版本号
+     */
+    private String versionNumber;
+
+    /**
+     * 版本序号
+     */
+    private Integer versionSeq;
+
+    /**
+     * 版本标题
+     */
+    private String title;
+
+    /**
+     * 修改者ID
+     */
+    private Long authorId;
+
+    /**
+     * 内容大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 字数统计
+     */
+    private Integer wordCount;
+
+    /**
+     * 是否当前版本
+     */
+    private Integer isCurrent;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 版本内容（Markdown），只在查询单个版本时返回
+     */
+    private String content;
+}
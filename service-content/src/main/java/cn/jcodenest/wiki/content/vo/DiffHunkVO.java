@@ -0,0 +1,44 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 差异块（统一差异格式）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class DiffHunkVO {
+
+    /**
+     * 旧版本起始行号（从1开始）
+     */
+    private Integer oldStart;
+
+    /**
+     * 旧版本行数
+     */
+    private Integer oldLines;
+
+    /**
+     * 新版本起始行号（从1开始）
+     */
+    private Integer newStart;
+
+    /**
+     * 新版本行数
+     */
+    private Integer newLines;
+
+    /**
+     * 差异行，首字符为 ' '（上下文）、'-'（删除）或 '+'（新增），不含行尾换行符
+     */
+    private List<String> lines;
+}
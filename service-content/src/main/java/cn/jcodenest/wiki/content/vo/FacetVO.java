@@ -0,0 +1,32 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+/**
+ * 分面计数
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class FacetVO {
+
+    /**
+     * 标签或分类ID
+     */
+    private Long id;
+
+    /**
+     * 标签或分类名称
+     */
+    private String name;
+
+    /**
+     * 匹配的内容数量
+     */
+    private Integer count;
+}
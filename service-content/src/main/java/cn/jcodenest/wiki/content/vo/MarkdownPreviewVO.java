@@ -0,0 +1,42 @@
+package cn.jcodenest.wiki.content.vo;
+
+import lombok.Data;
+
+/**
+ * Markdown 预览结果
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class MarkdownPreviewVO {
+
+    /**
+     * 渲染后的HTML
+     */
+    private String html;
+
+    /**
+     * 字数统计
+     */
+    private Integer wordCount;
+
+    /**
+     * 预计阅读时间（分钟）
+     */
+    private Integer readingTime;
+
+    /**
+     * 文档块数
+     */
+    private Integer blocks;
+
+    /**
+     * 本次重新渲染的块数，其余块复用缓存
+     */
+    private Integer renderedBlocks;
+}
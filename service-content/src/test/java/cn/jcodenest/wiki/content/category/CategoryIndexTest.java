@@ -0,0 +1,207 @@
+package cn.jcodenest.wiki.content.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CategoryIndex} 随机测试
+ * <p>
+ * 随机生成含孤儿（父分类不存在）与 parent_id 环的分类森林，以逐级向上查找父分类的暴力实现为参照，
+ * 校验子树判断、子树ID（先序）、子树内容数、路径、深度与直接子分类。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+class CategoryIndexTest {
+
+    private static final int ROUNDS = 5000;
+
+    /** 不存在的分类ID */
+    private static final long MISSING_ID = 1000L;
+
+    private static final Comparator<CategoryNode> ORDER = Comparator.comparingInt(CategoryNode::sortOrder)
+            .thenComparing(CategoryNode::id);
+
+    @Test
+    void matchesParentWalk() {
+        Random random = new Random(20261019L);
+        for (int round = 0; round < ROUNDS; round++) {
+            List<CategoryNode> categories = randomForest(random);
+            CategoryIndex index = CategoryIndex.build(categories);
+            Map<Long, Long> parents = effectiveParents(categories);
+            Map<Long, CategoryNode> byId = new HashMap<>();
+            categories.forEach(node -> byId.put(node.id(), node));
+            String forest = categories.toString();
+
+            assertEquals(categories.size(), index.size());
+            assertEquals(preorder(null, byId, parents), flatten(index.children(null), index), forest);
+            assertEquals(sortedChildren(null, byId, parents), index.children(null), forest);
+            for (CategoryNode node : categories) {
+                Long id = node.id();
+                List<CategoryNode> path = path(id, byId, parents);
+                assertEquals(path, index.path(id), forest);
+                assertEquals(path.size() - 1, index.depth(id), forest);
+                assertEquals(preorder(id, byId, parents), index.subtreeIds(id), forest);
+                assertEquals(sortedChildren(id, byId, parents), index.children(id), forest);
+
+                long count = 0L;
+                for (CategoryNode other : categories) {
+                    boolean inSubtree = path(other.id(), byId, parents).contains(node);
+                    assertEquals(inSubtree, index.isInSubtree(id, other.id()), forest);
+                    if (inSubtree) {
+                        count += other.contentCount();
+                    }
+                }
+                assertEquals(count, index.subtreeContentCount(id), forest);
+            }
+        }
+    }
+
+    @Test
+    void missingCategory() {
+        CategoryIndex index = CategoryIndex.build(List.of(node(1L, 0L, 0, 3)));
+        assertFalse(index.contains(MISSING_ID));
+        assertFalse(index.contains(null));
+        assertNull(index.get(MISSING_ID));
+        assertNull(index.range(MISSING_ID));
+        assertEquals(-1, index.depth(MISSING_ID));
+        assertEquals(0L, index.subtreeContentCount(MISSING_ID));
+        assertTrue(index.subtreeIds(MISSING_ID).isEmpty());
+        assertTrue(index.path(MISSING_ID).isEmpty());
+        assertTrue(index.children(MISSING_ID).isEmpty());
+        assertFalse(index.isInSubtree(MISSING_ID, 1L));
+        assertFalse(index.isInSubtree(1L, MISSING_ID));
+        assertEquals(List.of(node(1L, 0L, 0, 3)), index.children(CategoryIndex.ROOT_PARENT_ID));
+    }
+
+    @Test
+    void breaksCycleAtSmallestMember() {
+        // 5 -> 6 -> 5 构成环，1 挂在环上且 ID 更小，断开的应是环上的 5 而不是 1
+        CategoryIndex index = CategoryIndex.build(List.of(node(5L, 6L, 0, 0), node(6L, 5L, 0, 0),
+                node(1L, 5L, 0, 0)));
+        assertEquals(List.of(5L, 1L, 6L), index.subtreeIds(5L));
+        assertEquals(0, index.depth(5L));
+        assertEquals(1, index.depth(1L));
+    }
+
+    /**
+     * 暴力计算有效父分类：父分类为 0 或不存在时为顶级分类；在环上且是环上 ID 最小的分类时也视为顶级分类
+     */
+    private static Map<Long, Long> effectiveParents(List<CategoryNode> categories) {
+        Map<Long, Long> declared = new HashMap<>();
+        categories.forEach(node -> declared.put(node.id(), node.parentId()));
+
+        Map<Long, Long> parents = new HashMap<>();
+        for (CategoryNode node : categories) {
+            Long parentId = node.parentId();
+            if (parentId == CategoryIndex.ROOT_PARENT_ID || !declared.containsKey(parentId)) {
+                parents.put(node.id(), null);
+                continue;
+            }
+            // 沿父分类走 n 步，回到自身说明在环上
+            List<Long> walk = new ArrayList<>();
+            Long current = node.id();
+            boolean onCycle = false;
+            for (int i = 0; i < categories.size(); i++) {
+                walk.add(current);
+                current = declared.get(current);
+                if (current == null || current == CategoryIndex.ROOT_PARENT_ID || !declared.containsKey(current)) {
+                    break;
+                }
+                if (current.equals(node.id())) {
+                    onCycle = true;
+                    break;
+                }
+            }
+            boolean smallest = onCycle && walk.stream().allMatch(id -> id >= node.id());
+            parents.put(node.id(), smallest ? null : parentId);
+        }
+        return parents;
+    }
+
+    /**
+     * 从顶级分类到自身的路径
+     */
+    private static List<CategoryNode> path(Long id, Map<Long, CategoryNode> byId, Map<Long, Long> parents) {
+        List<CategoryNode> path = new ArrayList<>();
+        Set<Long> seen = new LinkedHashSet<>();
+        for (Long current = id; current != null; current = parents.get(current)) {
+            assertTrue(seen.add(current), "有效父分类仍然成环: " + seen);
+            path.add(0, byId.get(current));
+        }
+        return path;
+    }
+
+    private static List<CategoryNode> sortedChildren(Long id, Map<Long, CategoryNode> byId,
+                                                     Map<Long, Long> parents) {
+        List<CategoryNode> children = new ArrayList<>();
+        parents.forEach((child, parent) -> {
+            if (id == null ? parent == null : id.equals(parent)) {
+                children.add(byId.get(child));
+            }
+        });
+        children.sort(ORDER);
+        return children;
+    }
+
+    /**
+     * 先序遍历；id 为 null 时遍历整个森林
+     */
+    private static List<Long> preorder(Long id, Map<Long, CategoryNode> byId, Map<Long, Long> parents) {
+        List<Long> ids = new ArrayList<>();
+        if (id != null) {
+            ids.add(id);
+        }
+        for (CategoryNode child : sortedChildren(id, byId, parents)) {
+            ids.addAll(preorder(child.id(), byId, parents));
+        }
+        return ids;
+    }
+
+    private static List<Long> flatten(List<CategoryNode> roots, CategoryIndex index) {
+        List<Long> ids = new ArrayList<>();
+        roots.forEach(root -> ids.addAll(index.subtreeIds(root.id())));
+        return ids;
+    }
+
+    /**
+     * 随机森林：ID 取自较小的范围，父分类随机为 0、不存在的ID或任意已有分类（可能成环）
+     */
+    private static List<CategoryNode> randomForest(Random random) {
+        int count = 1 + random.nextInt(30);
+        Set<Long> ids = new LinkedHashSet<>();
+        while (ids.size() < count) {
+            ids.add(1L + random.nextInt(60));
+        }
+        List<Long> idList = new ArrayList<>(ids);
+        List<CategoryNode> categories = new ArrayList<>(count);
+        for (Long id : idList) {
+            int kind = random.nextInt(10);
+            long parentId = kind < 3 ? CategoryIndex.ROOT_PARENT_ID
+                    : kind == 3 ? MISSING_ID : idList.get(random.nextInt(idList.size()));
+            categories.add(node(id, parentId, random.nextInt(4), random.nextInt(6)));
+        }
+        return categories;
+    }
+
+    private static CategoryNode node(long id, long parentId, int sortOrder, int contentCount) {
+        return new CategoryNode(id, "c" + id, "c" + id, parentId, sortOrder, contentCount, true);
+    }
+}
@@ -0,0 +1,212 @@
+package cn.jcodenest.wiki.content.collab;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link CollabDocument} 多客户端模拟测试
+ * <p>
+ * 每个客户端最多有一个未确认的操作，服务端消息按会话顺序但随机延迟送达：收到他人的操作时，
+ * 客户端与未确认操作互相变换后执行（与 ot.js 客户端相同）。所有消息送达后，各客户端的文档必须与服务端一致。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+class CollabDocumentTest {
+
+    private static final int SESSIONS = 3000;
+
+    private static final int MAX_LENGTH = 10_000;
+
+    private static final String CHARS = "ab\n";
+
+    @Test
+    void clientsConverge() {
+        Random random = new Random(20261019L);
+        for (int round = 0; round < SESSIONS; round++) {
+            String initial = randomText(random, random.nextInt(10));
+            CollabDocument server = new CollabDocument(1L, initial, 0, 1000);
+            List<Client> clients = new ArrayList<>();
+            for (int i = 0, n = 2 + random.nextInt(4); i < n; i++) {
+                clients.add(new Client(initial));
+            }
+            // 已发出、服务端尚未处理的操作
+            Deque<Client> senders = new ArrayDeque<>();
+
+            for (int step = 0, steps = random.nextInt(60); step < steps; step++) {
+                Client client = clients.get(random.nextInt(clients.size()));
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        if (client.outstanding == null) {
+                            TextOperation operation = randomOperation(random, client.text.length());
+                            operation.apply(client.text);
+                            client.outstanding = operation;
+                            client.sent = operation;
+                            client.sentRevision = client.revision;
+                            senders.add(client);
+                        }
+                    }
+                    case 1 -> {
+                        if (!senders.isEmpty()) {
+                            serve(server, clients, senders.poll());
+                        }
+                    }
+                    default -> client.receive();
+                }
+            }
+
+            while (!senders.isEmpty()) {
+                serve(server, clients, senders.poll());
+            }
+            for (Client client : clients) {
+                while (!client.inbox.isEmpty()) {
+                    client.receive();
+                }
+                assertEquals(server.text(), client.text.toString(), "initial=" + initial);
+                assertEquals(server.getRevision(), client.revision);
+            }
+        }
+    }
+
+    @Test
+    void rejectsStaleRevision() {
+        CollabDocument document = new CollabDocument(1L, "", 0, 2);
+        for (int i = 0; i < 3; i++) {
+            document.apply(i, new TextOperation().retain(i).insert("x"), 1L, MAX_LENGTH);
+        }
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> document.apply(0, TextOperation.of(List.of("y")), 1L, MAX_LENGTH));
+        assertEquals(ErrorCode.CONFLICT.getCode(), e.getCode());
+        assertThrows(BusinessException.class,
+                () -> document.apply(4, TextOperation.of(List.of(3, "y")), 1L, MAX_LENGTH));
+    }
+
+    @Test
+    void rejectsMismatchedOperation() {
+        CollabDocument document = new CollabDocument(1L, "abc", 0, 10);
+        document.apply(0, TextOperation.of(List.of(3, "d")), 1L, MAX_LENGTH);
+
+        // 基于最新修订但长度不符
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> document.apply(1, TextOperation.of(List.of(3)), 1L, MAX_LENGTH));
+        assertEquals(ErrorCode.PARAMETER_INVALID.getCode(), e.getCode());
+        // 基于旧修订且长度不符，变换阶段即失败，也必须转换为业务异常
+        e = assertThrows(BusinessException.class,
+                () -> document.apply(0, TextOperation.of(List.of(5)), 1L, MAX_LENGTH));
+        assertEquals(ErrorCode.PARAMETER_INVALID.getCode(), e.getCode());
+
+        e = assertThrows(BusinessException.class,
+                () -> document.apply(1, TextOperation.of(List.of(4, "xy")), 1L, 5));
+        assertEquals(ErrorCode.PARAMETER_LENGTH_ERROR.getCode(), e.getCode());
+        assertEquals("abcd", document.text());
+        assertEquals(1L, document.getRevision());
+    }
+
+    /**
+     * 服务端执行客户端的操作：执行方收到确认，其他客户端收到变换后的操作
+     */
+    private static void serve(CollabDocument server, List<Client> clients, Client sender) {
+        TextOperation applied = server.apply(sender.sentRevision, sender.sent, 1L, MAX_LENGTH);
+        for (Client client : clients) {
+            client.inbox.add(new Message(client == sender ? null : applied, server.getRevision()));
+        }
+    }
+
+    private static TextOperation randomOperation(Random random, int length) {
+        TextOperation operation = new TextOperation();
+        int remaining = length;
+        while (remaining > 0 || random.nextInt(3) == 0) {
+            int kind = random.nextInt(3);
+            if (kind == 0 || remaining == 0) {
+                operation.insert(randomText(random, 1 + random.nextInt(3)));
+                if (remaining == 0) {
+                    break;
+                }
+            } else {
+                int n = 1 + random.nextInt(remaining);
+                if (kind == 1) {
+                    operation.retain(n);
+                } else {
+                    operation.delete(n);
+                }
+                remaining -= n;
+            }
+        }
+        return operation;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return text.toString();
+    }
+
+    /**
+     * 服务端下发的消息
+     *
+     * @param operation 他人的操作；为 null 时表示确认自己的操作
+     * @param revision  执行后的修订号
+     */
+    private record Message(TextOperation operation, long revision) {
+    }
+
+    /**
+     * 模拟客户端
+     */
+    private static final class Client {
+
+        private final StringBuilder text;
+
+        private final Deque<Message> inbox = new ArrayDeque<>();
+
+        /** 已确认的修订号 */
+        private long revision;
+
+        /** 未确认的操作，随收到的他人操作变换，始终基于本地文档 */
+        private TextOperation outstanding;
+
+        /** 发出时的原始操作，服务端按它与发出时的修订号执行 */
+        private TextOperation sent;
+
+        /** 原始操作所基于的修订号 */
+        private long sentRevision;
+
+        private Client(String text) {
+            this.text = new StringBuilder(text);
+        }
+
+        private void receive() {
+            Message message = inbox.poll();
+            if (message == null) {
+                return;
+            }
+            if (message.operation() == null) {
+                outstanding = null;
+            } else if (outstanding == null) {
+                message.operation().apply(text);
+            } else {
+                // 服务端先执行了他人的操作，本地的未确认操作需排在其后
+                TextOperation[] primes = TextOperation.transform(outstanding, message.operation());
+                outstanding = primes[0];
+                primes[1].apply(text);
+            }
+            revision = message.revision();
+        }
+    }
+}
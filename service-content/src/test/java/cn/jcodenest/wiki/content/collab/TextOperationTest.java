@@ -0,0 +1,144 @@
+package cn.jcodenest.wiki.content.collab;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TextOperation} 随机测试
+ * <p>
+ * 对同一文档随机生成两个并发操作，校验变换满足 TP1：apply(apply(S, a), b') == apply(apply(S, b), a')；
+ * 并校验序列化往返、规范化表示以及非法分量与长度溢出被拒绝。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+class TextOperationTest {
+
+    private static final int ROUNDS = 200_000;
+
+    /** 字符取自很小的字母表，制造大量相同位置的插入与重叠删除 */
+    private static final String CHARS = "ab\n";
+
+    @Test
+    void transformConverges() {
+        Random random = new Random(20261019L);
+        for (int round = 0; round < ROUNDS; round++) {
+            String document = randomText(random, random.nextInt(16));
+            TextOperation a = randomOperation(random, document.length());
+            TextOperation b = randomOperation(random, document.length());
+            TextOperation[] primes = TextOperation.transform(a, b);
+
+            String left = apply(apply(document, a), primes[1]);
+            String right = apply(apply(document, b), primes[0]);
+            assertEquals(left, right, () -> "document=" + document + ", a=" + a.toList() + ", b=" + b.toList());
+            assertEquals(left.length(), primes[1].getTargetLength());
+            assertEquals(right.length(), primes[0].getTargetLength());
+        }
+    }
+
+    @Test
+    void serializationRoundTrip() {
+        Random random = new Random(42L);
+        for (int round = 0; round < ROUNDS / 10; round++) {
+            String document = randomText(random, random.nextInt(16));
+            TextOperation operation = randomOperation(random, document.length());
+            TextOperation parsed = TextOperation.of(new ArrayList<>(operation.toList()));
+            assertEquals(operation.toList(), parsed.toList());
+            assertEquals(operation.getBaseLength(), parsed.getBaseLength());
+            assertEquals(operation.getTargetLength(), parsed.getTargetLength());
+            assertEquals(apply(document, operation), apply(document, parsed));
+        }
+    }
+
+    @Test
+    void normalizesComponents() {
+        TextOperation operation = TextOperation.of(Arrays.asList(1, 2, -1, "x", -2, "y", 3L, 4.0));
+        assertEquals(List.of(3, "xy", -3, 7), operation.toList());
+        assertEquals(13, operation.getBaseLength());
+        assertEquals(12, operation.getTargetLength());
+        assertTrue(TextOperation.of(List.of(5)).isNoop());
+        assertTrue(TextOperation.of(List.of()).isNoop());
+    }
+
+    @Test
+    void rejectsInvalidComponents() {
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(null));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(0)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(1.5)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(true)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(Arrays.asList(1, null)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(Integer.MAX_VALUE + 1L)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(Integer.MIN_VALUE)));
+    }
+
+    @Test
+    void rejectsLengthOverflow() {
+        // 两个保留分量合并后溢出为负数，不能被当作合法的 [-2, 5]
+        assertThrows(IllegalArgumentException.class,
+                () -> TextOperation.of(List.of(Integer.MAX_VALUE, Integer.MAX_VALUE, 5)));
+        assertThrows(IllegalArgumentException.class,
+                () -> TextOperation.of(List.of(-Integer.MAX_VALUE, -Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(Integer.MAX_VALUE, -1)));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.of(List.of(Integer.MAX_VALUE, "a", 1)));
+    }
+
+    @Test
+    void rejectsMismatchedOperations() {
+        TextOperation a = TextOperation.of(List.of(3));
+        TextOperation b = TextOperation.of(List.of(4));
+        assertThrows(IllegalArgumentException.class, () -> TextOperation.transform(a, b));
+        assertThrows(IllegalArgumentException.class, () -> a.apply(new StringBuilder("ab")));
+    }
+
+    /**
+     * 在指定长度的文档上随机生成操作：依次随机选择保留、删除或插入，直到覆盖整篇文档
+     */
+    private static TextOperation randomOperation(Random random, int length) {
+        TextOperation operation = new TextOperation();
+        int remaining = length;
+        while (remaining > 0 || random.nextInt(3) == 0) {
+            int kind = random.nextInt(3);
+            if (kind == 0 || remaining == 0) {
+                operation.insert(randomText(random, 1 + random.nextInt(3)));
+                if (remaining == 0) {
+                    break;
+                }
+            } else {
+                int n = 1 + random.nextInt(remaining);
+                if (kind == 1) {
+                    operation.retain(n);
+                } else {
+                    operation.delete(n);
+                }
+                remaining -= n;
+            }
+        }
+        return operation;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return text.toString();
+    }
+
+    private static String apply(String document, TextOperation operation) {
+        StringBuilder text = new StringBuilder(document);
+        operation.apply(text);
+        return text.toString();
+    }
+}
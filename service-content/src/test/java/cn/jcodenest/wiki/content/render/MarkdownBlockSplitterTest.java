@@ -0,0 +1,101 @@
+package cn.jcodenest.wiki.content.render;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link MarkdownBlockSplitter} 测试
+ * <p>
+ * 随机用标题、段落、列表、表格、围栏代码块、HTML 块、缩进代码块与链接引用定义拼出文档，校验切分的唯一约束：
+ * 各块单独渲染（前置全文的链接引用定义）后拼接，与整篇渲染的 HTML 完全一致。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+class MarkdownBlockSplitterTest {
+
+    private static final int ROUNDS = 2000;
+
+    private static final String[] UNITS = {
+            "# 标题\n",
+            "标题\n===\n",
+            "段落第一行\n段落第二行\n",
+            "见 [ref] 与 [missing]，*强调* ~~删除~~\n",
+            "> 引用\n",
+            "| a | b |\n|---|---|\n| 1 | 2 |\n",
+            "```java\nint a = 1;\n\nint b = 2;\n```\n",
+            "~~~~\n```\n\n~~~\n~~~~\n",
+            "<pre>\nline\n\n- not a list\n</pre>\n",
+            "<!--\n\n# not a heading\n-->\n",
+            "<div>\n*x*\n</div>\n",
+            "- item\n  continued\n",
+            "- [ref]\n",
+            "1. first\n2. second\n",
+            "    indented code\n",
+            "\tindented code\n",
+            "[ref]: https://example.com/ref \"title\"\n",
+            "[other]: /other\n"
+    };
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create(),
+            StrikethroughExtension.create());
+
+    private static final Parser PARSER = Parser.builder().extensions(EXTENSIONS).build();
+
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+
+    @Test
+    void blocksRenderLikeWholeDocument() {
+        Random random = new Random(20261019L);
+        for (int round = 0; round < ROUNDS; round++) {
+            StringBuilder markdown = new StringBuilder();
+            int count = random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                String separator = i == 0 ? "" : random.nextBoolean() ? "\n" : "\n\n";
+                markdown.append(separator).append(UNITS[random.nextInt(UNITS.length)]);
+            }
+            if (random.nextBoolean()) {
+                markdown.append('\n');
+            }
+
+            String source = markdown.toString();
+            MarkdownBlockSplitter.Blocks blocks = MarkdownBlockSplitter.split(source);
+            StringBuilder html = new StringBuilder();
+            for (String block : blocks.blocks()) {
+                html.append(render(blocks.definitions().isEmpty() ? block : blocks.definitions() + '\n' + block));
+            }
+            assertEquals(render(source), html.toString(), () -> "markdown=" + source + "\nblocks=" + blocks);
+        }
+    }
+
+    @Test
+    void linkDefinitions() {
+        MarkdownBlockSplitter.Blocks blocks = MarkdownBlockSplitter.split(
+                "[a]: https://example.com\n  \"title\"\n[b]: /b\n\npara [a]\n[c]: not a definition\n");
+        assertEquals(List.of("para [a]\n[c]: not a definition\n"), blocks.blocks());
+        assertEquals("[a]: https://example.com\n  \"title\"\n[b]: /b\n", blocks.definitions());
+    }
+
+    @Test
+    void carriageReturnAndUnclosedFence() {
+        assertEquals(List.of("a\n", "b\n"), MarkdownBlockSplitter.split("a\r\n\r\nb").blocks());
+        assertEquals(List.of("```\nx\n\ny\n"), MarkdownBlockSplitter.split("```\nx\n\ny").blocks());
+    }
+
+    private static String render(String markdown) {
+        return RENDERER.render(PARSER.parse(markdown));
+    }
+}
@@ -0,0 +1,157 @@
+package cn.jcodenest.wiki.content.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MyersDiff} 与 {@link LineDelta} 随机测试
+ * <p>
+ * 随机生成基准文本并做随机的行插入、删除与修改，校验差异片段覆盖两个序列、编辑距离与 LCS 一致，
+ * 以及增量编码后能逐字符还原新文本。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+class MyersDiffTest {
+
+    private static final int ROUNDS = 2000;
+
+    /** 行内容取自很小的字母表，制造大量重复行 */
+    private static final String[] WORDS = {"a", "b", "c", "d", "", "# title", "```", "- item"};
+
+    @Test
+    void roundTrip() {
+        Random random = new Random(20261019L);
+        for (int round = 0; round < ROUNDS; round++) {
+            String base = randomText(random, random.nextInt(40));
+            String target = mutate(random, base);
+            List<String> a = LineDelta.lines(base);
+            List<String> b = LineDelta.lines(target);
+
+            List<Edit> edits = MyersDiff.diff(a, b, 0);
+            assertNotNull(edits);
+            assertCovers(edits, a, b);
+            assertEquals(a.size() + b.size() - 2 * lcs(a, b), distance(edits),
+                    () -> "base=" + base + "\ntarget=" + target);
+            assertEquals(target, LineDelta.apply(base, LineDelta.encode(b, edits)),
+                    () -> "base=" + base + "\ntarget=" + target);
+        }
+    }
+
+    @Test
+    void editLimit() {
+        Random random = new Random(42L);
+        for (int round = 0; round < ROUNDS; round++) {
+            List<String> a = LineDelta.lines(randomText(random, random.nextInt(30)));
+            List<String> b = LineDelta.lines(mutate(random, String.join("", a)));
+            int distance = a.size() + b.size() - 2 * lcs(a, b);
+            int limit = 1 + random.nextInt(10);
+
+            List<Edit> edits = MyersDiff.diff(a, b, limit);
+            if (distance <= limit) {
+                assertNotNull(edits, () -> "distance=" + distance + ", limit=" + limit);
+            }
+            if (edits == null) {
+                assertTrue(distance > limit, () -> "distance=" + distance + ", limit=" + limit);
+            }
+        }
+    }
+
+    @Test
+    void emptyAndTrailingNewline() {
+        assertEquals("", LineDelta.apply("a\nb", LineDelta.encode(List.of(), MyersDiff.diff(
+                LineDelta.lines("a\nb"), List.of(), 0))));
+        assertEquals("a\nb", LineDelta.apply("", LineDelta.encode(LineDelta.lines("a\nb"), MyersDiff.diff(
+                List.of(), LineDelta.lines("a\nb"), 0))));
+        List<String> b = LineDelta.lines("a\nb\n");
+        assertEquals("a\nb\n", LineDelta.apply("a\nb", LineDelta.encode(b, MyersDiff.diff(
+                LineDelta.lines("a\nb"), b, 0))));
+    }
+
+    /**
+     * 片段按顺序首尾相接，覆盖两个序列的全部范围，相同片段的行确实相同
+     */
+    private static void assertCovers(List<Edit> edits, List<String> a, List<String> b) {
+        int i = 0;
+        int j = 0;
+        for (Edit edit : edits) {
+            assertEquals(i, edit.beginA());
+            assertEquals(j, edit.beginB());
+            switch (edit.type()) {
+                case EQUAL -> {
+                    assertEquals(edit.lengthA(), edit.lengthB());
+                    assertEquals(a.subList(edit.beginA(), edit.endA()), b.subList(edit.beginB(), edit.endB()));
+                }
+                case DELETE -> assertEquals(0, edit.lengthB());
+                case INSERT -> assertEquals(0, edit.lengthA());
+            }
+            i = edit.endA();
+            j = edit.endB();
+        }
+        assertEquals(a.size(), i);
+        assertEquals(b.size(), j);
+    }
+
+    private static int distance(List<Edit> edits) {
+        int distance = 0;
+        for (Edit edit : edits) {
+            if (edit.type() != Edit.Type.EQUAL) {
+                distance += edit.lengthA() + edit.lengthB();
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * 动态规划求最长公共子序列长度
+     */
+    private static int lcs(List<String> a, List<String> b) {
+        int[][] dp = new int[a.size() + 1][b.size() + 1];
+        for (int i = a.size() - 1; i >= 0; i--) {
+            for (int j = b.size() - 1; j >= 0; j--) {
+                dp[i][j] = a.get(i).equals(b.get(j)) ? dp[i + 1][j + 1] + 1 : Math.max(dp[i + 1][j], dp[i][j + 1]);
+            }
+        }
+        return dp[0][0];
+    }
+
+    private static String randomText(Random random, int lineCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append('\n');
+        }
+        // 末尾一半概率没有换行
+        if (text.length() > 0 && random.nextBoolean()) {
+            text.setLength(text.length() - 1);
+        }
+        return text.toString();
+    }
+
+    private static String mutate(Random random, String base) {
+        List<String> lines = new ArrayList<>(LineDelta.lines(base));
+        int operations = random.nextInt(8);
+        for (int i = 0; i < operations; i++) {
+            int kind = random.nextInt(3);
+            if (kind == 0 || lines.isEmpty()) {
+                lines.add(random.nextInt(lines.size() + 1), WORDS[random.nextInt(WORDS.length)] + "\n");
+            } else if (kind == 1) {
+                lines.remove(random.nextInt(lines.size()));
+            } else {
+                lines.set(random.nextInt(lines.size()), WORDS[random.nextInt(WORDS.length)] + "\n");
+            }
+        }
+        String text = String.join("", lines);
+        return random.nextInt(4) == 0 && text.endsWith("\n") ? text.substring(0, text.length() - 1) : text;
+    }
+}
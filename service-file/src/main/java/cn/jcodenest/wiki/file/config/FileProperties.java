@@ -0,0 +1,336 @@
+package cn.jcodenest.wiki.file.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文件服务配置属性
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcodenest.file")
+public class FileProperties {
+
+    /**
+     * 文件存储根目录
+     */
+    private String storagePath = "/data/jcodenest/files";
+
+    /**
+     * 分片上传临时目录，应与存储根目录位于同一文件系统，合并后可原子移动
+     */
+    private String tempPath = "/data/jcodenest/tmp";
+
+    /**
+     * 文件访问URL前缀
+     */
+    private String urlPrefix = "/files/";
+
+    /**
+     * 单个文件最大字节数
+     */
+    private long maxFileSize = 10L * 1024 * 1024 * 1024;
+
+    /**
+     * 默认分片大小（字节）
+     */
+    private int chunkSize = 5 * 1024 * 1024;
+
+    /**
+     * 单个文件最多分片数，文件过大时自动放大分片
+     */
+    private int maxChunks = 10000;
+
+    /**
+     * 上传会话有效期（小时），超时未完成的上传需重新开始
+     */
+    private long sessionExpireHours = 24L;
+
+    /**
+     * 下载配置
+     */
+    private Download download = new Download();
+
+    /**
+     * 存储配置
+     */
+    private Storage storage = new Storage();
+
+    /**
+     * 图片衍生文件配置
+     */
+    private Image image = new Image();
+
+    /**
+     * 分块去重配置
+     */
+    private Chunking chunking = new Chunking();
+
+    /**
+     * 存储回收配置
+     */
+    private Reclaim reclaim = new Reclaim();
+
+    /**
+     * 下载配置
+     */
+    @Data
+    public static class Download {
+
+        /**
+         * 每个用户（未登录按IP）的下载带宽上限（字节/秒），0 表示不限速；允许突发一秒的流量
+         */
+        private long bytesPerSecond = 0L;
+
+        /**
+         * 浏览器缓存时间（秒）
+         */
+        private long cacheMaxAgeSeconds = 86400L;
+    }
+
+    /**
+     * 存储配置
+     */
+    @Data
+    public static class Storage {
+
+        /**
+         * 新文件写入的存储类型：local / oss / chunk（需启用分块去重）
+         */
+        private String type = "local";
+
+        /**
+         * 本地存储分片目录层数，每层 256 个子目录，0 表示不分片
+         */
+        private int shardDepth = 2;
+
+        /**
+         * S3 兼容对象存储配置
+         */
+        private S3 s3 = new S3();
+    }
+
+    /**
+     * S3 兼容对象存储配置
+     */
+    @Data
+    public static class S3 {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 服务地址，使用 AWS S3 时留空
+         */
+        private String endpoint;
+
+        /**
+         * 区域
+         */
+        private String region = "us-east-1";
+
+        /**
+         * 存储桶
+         */
+        private String bucket;
+
+        /**
+         * 访问密钥ID
+         */
+        private String accessKey;
+
+        /**
+         * 访问密钥
+         */
+        private String secretKey;
+
+        /**
+         * 是否使用 path-style 访问（MinIO 需要开启）
+         */
+        private boolean pathStyleAccess = true;
+
+        /**
+         * 分段大小（字节），不小于 5MB
+         */
+        private long partSize = 8L * 1024 * 1024;
+
+        /**
+         * 超过该大小使用分段上传（字节）
+         */
+        private long multipartThreshold = 16L * 1024 * 1024;
+
+        /**
+         * 文件转存时的并行分段数
+         */
+        private int uploadConcurrency = 4;
+    }
+
+    /**
+     * 图片衍生文件配置
+     */
+    @Data
+    public static class Image {
+
+        /**
+         * 是否在上传后生成缩略图
+         */
+        private boolean enabled = true;
+
+        /**
+         * 缩略图尺寸（长边像素），原图小于该尺寸时不放大
+         */
+        private List<Integer> sizes = new ArrayList<>(List.of(150, 480, 1080));
+
+        /**
+         * 写入 {@code fil_file.thumbnail_url} 的尺寸，必须包含在 sizes 中
+         */
+        private int thumbnailSize = 480;
+
+        /**
+         * 是否额外生成 WebP（需要运行时存在 WebP ImageIO 插件）
+         */
+        private boolean webp = true;
+
+        /**
+         * JPEG / WebP 压缩质量（0-1）
+         */
+        private float quality = 0.85F;
+
+        /**
+         * 处理线程数，0 表示等于 CPU 核数
+         */
+        private int workers = 0;
+
+        /**
+         * 待处理队列容量，队列满时由提交线程自行处理（回压）
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * 允许解码的最大像素数，超出时只记录尺寸，防止解压炸弹耗尽内存
+         */
+        private long maxPixels = 50_000_000L;
+
+        /**
+         * 按需变换配置
+         */
+        private Transform transform = new Transform();
+    }
+
+    /**
+     * 图片按需变换配置
+     */
+    @Data
+    public static class Transform {
+
+        /**
+         * 变换结果缓存目录
+         */
+        private String cachePath = "/data/jcodenest/cache/images";
+
+        /**
+         * 缓存目录容量上限（字节），超出后按最近最少使用淘汰
+         */
+        private long maxCacheSize = 2L * 1024 * 1024 * 1024;
+
+        /**
+         * 输出宽高上限（像素），超出时截断到上限
+         */
+        private int maxDimension = 4096;
+
+        /**
+         * 未指定质量时的默认值（1-100）
+         */
+        private int defaultQuality = 85;
+
+        /**
+         * 等待渲染完成的最长时间（秒）
+         */
+        private long renderTimeoutSeconds = 30L;
+    }
+
+    /**
+     * 分块去重配置
+     */
+    @Data
+    public static class Chunking {
+
+        /**
+         * 是否启用分块去重存储；启用后可将 storage.type 设为 chunk，并开放客户端增量上传接口
+         */
+        private boolean enabled = false;
+
+        /**
+         * 分块实际落地的存储类型：local / oss
+         */
+        private String storageType = "local";
+
+        /**
+         * 最小分块大小（字节）
+         */
+        private int minSize = 16 * 1024;
+
+        /**
+         * 平均分块大小（字节），必须是 2 的幂
+         */
+        private int avgSize = 64 * 1024;
+
+        /**
+         * 最大分块大小（字节），客户端上传的分块也不能超过该值
+         */
+        private int maxSize = 256 * 1024;
+
+        /**
+         * 无引用分块的保留时间（小时），超过后才会被回收
+         */
+        private long orphanRetentionHours = 24L;
+    }
+
+    /**
+     * 存储回收配置
+     */
+    @Data
+    public static class Reclaim {
+
+        /**
+         * 是否启用定时回收
+         */
+        private boolean enabled = true;
+
+        /**
+         * 执行时间（cron 表达式）
+         */
+        private String cron = "0 30 3 * * ?";
+
+        /**
+         * 每秒最多删除的文件数，避免回收时挤占前台IO
+         */
+        private int deletesPerSecond = 100;
+
+        /**
+         * 每批查询的记录数
+         */
+        private int batchSize = 500;
+
+        /**
+         * 存储目录中未被文件记录引用的对象，修改时间超过该时长（小时）才视为孤儿；不会短于上传会话有效期
+         */
+        private long orphanGraceHours = 48L;
+
+        /**
+         * 状态为已删除的文件保留天数，超过后删除对象并清除记录
+         */
+        private long deletedRetentionDays = 30L;
+    }
+}
@@ -0,0 +1,78 @@
+package cn.jcodenest.wiki.file.config;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.executor.CountingRejectedExecutionHandler;
+import cn.jcodenest.wiki.common.executor.MdcTaskDecorator;
+import cn.jcodenest.wiki.file.image.DerivativeDiskCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 图片处理配置
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Configuration
+public class ImageConfig {
+
+    /** 图片处理线程池名称 */
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+
+    /**
+     * 图片处理线程池
+     * <p>
+     * 解码与缩放是 CPU 密集型任务，线程数默认等于核数；队列有界，队列满时由提交线程（上传请求）自己处理，
+     * 上传速度因此被限制在图片处理能力之内，不会无限堆积待处理任务。
+     *
+     * @param fileProperties 文件服务配置
+     * @param meterRegistry  指标注册表
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor(FileProperties fileProperties, MeterRegistry meterRegistry) {
+        FileProperties.Image image = fileProperties.getImage();
+        int workers = image.getWorkers() > 0 ? image.getWorkers() : Runtime.getRuntime().availableProcessors();
+        log.info("初始化图片处理线程池: workers={}, queueCapacity={}", workers, image.getQueueCapacity());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(image.getQueueCapacity());
+        executor.setThreadNamePrefix("image-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(IMAGE_EXECUTOR, meterRegistry,
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(SystemConstants.ThreadPool.DEFAULT_AWAIT_TERMINATION_SECONDS);
+        return executor;
+    }
+
+    /**
+     * 图片按需变换结果的磁盘缓存
+     *
+     * @param fileProperties 文件服务配置
+     * @return DerivativeDiskCache
+     * @throws IOException 缓存目录不可用
+     */
+    @Bean
+    public DerivativeDiskCache derivativeDiskCache(FileProperties fileProperties) throws IOException {
+        FileProperties.Transform transform = fileProperties.getImage().getTransform();
+        DerivativeDiskCache cache = new DerivativeDiskCache(Paths.get(transform.getCachePath()),
+                transform.getMaxCacheSize());
+        cache.load();
+        return cache;
+    }
+}
@@ -0,0 +1,160 @@
+package cn.jcodenest.wiki.file.config;
+
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.file.enums.StorageTypeEnum;
+import cn.jcodenest.wiki.file.mapper.ChunkManifestMapper;
+import cn.jcodenest.wiki.file.mapper.FileChunkMapper;
+import cn.jcodenest.wiki.file.storage.ChunkedStorageBackend;
+import cn.jcodenest.wiki.file.storage.FastCdcChunker;
+import cn.jcodenest.wiki.file.storage.LocalStorageBackend;
+import cn.jcodenest.wiki.file.storage.S3StorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 存储后端配置
+ * <p>
+ * 本地存储始终启用（历史文件与未配置对象存储的环境使用）；{@code jcodenest.file.storage.s3.enabled=true}
+ * 时额外启用 S3 兼容对象存储，endpoint 指向 MinIO 等自建服务时使用 path-style 访问；
+ * {@code jcodenest.file.chunking.enabled=true} 时启用分块去重存储。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Configuration
+public class StorageConfig {
+
+    /**
+     * 本地存储后端
+     *
+     * @param fileProperties 文件服务配置
+     * @return LocalStorageBackend
+     */
+    @Bean
+    public LocalStorageBackend localStorageBackend(FileProperties fileProperties) {
+        return new LocalStorageBackend(Paths.get(fileProperties.getStoragePath()),
+                fileProperties.getStorage().getShardDepth());
+    }
+
+    /**
+     * 存储后端注册表
+     *
+     * @param backends       已启用的存储后端
+     * @param fileProperties 文件服务配置
+     * @return StorageBackendRegistry
+     */
+    @Bean
+    public StorageBackendRegistry storageBackendRegistry(List<StorageBackend> backends, FileProperties fileProperties) {
+        return new StorageBackendRegistry(backends, fileProperties.getStorage().getType());
+    }
+
+    /**
+     * S3 兼容对象存储配置
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "jcodenest.file.storage.s3", name = "enabled", havingValue = "true")
+    static class S3StorageConfig {
+
+        /**
+         * S3 客户端
+         *
+         * @param fileProperties 文件服务配置
+         * @return S3Client
+         */
+        @Bean(destroyMethod = "close")
+        public S3Client s3Client(FileProperties fileProperties) {
+            FileProperties.S3 s3 = fileProperties.getStorage().getS3();
+            S3ClientBuilder builder = S3Client.builder()
+                    .region(Region.of(s3.getRegion()))
+                    .credentialsProvider(StaticCredentialsProvider.create(
+                            AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey())))
+                    .serviceConfiguration(S3Configuration.builder()
+                            .pathStyleAccessEnabled(s3.isPathStyleAccess())
+                            .build());
+            if (StringUtils.isNotBlank(s3.getEndpoint())) {
+                builder.endpointOverride(URI.create(s3.getEndpoint()));
+            }
+            return builder.build();
+        }
+
+        /**
+         * S3 存储后端，文件转存的分段在IO虚拟线程上并行上传
+         *
+         * @param s3Client       S3 客户端
+         * @param fileProperties 文件服务配置
+         * @param ioExecutor     IO 执行器
+         * @return S3StorageBackend
+         */
+        @Bean
+        public S3StorageBackend s3StorageBackend(S3Client s3Client, FileProperties fileProperties,
+                                                 @Qualifier(SystemConstants.ThreadPool.IO_EXECUTOR) Executor ioExecutor) {
+            FileProperties.S3 s3 = fileProperties.getStorage().getS3();
+            return new S3StorageBackend(s3Client, s3.getBucket(), s3.getPartSize(), s3.getMultipartThreshold(),
+                    s3.getUploadConcurrency(), ioExecutor);
+        }
+    }
+
+    /**
+     * 分块去重存储配置
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "jcodenest.file.chunking", name = "enabled", havingValue = "true")
+    static class ChunkStorageConfig {
+
+        /**
+         * 分块去重存储后端，分块落在 {@code chunking.storage-type} 指定的存储中
+         *
+         * @param fileProperties      文件服务配置
+         * @param localStorageBackend 本地存储
+         * @param s3StorageBackend    S3 存储（未启用时为空）
+         * @param fileChunkMapper     文件分块 Mapper
+         * @param chunkManifestMapper 分块清单 Mapper
+         * @param transactionTemplate 事务模板
+         * @return ChunkedStorageBackend
+         */
+        @Bean
+        public ChunkedStorageBackend chunkedStorageBackend(FileProperties fileProperties,
+                                                           LocalStorageBackend localStorageBackend,
+                                                           ObjectProvider<S3StorageBackend> s3StorageBackend,
+                                                           FileChunkMapper fileChunkMapper,
+                                                           ChunkManifestMapper chunkManifestMapper,
+                                                           TransactionTemplate transactionTemplate) {
+            FileProperties.Chunking chunking = fileProperties.getChunking();
+            StorageBackend delegate = localStorageBackend;
+            if (StorageTypeEnum.OSS.getCode().equals(chunking.getStorageType())) {
+                delegate = s3StorageBackend.getIfAvailable();
+                if (delegate == null) {
+                    throw new IllegalStateException("chunking.storage-type=oss 需要启用 jcodenest.file.storage.s3");
+                }
+            }
+            FastCdcChunker chunker = new FastCdcChunker(chunking.getMinSize(), chunking.getAvgSize(),
+                    chunking.getMaxSize());
+            LocalStorageBackend staging = new LocalStorageBackend(
+                    Paths.get(fileProperties.getTempPath(), "chunk-staging"), 0);
+            return new ChunkedStorageBackend(delegate, chunker, fileChunkMapper, chunkManifestMapper,
+                    transactionTemplate, staging);
+        }
+    }
+}
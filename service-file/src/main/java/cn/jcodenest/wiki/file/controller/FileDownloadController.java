@@ -0,0 +1,89 @@
+package cn.jcodenest.wiki.file.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.file.dto.ImageTransformDTO;
+import cn.jcodenest.wiki.file.service.FileDownloadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 文件下载接口，路径与 {@code fil_file.file_url} 一致
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/files")
+public class FileDownloadController {
+
+    private final FileDownloadService fileDownloadService;
+
+    /**
+     * 下载文件，支持 Range、If-Range、If-None-Match、If-Modified-Since，同时处理 HEAD 请求
+     *
+     * @param userId   用户ID，访问公开文件时可为空
+     * @param year     存储年份
+     * @param month    存储月份
+     * @param day      存储日期
+     * @param fileName 存储文件名
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException 读取文件失败
+     */
+    @GetMapping("/{year:\\d{4}}/{month:\\d{2}}/{day:\\d{2}}/{fileName}")
+    public void download(@RequestHeader(value = SecurityConstants.User.USER_ID_HEADER, required = false) Long userId,
+                         @PathVariable String year, @PathVariable String month, @PathVariable String day,
+                         @PathVariable String fileName, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String filePath = String.join("/", year, month, day, fileName);
+        fileDownloadService.download(userId, filePath, request, response);
+    }
+
+    /**
+     * 下载图片衍生文件（缩略图、WebP）
+     *
+     * @param userId         用户ID，访问公开文件时可为空
+     * @param fileMd5        原图MD5
+     * @param derivativeName 衍生文件名，如 {@code 480.jpg}
+     * @param request        HTTP请求
+     * @param response       HTTP响应
+     * @throws IOException 读取文件失败
+     */
+    @GetMapping("/thumbs/{fileMd5:[0-9a-f]{32}}/{derivativeName:\\d+\\.(?:jpg|png|webp)}")
+    public void downloadDerivative(@RequestHeader(value = SecurityConstants.User.USER_ID_HEADER, required = false)
+                                   Long userId, @PathVariable String fileMd5, @PathVariable String derivativeName,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileDownloadService.downloadDerivative(userId, fileMd5, derivativeName, request, response);
+    }
+
+    /**
+     * 按参数即时变换图片，如 {@code /files/images/{md5}?w=640&h=360&fit=cover&fmt=webp&q=80}
+     *
+     * @param userId   用户ID，访问公开文件时可为空
+     * @param fileMd5  原图MD5
+     * @param dto      变换参数
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException 读取文件失败
+     */
+    @GetMapping("/images/{fileMd5:[0-9a-f]{32}}")
+    public void downloadTransformed(@RequestHeader(value = SecurityConstants.User.USER_ID_HEADER, required = false)
+                                    Long userId, @PathVariable String fileMd5, @Valid ImageTransformDTO dto,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileDownloadService.downloadTransformed(userId, fileMd5, dto, request, response);
+    }
+}
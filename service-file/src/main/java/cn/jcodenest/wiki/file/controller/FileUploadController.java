@@ -0,0 +1,205 @@
+package cn.jcodenest.wiki.file.controller;
+
+import cn.jcodenest.wiki.common.constant.SecurityConstants;
+import cn.jcodenest.wiki.common.response.Result;
+import cn.jcodenest.wiki.common.utils.HttpUtils;
+import cn.jcodenest.wiki.file.dto.DedupUploadDTO;
+import cn.jcodenest.wiki.file.dto.InstantPrecheckDTO;
+import cn.jcodenest.wiki.file.dto.InstantUploadDTO;
+import cn.jcodenest.wiki.file.dto.UploadInitDTO;
+import cn.jcodenest.wiki.file.service.DedupUploadService;
+import cn.jcodenest.wiki.file.service.FileUploadService;
+import cn.jcodenest.wiki.file.service.InstantUploadService;
+import cn.jcodenest.wiki.file.vo.DedupConfigVO;
+import cn.jcodenest.wiki.file.vo.DedupNegotiateVO;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import cn.jcodenest.wiki.file.vo.InstantChallengeVO;
+import cn.jcodenest.wiki.file.vo.UploadSessionVO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 分片上传接口
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/files/uploads")
+public class FileUploadController {
+
+    private final FileUploadService fileUploadService;
+
+    private final InstantUploadService instantUploadService;
+
+    private final DedupUploadService dedupUploadService;
+
+    /**
+     * 秒传预检：服务端已存在相同内容时返回抽样校验挑战
+     *
+     * @param userId 用户ID
+     * @param dto    预检请求
+     * @return 校验挑战，未命中时 hit 为 false
+     */
+    @PostMapping("/precheck")
+    public Result<InstantChallengeVO> precheck(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                               @Valid @RequestBody InstantPrecheckDTO dto) {
+        return Result.success(instantUploadService.precheck(userId, dto));
+    }
+
+    /**
+     * 秒传：提交抽样区间校验值，通过后直接引用已存储的文件
+     *
+     * @param userId 用户ID
+     * @param dto    校验请求
+     * @return 文件信息
+     */
+    @PostMapping("/instant")
+    public Result<FileInfoVO> instantUpload(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                            @Valid @RequestBody InstantUploadDTO dto) {
+        return Result.success(instantUploadService.instantUpload(userId, dto));
+    }
+
+    /**
+     * 增量上传分块参数，客户端须使用相同参数切分文件才能与服务端分块对齐
+     *
+     * @return 分块参数
+     */
+    @GetMapping("/dedup/config")
+    public Result<DedupConfigVO> getDedupConfig() {
+        return Result.success(dedupUploadService.getConfig());
+    }
+
+    /**
+     * 增量上传协商：返回服务端缺少的分块，以及对已有分块的抽样校验挑战
+     *
+     * @param userId 用户ID
+     * @param dto    分块列表
+     * @return 协商结果
+     */
+    @PostMapping("/dedup/negotiate")
+    public Result<DedupNegotiateVO> negotiateDedup(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                                   @Valid @RequestBody DedupUploadDTO dto) {
+        return Result.success(dedupUploadService.negotiate(userId, dto));
+    }
+
+    /**
+     * 上传缺少的分块，请求体为分块的原始字节（application/octet-stream）
+     *
+     * @param userId  用户ID
+     * @param hash    分块SHA-256
+     * @param request HTTP请求
+     * @return 上传结果
+     * @throws IOException 读取请求体失败
+     */
+    @PutMapping(value = "/dedup/chunks/{hash:[0-9a-f]{64}}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Result<Void> uploadDedupChunk(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                         @PathVariable String hash, HttpServletRequest request) throws IOException {
+        dedupUploadService.uploadChunk(userId, hash, request.getContentLengthLong(), request.getInputStream());
+        return Result.success();
+    }
+
+    /**
+     * 完成增量上传：按分块列表组装文件
+     *
+     * @param userId 用户ID
+     * @param dto    分块列表及抽样校验值
+     * @return 文件信息
+     */
+    @PostMapping("/dedup/commit")
+    public Result<FileInfoVO> commitDedup(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                          @Valid @RequestBody DedupUploadDTO dto) {
+        return Result.success(dedupUploadService.commit(userId, dto));
+    }
+
+    /**
+     * 初始化分片上传
+     *
+     * @param userId  用户ID
+     * @param dto     初始化请求
+     * @param request HTTP请求
+     * @return 上传会话
+     */
+    @PostMapping
+    public Result<UploadSessionVO> initUpload(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                              @Valid @RequestBody UploadInitDTO dto, HttpServletRequest request) {
+        return Result.success(fileUploadService.initUpload(userId, dto, HttpUtils.getClientIpAddress(request),
+                HttpUtils.getUserAgent(request)));
+    }
+
+    /**
+     * 上传分片，请求体为分片的原始字节（application/octet-stream）
+     *
+     * @param userId     用户ID
+     * @param uploadId   上传会话ID
+     * @param chunkIndex 分片序号（从0开始）
+     * @param request    HTTP请求
+     * @return 上传结果
+     * @throws IOException 读取请求体失败
+     */
+    @PutMapping(value = "/{uploadId}/chunks/{chunkIndex}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Result<Void> uploadChunk(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                    @PathVariable Long uploadId, @PathVariable Integer chunkIndex,
+                                    HttpServletRequest request) throws IOException {
+        fileUploadService.uploadChunk(userId, uploadId, chunkIndex, request.getContentLengthLong(), request.getInputStream());
+        return Result.success();
+    }
+
+    /**
+     * 查询上传状态，断点续传时用于获取已接收的分片
+     *
+     * @param userId   用户ID
+     * @param uploadId 上传会话ID
+     * @return 上传会话
+     */
+    @GetMapping("/{uploadId}")
+    public Result<UploadSessionVO> getUploadStatus(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                                   @PathVariable Long uploadId) {
+        return Result.success(fileUploadService.getUploadStatus(userId, uploadId));
+    }
+
+    /**
+     * 完成上传
+     *
+     * @param userId   用户ID
+     * @param uploadId 上传会话ID
+     * @return 文件信息
+     */
+    @PostMapping("/{uploadId}/complete")
+    public Result<FileInfoVO> completeUpload(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                             @PathVariable Long uploadId) {
+        return Result.success(fileUploadService.completeUpload(userId, uploadId));
+    }
+
+    /**
+     * 取消上传
+     *
+     * @param userId   用户ID
+     * @param uploadId 上传会话ID
+     * @return 取消结果
+     */
+    @DeleteMapping("/{uploadId}")
+    public Result<Void> abortUpload(@RequestHeader(SecurityConstants.User.USER_ID_HEADER) Long userId,
+                                    @PathVariable Long uploadId) {
+        fileUploadService.abortUpload(userId, uploadId);
+        return Result.success();
+    }
+}
@@ -0,0 +1,86 @@
+package cn.jcodenest.wiki.file.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 增量上传请求，协商与提交使用同一结构
+ * <p>
+ * 客户端按服务端下发的参数对文件做内容定义分块，提交文件的有序分块列表；协商阶段返回缺少的分块与抽样挑战，
+ * 上传缺少的分块后再次提交（附带挑战ID与校验值）完成上传。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class DedupUploadDTO {
+
+    /**
+     * 原始文件名
+     */
+    @NotBlank(message = "文件名不能为空")
+    private String fileName;
+
+    /**
+     * 文件大小（字节）
+     */
+    @NotNull(message = "文件大小不能为空")
+    @Positive(message = "文件大小必须大于0")
+    private Long fileSize;
+
+    /**
+     * 文件MD5值
+     */
+    @NotBlank(message = "文件MD5不能为空")
+    @Pattern(regexp = "^[0-9a-fA-F]{32}$", message = "文件MD5格式错误")
+    private String fileMd5;
+
+    /**
+     * 有序分块列表
+     */
+    @Valid
+    @NotEmpty(message = "分块列表不能为空")
+    private List<Chunk> chunks;
+
+    /**
+     * 协商返回的挑战ID（提交时必填）
+     */
+    private String challengeId;
+
+    /**
+     * 按挑战顺序计算的各抽样区间 MD5(nonce ‖ 区间内容)（提交时必填，挑战无区间时为空）
+     */
+    private List<String> proofs;
+
+    /**
+     * 分块
+     */
+    @Data
+    public static class Chunk {
+
+        /**
+         * 分块SHA-256
+         */
+        @NotBlank(message = "分块哈希不能为空")
+        @Pattern(regexp = "^[0-9a-f]{64}$", message = "分块哈希格式错误")
+        private String hash;
+
+        /**
+         * 分块大小（字节）
+         */
+        @NotNull(message = "分块大小不能为空")
+        @Positive(message = "分块大小必须大于0")
+        private Integer size;
+    }
+}
@@ -0,0 +1,51 @@
+package cn.jcodenest.wiki.file.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * 图片变换参数
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class ImageTransformDTO {
+
+    /**
+     * 目标宽度（像素），0 或不传表示按高度等比
+     */
+    @Min(value = 0, message = "宽度不能为负数")
+    private Integer w;
+
+    /**
+     * 目标高度（像素），0 或不传表示按宽度等比
+     */
+    @Min(value = 0, message = "高度不能为负数")
+    private Integer h;
+
+    /**
+     * 适配方式：contain 等比缩放到框内（默认），cover 等比缩放后居中裁剪填满
+     */
+    @Pattern(regexp = "^(contain|cover)$", message = "fit 只支持 contain / cover")
+    private String fit;
+
+    /**
+     * 输出格式：jpg / png / webp，不传时跟随原图
+     */
+    @Pattern(regexp = "^(jpg|jpeg|png|webp)$", message = "fmt 只支持 jpg / png / webp")
+    private String fmt;
+
+    /**
+     * 有损格式的压缩质量（1-100）
+     */
+    @Min(value = 1, message = "质量取值 1-100")
+    @Max(value = 100, message = "质量取值 1-100")
+    private Integer q;
+}
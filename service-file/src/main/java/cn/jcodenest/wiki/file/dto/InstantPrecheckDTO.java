@@ -0,0 +1,47 @@
+package cn.jcodenest.wiki.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * 秒传预检请求
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class InstantPrecheckDTO {
+
+    /**
+     * 原始文件名
+     */
+    @NotBlank(message = "文件名不能为空")
+    private String fileName;
+
+    /**
+     * 文件大小（字节）
+     */
+    @NotNull(message = "文件大小不能为空")
+    @Positive(message = "文件大小必须大于0")
+    private Long fileSize;
+
+    /**
+     * 文件MD5值
+     */
+    @NotBlank(message = "文件MD5不能为空")
+    @Pattern(regexp = "^[0-9a-fA-F]{32}$", message = "文件MD5格式错误")
+    private String fileMd5;
+
+    /**
+     * 文件SHA1值（可选，服务端已记录SHA1时参与校验）
+     */
+    @Pattern(regexp = "^[0-9a-fA-F]{40}$", message = "文件SHA1格式错误")
+    private String fileSha1;
+}
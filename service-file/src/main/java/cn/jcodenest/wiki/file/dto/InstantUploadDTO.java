@@ -0,0 +1,33 @@
+package cn.jcodenest.wiki.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 秒传确认请求
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class InstantUploadDTO {
+
+    /**
+     * 预检返回的挑战ID
+     */
+    @NotBlank(message = "挑战ID不能为空")
+    private String challengeId;
+
+    /**
+     * 按挑战顺序计算的各抽样区间 MD5(nonce ‖ 区间内容)（十六进制）
+     */
+    @NotEmpty(message = "抽样校验值不能为空")
+    private List<String> proofs;
+}
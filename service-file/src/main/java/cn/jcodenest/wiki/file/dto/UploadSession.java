@@ -0,0 +1,120 @@
+package cn.jcodenest.wiki.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 分片上传会话，以 Hash 形式保存在 Redis 中
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+
+    /**
+     * 上传会话ID（即上传日志ID）
+     */
+    private Long uploadId;
+
+    /**
+     * 上传用户ID
+     */
+    private Long userId;
+
+    /**
+     * 原始文件名
+     */
+    private String fileName;
+
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 文件MD5值
+     */
+    private String fileMd5;
+
+    /**
+     * 分片大小（字节）
+     */
+    private Integer chunkSize;
+
+    /**
+     * 分片总数
+     */
+    private Integer totalChunks;
+
+    /**
+     * 第 index 个分片在文件中的偏移量
+     *
+     * @param index 分片序号（从0开始）
+     * @return 偏移量
+     */
+    public long offsetOf(int index) {
+        return (long) index * chunkSize;
+    }
+
+    /**
+     * 第 index 个分片的长度，最后一个分片可能不足 chunkSize
+     *
+     * @param index 分片序号（从0开始）
+     * @return 分片长度
+     */
+    public long lengthOf(int index) {
+        return Math.min(chunkSize, fileSize - offsetOf(index));
+    }
+
+    /**
+     * 转为 Redis Hash
+     *
+     * @return 字段映射
+     */
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>(8);
+        hash.put("uploadId", String.valueOf(uploadId));
+        hash.put("userId", String.valueOf(userId));
+        hash.put("fileName", fileName);
+        hash.put("fileSize", String.valueOf(fileSize));
+        hash.put("fileMd5", fileMd5);
+        hash.put("chunkSize", String.valueOf(chunkSize));
+        hash.put("totalChunks", String.valueOf(totalChunks));
+        return hash;
+    }
+
+    /**
+     * 从 Redis Hash 还原
+     *
+     * @param hash 字段映射
+     * @return 上传会话，Hash 为空时返回null
+     */
+    public static UploadSession fromHash(Map<Object, Object> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+
+        return UploadSession.builder()
+                .uploadId(Long.valueOf((String) hash.get("uploadId")))
+                .userId(Long.valueOf((String) hash.get("userId")))
+                .fileName((String) hash.get("fileName"))
+                .fileSize(Long.valueOf((String) hash.get("fileSize")))
+                .fileMd5((String) hash.get("fileMd5"))
+                .chunkSize(Integer.valueOf((String) hash.get("chunkSize")))
+                .totalChunks(Integer.valueOf((String) hash.get("totalChunks")))
+                .build();
+    }
+}
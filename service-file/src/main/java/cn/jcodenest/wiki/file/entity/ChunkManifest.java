@@ -0,0 +1,59 @@
+package cn.jcodenest.wiki.file.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 分块清单实体（fil_chunk_manifest），一行对应对象中的一个分块
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("fil_chunk_manifest")
+public class ChunkManifest {
+
+    /**
+     * 清单项ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 对象键（与 fil_file.file_path 一致）
+     */
+    private String objectKey;
+
+    /**
+     * 分块序号，从 0 开始
+     */
+    private Integer seq;
+
+    /**
+     * 分块SHA-256
+     */
+    private String chunkHash;
+
+    /**
+     * 分块在对象中的起始偏移量
+     */
+    private Long chunkOffset;
+
+    /**
+     * 分块大小（字节）
+     */
+    private Integer chunkSize;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+}
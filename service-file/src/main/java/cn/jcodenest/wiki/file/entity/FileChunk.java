@@ -0,0 +1,56 @@
+package cn.jcodenest.wiki.file.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件分块实体（fil_chunk）
+ * <p>
+ * 内容相同的分块只存一份，按 SHA-256 唯一；引用计数为 0 且超过保留期的分块由回收任务删除。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("fil_chunk")
+public class FileChunk {
+
+    /**
+     * 分块ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 分块SHA-256
+     */
+    private String chunkHash;
+
+    /**
+     * 分块大小（字节）
+     */
+    private Integer chunkSize;
+
+    /**
+     * 被清单引用的次数
+     */
+    private Integer refCount;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,146 @@
+package cn.jcodenest.wiki.file.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件信息实体（fil_file）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("fil_file")
+public class FileInfo {
+
+    /**
+     * 文件ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 文件名称（存储名）
+     */
+    private String fileName;
+
+    /**
+     * 原始文件名
+     */
+    private String originalName;
+
+    /**
+     * 文件路径（相对存储根目录）
+     */
+    private String filePath;
+
+    /**
+     * 文件访问URL
+     */
+    private String fileUrl;
+
+    /**
+     * 文件类型：image、video、audio、document、other
+     */
+    private String fileType;
+
+    /**
+     * MIME类型
+     */
+    private String mimeType;
+
+    /**
+     * 文件扩展名
+     */
+    private String fileExtension;
+
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 文件MD5值
+     */
+    private String fileMd5;
+
+    /**
+     * 文件SHA1值
+     */
+    private String fileSha1;
+
+    /**
+     * 上传用户ID
+     */
+    private Long uploadUserId;
+
+    /**
+     * 存储类型：local、oss、cdn
+     */
+    private String storageType;
+
+    /**
+     * 存储桶名称
+     */
+    private String bucketName;
+
+    /**
+     * 图片宽度（像素）
+     */
+    private Integer width;
+
+    /**
+     * 图片高度（像素）
+     */
+    private Integer height;
+
+    /**
+     * 音视频时长（秒）
+     */
+    private Integer duration;
+
+    /**
+     * 缩略图URL
+     */
+    private String thumbnailUrl;
+
+    /**
+     * 下载次数
+     */
+    private Integer downloadCount;
+
+    /**
+     * 是否公开：0-私有，1-公开
+     */
+    private Integer isPublic;
+
+    /**
+     * 状态：0-已删除，1-正常，2-审核中，3-审核失败
+     */
+    private Integer status;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
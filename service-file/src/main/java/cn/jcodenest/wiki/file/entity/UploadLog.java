@@ -0,0 +1,92 @@
+package cn.jcodenest.wiki.file.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 上传日志实体（fil_upload_log）
+ * <p>
+ * 分片上传时日志ID即上传会话ID。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("fil_upload_log")
+public class UploadLog {
+
+    /**
+     * 上传日志ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 文件ID
+     */
+    private Long fileId;
+
+    /**
+     * 上传用户ID
+     */
+    private Long userId;
+
+    /**
+     * 原始文件名
+     */
+    private String originalName;
+
+    /**
+     * 文件大小
+     */
+    private Long fileSize;
+
+    /**
+     * 上传状态：1-上传中，2-上传成功，3-上传失败
+     */
+    private Integer uploadStatus;
+
+    /**
+     * 上传进度（百分比）
+     */
+    private BigDecimal uploadProgress;
+
+    /**
+     * 错误信息
+     */
+    private String errorMessage;
+
+    /**
+     * IP地址
+     */
+    private String ipAddress;
+
+    /**
+     * 用户代理
+     */
+    private String userAgent;
+
+    /**
+     * 上传完成时间
+     */
+    private LocalDateTime uploadTime;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,68 @@
+package cn.jcodenest.wiki.file.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 用户文件实体（fil_user_file）
+ * <p>
+ * fil_file 按MD5唯一保存物理文件，用户看到的每个文件是一条引用记录。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+@TableName("fil_user_file")
+public class UserFile {
+
+    /**
+     * 用户文件ID
+     */
+    @TableId(type = IdType.ASSIGN_ID)
+    private Long id;
+
+    /**
+     * 用户ID
+     */
+    private Long userId;
+
+    /**
+     * 物理文件ID
+     */
+    private Long fileId;
+
+    /**
+     * 用户侧文件名
+     */
+    private String fileName;
+
+    /**
+     * 上传方式：1-普通上传，2-秒传
+     */
+    private Integer uploadType;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 是否删除：0-未删除，1-已删除
+     */
+    @TableLogic
+    private Integer isDeleted;
+}
@@ -0,0 +1,69 @@
+package cn.jcodenest.wiki.file.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 文件状态枚举（对应 fil_file.status）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum FileStatusEnum {
+
+    /**
+     * 已删除
+     */
+    DELETED(0, "已删除"),
+
+    /**
+     * 正常
+     */
+    NORMAL(1, "正常"),
+
+    /**
+     * 审核中
+     */
+    UNDER_REVIEW(2, "审核中"),
+
+    /**
+     * 审核失败
+     */
+    REVIEW_FAILED(3, "审核失败");
+
+    /**
+     * 状态码
+     */
+    private final Integer code;
+
+    /**
+     * 状态名称
+     */
+    private final String name;
+
+    /**
+     * 根据状态码获取枚举
+     *
+     * @param code 状态码
+     * @return FileStatusEnum枚举，如果不存在则返回null
+     */
+    public static FileStatusEnum getByCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (FileStatusEnum status : values()) {
+            if (status.getCode().equals(code)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
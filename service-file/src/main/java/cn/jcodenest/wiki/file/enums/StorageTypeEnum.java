@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.file.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 存储类型枚举（对应 fil_file.storage_type）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum StorageTypeEnum {
+
+    /**
+     * 本地存储
+     */
+    LOCAL("local", "本地"),
+
+    /**
+     * S3 兼容对象存储（MinIO / OSS / S3）
+     */
+    OSS("oss", "对象存储"),
+
+    /**
+     * 内容定义分块去重存储，分块落在本地或对象存储
+     */
+    CHUNK("chunk", "分块去重");
+
+    /**
+     * 类型编码
+     */
+    private final String code;
+
+    /**
+     * 类型名称
+     */
+    private final String name;
+
+    /**
+     * 根据类型编码获取枚举
+     *
+     * @param code 类型编码
+     * @return StorageTypeEnum枚举，如果不存在则返回null
+     */
+    public static StorageTypeEnum getByCode(String code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (StorageTypeEnum type : values()) {
+            if (type.getCode().equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.file.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 上传状态枚举（对应 fil_upload_log.upload_status）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum UploadStatusEnum {
+
+    /**
+     * 上传中
+     */
+    UPLOADING(1, "上传中"),
+
+    /**
+     * 上传成功
+     */
+    SUCCESS(2, "上传成功"),
+
+    /**
+     * 上传失败
+     */
+    FAILED(3, "上传失败");
+
+    /**
+     * 状态码
+     */
+    private final Integer code;
+
+    /**
+     * 状态名称
+     */
+    private final String name;
+
+    /**
+     * 根据状态码获取枚举
+     *
+     * @param code 状态码
+     * @return UploadStatusEnum枚举，如果不存在则返回null
+     */
+    public static UploadStatusEnum getByCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (UploadStatusEnum status : values()) {
+            if (status.getCode().equals(code)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package cn.jcodenest.wiki.file.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 上传方式枚举（对应 fil_user_file.upload_type）
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public enum UploadTypeEnum {
+
+    /**
+     * 普通上传
+     */
+    NORMAL(1, "普通上传"),
+
+    /**
+     * 秒传
+     */
+    INSTANT(2, "秒传"),
+
+    /**
+     * 增量上传（只上传服务端缺少的分块）
+     */
+    DEDUP(3, "增量上传");
+
+    /**
+     * 类型码
+     */
+    private final Integer code;
+
+    /**
+     * 类型名称
+     */
+    private final String name;
+
+    /**
+     * 根据类型码获取枚举
+     *
+     * @param code 类型码
+     * @return UploadTypeEnum枚举，如果不存在则返回null
+     */
+    public static UploadTypeEnum getByCode(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        for (UploadTypeEnum type : values()) {
+            if (type.getCode().equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+package cn.jcodenest.wiki.file.image;
+
+import cn.jcodenest.wiki.file.storage.LocalStorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackend;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 按容量淘汰的衍生图片磁盘缓存
+ * <p>
+ * 文件落在单层哈希分片的本地目录中，内存里用访问顺序的 {@link LinkedHashMap} 记录键与大小，总大小超过上限时
+ * 从最久未访问的一端删除。索引只在内存中维护，重启时按文件修改时间重建，近似恢复淘汰顺序。
+ * 淘汰时的删除在锁内完成，避免与同键的重新写入交错；命中路径只做一次哈希表访问。
+ * 条目在命中或写入之后仍可能被其他写入淘汰，读取方应先打开文件、文件不存在时重新渲染（已打开的文件被删除不影响读取）。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class DerivativeDiskCache {
+
+    /** 缓存目录分片层数 */
+    private static final int SHARD_DEPTH = 1;
+
+    /** 写入中的临时文件后缀，与 {@link LocalStorageBackend} 一致 */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+
+    private final long maxBytes;
+
+    private final LocalStorageBackend storage;
+
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75F, true);
+
+    private long totalBytes;
+
+    /**
+     * 构造函数
+     *
+     * @param root     缓存目录
+     * @param maxBytes 容量上限（字节）
+     */
+    public DerivativeDiskCache(Path root, long maxBytes) {
+        this.root = root.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.storage = new LocalStorageBackend(this.root, SHARD_DEPTH);
+    }
+
+    /**
+     * 扫描缓存目录重建索引，清理上次异常退出留下的临时文件
+     *
+     * @throws IOException 扫描失败
+     */
+    public void load() throws IOException {
+        Files.createDirectories(root);
+        List<Map.Entry<Path, BasicFileAttributes>> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root, SHARD_DEPTH + 1)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                if (root.relativize(path).getNameCount() != SHARD_DEPTH + 1
+                        || path.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+                files.add(Map.entry(path, attributes));
+            }
+        }
+        files.sort(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()));
+
+        synchronized (this) {
+            entries.clear();
+            totalBytes = 0L;
+            for (Map.Entry<Path, BasicFileAttributes> file : files) {
+                String key = file.getKey().getFileName().toString();
+                entries.put(key, file.getValue().size());
+                totalBytes += file.getValue().size();
+            }
+            evictLocked(null);
+            log.info("加载衍生图片缓存: root={}, entries={}, bytes={}, maxBytes={}", root, entries.size(), totalBytes,
+                    maxBytes);
+        }
+    }
+
+    /**
+     * 查询缓存并刷新访问顺序
+     *
+     * @param key 缓存键
+     * @return 是否命中
+     */
+    public synchronized boolean touch(String key) {
+        return entries.get(key) != null;
+    }
+
+    /**
+     * 写入缓存，必要时淘汰最久未访问的条目（不会淘汰本次写入的条目）
+     *
+     * @param key         缓存键
+     * @param data        文件内容
+     * @param contentType 内容类型
+     * @throws IOException 写入失败
+     */
+    public void put(String key, byte[] data, String contentType) throws IOException {
+        storage.put(key, new ByteArrayInputStream(data), data.length, contentType);
+
+        synchronized (this) {
+            Long previous = entries.put(key, (long) data.length);
+            totalBytes += data.length - (previous == null ? 0L : previous);
+            evictLocked(key);
+        }
+    }
+
+    /**
+     * 缓存文件所在的存储，供下载链路按普通对象输出
+     *
+     * @return 存储后端
+     */
+    public StorageBackend storage() {
+        return storage;
+    }
+
+    private void evictLocked(String protectedKey) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(protectedKey)) {
+                continue;
+            }
+            try {
+                storage.delete(eldest.getKey());
+            } catch (IOException e) {
+                log.warn("删除衍生图片缓存失败: key={}", eldest.getKey(), e);
+            }
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package cn.jcodenest.wiki.file.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 规范化后的图片变换参数
+ * <p>
+ * 请求参数先补齐默认值、截断到上限、合并等价写法后再生成变体名，{@code ?w=300}、{@code ?w=300&h=0&fit=contain}
+ * 与 {@code ?fmt=jpeg&w=300} 落到同一个缓存项。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor
+public class TransformSpec {
+
+    public static final String FIT_CONTAIN = "contain";
+
+    public static final String FIT_COVER = "cover";
+
+    /** 目标宽度，0 表示不限制 */
+    private final int width;
+
+    /** 目标高度，0 表示不限制 */
+    private final int height;
+
+    /** 适配方式 */
+    private final String fit;
+
+    /** 输出格式 */
+    private final String format;
+
+    /** 压缩质量（1-100），无损格式为 0 */
+    private final int quality;
+
+    /**
+     * 变体名，如 {@code w300_h0_contain_q85.jpg}
+     *
+     * @return 变体名
+     */
+    public String variantName() {
+        return "w" + width + "_h" + height + "_" + fit + "_q" + quality + "." + format;
+    }
+
+    /**
+     * 缓存键：原图MD5 + 变体名
+     *
+     * @param fileMd5 原图MD5
+     * @return 缓存键
+     */
+    public String cacheKey(String fileMd5) {
+        return fileMd5 + "_" + variantName();
+    }
+}
@@ -0,0 +1,17 @@
+package cn.jcodenest.wiki.file.mapper;
+
+import cn.jcodenest.wiki.file.entity.FileChunk;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+/**
+ * 文件分块 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface FileChunkMapper extends BaseMapper<FileChunk> {
+}
@@ -0,0 +1,108 @@
+package cn.jcodenest.wiki.file.mapper;
+
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 文件信息 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface FileInfoMapper extends BaseMapper<FileInfo> {
+
+    /**
+     * 物理删除已删除（状态为已删除或已逻辑删除）的文件记录
+     * <p>
+     * BaseMapper 的删除受 {@code @TableLogic} 影响只会置 is_deleted，记录仍占用 uk_file_md5，
+     * 相同内容再次上传时会插入冲突；回收对象后必须真正删除记录。
+     *
+     * @param id 文件ID
+     * @return 删除行数，记录已不是删除状态（如已被恢复）时为 0
+     */
+    @Delete("DELETE FROM fil_file WHERE id = #{id} AND (status = 0 OR is_deleted = 1)")
+    int physicalDeleteById(@Param("id") Long id);
+
+    /**
+     * 按主键游标查询超过保留期的已删除记录（状态为已删除或已逻辑删除）
+     * <p>
+     * 条件构造器会被 {@code @TableLogic} 追加 is_deleted = 0，看不到逻辑删除的行，因此直接写 SQL；
+     * 只投影回收需要的列。
+     *
+     * @param cutoff 更新时间早于该时间的记录超过保留期
+     * @param lastId 游标文件ID，只返回更大的ID
+     * @param limit  返回条数
+     * @return 待回收的文件记录
+     */
+    @Select("SELECT id, file_path, file_md5, file_type, storage_type FROM fil_file "
+            + "WHERE (status = 0 OR is_deleted = 1) AND updated_at < #{cutoff} AND id > #{lastId} "
+            + "ORDER BY id LIMIT #{limit}")
+    List<FileInfo> selectReclaimable(@Param("cutoff") LocalDateTime cutoff, @Param("lastId") long lastId,
+                                     @Param("limit") int limit);
+
+    /**
+     * 按MD5查询记录（含已删除与逻辑删除的行）
+     * <p>
+     * 条件构造器会被 {@code @TableLogic} 追加 is_deleted = 0，插入撞上 uk_file_md5 后需要看到实际占用唯一键的行，
+     * 因此直接写 SQL。
+     *
+     * @param fileMd5 文件MD5
+     * @return 文件记录，不存在时返回 null
+     */
+    @Select("SELECT * FROM fil_file WHERE file_md5 = #{fileMd5}")
+    FileInfo selectAnyByMd5(@Param("fileMd5") String fileMd5);
+
+    /**
+     * 查询仍被记录引用的对象键（含已删除与逻辑删除的行）
+     * <p>
+     * 已删除的记录在保留期内仍可恢复，其对象要等 {@link #selectReclaimable} 回收时才删除；
+     * 条件构造器会被 {@code @TableLogic} 追加 is_deleted = 0，会把这些对象误判为孤儿，因此直接写 SQL。
+     *
+     * @param storageType 存储类型
+     * @param filePaths   对象键
+     * @return 有记录引用的对象键
+     */
+    @Select("<script>SELECT file_path FROM fil_file WHERE storage_type = #{storageType} AND file_path IN "
+            + "<foreach collection='filePaths' item='filePath' open='(' separator=',' close=')'>#{filePath}</foreach>"
+            + "</script>")
+    List<String> selectAnyFilePaths(@Param("storageType") String storageType,
+                                    @Param("filePaths") Collection<String> filePaths);
+
+    /**
+     * 查询仍有记录的文件MD5（含已删除与逻辑删除的行），用于核对衍生文件是否仍被引用
+     *
+     * @param fileMd5s 文件MD5
+     * @return 有记录的文件MD5
+     */
+    @Select("<script>SELECT file_md5 FROM fil_file WHERE file_md5 IN "
+            + "<foreach collection='fileMd5s' item='fileMd5' open='(' separator=',' close=')'>#{fileMd5}</foreach>"
+            + "</script>")
+    List<String> selectAnyFileMd5s(@Param("fileMd5s") Collection<String> fileMd5s);
+
+    /**
+     * 用新转存的对象恢复已删除（状态为已删除或已逻辑删除）的记录，保留原记录ID
+     *
+     * @param id       文件ID
+     * @param fileInfo 新转存的文件信息
+     * @return 更新行数，记录已不是删除状态时为 0
+     */
+    @Update("UPDATE fil_file SET file_name = #{f.fileName}, original_name = #{f.originalName}, "
+            + "file_path = #{f.filePath}, file_url = #{f.fileUrl}, file_type = #{f.fileType}, "
+            + "mime_type = #{f.mimeType}, file_extension = #{f.fileExtension}, file_size = #{f.fileSize}, "
+            + "file_sha1 = #{f.fileSha1}, upload_user_id = #{f.uploadUserId}, storage_type = #{f.storageType}, "
+            + "bucket_name = #{f.bucketName}, width = NULL, height = NULL, duration = NULL, thumbnail_url = NULL, "
+            + "status = #{f.status}, is_deleted = 0 WHERE id = #{id} AND (status = 0 OR is_deleted = 1)")
+    int restoreById(@Param("id") Long id, @Param("f") FileInfo fileInfo);
+}
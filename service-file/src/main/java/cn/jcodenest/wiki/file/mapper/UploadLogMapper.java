@@ -0,0 +1,17 @@
+package cn.jcodenest.wiki.file.mapper;
+
+import cn.jcodenest.wiki.file.entity.UploadLog;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+/**
+ * 上传日志 Mapper
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface UploadLogMapper extends BaseMapper<UploadLog> {
+}
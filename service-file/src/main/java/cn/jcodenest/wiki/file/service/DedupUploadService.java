@@ -0,0 +1,61 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.dto.DedupUploadDTO;
+import cn.jcodenest.wiki.file.vo.DedupConfigVO;
+import cn.jcodenest.wiki.file.vo.DedupNegotiateVO;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 增量上传服务
+ * <p>
+ * 文件的修订版本只上传与已有内容不同的分块，文件以分块清单的形式保存在分块去重存储中。
+ * 需要启用 {@code jcodenest.file.chunking.enabled}。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface DedupUploadService {
+
+    /**
+     * 查询分块参数
+     *
+     * @return 分块参数
+     */
+    DedupConfigVO getConfig();
+
+    /**
+     * 协商：返回缺少的分块，并对已有分块生成抽样校验挑战
+     *
+     * @param userId 用户ID
+     * @param dto    文件分块列表
+     * @return 协商结果
+     */
+    DedupNegotiateVO negotiate(Long userId, DedupUploadDTO dto);
+
+    /**
+     * 上传单个分块，服务端校验SHA-256后保存
+     *
+     * @param userId        用户ID
+     * @param hash          分块SHA-256
+     * @param contentLength 请求体长度，未知时为 -1
+     * @param input         分块数据
+     * @throws IOException 读取请求体失败
+     */
+    void uploadChunk(Long userId, String hash, long contentLength, InputStream input) throws IOException;
+
+    /**
+     * 提交：校验挑战与文件MD5，生成文件记录
+     *
+     * @param userId 用户ID
+     * @param dto    文件分块列表（附带挑战ID与校验值）
+     * @return 文件信息
+     */
+    FileInfoVO commit(Long userId, DedupUploadDTO dto);
+}
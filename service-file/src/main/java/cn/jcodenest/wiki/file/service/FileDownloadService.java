@@ -0,0 +1,61 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.dto.ImageTransformDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 文件下载服务
+ * <p>
+ * 本地存储的文件经 {@code FileChannel.transferTo} 或 Tomcat sendfile 写出，对象存储按请求区间流式转发，
+ * 都不会把整个文件读入堆内存；支持单区间与多区间 Range 请求（视频拖动）、基于文件MD5的 ETag 协商缓存以及按用户限速。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface FileDownloadService {
+
+    /**
+     * 下载文件
+     *
+     * @param userId   用户ID，未登录时为 null
+     * @param filePath 文件相对路径
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException 读取文件失败
+     */
+    void download(Long userId, String filePath, HttpServletRequest request, HttpServletResponse response)
+            throws IOException;
+
+    /**
+     * 下载图片衍生文件（缩略图、WebP），衍生文件只在上传后生成，这里从不即时缩放
+     *
+     * @param userId         用户ID，未登录时为 null
+     * @param fileMd5        原图MD5
+     * @param derivativeName 衍生文件名，如 {@code 480.jpg}
+     * @param request        HTTP请求
+     * @param response       HTTP响应
+     * @throws IOException 读取文件失败
+     */
+    void downloadDerivative(Long userId, String fileMd5, String derivativeName, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException;
+
+    /**
+     * 按参数即时变换图片（缩放、裁剪、转换格式），结果进入磁盘缓存，后续相同参数的请求直接命中
+     *
+     * @param userId   用户ID，未登录时为 null
+     * @param fileMd5  原图MD5
+     * @param dto      变换参数
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException 读取文件失败
+     */
+    void downloadTransformed(Long userId, String fileMd5, ImageTransformDTO dto, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException;
+}
@@ -0,0 +1,42 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.entity.FileInfo;
+
+/**
+ * 物理文件记录服务
+ * <p>
+ * {@code fil_file} 按 MD5 唯一，同一内容只保存一份；已删除（保留期内）与逻辑删除的记录仍占用唯一键，
+ * 再次上传相同内容时在这里统一处理冲突。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface FileInfoService {
+
+    /**
+     * 查询可直接复用的文件（状态正常且未删除）
+     *
+     * @param fileMd5 文件MD5
+     * @return 文件记录，不存在时返回 null
+     */
+    FileInfo findAvailable(String fileMd5);
+
+    /**
+     * 文件记录入库（需在事务内调用）
+     * <ul>
+     *     <li>没有冲突时插入 {@code pending} 并原样返回；</li>
+     *     <li>与已删除或逻辑删除的记录冲突时，用 {@code pending} 的对象恢复该记录，回填记录ID后返回
+     *     {@code pending}，旧对象在事务提交后删除；</li>
+     *     <li>并发上传了相同内容时返回先入库的正常记录，调用方应删除本次转存的对象；</li>
+     *     <li>冲突记录处于审核中或审核失败时抛出业务异常。</li>
+     * </ul>
+     *
+     * @param pending 待入库的文件信息（对象已转存）
+     * @return 实际使用的文件记录，与 {@code pending} 不是同一对象时本次转存的对象不再被引用
+     */
+    FileInfo insertOrReuse(FileInfo pending);
+}
@@ -0,0 +1,71 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.dto.UploadInitDTO;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import cn.jcodenest.wiki.file.vo.UploadSessionVO;
+
+import java.io.InputStream;
+
+/**
+ * 分片上传服务
+ * <p>
+ * 协议：初始化会话 → 并行上传各分片（可乱序、可重传）→ 合并校验。
+ * 分片直接写入预分配临时文件的对应偏移，不做二次拼接；已接收分片记录在 Redis 位图中，断线后可续传。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface FileUploadService {
+
+    /**
+     * 初始化分片上传，同一用户对同一文件（MD5）的未完成会话会被复用
+     *
+     * @param userId    用户ID
+     * @param dto       初始化请求
+     * @param ipAddress 客户端IP
+     * @param userAgent 用户代理
+     * @return 上传会话
+     */
+    UploadSessionVO initUpload(Long userId, UploadInitDTO dto, String ipAddress, String userAgent);
+
+    /**
+     * 上传分片，数据以流的方式写入临时文件的对应偏移
+     *
+     * @param userId        用户ID
+     * @param uploadId      上传会话ID
+     * @param chunkIndex    分片序号（从0开始）
+     * @param contentLength 请求体长度，未知时为 -1
+     * @param inputStream   分片数据
+     */
+    void uploadChunk(Long userId, Long uploadId, int chunkIndex, long contentLength, InputStream inputStream);
+
+    /**
+     * 查询上传会话状态（已接收的分片）
+     *
+     * @param userId   用户ID
+     * @param uploadId 上传会话ID
+     * @return 上传会话
+     */
+    UploadSessionVO getUploadStatus(Long userId, Long uploadId);
+
+    /**
+     * 完成上传：校验分片完整性与MD5后入库
+     *
+     * @param userId   用户ID
+     * @param uploadId 上传会话ID
+     * @return 文件信息
+     */
+    FileInfoVO completeUpload(Long userId, Long uploadId);
+
+    /**
+     * 取消上传并清理临时文件
+     *
+     * @param userId   用户ID
+     * @param uploadId 上传会话ID
+     */
+    void abortUpload(Long userId, Long uploadId);
+}
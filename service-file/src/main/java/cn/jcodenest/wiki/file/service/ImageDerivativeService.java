@@ -0,0 +1,36 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.entity.FileInfo;
+
+/**
+ * 图片衍生文件服务
+ * <p>
+ * 图片上传完成后异步解码一次，按配置的尺寸生成缩略图及可选的 WebP 版本，写入原图所在的存储后端，
+ * 并回填 {@code fil_file} 的宽、高与缩略图URL。衍生文件以（原图MD5，尺寸）为键，相同内容只生成一次；
+ * 常用尺寸在这里预先生成，任意参数的即时变换见 {@link ImageTransformService}。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * 提交衍生文件生成任务，非图片文件直接忽略
+     *
+     * @param fileInfo 文件信息
+     */
+    void submit(FileInfo fileInfo);
+
+    /**
+     * 衍生文件的对象键
+     *
+     * @param fileMd5        原图MD5
+     * @param derivativeName 衍生文件名，如 {@code 480.jpg}
+     * @return 对象键
+     */
+    String derivativeKey(String fileMd5, String derivativeName);
+}
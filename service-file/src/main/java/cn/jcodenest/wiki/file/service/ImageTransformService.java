@@ -0,0 +1,39 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.dto.ImageTransformDTO;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.image.TransformSpec;
+
+/**
+ * 图片按需变换服务
+ * <p>
+ * 按请求参数即时缩放、裁剪、转换格式，结果以（原图MD5，规范化参数）为键写入有容量上限的磁盘缓存；
+ * 同一变体的并发请求合并为一次渲染。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface ImageTransformService {
+
+    /**
+     * 规范化变换参数
+     *
+     * @param fileInfo 原图信息
+     * @param dto      请求参数
+     * @return 规范化参数
+     */
+    TransformSpec normalize(FileInfo fileInfo, ImageTransformDTO dto);
+
+    /**
+     * 确保变体已在缓存中，必要时渲染
+     *
+     * @param fileInfo 原图信息
+     * @param spec     规范化参数
+     * @return 缓存键
+     */
+    String render(FileInfo fileInfo, TransformSpec spec);
+}
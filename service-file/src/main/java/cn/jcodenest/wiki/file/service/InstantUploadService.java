@@ -0,0 +1,40 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.dto.InstantPrecheckDTO;
+import cn.jcodenest.wiki.file.dto.InstantUploadDTO;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import cn.jcodenest.wiki.file.vo.InstantChallengeVO;
+
+/**
+ * 秒传服务
+ * <p>
+ * 客户端先提交哈希与大小预检；服务端已有相同内容时返回若干随机抽样区间作为挑战，
+ * 客户端回传各区间的 MD5 证明持有文件内容后，只新增一条用户文件引用，不传输任何文件数据。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface InstantUploadService {
+
+    /**
+     * 秒传预检
+     *
+     * @param userId 用户ID
+     * @param dto    预检请求
+     * @return 预检结果，未命中时 hit=false
+     */
+    InstantChallengeVO precheck(Long userId, InstantPrecheckDTO dto);
+
+    /**
+     * 提交抽样校验值完成秒传
+     *
+     * @param userId 用户ID
+     * @param dto    确认请求
+     * @return 文件信息
+     */
+    FileInfoVO instantUpload(Long userId, InstantUploadDTO dto);
+}
@@ -0,0 +1,38 @@
+package cn.jcodenest.wiki.file.service;
+
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.enums.UploadTypeEnum;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+
+/**
+ * 用户文件服务
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface UserFileService {
+
+    /**
+     * 为用户创建物理文件的引用记录
+     *
+     * @param userId     用户ID
+     * @param fileInfo   物理文件
+     * @param fileName   用户侧文件名
+     * @param uploadType 上传方式
+     * @return 文件信息
+     */
+    FileInfoVO createReference(Long userId, FileInfo fileInfo, String fileName, UploadTypeEnum uploadType);
+
+    /**
+     * 判断用户是否持有物理文件的引用
+     *
+     * @param userId 用户ID
+     * @param fileId 物理文件ID
+     * @return true-持有，false-未持有
+     */
+    boolean hasReference(Long userId, Long fileId);
+}
@@ -0,0 +1,426 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.utils.FileTypeDetector;
+import cn.jcodenest.wiki.common.utils.FileUtils;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.file.config.FileProperties;
+import cn.jcodenest.wiki.file.dto.DedupUploadDTO;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.enums.FileStatusEnum;
+import cn.jcodenest.wiki.file.enums.UploadTypeEnum;
+import cn.jcodenest.wiki.file.service.DedupUploadService;
+import cn.jcodenest.wiki.file.service.FileInfoService;
+import cn.jcodenest.wiki.file.service.ImageDerivativeService;
+import cn.jcodenest.wiki.file.service.UserFileService;
+import cn.jcodenest.wiki.file.storage.ChunkedStorageBackend;
+import cn.jcodenest.wiki.file.vo.DedupConfigVO;
+import cn.jcodenest.wiki.file.vo.DedupNegotiateVO;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import cn.jcodenest.wiki.file.vo.InstantChallengeVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 增量上传服务实现
+ * <p>
+ * 分块以 SHA-256 寻址，协商阶段只告诉客户端缺少哪些分块。为避免仅凭哈希值就能引用他人的内容，
+ * 对服务端已有的分块随机抽取若干区间，要求客户端提交这些区间的 MD5(nonce ‖ 区间内容)（与秒传的抽样校验相同）。
+ * 随机数每次协商重新生成：文件只有一个小分块时区间覆盖整个文件，不加随机数的 MD5 就是客户端已提交的文件MD5。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DedupUploadServiceImpl implements DedupUploadService {
+
+    /** 抽样区间数量 */
+    private static final int SAMPLE_COUNT = 4;
+
+    /** 单个抽样区间最大长度（字节） */
+    private static final int SAMPLE_SIZE = 4096;
+
+    /** 挑战随机数长度（字节） */
+    private static final int NONCE_BYTES = 16;
+
+    /** 挑战中各区间期望值的分隔符 */
+    private static final String DIGEST_SEPARATOR = ",";
+
+    /** 计算文件摘要时的读缓冲区大小 */
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private static final DateTimeFormatter DATE_PATH = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final FileProperties fileProperties;
+
+    private final FileInfoService fileInfoService;
+
+    private final UserFileService userFileService;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    private final ObjectProvider<ChunkedStorageBackend> chunkedStorageBackendProvider;
+
+    @Override
+    public DedupConfigVO getConfig() {
+        ChunkedStorageBackend backend = requireBackend();
+        DedupConfigVO config = new DedupConfigVO();
+        config.setAlgorithm("FastCDC(gear=SplitMix64(0))");
+        config.setMinSize(backend.getChunker().getMinSize());
+        config.setAvgSize(backend.getChunker().getAvgSize());
+        config.setMaxSize(backend.getChunker().getMaxSize());
+        return config;
+    }
+
+    @Override
+    public DedupNegotiateVO negotiate(Long userId, DedupUploadDTO dto) {
+        ChunkedStorageBackend backend = requireBackend();
+        long[] offsets = validateLayout(backend, dto);
+        List<DedupUploadDTO.Chunk> chunks = dto.getChunks();
+
+        Set<String> existing = backend.findExisting(chunks.stream().map(DedupUploadDTO.Chunk::getHash).toList());
+        Set<String> missing = new LinkedHashSet<>();
+        List<Integer> existingIndexes = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            if (existing.contains(chunks.get(i).getHash())) {
+                existingIndexes.add(i);
+            } else {
+                missing.add(chunks.get(i).getHash());
+            }
+        }
+
+        byte[] nonceBytes = new byte[NONCE_BYTES];
+        RANDOM.nextBytes(nonceBytes);
+        String nonce = FileUtils.encodeHex(nonceBytes);
+        List<String[]> samples = new ArrayList<>(SAMPLE_COUNT);
+        try {
+            for (int n = 0; n < Math.min(SAMPLE_COUNT, existingIndexes.size()); n++) {
+                int index = existingIndexes.get(RANDOM.nextInt(existingIndexes.size()));
+                DedupUploadDTO.Chunk chunk = chunks.get(index);
+                int length = Math.min(SAMPLE_SIZE, chunk.getSize());
+                int inner = RANDOM.nextInt(chunk.getSize() - length + 1);
+                byte[] data;
+                try (InputStream input = backend.getChunk(chunk.getHash(), inner, length)) {
+                    data = input.readNBytes(length);
+                }
+                if (data.length != length) {
+                    throw new EOFException("分块长度与记录不一致: " + chunk.getHash());
+                }
+                MessageDigest md5 = messageDigest(CommonConstants.Digest.MD5);
+                md5.update(nonce.getBytes(StandardCharsets.US_ASCII));
+                samples.add(new String[]{String.valueOf(offsets[index] + inner), String.valueOf(length),
+                        FileUtils.encodeHex(md5.digest(data))});
+            }
+        } catch (IOException e) {
+            log.error("读取已有分块失败: userId={}, fileMd5={}", userId, dto.getFileMd5(), e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "读取已有分块失败");
+        }
+        samples.sort(Comparator.comparingLong(sample -> Long.parseLong(sample[0])));
+
+        String challengeId = StringUtils.uuid();
+        Map<String, String> challenge = new HashMap<>(4);
+        challenge.put("userId", String.valueOf(userId));
+        challenge.put("layout", layoutDigest(dto));
+        challenge.put("digests", String.join(DIGEST_SEPARATOR, samples.stream().map(sample -> sample[2]).toList()));
+        String key = RedisConstants.FileKey.DEDUP_CHALLENGE + challengeId;
+        stringRedisTemplate.opsForHash().putAll(key, challenge);
+        stringRedisTemplate.expire(key, Duration.ofHours(fileProperties.getSessionExpireHours()));
+
+        DedupNegotiateVO result = new DedupNegotiateVO();
+        result.setChallengeId(challengeId);
+        result.setNonce(nonce);
+        result.setMissing(new ArrayList<>(missing));
+        result.setRanges(samples.stream()
+                .map(sample -> new InstantChallengeVO.SampleRange(Long.parseLong(sample[0]), Integer.parseInt(sample[1])))
+                .toList());
+        log.info("增量上传协商: userId={}, fileSize={}, chunks={}, missing={}", userId, dto.getFileSize(), chunks.size(),
+                missing.size());
+        return result;
+    }
+
+    @Override
+    public void uploadChunk(Long userId, String hash, long contentLength, InputStream input) throws IOException {
+        ChunkedStorageBackend backend = requireBackend();
+        int maxSize = backend.getChunker().getMaxSize();
+        if (contentLength > maxSize) {
+            throw BusinessException.of(ErrorCode.FILE_SIZE_EXCEEDED, "分块不能超过 " + maxSize + " 字节");
+        }
+
+        byte[] data = input.readNBytes(maxSize + 1);
+        if (data.length == 0 || data.length > maxSize) {
+            throw BusinessException.of(ErrorCode.UPLOAD_CHUNK_INVALID, "分块大小无效: " + data.length);
+        }
+        if (!ChunkedStorageBackend.sha256(data).equals(hash)) {
+            throw BusinessException.of(ErrorCode.UPLOAD_CHUNK_INVALID, "分块SHA-256校验失败");
+        }
+        backend.putChunk(hash, data);
+    }
+
+    @Override
+    public FileInfoVO commit(Long userId, DedupUploadDTO dto) {
+        ChunkedStorageBackend backend = requireBackend();
+        if (StringUtils.isBlank(dto.getChallengeId())) {
+            throw BusinessException.of(ErrorCode.PARAMETER_MISSING, "挑战ID不能为空");
+        }
+        validateLayout(backend, dto);
+        verifyChallenge(userId, dto);
+
+        List<DedupUploadDTO.Chunk> chunks = dto.getChunks();
+        List<String> hashes = chunks.stream().map(DedupUploadDTO.Chunk::getHash).toList();
+        Set<String> distinct = new LinkedHashSet<>(hashes);
+        int present = backend.findExisting(distinct).size();
+        if (present < distinct.size()) {
+            throw BusinessException.of(ErrorCode.UPLOAD_INCOMPLETE, "仍有 " + (distinct.size() - present) + " 个分块未上传");
+        }
+
+        // 按分块重新计算整个文件的摘要，文件MD5必须由内容得出而不是信任客户端
+        Map<String, String> digests = digestChunks(backend, chunks);
+        String fileMd5 = dto.getFileMd5().toLowerCase();
+        if (!fileMd5.equals(digests.get(CommonConstants.Digest.MD5))) {
+            log.warn("增量上传MD5校验失败: userId={}, expected={}, actual={}", userId, fileMd5,
+                    digests.get(CommonConstants.Digest.MD5));
+            throw BusinessException.of(ErrorCode.FILE_CORRUPTED, "文件MD5校验失败，请重新上传");
+        }
+
+        FileInfo existing = fileInfoService.findAvailable(fileMd5);
+        if (existing != null) {
+            return userFileService.createReference(userId, existing, dto.getFileName(), UploadTypeEnum.DEDUP);
+        }
+
+        String storedName = FileUtils.generateUniqueFileName(dto.getFileName());
+        String relativePath = LocalDate.now().format(DATE_PATH) + "/" + storedName;
+        backend.link(relativePath, chunks.stream()
+                .map(chunk -> new ChunkedStorageBackend.ChunkRef(chunk.getHash(), chunk.getSize()))
+                .toList());
+        FileInfo pending = buildFileInfo(backend, userId, dto, storedName, relativePath,
+                digests.get(CommonConstants.Digest.SHA1));
+
+        FileInfoVO fileInfo;
+        try {
+            fileInfo = transactionTemplate.execute(status -> {
+                FileInfo stored = fileInfoService.insertOrReuse(pending);
+                if (stored == pending) {
+                    submitDerivativesAfterCommit(stored);
+                } else {
+                    // 并发提交了相同内容，以先入库者为准，释放本次的分块清单
+                    backend.delete(relativePath);
+                }
+                return userFileService.createReference(userId, stored, dto.getFileName(), UploadTypeEnum.DEDUP);
+            });
+        } catch (RuntimeException e) {
+            backend.delete(relativePath);
+            throw e;
+        }
+
+        log.info("增量上传完成: userId={}, fileId={}, fileSize={}, chunks={}", userId, fileInfo.getId(),
+                dto.getFileSize(), chunks.size());
+        return fileInfo;
+    }
+
+    private ChunkedStorageBackend requireBackend() {
+        ChunkedStorageBackend backend = chunkedStorageBackendProvider.getIfAvailable();
+        if (backend == null) {
+            throw BusinessException.of(ErrorCode.NOT_FOUND, "未启用增量上传");
+        }
+        return backend;
+    }
+
+    /**
+     * 校验分块列表：单块不超过最大分块大小，总长等于文件大小
+     *
+     * @return 各分块在文件中的起始偏移量
+     */
+    private long[] validateLayout(ChunkedStorageBackend backend, DedupUploadDTO dto) {
+        if (dto.getFileSize() > fileProperties.getMaxFileSize()) {
+            throw BusinessException.of(ErrorCode.FILE_SIZE_EXCEEDED,
+                    "文件大小超限，最大 " + FileUtils.formatFileSize(fileProperties.getMaxFileSize()));
+        }
+
+        int maxSize = backend.getChunker().getMaxSize();
+        long[] offsets = new long[dto.getChunks().size()];
+        long total = 0L;
+        for (int i = 0; i < offsets.length; i++) {
+            int size = dto.getChunks().get(i).getSize();
+            if (size > maxSize) {
+                throw BusinessException.of(ErrorCode.UPLOAD_CHUNK_INVALID, "分块不能超过 " + maxSize + " 字节");
+            }
+            offsets[i] = total;
+            total += size;
+        }
+        if (total != dto.getFileSize()) {
+            throw BusinessException.of(ErrorCode.UPLOAD_CHUNK_INVALID,
+                    "分块总长与文件大小不一致: expected=" + dto.getFileSize() + ", actual=" + total);
+        }
+        return offsets;
+    }
+
+    /**
+     * 校验并作废挑战；提交的分块列表必须与协商时一致
+     */
+    private void verifyChallenge(Long userId, DedupUploadDTO dto) {
+        String key = RedisConstants.FileKey.DEDUP_CHALLENGE + dto.getChallengeId();
+        Map<Object, Object> challenge = stringRedisTemplate.opsForHash().entries(key);
+        if (challenge.isEmpty() || !Boolean.TRUE.equals(stringRedisTemplate.delete(key))) {
+            throw BusinessException.of(ErrorCode.INSTANT_UPLOAD_VERIFY_FAILED, "增量上传挑战不存在或已过期");
+        }
+        if (!String.valueOf(userId).equals(challenge.get("userId"))) {
+            throw BusinessException.of(ErrorCode.FORBIDDEN);
+        }
+        if (!layoutDigest(dto).equals(challenge.get("layout"))) {
+            throw BusinessException.of(ErrorCode.INSTANT_UPLOAD_VERIFY_FAILED, "分块列表与协商时不一致");
+        }
+
+        String digests = (String) challenge.get("digests");
+        String[] expected = StringUtils.isBlank(digests) ? new String[0] : digests.split(DIGEST_SEPARATOR);
+        List<String> proofs = dto.getProofs() == null ? List.of() : dto.getProofs();
+        if (proofs.size() != expected.length) {
+            throw BusinessException.of(ErrorCode.INSTANT_UPLOAD_VERIFY_FAILED);
+        }
+        boolean matched = true;
+        for (int i = 0; i < expected.length; i++) {
+            String proof = proofs.get(i) == null ? "" : proofs.get(i).toLowerCase();
+            matched &= MessageDigest.isEqual(expected[i].getBytes(StandardCharsets.US_ASCII),
+                    proof.getBytes(StandardCharsets.US_ASCII));
+        }
+        if (!matched) {
+            log.warn("增量上传抽样校验失败: userId={}, fileMd5={}", userId, dto.getFileMd5());
+            throw BusinessException.of(ErrorCode.INSTANT_UPLOAD_VERIFY_FAILED);
+        }
+    }
+
+    /**
+     * 依次读取各分块计算整个文件的 MD5 与 SHA-1
+     */
+    private static Map<String, String> digestChunks(ChunkedStorageBackend backend, List<DedupUploadDTO.Chunk> chunks) {
+        MessageDigest md5 = messageDigest(CommonConstants.Digest.MD5);
+        MessageDigest sha1 = messageDigest(CommonConstants.Digest.SHA1);
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+        try {
+            for (DedupUploadDTO.Chunk chunk : chunks) {
+                long remaining = chunk.getSize();
+                try (InputStream input = backend.getChunk(chunk.getHash(), 0L, chunk.getSize())) {
+                    while (remaining > 0) {
+                        int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                        if (read < 0) {
+                            throw new EOFException("分块长度与记录不一致: " + chunk.getHash());
+                        }
+                        md5.update(buffer, 0, read);
+                        sha1.update(buffer, 0, read);
+                        remaining -= read;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("读取分块计算文件摘要失败", e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "读取分块失败");
+        }
+        return Map.of(CommonConstants.Digest.MD5, FileUtils.encodeHex(md5.digest()),
+                CommonConstants.Digest.SHA1, FileUtils.encodeHex(sha1.digest()));
+    }
+
+    /**
+     * 读取首个分块的头部探测文件类型；最小分块远大于探测所需字节，只需读一个分块
+     */
+    private static FileTypeDetector.Detection detectType(ChunkedStorageBackend backend, DedupUploadDTO dto) {
+        DedupUploadDTO.Chunk first = dto.getChunks().get(0);
+        try (InputStream input = backend.getChunk(first.getHash(), 0L,
+                Math.min(FileTypeDetector.HEADER_SIZE, first.getSize()))) {
+            return FileTypeDetector.detect(input, dto.getFileName());
+        } catch (IOException e) {
+            log.error("读取分块探测文件类型失败: chunk={}", first.getHash(), e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "读取分块失败");
+        }
+    }
+
+    /**
+     * 分块列表摘要，用于确认提交与协商的是同一份列表
+     */
+    private static String layoutDigest(DedupUploadDTO dto) {
+        MessageDigest digest = messageDigest(CommonConstants.Digest.SHA256);
+        digest.update(dto.getFileMd5().toLowerCase().getBytes(StandardCharsets.US_ASCII));
+        for (DedupUploadDTO.Chunk chunk : dto.getChunks()) {
+            digest.update((chunk.getHash() + ":" + chunk.getSize() + ";").getBytes(StandardCharsets.US_ASCII));
+        }
+        return FileUtils.encodeHex(digest.digest());
+    }
+
+    private FileInfo buildFileInfo(ChunkedStorageBackend backend, Long userId, DedupUploadDTO dto, String storedName,
+                                   String relativePath, String fileSha1) {
+        FileTypeDetector.Detection detection = detectType(backend, dto);
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setFileName(storedName);
+        fileInfo.setOriginalName(dto.getFileName());
+        fileInfo.setFilePath(relativePath);
+        fileInfo.setFileUrl(fileProperties.getUrlPrefix() + relativePath);
+        fileInfo.setFileType(detection.getFileType());
+        fileInfo.setMimeType(detection.getMimeType());
+        fileInfo.setFileExtension(detection.getExtension());
+        fileInfo.setFileSize(dto.getFileSize());
+        fileInfo.setFileMd5(dto.getFileMd5().toLowerCase());
+        fileInfo.setFileSha1(fileSha1);
+        fileInfo.setUploadUserId(userId);
+        fileInfo.setStorageType(backend.type());
+        fileInfo.setBucketName(backend.bucket());
+        fileInfo.setStatus(FileStatusEnum.NORMAL.getCode());
+        return fileInfo;
+    }
+
+    /**
+     * 事务提交后再提交图片衍生任务，避免工作线程读到尚未提交的文件记录
+     */
+    private void submitDerivativesAfterCommit(FileInfo fileInfo) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageDerivativeService.submit(fileInfo);
+            }
+        });
+    }
+
+    private static MessageDigest messageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " 算法不可用", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.enums.FileStatusEnum;
+import cn.jcodenest.wiki.file.mapper.FileInfoMapper;
+import cn.jcodenest.wiki.file.service.FileInfoService;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 物理文件记录服务实现
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileInfoServiceImpl implements FileInfoService {
+
+    private final FileInfoMapper fileInfoMapper;
+
+    private final StorageBackendRegistry storageBackendRegistry;
+
+    @Override
+    public FileInfo findAvailable(String fileMd5) {
+        return fileInfoMapper.selectOne(Wrappers.<FileInfo>lambdaQuery()
+                .eq(FileInfo::getFileMd5, fileMd5)
+                .eq(FileInfo::getStatus, FileStatusEnum.NORMAL.getCode()));
+    }
+
+    @Override
+    public FileInfo insertOrReuse(FileInfo pending) {
+        try {
+            fileInfoMapper.insert(pending);
+            return pending;
+        } catch (DuplicateKeyException e) {
+            log.debug("文件记录唯一键冲突: fileMd5={}", pending.getFileMd5());
+        }
+
+        FileInfo current = fileInfoMapper.selectAnyByMd5(pending.getFileMd5());
+        if (current != null && isDeleted(current) && fileInfoMapper.restoreById(current.getId(), pending) == 1) {
+            pending.setId(current.getId());
+            deleteObjectAfterCommit(current);
+            log.info("恢复已删除的文件记录: fileId={}, fileMd5={}, storageType={}, key={}", current.getId(),
+                    current.getFileMd5(), pending.getStorageType(), pending.getFilePath());
+            return pending;
+        }
+
+        // 恢复失败说明记录刚被其他请求恢复或被回收，重新读取一次
+        if (current != null && isDeleted(current)) {
+            current = fileInfoMapper.selectAnyByMd5(pending.getFileMd5());
+        }
+        if (current != null && !isDeleted(current) && FileStatusEnum.NORMAL.getCode().equals(current.getStatus())) {
+            return current;
+        }
+        if (current == null) {
+            throw BusinessException.of(ErrorCode.CONFLICT, "文件记录正在回收，请重试");
+        }
+        throw BusinessException.of(ErrorCode.FILE_ALREADY_EXISTS, "相同内容的文件正在审核或未通过审核");
+    }
+
+    /**
+     * 状态为已删除或已逻辑删除
+     */
+    private static boolean isDeleted(FileInfo fileInfo) {
+        return FileStatusEnum.DELETED.getCode().equals(fileInfo.getStatus())
+                || Objects.equals(fileInfo.getIsDeleted(), 1);
+    }
+
+    /**
+     * 记录恢复后旧对象不再被引用，事务提交后删除；失败时留给孤儿回收
+     */
+    private void deleteObjectAfterCommit(FileInfo previous) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    storageBackendRegistry.get(previous.getStorageType()).delete(previous.getFilePath());
+                } catch (IOException | RuntimeException e) {
+                    log.warn("删除恢复前的文件对象失败: fileId={}, storageType={}, key={}", previous.getId(),
+                            previous.getStorageType(), previous.getFilePath(), e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,464 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.exception.ValidationException;
+import cn.jcodenest.wiki.common.executor.MdcForkJoinPool;
+import cn.jcodenest.wiki.common.utils.FileTypeDetector;
+import cn.jcodenest.wiki.common.utils.FileUtils;
+import cn.jcodenest.wiki.file.config.FileProperties;
+import cn.jcodenest.wiki.file.dto.UploadInitDTO;
+import cn.jcodenest.wiki.file.dto.UploadSession;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.entity.UploadLog;
+import cn.jcodenest.wiki.file.enums.FileStatusEnum;
+import cn.jcodenest.wiki.file.enums.UploadStatusEnum;
+import cn.jcodenest.wiki.file.enums.UploadTypeEnum;
+import cn.jcodenest.wiki.file.mapper.UploadLogMapper;
+import cn.jcodenest.wiki.file.service.FileInfoService;
+import cn.jcodenest.wiki.file.service.FileUploadService;
+import cn.jcodenest.wiki.file.service.ImageDerivativeService;
+import cn.jcodenest.wiki.file.service.UserFileService;
+import cn.jcodenest.wiki.file.storage.StorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import cn.jcodenest.wiki.file.vo.UploadSessionVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分片上传服务实现
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileUploadServiceImpl implements FileUploadService {
+
+    /** 存储目录按日期分层 */
+    private static final DateTimeFormatter DATE_PATH = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    /** 合并锁超时时间，覆盖大文件MD5校验耗时 */
+    private static final Duration COMPLETE_LOCK_TIMEOUT = Duration.ofMinutes(30);
+
+    private final FileProperties fileProperties;
+
+    private final FileInfoService fileInfoService;
+
+    private final UploadLogMapper uploadLogMapper;
+
+    private final UserFileService userFileService;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final StorageBackendRegistry storageBackendRegistry;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    /** 计算文件摘要使用的CPU线程池 */
+    private final MdcForkJoinPool cpuExecutor;
+
+    @Override
+    public UploadSessionVO initUpload(Long userId, UploadInitDTO dto, String ipAddress, String userAgent) {
+        if (dto.getFileSize() > fileProperties.getMaxFileSize()) {
+            throw BusinessException.of(ErrorCode.FILE_SIZE_EXCEEDED,
+                    "文件大小超限，最大 " + FileUtils.formatFileSize(fileProperties.getMaxFileSize()));
+        }
+
+        String fileMd5 = dto.getFileMd5().toLowerCase();
+        UploadSession resumable = findResumableSession(userId, fileMd5, dto.getFileSize());
+        if (resumable != null) {
+            log.info("复用未完成的上传会话: uploadId={}, userId={}", resumable.getUploadId(), userId);
+            return toSessionVO(resumable);
+        }
+
+        long chunkSize = Math.max(fileProperties.getChunkSize(),
+                (dto.getFileSize() + fileProperties.getMaxChunks() - 1) / fileProperties.getMaxChunks());
+        int totalChunks = (int) ((dto.getFileSize() + chunkSize - 1) / chunkSize);
+
+        UploadLog uploadLog = new UploadLog();
+        uploadLog.setUserId(userId);
+        uploadLog.setOriginalName(dto.getFileName());
+        uploadLog.setFileSize(dto.getFileSize());
+        uploadLog.setUploadStatus(UploadStatusEnum.UPLOADING.getCode());
+        uploadLog.setUploadProgress(BigDecimal.ZERO);
+        uploadLog.setIpAddress(ipAddress);
+        uploadLog.setUserAgent(userAgent);
+        uploadLogMapper.insert(uploadLog);
+
+        UploadSession session = UploadSession.builder()
+                .uploadId(uploadLog.getId())
+                .userId(userId)
+                .fileName(dto.getFileName())
+                .fileSize(dto.getFileSize())
+                .fileMd5(fileMd5)
+                .chunkSize((int) chunkSize)
+                .totalChunks(totalChunks)
+                .build();
+
+        // 预分配临时文件（稀疏文件），各分片直接写入自己的偏移
+        Path tempFile = tempFileOf(session.getUploadId());
+        try {
+            Files.createDirectories(tempFile.getParent());
+            try (RandomAccessFile file = new RandomAccessFile(tempFile.toFile(), "rw")) {
+                file.setLength(session.getFileSize());
+            }
+        } catch (IOException e) {
+            log.error("创建上传临时文件失败: uploadId={}, path={}", session.getUploadId(), tempFile, e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "创建临时文件失败");
+        }
+
+        Duration expire = Duration.ofHours(fileProperties.getSessionExpireHours());
+        String sessionKey = RedisConstants.FileKey.UPLOAD_SESSION + session.getUploadId();
+        String progressKey = RedisConstants.FileKey.UPLOAD_PROGRESS + session.getUploadId();
+        stringRedisTemplate.opsForHash().putAll(sessionKey, session.toHash());
+        stringRedisTemplate.expire(sessionKey, expire);
+        // 预先写入最后一位，使位图带上过期时间，后续 SETBIT 不会改变 TTL
+        stringRedisTemplate.opsForValue().setBit(progressKey, totalChunks - 1L, false);
+        stringRedisTemplate.expire(progressKey, expire);
+        stringRedisTemplate.opsForValue().set(resumeKey(userId, fileMd5), String.valueOf(session.getUploadId()), expire);
+
+        log.info("初始化分片上传: uploadId={}, userId={}, fileName={}, fileSize={}, chunkSize={}, totalChunks={}",
+                session.getUploadId(), userId, session.getFileName(), session.getFileSize(), chunkSize, totalChunks);
+        return toSessionVO(session);
+    }
+
+    @Override
+    public void uploadChunk(Long userId, Long uploadId, int chunkIndex, long contentLength, InputStream inputStream) {
+        UploadSession session = requireSession(userId, uploadId);
+        if (chunkIndex < 0 || chunkIndex >= session.getTotalChunks()) {
+            throw ValidationException.parameterRange("chunkIndex", 0, session.getTotalChunks() - 1);
+        }
+
+        long expected = session.lengthOf(chunkIndex);
+        if (contentLength >= 0 && contentLength != expected) {
+            throw BusinessException.of(ErrorCode.UPLOAD_CHUNK_INVALID,
+                    "分片大小不匹配: expected=" + expected + ", actual=" + contentLength);
+        }
+
+        Path tempFile = tempFileOf(uploadId);
+        if (!Files.exists(tempFile)) {
+            throw BusinessException.of(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+
+        long written = 0;
+        long position = session.offsetOf(chunkIndex);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(inputStream)) {
+            while (written < expected) {
+                long transferred = channel.transferFrom(source, position + written, expected - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+        } catch (IOException e) {
+            log.warn("写入分片失败: uploadId={}, chunkIndex={}, written={}", uploadId, chunkIndex, written, e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "分片写入失败，请重试");
+        }
+
+        if (written != expected) {
+            throw BusinessException.of(ErrorCode.UPLOAD_CHUNK_INVALID,
+                    "分片数据不完整: expected=" + expected + ", actual=" + written);
+        }
+
+        stringRedisTemplate.opsForValue().setBit(RedisConstants.FileKey.UPLOAD_PROGRESS + uploadId, chunkIndex, true);
+        log.debug("接收分片: uploadId={}, chunkIndex={}, size={}", uploadId, chunkIndex, written);
+    }
+
+    @Override
+    public UploadSessionVO getUploadStatus(Long userId, Long uploadId) {
+        return toSessionVO(requireSession(userId, uploadId));
+    }
+
+    @Override
+    public FileInfoVO completeUpload(Long userId, Long uploadId) {
+        UploadSession session = requireSession(userId, uploadId);
+
+        String lockKey = RedisConstants.LockKey.UPLOAD_COMPLETE + uploadId;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, String.valueOf(userId),
+                COMPLETE_LOCK_TIMEOUT))) {
+            throw BusinessException.of(ErrorCode.DUPLICATE_OPERATION, "文件正在合并，请勿重复提交");
+        }
+
+        try {
+            long received = countReceivedChunks(uploadId);
+            if (received < session.getTotalChunks()) {
+                throw BusinessException.of(ErrorCode.UPLOAD_INCOMPLETE,
+                        "已上传 " + received + "/" + session.getTotalChunks() + " 个分片");
+            }
+
+            Path tempFile = tempFileOf(uploadId);
+            Map<String, String> digests = digestFile(tempFile);
+            String actualMd5 = digests.get(CommonConstants.Digest.MD5);
+            if (!session.getFileMd5().equalsIgnoreCase(actualMd5)) {
+                log.warn("分片合并后MD5校验失败: uploadId={}, expected={}, actual={}", uploadId, session.getFileMd5(), actualMd5);
+                failUpload(session, "MD5校验失败");
+                throw BusinessException.of(ErrorCode.FILE_CORRUPTED, "文件MD5校验失败，请重新上传");
+            }
+
+            // 对象存储上传耗时较长，放在事务之外完成，事务内只做入库
+            FileInfo existing = fileInfoService.findAvailable(session.getFileMd5());
+            FileInfo pending = existing == null
+                    ? storeObject(session, tempFile, digests.get(CommonConstants.Digest.SHA1)) : null;
+            if (existing != null) {
+                FileUtils.deleteQuietly(tempFile.toFile());
+            }
+
+            FileInfoVO fileInfo;
+            try {
+                fileInfo = transactionTemplate.execute(status -> {
+                    FileInfo stored = pending != null ? fileInfoService.insertOrReuse(pending) : existing;
+                    markSuccess(uploadId, stored.getId());
+                    if (stored == pending) {
+                        submitDerivativesAfterCommit(stored);
+                    } else if (pending != null) {
+                        // 并发上传了相同内容，以先入库者为准
+                        deleteObjectQuietly(pending);
+                    }
+                    return userFileService.createReference(userId, stored, session.getFileName(), UploadTypeEnum.NORMAL);
+                });
+            } catch (RuntimeException e) {
+                if (pending != null) {
+                    deleteObjectQuietly(pending);
+                }
+                throw e;
+            }
+            clearSession(session);
+
+            log.info("分片上传完成: uploadId={}, fileId={}, fileSize={}", uploadId, fileInfo.getId(), session.getFileSize());
+            return fileInfo;
+        } finally {
+            stringRedisTemplate.delete(lockKey);
+        }
+    }
+
+    @Override
+    public void abortUpload(Long userId, Long uploadId) {
+        UploadSession session = requireSession(userId, uploadId);
+        failUpload(session, "用户取消上传");
+        log.info("取消分片上传: uploadId={}, userId={}", uploadId, userId);
+    }
+
+    /**
+     * 将合并完成的临时文件转入主存储
+     *
+     * @param session  上传会话
+     * @param tempFile 临时文件
+     * @param fileSha1 文件SHA-1
+     * @return 待入库的文件信息
+     */
+    private FileInfo storeObject(UploadSession session, Path tempFile, String fileSha1) {
+        StorageBackend backend = storageBackendRegistry.primary();
+        String storedName = FileUtils.generateUniqueFileName(session.getFileName());
+        String relativePath = LocalDate.now().format(DATE_PATH) + "/" + storedName;
+        FileTypeDetector.Detection detection;
+        try {
+            // 以文件头魔数确定类型，客户端文件名只用于细化同一容器下的格式
+            detection = FileTypeDetector.detect(tempFile, session.getFileName());
+            backend.store(relativePath, tempFile, detection.getMimeType());
+        } catch (IOException e) {
+            log.error("转存上传文件失败: uploadId={}, storageType={}, key={}", session.getUploadId(), backend.type(),
+                    relativePath, e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "文件转存失败");
+        }
+
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setFileName(storedName);
+        fileInfo.setOriginalName(session.getFileName());
+        fileInfo.setFilePath(relativePath);
+        fileInfo.setFileUrl(fileProperties.getUrlPrefix() + relativePath);
+        fileInfo.setFileType(detection.getFileType());
+        fileInfo.setMimeType(detection.getMimeType());
+        fileInfo.setFileExtension(detection.getExtension());
+        fileInfo.setFileSize(session.getFileSize());
+        fileInfo.setFileMd5(session.getFileMd5());
+        fileInfo.setFileSha1(fileSha1);
+        fileInfo.setUploadUserId(session.getUserId());
+        fileInfo.setStorageType(backend.type());
+        fileInfo.setBucketName(backend.bucket());
+        fileInfo.setStatus(FileStatusEnum.NORMAL.getCode());
+        return fileInfo;
+    }
+
+    /**
+     * 事务提交后再提交图片衍生任务，避免工作线程读到尚未提交的文件记录
+     */
+    private void submitDerivativesAfterCommit(FileInfo fileInfo) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageDerivativeService.submit(fileInfo);
+            }
+        });
+    }
+
+    private void deleteObjectQuietly(FileInfo fileInfo) {
+        try {
+            storageBackendRegistry.get(fileInfo.getStorageType()).delete(fileInfo.getFilePath());
+        } catch (IOException | RuntimeException e) {
+            log.warn("清理转存对象失败: storageType={}, key={}", fileInfo.getStorageType(), fileInfo.getFilePath(), e);
+        }
+    }
+
+    /**
+     * 单次读取合并后的文件，在CPU线程池上并行计算MD5与SHA-1
+     *
+     * @param tempFile 临时文件
+     * @return 算法 -> 摘要
+     */
+    private Map<String, String> digestFile(Path tempFile) {
+        try {
+            return FileUtils.digest(tempFile, cpuExecutor, CommonConstants.Digest.MD5, CommonConstants.Digest.SHA1);
+        } catch (IOException e) {
+            log.error("计算上传文件摘要失败: {}", tempFile, e);
+            throw BusinessException.of(ErrorCode.FILE_UPLOAD_FAILED, "文件校验失败，请重试");
+        }
+    }
+
+    private void markSuccess(Long uploadId, Long fileId) {
+        UploadLog update = new UploadLog();
+        update.setId(uploadId);
+        update.setFileId(fileId);
+        update.setUploadStatus(UploadStatusEnum.SUCCESS.getCode());
+        update.setUploadProgress(BigDecimal.valueOf(100));
+        update.setUploadTime(LocalDateTime.now());
+        uploadLogMapper.updateById(update);
+    }
+
+    /**
+     * 标记上传失败并清理临时文件与会话
+     *
+     * @param session      上传会话
+     * @param errorMessage 失败原因
+     */
+    private void failUpload(UploadSession session, String errorMessage) {
+        UploadLog update = new UploadLog();
+        update.setId(session.getUploadId());
+        update.setUploadStatus(UploadStatusEnum.FAILED.getCode());
+        update.setErrorMessage(errorMessage);
+        uploadLogMapper.updateById(update);
+
+        FileUtils.deleteQuietly(tempFileOf(session.getUploadId()).toFile());
+        clearSession(session);
+    }
+
+    private void clearSession(UploadSession session) {
+        stringRedisTemplate.delete(List.of(
+                RedisConstants.FileKey.UPLOAD_SESSION + session.getUploadId(),
+                RedisConstants.FileKey.UPLOAD_PROGRESS + session.getUploadId(),
+                resumeKey(session.getUserId(), session.getFileMd5())));
+    }
+
+    /**
+     * 查找可续传的会话：同一用户、同一MD5、同一大小且临时文件仍在
+     */
+    private UploadSession findResumableSession(Long userId, String fileMd5, long fileSize) {
+        String uploadId = stringRedisTemplate.opsForValue().get(resumeKey(userId, fileMd5));
+        if (uploadId == null) {
+            return null;
+        }
+
+        UploadSession session = loadSession(Long.valueOf(uploadId));
+        if (session == null || session.getFileSize() != fileSize || !Files.exists(tempFileOf(session.getUploadId()))) {
+            return null;
+        }
+        return session;
+    }
+
+    private UploadSession requireSession(Long userId, Long uploadId) {
+        UploadSession session = loadSession(uploadId);
+        if (session == null) {
+            throw BusinessException.of(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        if (!session.getUserId().equals(userId)) {
+            throw BusinessException.of(ErrorCode.FORBIDDEN);
+        }
+        return session;
+    }
+
+    private UploadSession loadSession(Long uploadId) {
+        return UploadSession.fromHash(stringRedisTemplate.opsForHash().entries(RedisConstants.FileKey.UPLOAD_SESSION + uploadId));
+    }
+
+    private long countReceivedChunks(Long uploadId) {
+        byte[] key = (RedisConstants.FileKey.UPLOAD_PROGRESS + uploadId).getBytes(StandardCharsets.UTF_8);
+        Long count = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(key));
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 解析已接收的分片序号（Redis 位图按字节从高位到低位排列）
+     */
+    private List<Integer> receivedChunks(UploadSession session) {
+        byte[] key = (RedisConstants.FileKey.UPLOAD_PROGRESS + session.getUploadId()).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+
+        List<Integer> chunks = new ArrayList<>();
+        if (bitmap == null) {
+            return chunks;
+        }
+        int limit = Math.min(session.getTotalChunks(), bitmap.length * 8);
+        for (int i = 0; i < limit; i++) {
+            if ((bitmap[i >>> 3] & (0x80 >>> (i & 7))) != 0) {
+                chunks.add(i);
+            }
+        }
+        return chunks;
+    }
+
+    private UploadSessionVO toSessionVO(UploadSession session) {
+        UploadSessionVO vo = new UploadSessionVO();
+        vo.setUploadId(session.getUploadId());
+        vo.setFileName(session.getFileName());
+        vo.setFileSize(session.getFileSize());
+        vo.setChunkSize(session.getChunkSize());
+        vo.setTotalChunks(session.getTotalChunks());
+        vo.setUploadedChunks(receivedChunks(session));
+        return vo;
+    }
+
+    private Path tempFileOf(Long uploadId) {
+        return Paths.get(fileProperties.getTempPath(), uploadId + ".part");
+    }
+
+    private static String resumeKey(Long userId, String fileMd5) {
+        return RedisConstants.FileKey.UPLOAD_RESUME + userId + ":" + fileMd5;
+    }
+}
@@ -0,0 +1,191 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.file.config.FileProperties;
+import cn.jcodenest.wiki.file.config.ImageConfig;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.image.ImageCodec;
+import cn.jcodenest.wiki.file.mapper.FileInfoMapper;
+import cn.jcodenest.wiki.file.service.ImageDerivativeService;
+import cn.jcodenest.wiki.file.storage.StorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 图片衍生文件服务实现
+ * <p>
+ * 每张图片只解码一次：先读文件头取得尺寸与透明通道信息，已生成的衍生文件直接跳过；需要生成时按最大目标尺寸
+ * 设置解码降采样，再由大到小逐级缩放，每个尺寸都从上一级结果缩小，而不是从原图重复缩放。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    /** 衍生文件对象键前缀 */
+    private static final String DERIVATIVE_PREFIX = "thumbs/";
+
+    private final FileProperties fileProperties;
+
+    private final FileInfoMapper fileInfoMapper;
+
+    private final StorageBackendRegistry storageBackendRegistry;
+
+    private final ThreadPoolTaskExecutor imageExecutor;
+
+    /**
+     * 构造函数
+     *
+     * @param fileProperties         文件服务配置
+     * @param fileInfoMapper         文件信息 Mapper
+     * @param storageBackendRegistry 存储后端注册表
+     * @param imageExecutor          图片处理线程池
+     */
+    public ImageDerivativeServiceImpl(FileProperties fileProperties, FileInfoMapper fileInfoMapper,
+                                      StorageBackendRegistry storageBackendRegistry,
+                                      @Qualifier(ImageConfig.IMAGE_EXECUTOR) ThreadPoolTaskExecutor imageExecutor) {
+        this.fileProperties = fileProperties;
+        this.fileInfoMapper = fileInfoMapper;
+        this.storageBackendRegistry = storageBackendRegistry;
+        this.imageExecutor = imageExecutor;
+        if (fileProperties.getImage().isWebp() && !ImageCodec.isWebpAvailable()) {
+            log.warn("未找到 WebP ImageIO 插件，只生成 JPEG/PNG 缩略图");
+        }
+    }
+
+    @Override
+    public void submit(FileInfo fileInfo) {
+        if (!fileProperties.getImage().isEnabled() || !"image".equals(fileInfo.getFileType())) {
+            return;
+        }
+        imageExecutor.execute(() -> generate(fileInfo));
+    }
+
+    @Override
+    public String derivativeKey(String fileMd5, String derivativeName) {
+        return DERIVATIVE_PREFIX + fileMd5 + "/" + derivativeName;
+    }
+
+    /**
+     * 生成衍生文件并回填图片信息
+     *
+     * @param fileInfo 文件信息
+     */
+    private void generate(FileInfo fileInfo) {
+        long startNanos = System.nanoTime();
+        FileProperties.Image config = fileProperties.getImage();
+        StorageBackend backend = storageBackendRegistry.get(fileInfo.getStorageType());
+
+        try (InputStream input = backend.get(fileInfo.getFilePath());
+             ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            ImageReader reader = ImageCodec.openReader(imageInput);
+            if (reader == null) {
+                log.debug("不支持解码的图片格式，跳过缩略图: fileId={}, name={}", fileInfo.getId(), fileInfo.getOriginalName());
+                return;
+            }
+
+            try {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > config.getMaxPixels()) {
+                    log.warn("图片像素数超限，跳过缩略图: fileId={}, width={}, height={}", fileInfo.getId(), width, height);
+                    updateImageInfo(fileInfo, width, height, null);
+                    return;
+                }
+
+                boolean alpha = ImageCodec.hasAlpha(reader);
+                String baseFormat = alpha ? ImageCodec.PNG : ImageCodec.JPG;
+                List<Integer> sizes = config.getSizes().stream().distinct().sorted(Comparator.reverseOrder()).toList();
+                Set<String> missing = findMissing(backend, fileInfo.getFileMd5(), sizes, baseFormat);
+                if (!missing.isEmpty()) {
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    int subsampling = ImageCodec.subsampling(width, height, sizes.get(0));
+                    if (subsampling > 1) {
+                        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    }
+                    BufferedImage current = reader.read(0, param);
+                    int imageType = ImageCodec.imageType(baseFormat, alpha);
+                    for (Integer size : sizes) {
+                        current = ImageCodec.fit(current, size, size, imageType);
+                        for (String format : formats(baseFormat)) {
+                            String name = size + "." + format;
+                            if (missing.contains(name)) {
+                                byte[] bytes = ImageCodec.encode(current, format, config.getQuality());
+                                backend.put(derivativeKey(fileInfo.getFileMd5(), name), new ByteArrayInputStream(bytes),
+                                        bytes.length, ImageCodec.contentType(format));
+                            }
+                        }
+                    }
+                }
+
+                String thumbnailUrl = fileProperties.getUrlPrefix()
+                        + derivativeKey(fileInfo.getFileMd5(), config.getThumbnailSize() + "." + baseFormat);
+                updateImageInfo(fileInfo, width, height, thumbnailUrl);
+                log.info("生成图片衍生文件: fileId={}, size={}x{}, generated={}, cost={}ms", fileInfo.getId(), width, height,
+                        missing.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("生成图片衍生文件失败: fileId={}, key={}", fileInfo.getId(), fileInfo.getFilePath(), e);
+        }
+    }
+
+    /**
+     * 找出尚未生成的衍生文件，已存在的（相同MD5此前处理过）直接复用
+     */
+    private Set<String> findMissing(StorageBackend backend, String fileMd5, List<Integer> sizes, String baseFormat)
+            throws IOException {
+        Set<String> missing = new LinkedHashSet<>();
+        for (Integer size : sizes) {
+            for (String format : formats(baseFormat)) {
+                String name = size + "." + format;
+                if (backend.stat(derivativeKey(fileMd5, name)).isEmpty()) {
+                    missing.add(name);
+                }
+            }
+        }
+        return missing;
+    }
+
+    private List<String> formats(String baseFormat) {
+        List<String> formats = new ArrayList<>(2);
+        formats.add(baseFormat);
+        if (ImageCodec.isWebpAvailable() && fileProperties.getImage().isWebp()) {
+            formats.add(ImageCodec.WEBP);
+        }
+        return formats;
+    }
+
+    private void updateImageInfo(FileInfo fileInfo, int width, int height, String thumbnailUrl) {
+        FileInfo update = new FileInfo();
+        update.setId(fileInfo.getId());
+        update.setWidth(width);
+        update.setHeight(height);
+        update.setThumbnailUrl(thumbnailUrl);
+        fileInfoMapper.updateById(update);
+    }
+}
@@ -0,0 +1,230 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.exception.SystemException;
+import cn.jcodenest.wiki.file.config.FileProperties;
+import cn.jcodenest.wiki.file.config.ImageConfig;
+import cn.jcodenest.wiki.file.dto.ImageTransformDTO;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.image.DerivativeDiskCache;
+import cn.jcodenest.wiki.file.image.ImageCodec;
+import cn.jcodenest.wiki.file.image.TransformSpec;
+import cn.jcodenest.wiki.file.service.ImageTransformService;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 图片按需变换服务实现
+ * <p>
+ * 缓存未命中时，第一个请求登记一个进行中的 {@link CompletableFuture} 并把渲染提交到图片处理线程池，
+ * 同一变体的后续请求直接等待这个 Future，突发流量下每个变体只解码、编码一次。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+public class ImageTransformServiceImpl implements ImageTransformService {
+
+    /** 原图带透明通道的可能格式，未指定输出格式时输出 PNG */
+    private static final Set<String> ALPHA_EXTENSIONS = Set.of("png", "gif", "webp", "bmp");
+
+    /** 质量取整粒度，避免相近取值各占一份缓存 */
+    private static final int QUALITY_STEP = 5;
+
+    private final FileProperties fileProperties;
+
+    private final StorageBackendRegistry storageBackendRegistry;
+
+    private final DerivativeDiskCache derivativeDiskCache;
+
+    private final ThreadPoolTaskExecutor imageExecutor;
+
+    /** 进行中的渲染：缓存键 -> 渲染结果 */
+    private final ConcurrentMap<String, CompletableFuture<String>> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param fileProperties         文件服务配置
+     * @param storageBackendRegistry 存储后端注册表
+     * @param derivativeDiskCache    变换结果磁盘缓存
+     * @param imageExecutor          图片处理线程池
+     */
+    public ImageTransformServiceImpl(FileProperties fileProperties, StorageBackendRegistry storageBackendRegistry,
+                                     DerivativeDiskCache derivativeDiskCache,
+                                     @Qualifier(ImageConfig.IMAGE_EXECUTOR) ThreadPoolTaskExecutor imageExecutor) {
+        this.fileProperties = fileProperties;
+        this.storageBackendRegistry = storageBackendRegistry;
+        this.derivativeDiskCache = derivativeDiskCache;
+        this.imageExecutor = imageExecutor;
+    }
+
+    @Override
+    public TransformSpec normalize(FileInfo fileInfo, ImageTransformDTO dto) {
+        FileProperties.Transform config = fileProperties.getImage().getTransform();
+        int width = Math.min(dto.getW() == null ? 0 : dto.getW(), config.getMaxDimension());
+        int height = Math.min(dto.getH() == null ? 0 : dto.getH(), config.getMaxDimension());
+        if (width == 0 && height == 0) {
+            throw BusinessException.of(ErrorCode.PARAMETER_MISSING, "宽度与高度至少指定一个");
+        }
+
+        // cover 需要确定的宽高比，只给一边时与 contain 等价
+        String fit = TransformSpec.FIT_COVER.equals(dto.getFit()) && width > 0 && height > 0
+                ? TransformSpec.FIT_COVER : TransformSpec.FIT_CONTAIN;
+
+        String format = dto.getFmt();
+        if ("jpeg".equals(format)) {
+            format = ImageCodec.JPG;
+        }
+        if (format == null || (ImageCodec.WEBP.equals(format) && !ImageCodec.isWebpAvailable())) {
+            format = ALPHA_EXTENSIONS.contains(fileInfo.getFileExtension()) ? ImageCodec.PNG : ImageCodec.JPG;
+        }
+
+        int quality = 0;
+        if (!ImageCodec.PNG.equals(format)) {
+            int requested = dto.getQ() == null ? config.getDefaultQuality() : dto.getQ();
+            quality = Math.max(QUALITY_STEP, Math.round(requested / (float) QUALITY_STEP) * QUALITY_STEP);
+        }
+        return new TransformSpec(width, height, fit, format, quality);
+    }
+
+    @Override
+    public String render(FileInfo fileInfo, TransformSpec spec) {
+        String key = spec.cacheKey(fileInfo.getFileMd5());
+        if (derivativeDiskCache.touch(key)) {
+            return key;
+        }
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> future = inflight.putIfAbsent(key, created);
+        if (future == null) {
+            future = created;
+            // 队列满时由当前请求线程执行（CallerRuns），渲染本身即是回压
+            imageExecutor.execute(() -> {
+                try {
+                    created.complete(doRender(fileInfo, spec, key));
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inflight.remove(key, created);
+                }
+            });
+        }
+        return await(future, key);
+    }
+
+    /**
+     * 解码原图、变换、编码并写入缓存
+     *
+     * @param fileInfo 原图信息
+     * @param spec     规范化参数
+     * @param key      缓存键
+     * @return 缓存键
+     * @throws IOException 读取或编码失败
+     */
+    private String doRender(FileInfo fileInfo, TransformSpec spec, String key) throws IOException {
+        // 首次检查与登记之间，上一轮渲染可能恰好完成并移出进行中列表
+        if (derivativeDiskCache.touch(key)) {
+            return key;
+        }
+
+        long startNanos = System.nanoTime();
+        try (InputStream input = storageBackendRegistry.get(fileInfo.getStorageType()).get(fileInfo.getFilePath());
+             ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            ImageReader reader = ImageCodec.openReader(imageInput);
+            if (reader == null) {
+                throw BusinessException.of(ErrorCode.FILE_TYPE_NOT_SUPPORTED, "不支持的图片格式");
+            }
+
+            BufferedImage output;
+            try {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > fileProperties.getImage().getMaxPixels()) {
+                    throw BusinessException.of(ErrorCode.IMAGE_TRANSFORM_FAILED, "图片像素数超限");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsampling(spec, width, height);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage source = reader.read(0, param);
+                int imageType = ImageCodec.imageType(spec.getFormat(), ImageCodec.hasAlpha(reader));
+                output = TransformSpec.FIT_COVER.equals(spec.getFit())
+                        ? ImageCodec.cover(source, spec.getWidth(), spec.getHeight(), imageType)
+                        : ImageCodec.fit(source, spec.getWidth(), spec.getHeight(), imageType);
+            } finally {
+                reader.dispose();
+            }
+
+            byte[] bytes = ImageCodec.encode(output, spec.getFormat(), spec.getQuality() / 100F);
+            derivativeDiskCache.put(key, bytes, ImageCodec.contentType(spec.getFormat()));
+            log.debug("渲染图片变体: fileId={}, variant={}, bytes={}, cost={}ms", fileInfo.getId(), spec.variantName(),
+                    bytes.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return key;
+        }
+    }
+
+    /**
+     * 等待渲染结果，业务异常原样抛出
+     */
+    private String await(CompletableFuture<String> future, String key) {
+        try {
+            return future.get(fileProperties.getImage().getTransform().getRenderTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.warn("渲染图片变体失败: key={}", key, e.getCause());
+            throw BusinessException.of(ErrorCode.IMAGE_TRANSFORM_FAILED);
+        } catch (TimeoutException e) {
+            log.warn("渲染图片变体超时: key={}", key);
+            throw SystemException.of(ErrorCode.SYSTEM_BUSY, "图片处理超时，请稍后重试");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SystemException.of(ErrorCode.SYSTEM_BUSY, "图片处理被中断");
+        }
+    }
+
+    /**
+     * 解码降采样倍数：按最终缩放比例计算，保证解码结果不小于输出的两倍
+     */
+    private static int subsampling(TransformSpec spec, int width, int height) {
+        double widthRatio = spec.getWidth() > 0 ? (double) spec.getWidth() / width : 0D;
+        double heightRatio = spec.getHeight() > 0 ? (double) spec.getHeight() / height : 0D;
+        double ratio;
+        if (TransformSpec.FIT_COVER.equals(spec.getFit())) {
+            ratio = Math.max(widthRatio, heightRatio);
+        } else if (widthRatio == 0D || heightRatio == 0D) {
+            ratio = Math.max(widthRatio, heightRatio);
+        } else {
+            ratio = Math.min(widthRatio, heightRatio);
+        }
+        return ratio >= 0.5D ? 1 : (int) (1 / (2 * ratio));
+    }
+}
@@ -0,0 +1,236 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.exception.BusinessException;
+import cn.jcodenest.wiki.common.exception.ErrorCode;
+import cn.jcodenest.wiki.common.utils.FileUtils;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.file.dto.InstantPrecheckDTO;
+import cn.jcodenest.wiki.file.dto.InstantUploadDTO;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.enums.FileStatusEnum;
+import cn.jcodenest.wiki.file.enums.UploadTypeEnum;
+import cn.jcodenest.wiki.file.mapper.FileInfoMapper;
+import cn.jcodenest.wiki.file.service.InstantUploadService;
+import cn.jcodenest.wiki.file.service.UserFileService;
+import cn.jcodenest.wiki.file.storage.StorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import cn.jcodenest.wiki.file.vo.InstantChallengeVO;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 秒传服务实现
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InstantUploadServiceImpl implements InstantUploadService {
+
+    /** 抽样区间数量 */
+    private static final int SAMPLE_COUNT = 4;
+
+    /** 单个抽样区间长度（字节） */
+    private static final int SAMPLE_SIZE = 4096;
+
+    /** 挑战有效期 */
+    private static final Duration CHALLENGE_EXPIRE = Duration.ofMinutes(5);
+
+    /** 挑战随机数长度（字节） */
+    private static final int NONCE_BYTES = 16;
+
+    /** 挑战中各区间期望值的分隔符 */
+    private static final String DIGEST_SEPARATOR = ",";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final FileInfoMapper fileInfoMapper;
+
+    private final UserFileService userFileService;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final StorageBackendRegistry storageBackendRegistry;
+
+    @Override
+    public InstantChallengeVO precheck(Long userId, InstantPrecheckDTO dto) {
+        InstantChallengeVO result = new InstantChallengeVO();
+        result.setHit(false);
+
+        FileInfo fileInfo = fileInfoMapper.selectOne(Wrappers.<FileInfo>lambdaQuery()
+                .eq(FileInfo::getFileMd5, dto.getFileMd5().toLowerCase())
+                .eq(FileInfo::getStatus, FileStatusEnum.NORMAL.getCode()));
+        if (fileInfo == null || !fileInfo.getFileSize().equals(dto.getFileSize())) {
+            return result;
+        }
+        if (StringUtils.isNotBlank(dto.getFileSha1()) && StringUtils.isNotBlank(fileInfo.getFileSha1())
+                && !fileInfo.getFileSha1().equalsIgnoreCase(dto.getFileSha1())) {
+            log.warn("秒传预检SHA1不一致: userId={}, fileId={}", userId, fileInfo.getId());
+            return result;
+        }
+
+        List<InstantChallengeVO.SampleRange> ranges = sampleRanges(fileInfo.getFileSize());
+        String nonce = nonce();
+        List<String> digests;
+        try {
+            digests = digestRanges(storageBackendRegistry.get(fileInfo.getStorageType()), fileInfo.getFilePath(),
+                    nonce, ranges);
+        } catch (IOException e) {
+            log.warn("读取已存储文件抽样区间失败，降级为普通上传: fileId={}", fileInfo.getId(), e);
+            return result;
+        }
+
+        String challengeId = StringUtils.uuid();
+        Map<String, String> challenge = new HashMap<>(4);
+        challenge.put("userId", String.valueOf(userId));
+        challenge.put("fileId", String.valueOf(fileInfo.getId()));
+        challenge.put("fileName", dto.getFileName());
+        challenge.put("digests", String.join(DIGEST_SEPARATOR, digests));
+        String key = RedisConstants.FileKey.INSTANT_CHALLENGE + challengeId;
+        stringRedisTemplate.opsForHash().putAll(key, challenge);
+        stringRedisTemplate.expire(key, CHALLENGE_EXPIRE);
+
+        result.setHit(true);
+        result.setChallengeId(challengeId);
+        result.setNonce(nonce);
+        result.setRanges(ranges);
+        return result;
+    }
+
+    @Override
+    public FileInfoVO instantUpload(Long userId, InstantUploadDTO dto) {
+        String key = RedisConstants.FileKey.INSTANT_CHALLENGE + dto.getChallengeId();
+        Map<Object, Object> challenge = stringRedisTemplate.opsForHash().entries(key);
+        // 挑战一次性有效：无论校验成败都作废，失败后需重新预检获取新的随机区间
+        if (challenge.isEmpty() || !Boolean.TRUE.equals(stringRedisTemplate.delete(key))) {
+            throw BusinessException.of(ErrorCode.INSTANT_UPLOAD_VERIFY_FAILED, "秒传挑战不存在或已过期");
+        }
+        if (!String.valueOf(userId).equals(challenge.get("userId"))) {
+            throw BusinessException.of(ErrorCode.FORBIDDEN);
+        }
+
+        String[] expected = ((String) challenge.get("digests")).split(DIGEST_SEPARATOR);
+        if (!verifyProofs(expected, dto.getProofs())) {
+            log.warn("秒传抽样校验失败: userId={}, fileId={}", userId, challenge.get("fileId"));
+            throw BusinessException.of(ErrorCode.INSTANT_UPLOAD_VERIFY_FAILED);
+        }
+
+        FileInfo fileInfo = fileInfoMapper.selectById(Long.valueOf((String) challenge.get("fileId")));
+        if (fileInfo == null) {
+            throw BusinessException.of(ErrorCode.FILE_NOT_FOUND);
+        }
+
+        log.info("秒传成功: userId={}, fileId={}, fileSize={}", userId, fileInfo.getId(), fileInfo.getFileSize());
+        return userFileService.createReference(userId, fileInfo, (String) challenge.get("fileName"), UploadTypeEnum.INSTANT);
+    }
+
+    /**
+     * 生成挑战随机数；各区间的校验值以它为前缀计算，小文件整体作为一个区间时也不等于已知的文件MD5
+     *
+     * @return 十六进制随机数
+     */
+    private static String nonce() {
+        byte[] nonce = new byte[NONCE_BYTES];
+        RANDOM.nextBytes(nonce);
+        return FileUtils.encodeHex(nonce);
+    }
+
+    /**
+     * 生成随机抽样区间；小文件直接校验全部内容
+     *
+     * @param fileSize 文件大小
+     * @return 按偏移量排序的抽样区间
+     */
+    private static List<InstantChallengeVO.SampleRange> sampleRanges(long fileSize) {
+        List<InstantChallengeVO.SampleRange> ranges = new ArrayList<>(SAMPLE_COUNT);
+        if (fileSize <= (long) SAMPLE_SIZE * SAMPLE_COUNT) {
+            ranges.add(new InstantChallengeVO.SampleRange(0L, (int) fileSize));
+            return ranges;
+        }
+
+        long bound = fileSize - SAMPLE_SIZE + 1;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            ranges.add(new InstantChallengeVO.SampleRange(RANDOM.nextLong(bound), SAMPLE_SIZE));
+        }
+        ranges.sort(Comparator.comparing(InstantChallengeVO.SampleRange::getOffset));
+        return ranges;
+    }
+
+    /**
+     * 计算已存储文件各抽样区间的校验值：MD5(随机数 ‖ 区间内容)
+     *
+     * @param backend 存储后端
+     * @param key     对象键
+     * @param nonce   挑战随机数
+     * @param ranges  抽样区间
+     * @return 各区间 MD5（十六进制）
+     * @throws IOException 读取失败
+     */
+    private static List<String> digestRanges(StorageBackend backend, String key, String nonce,
+                                             List<InstantChallengeVO.SampleRange> ranges) throws IOException {
+        List<String> digests = new ArrayList<>(ranges.size());
+        for (InstantChallengeVO.SampleRange range : ranges) {
+            byte[] data;
+            try (InputStream input = backend.get(key, range.getOffset(), range.getLength())) {
+                data = input.readNBytes(range.getLength());
+            }
+            if (data.length != range.getLength()) {
+                throw new IOException("文件长度与记录不一致: " + key);
+            }
+            MessageDigest md5 = md5();
+            md5.update(nonce.getBytes(StandardCharsets.US_ASCII));
+            digests.add(FileUtils.encodeHex(md5.digest(data)));
+        }
+        return digests;
+    }
+
+    /**
+     * 常量时间比较各区间校验值
+     */
+    private static boolean verifyProofs(String[] expected, List<String> proofs) {
+        if (proofs.size() != expected.length) {
+            return false;
+        }
+
+        boolean matched = true;
+        for (int i = 0; i < expected.length; i++) {
+            String proof = proofs.get(i) == null ? "" : proofs.get(i).toLowerCase();
+            matched &= MessageDigest.isEqual(expected[i].getBytes(StandardCharsets.US_ASCII),
+                    proof.getBytes(StandardCharsets.US_ASCII));
+        }
+        return matched;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance(CommonConstants.Digest.MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 算法不可用", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package cn.jcodenest.wiki.file.service.impl;
+
+import cn.jcodenest.wiki.common.utils.BeanUtils;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.entity.UserFile;
+import cn.jcodenest.wiki.file.enums.UploadTypeEnum;
+import cn.jcodenest.wiki.file.mapper.UserFileMapper;
+import cn.jcodenest.wiki.file.service.UserFileService;
+import cn.jcodenest.wiki.file.vo.FileInfoVO;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 用户文件服务实现
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserFileServiceImpl implements UserFileService {
+
+    private final UserFileMapper userFileMapper;
+
+    @Override
+    public FileInfoVO createReference(Long userId, FileInfo fileInfo, String fileName, UploadTypeEnum uploadType) {
+        UserFile userFile = new UserFile();
+        userFile.setUserId(userId);
+        userFile.setFileId(fileInfo.getId());
+        userFile.setFileName(fileName);
+        userFile.setUploadType(uploadType.getCode());
+        userFileMapper.insert(userFile);
+
+        log.debug("创建用户文件引用: userFileId={}, userId={}, fileId={}, uploadType={}", userFile.getId(), userId,
+                fileInfo.getId(), uploadType.getName());
+
+        FileInfoVO vo = BeanUtils.copyProperties(fileInfo, FileInfoVO.class);
+        vo.setUserFileId(userFile.getId());
+        vo.setOriginalName(fileName);
+        return vo;
+    }
+
+    @Override
+    public boolean hasReference(Long userId, Long fileId) {
+        return userFileMapper.exists(Wrappers.<UserFile>lambdaQuery()
+                .eq(UserFile::getUserId, userId)
+                .eq(UserFile::getFileId, fileId));
+    }
+}
@@ -0,0 +1,516 @@
+package cn.jcodenest.wiki.file.storage;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.utils.FileUtils;
+import cn.jcodenest.wiki.file.entity.ChunkManifest;
+import cn.jcodenest.wiki.file.entity.FileChunk;
+import cn.jcodenest.wiki.file.enums.StorageTypeEnum;
+import cn.jcodenest.wiki.file.mapper.ChunkManifestMapper;
+import cn.jcodenest.wiki.file.mapper.FileChunkMapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 内容定义分块去重存储后端
+ * <p>
+ * 写入时用 {@link FastCdcChunker} 切分，每个分块按 SHA-256 只在底层存储中保存一份（{@code chunks/{hash}}），
+ * 对象本身只是 {@code fil_chunk_manifest} 中的一组有序清单项。同一文件的不同修订版本只多出被改动附近的分块。
+ * 读取按偏移量分页查询清单、依次打开各分块的区间流，Range 请求只读取涉及的分块。
+ * <p>
+ * 分块引用计数随清单增删；计数归零的分块保留一段时间后由 {@link #purgeUnreferenced} 删除。写入前先刷新
+ * 已有分块的更新时间再查询，回收任务只删除超过保留期未被触碰的分块，避免删掉正要被引用的分块。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class ChunkedStorageBackend implements StorageBackend {
+
+    /** 分块对象键前缀 */
+    private static final String CHUNK_PREFIX = "chunks/";
+
+    /** 写入时每批处理的分块数，批内只查询一次已有分块 */
+    private static final int WRITE_BATCH_SIZE = 64;
+
+    /** 单条 IN 查询携带的最大哈希数 */
+    private static final int MAX_IN_SIZE = 500;
+
+    /** 读取时每页加载的清单项数 */
+    private static final int MANIFEST_PAGE_SIZE = 256;
+
+    private final StorageBackend delegate;
+
+    private final FastCdcChunker chunker;
+
+    private final FileChunkMapper fileChunkMapper;
+
+    private final ChunkManifestMapper chunkManifestMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /** 分段上传暂存，完成后再整体分块写入 */
+    private final LocalStorageBackend staging;
+
+    /**
+     * 构造函数
+     *
+     * @param delegate            分块实际落地的存储
+     * @param chunker             分块器
+     * @param fileChunkMapper     文件分块 Mapper
+     * @param chunkManifestMapper 分块清单 Mapper
+     * @param transactionTemplate 事务模板
+     * @param staging             分段上传暂存存储
+     */
+    public ChunkedStorageBackend(StorageBackend delegate, FastCdcChunker chunker, FileChunkMapper fileChunkMapper,
+                                 ChunkManifestMapper chunkManifestMapper, TransactionTemplate transactionTemplate,
+                                 LocalStorageBackend staging) {
+        this.delegate = delegate;
+        this.chunker = chunker;
+        this.fileChunkMapper = fileChunkMapper;
+        this.chunkManifestMapper = chunkManifestMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.staging = staging;
+        log.info("初始化分块去重存储: delegate={}, min={}, avg={}, max={}", delegate.type(), chunker.getMinSize(),
+                chunker.getAvgSize(), chunker.getMaxSize());
+    }
+
+    @Override
+    public String type() {
+        return StorageTypeEnum.CHUNK.getCode();
+    }
+
+    @Override
+    public String bucket() {
+        return delegate.bucket();
+    }
+
+    /**
+     * 分块器，参数同时下发给客户端
+     *
+     * @return 分块器
+     */
+    public FastCdcChunker getChunker() {
+        return chunker;
+    }
+
+    @Override
+    public void put(String key, InputStream input, long length, String contentType) throws IOException {
+        List<ChunkRef> refs = new ArrayList<>((int) Math.min(length / chunker.getAvgSize() + 1, Integer.MAX_VALUE));
+        Map<String, byte[]> batch = new LinkedHashMap<>(WRITE_BATCH_SIZE * 2);
+
+        long total = chunker.split(input, (buffer, offset, chunkLength) -> {
+            byte[] data = Arrays.copyOfRange(buffer, offset, offset + chunkLength);
+            String hash = sha256(data);
+            batch.putIfAbsent(hash, data);
+            refs.add(new ChunkRef(hash, chunkLength));
+            if (batch.size() >= WRITE_BATCH_SIZE) {
+                storeMissing(batch);
+                batch.clear();
+            }
+        });
+        storeMissing(batch);
+
+        if (total == 0) {
+            throw new IOException("分块存储不支持空对象: " + key);
+        }
+        if (total != length) {
+            throw new IOException("写入长度不一致: key=" + key + ", expected=" + length + ", actual=" + total);
+        }
+        link(key, refs);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        StorageObject object = stat(key).orElseThrow(() -> new NoSuchFileException(key));
+        return get(key, 0L, object.getSize());
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws IOException {
+        ChunkManifest first = chunkManifestMapper.selectOne(Wrappers.<ChunkManifest>lambdaQuery()
+                .eq(ChunkManifest::getObjectKey, key)
+                .le(ChunkManifest::getChunkOffset, offset)
+                .orderByDesc(ChunkManifest::getChunkOffset)
+                .last("LIMIT 1"));
+        if (first == null) {
+            throw new NoSuchFileException(key);
+        }
+        return new ChunkRangeInputStream(key, first, offset, offset + length);
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) {
+        ChunkManifest last = chunkManifestMapper.selectOne(Wrappers.<ChunkManifest>lambdaQuery()
+                .eq(ChunkManifest::getObjectKey, key)
+                .orderByDesc(ChunkManifest::getSeq)
+                .last("LIMIT 1"));
+        if (last == null) {
+            return Optional.empty();
+        }
+
+        long lastModified = last.getCreatedAt() == null ? 0L
+                : last.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Optional.of(new StorageObject(key, last.getChunkOffset() + last.getChunkSize(), lastModified));
+    }
+
+    @Override
+    public boolean delete(String key) {
+        Boolean deleted = transactionTemplate.execute(status -> {
+            List<ChunkManifest> items = chunkManifestMapper.selectList(Wrappers.<ChunkManifest>lambdaQuery()
+                    .select(ChunkManifest::getChunkHash)
+                    .eq(ChunkManifest::getObjectKey, key));
+            if (items.isEmpty()) {
+                return false;
+            }
+
+            adjustRefCounts(items.stream().map(ChunkManifest::getChunkHash).toList(), -1);
+            chunkManifestMapper.delete(Wrappers.<ChunkManifest>lambdaQuery().eq(ChunkManifest::getObjectKey, key));
+            return true;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    @Override
+    public MultipartUpload initiateMultipart(String key, String contentType) throws IOException {
+        return staging.initiateMultipart(key, contentType);
+    }
+
+    @Override
+    public CompletedPart uploadPart(MultipartUpload upload, int partNumber, InputStream input, long length)
+            throws IOException {
+        return staging.uploadPart(upload, partNumber, input, length);
+    }
+
+    @Override
+    public void completeMultipart(MultipartUpload upload, List<CompletedPart> parts) throws IOException {
+        staging.completeMultipart(upload, parts);
+        try {
+            long size = staging.stat(upload.getKey())
+                    .orElseThrow(() -> new NoSuchFileException(upload.getKey())).getSize();
+            try (InputStream input = staging.get(upload.getKey())) {
+                put(upload.getKey(), input, size, null);
+            }
+        } finally {
+            staging.delete(upload.getKey());
+        }
+    }
+
+    @Override
+    public void abortMultipart(MultipartUpload upload) {
+        staging.abortMultipart(upload);
+    }
+
+    /**
+     * 查询已存在的分块，并刷新其更新时间，防止在引用前被回收
+     *
+     * @param hashes 分块SHA-256
+     * @return 已存在的分块
+     */
+    public Set<String> findExisting(Collection<String> hashes) {
+        Set<String> existing = new HashSet<>(hashes.size() * 2);
+        List<String> distinct = new ArrayList<>(new HashSet<>(hashes));
+        for (int from = 0; from < distinct.size(); from += MAX_IN_SIZE) {
+            List<String> part = distinct.subList(from, Math.min(from + MAX_IN_SIZE, distinct.size()));
+            // 先刷新再查询：刷新之后仍存在的分块，回收任务的条件删除一定不会命中
+            fileChunkMapper.update(null, Wrappers.<FileChunk>lambdaUpdate()
+                    .setSql("updated_at = NOW()")
+                    .in(FileChunk::getChunkHash, part));
+            fileChunkMapper.selectList(Wrappers.<FileChunk>lambdaQuery()
+                            .select(FileChunk::getChunkHash)
+                            .in(FileChunk::getChunkHash, part))
+                    .forEach(chunk -> existing.add(chunk.getChunkHash()));
+        }
+        return existing;
+    }
+
+    /**
+     * 保存单个分块，已存在时只刷新更新时间；新分块引用计数为 0，由 {@link #link} 计入引用
+     *
+     * @param hash 分块SHA-256（调用方已校验）
+     * @param data 分块数据
+     * @throws IOException 写入失败
+     */
+    public void putChunk(String hash, byte[] data) throws IOException {
+        if (!findExisting(List.of(hash)).isEmpty()) {
+            return;
+        }
+        writeChunk(hash, data);
+    }
+
+    /**
+     * 读取单个分块的区间
+     *
+     * @param hash   分块SHA-256
+     * @param offset 分块内偏移量
+     * @param length 长度
+     * @return 数据流
+     * @throws IOException 读取失败
+     */
+    public InputStream getChunk(String hash, long offset, long length) throws IOException {
+        return delegate.get(chunkKey(hash), offset, length);
+    }
+
+    /**
+     * 以已存在的分块组装对象清单并计入引用
+     *
+     * @param key  对象键
+     * @param refs 有序分块
+     */
+    public void link(String key, List<ChunkRef> refs) {
+        List<ChunkManifest> items = new ArrayList<>(refs.size());
+        long offset = 0L;
+        for (int i = 0; i < refs.size(); i++) {
+            ChunkRef ref = refs.get(i);
+            ChunkManifest item = new ChunkManifest();
+            item.setObjectKey(key);
+            item.setSeq(i);
+            item.setChunkHash(ref.getHash());
+            item.setChunkOffset(offset);
+            item.setChunkSize(ref.getSize());
+            items.add(item);
+            offset += ref.getSize();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            adjustRefCounts(refs.stream().map(ChunkRef::getHash).toList(), 1);
+            chunkManifestMapper.insert(items);
+        });
+    }
+
+    /**
+     * 删除引用计数为 0 且超过保留期未被触碰的分块
+     *
+     * @param grace 保留期
+     * @param limit 本次最多删除的分块数
+     * @return 实际删除的分块数
+     */
+    public int purgeUnreferenced(Duration grace, int limit) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        List<FileChunk> candidates = fileChunkMapper.selectList(Wrappers.<FileChunk>lambdaQuery()
+                .le(FileChunk::getRefCount, 0)
+                .lt(FileChunk::getUpdatedAt, cutoff)
+                .last("LIMIT " + limit));
+
+        int purged = 0;
+        for (FileChunk chunk : candidates) {
+            // 条件删除记录成功后再删对象：此后的写入会把该分块视为不存在并重新上传
+            int deleted = fileChunkMapper.delete(Wrappers.<FileChunk>lambdaQuery()
+                    .eq(FileChunk::getId, chunk.getId())
+                    .le(FileChunk::getRefCount, 0)
+                    .lt(FileChunk::getUpdatedAt, cutoff));
+            if (deleted == 0) {
+                continue;
+            }
+            try {
+                delegate.delete(chunkKey(chunk.getChunkHash()));
+                purged++;
+            } catch (IOException e) {
+                log.warn("删除分块对象失败: hash={}", chunk.getChunkHash(), e);
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 计算分块SHA-256
+     *
+     * @param data 分块数据
+     * @return 十六进制SHA-256
+     */
+    public static String sha256(byte[] data) {
+        try {
+            return FileUtils.encodeHex(MessageDigest.getInstance(CommonConstants.Digest.SHA256).digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 算法不可用", e);
+        }
+    }
+
+    private void storeMissing(Map<String, byte[]> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> existing = findExisting(batch.keySet());
+        for (Map.Entry<String, byte[]> entry : batch.entrySet()) {
+            if (!existing.contains(entry.getKey())) {
+                writeChunk(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void writeChunk(String hash, byte[] data) throws IOException {
+        delegate.put(chunkKey(hash), new ByteArrayInputStream(data), data.length,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        FileChunk chunk = new FileChunk();
+        chunk.setChunkHash(hash);
+        chunk.setChunkSize(data.length);
+        chunk.setRefCount(0);
+        try {
+            fileChunkMapper.insert(chunk);
+        } catch (DuplicateKeyException e) {
+            // 并发写入了相同分块，内容一致，保留先入库的记录
+            log.debug("分块已由并发写入保存: hash={}", hash);
+        }
+    }
+
+    /**
+     * 按出现次数调整引用计数，同一对象中重复出现的分块计多次
+     *
+     * @param hashes 分块SHA-256（可重复）
+     * @param sign   1-增加，-1-减少
+     */
+    private void adjustRefCounts(List<String> hashes, int sign) {
+        Map<String, Integer> occurrences = new HashMap<>(hashes.size() * 2);
+        for (String hash : hashes) {
+            occurrences.merge(hash, 1, Integer::sum);
+        }
+        Map<Integer, List<String>> byCount = new TreeMap<>();
+        occurrences.forEach((hash, count) -> byCount.computeIfAbsent(count, k -> new ArrayList<>()).add(hash));
+
+        byCount.forEach((count, group) -> {
+            for (int from = 0; from < group.size(); from += MAX_IN_SIZE) {
+                List<String> part = group.subList(from, Math.min(from + MAX_IN_SIZE, group.size()));
+                int updated = fileChunkMapper.update(null, Wrappers.<FileChunk>lambdaUpdate()
+                        .setSql("ref_count = ref_count " + (sign > 0 ? "+ " : "- ") + count)
+                        .in(FileChunk::getChunkHash, part));
+                if (sign > 0 && updated != part.size()) {
+                    throw new IllegalStateException("引用的分块不存在或已被回收");
+                }
+            }
+        });
+    }
+
+    private static String chunkKey(String hash) {
+        return CHUNK_PREFIX + hash;
+    }
+
+    /**
+     * 清单中的一个分块引用
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkRef {
+
+        /** 分块SHA-256 */
+        private final String hash;
+
+        /** 分块大小 */
+        private final int size;
+    }
+
+    /**
+     * 按偏移量区间拼接分块的输入流，清单分页加载，分块流按需打开
+     */
+    private final class ChunkRangeInputStream extends InputStream {
+
+        private final String key;
+
+        private final long end;
+
+        private final Deque<ChunkManifest> page = new ArrayDeque<>(MANIFEST_PAGE_SIZE);
+
+        private long position;
+
+        private long nextPageOffset;
+
+        private InputStream current;
+
+        private ChunkRangeInputStream(String key, ChunkManifest first, long offset, long end) {
+            this.key = key;
+            this.end = end;
+            this.position = offset;
+            this.page.add(first);
+            this.nextPageOffset = first.getChunkOffset() + 1;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position < end) {
+                if (current == null) {
+                    current = openNext();
+                }
+                int read = current.read(buffer, offset, (int) Math.min(length, end - position));
+                if (read > 0) {
+                    position += read;
+                    return read;
+                }
+                current.close();
+                current = null;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+
+        private InputStream openNext() throws IOException {
+            if (page.isEmpty()) {
+                List<ChunkManifest> rows = chunkManifestMapper.selectList(Wrappers.<ChunkManifest>lambdaQuery()
+                        .eq(ChunkManifest::getObjectKey, key)
+                        .ge(ChunkManifest::getChunkOffset, nextPageOffset)
+                        .lt(ChunkManifest::getChunkOffset, end)
+                        .orderByAsc(ChunkManifest::getChunkOffset)
+                        .last("LIMIT " + MANIFEST_PAGE_SIZE));
+                page.addAll(rows);
+                if (!rows.isEmpty()) {
+                    nextPageOffset = rows.get(rows.size() - 1).getChunkOffset() + 1;
+                }
+            }
+
+            ChunkManifest item = page.poll();
+            if (item == null || item.getChunkOffset() > position
+                    || item.getChunkOffset() + item.getChunkSize() <= position) {
+                throw new IOException("分块清单不连续: key=" + key + ", position=" + position);
+            }
+            long inner = position - item.getChunkOffset();
+            long count = Math.min(item.getChunkSize() - inner, end - position);
+            return delegate.get(chunkKey(item.getChunkHash()), inner, count);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package cn.jcodenest.wiki.file.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 已上传的分段
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor
+public class CompletedPart {
+
+    /**
+     * 分段序号（从1开始）
+     */
+    private final int partNumber;
+
+    /**
+     * 分段ETag，完成上传时原样回传
+     */
+    private final String etag;
+}
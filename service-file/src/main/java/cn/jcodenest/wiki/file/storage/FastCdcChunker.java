@@ -0,0 +1,172 @@
+package cn.jcodenest.wiki.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * FastCDC 内容定义分块
+ * <p>
+ * 用 Gear 滚动哈希 {@code fp = (fp << 1) + GEAR[b]} 寻找切点：前 {@code minSize} 字节不计算哈希直接跳过；
+ * 未到平均大小前使用更严格的掩码、超过后使用更宽松的掩码（归一化分块），块大小集中在平均值附近；
+ * 到达 {@code maxSize} 强制切分。切点只取决于附近的内容，文件中间插入或删除数据后，其余位置的分块保持不变。
+ * <p>
+ * Gear 表由 SplitMix64（种子 0）生成，客户端按相同参数与算法分块即可与服务端已有分块对齐。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public class FastCdcChunker {
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        long state = 0L;
+        for (int i = 0; i < GEAR.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private final int minSize;
+
+    private final int avgSize;
+
+    private final int maxSize;
+
+    /** 未到平均大小时的掩码（多 2 位，切点更难命中） */
+    private final long maskSmall;
+
+    /** 超过平均大小后的掩码（少 2 位，切点更易命中） */
+    private final long maskLarge;
+
+    /**
+     * 构造函数
+     *
+     * @param minSize 最小块大小
+     * @param avgSize 平均块大小，必须是 2 的幂
+     * @param maxSize 最大块大小
+     */
+    public FastCdcChunker(int minSize, int avgSize, int maxSize) {
+        if (Integer.bitCount(avgSize) != 1 || avgSize < 256 || minSize <= 0 || minSize >= avgSize
+                || maxSize <= avgSize) {
+            throw new IllegalArgumentException("invalid chunk sizes: min=" + minSize + ", avg=" + avgSize + ", max=" + maxSize);
+        }
+        this.minSize = minSize;
+        this.avgSize = avgSize;
+        this.maxSize = maxSize;
+        int bits = Integer.numberOfTrailingZeros(avgSize);
+        // 左移的 Gear 哈希高位混合了最近 64 字节，掩码取高位
+        this.maskSmall = -1L << (64 - (bits + 2));
+        this.maskLarge = -1L << (64 - (bits - 2));
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getAvgSize() {
+        return avgSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 对输入流分块，每个分块回调一次；回调中的缓冲区会被复用，需要保留数据时自行拷贝
+     *
+     * @param input    输入流，由调用方关闭
+     * @param consumer 分块回调
+     * @return 总字节数
+     * @throws IOException 读取失败或回调抛出
+     */
+    public long split(InputStream input, ChunkConsumer consumer) throws IOException {
+        byte[] buffer = new byte[maxSize * 4];
+        int start = 0;
+        int limit = 0;
+        long total = 0L;
+        boolean eof = false;
+
+        while (true) {
+            if (!eof && limit - start < maxSize) {
+                if (start > 0) {
+                    System.arraycopy(buffer, start, buffer, 0, limit - start);
+                    limit -= start;
+                    start = 0;
+                }
+                while (limit < buffer.length) {
+                    int read = input.read(buffer, limit, buffer.length - limit);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    limit += read;
+                }
+            }
+            if (start == limit) {
+                return total;
+            }
+
+            int length = cutPoint(buffer, start, limit - start);
+            consumer.accept(buffer, start, length);
+            start += length;
+            total += length;
+        }
+    }
+
+    /**
+     * 计算从 offset 开始的下一个切点
+     *
+     * @param data   数据
+     * @param offset 起始位置
+     * @param length 可用长度
+     * @return 分块长度
+     */
+    public int cutPoint(byte[] data, int offset, int length) {
+        if (length <= minSize) {
+            return length;
+        }
+
+        int end = Math.min(length, maxSize);
+        int normal = Math.min(end, avgSize);
+        long fingerprint = 0L;
+        int i = minSize;
+        for (; i < normal; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xFF];
+            if ((fingerprint & maskSmall) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < end; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xFF];
+            if ((fingerprint & maskLarge) == 0) {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * 分块回调
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+
+        /**
+         * 处理一个分块
+         *
+         * @param buffer 缓冲区
+         * @param offset 分块起始位置
+         * @param length 分块长度
+         * @throws IOException 处理失败
+         */
+        void accept(byte[] buffer, int offset, int length) throws IOException;
+    }
+}
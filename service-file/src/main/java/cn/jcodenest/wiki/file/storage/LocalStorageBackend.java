@@ -0,0 +1,281 @@
+package cn.jcodenest.wiki.file.storage;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.utils.FileUtils;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.file.enums.StorageTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.BoundedInputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 本地磁盘存储后端
+ * <p>
+ * 对象落在 {@code 根目录/分片目录/对象键}，分片目录取对象键 MD5 的前 {@code shardDepth} 个字节，
+ * 每层 256 个子目录，两层即 65536 个桶，单个目录的文件数不会随总量线性增长。
+ * 写入先落临时文件再原子重命名，读到的对象总是完整的。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+    /** 分段上传暂存目录（位于根目录下，完成时可原子移动） */
+    private static final String MULTIPART_DIR = ".multipart";
+
+    /** 写入中的临时文件后缀 */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+
+    private final int shardDepth;
+
+    /**
+     * 构造函数
+     *
+     * @param root       存储根目录
+     * @param shardDepth 分片目录层数，0 表示不分片
+     */
+    public LocalStorageBackend(Path root, int shardDepth) {
+        if (shardDepth < 0 || shardDepth > 4) {
+            throw new IllegalArgumentException("shardDepth must be between 0 and 4: " + shardDepth);
+        }
+        this.root = root.toAbsolutePath().normalize();
+        this.shardDepth = shardDepth;
+        log.info("初始化本地存储: root={}, shardDepth={}", this.root, shardDepth);
+    }
+
+    @Override
+    public String type() {
+        return StorageTypeEnum.LOCAL.getCode();
+    }
+
+    @Override
+    public void put(String key, InputStream input, long length, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + "." + StringUtils.uuid() + TEMP_SUFFIX);
+        try {
+            long copied = Files.copy(input, temp);
+            if (copied != length) {
+                throw new IOException("写入长度不一致: key=" + key + ", expected=" + length + ", actual=" + copied);
+            }
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        move(source, target);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        try {
+            channel.position(offset);
+            return BoundedInputStream.builder()
+                    .setInputStream(Channels.newInputStream(channel))
+                    .setMaxCount(length)
+                    .get();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return Optional.of(new StorageObject(key, attributes.size(), attributes.lastModifiedTime().toMillis()));
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public MultipartUpload initiateMultipart(String key, String contentType) throws IOException {
+        MultipartUpload upload = new MultipartUpload(key, StringUtils.uuid());
+        Files.createDirectories(stagingDir(upload));
+        return upload;
+    }
+
+    @Override
+    public CompletedPart uploadPart(MultipartUpload upload, int partNumber, InputStream input, long length)
+            throws IOException {
+        Path part = stagingDir(upload).resolve(String.valueOf(partNumber));
+        long copied = Files.copy(input, part, StandardCopyOption.REPLACE_EXISTING);
+        if (copied != length) {
+            throw new IOException("分段长度不一致: partNumber=" + partNumber + ", expected=" + length + ", actual=" + copied);
+        }
+        return new CompletedPart(partNumber, String.valueOf(copied));
+    }
+
+    @Override
+    public void completeMultipart(MultipartUpload upload, List<CompletedPart> parts) throws IOException {
+        Path stagingDir = stagingDir(upload);
+        Path assembled = stagingDir.resolve(upload.getUploadId() + TEMP_SUFFIX);
+        List<CompletedPart> ordered = parts.stream().sorted(Comparator.comparingInt(CompletedPart::getPartNumber)).toList();
+
+        try (FileChannel target = FileChannel.open(assembled, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            for (CompletedPart part : ordered) {
+                try (FileChannel source = FileChannel.open(stagingDir.resolve(String.valueOf(part.getPartNumber())),
+                        StandardOpenOption.READ)) {
+                    long size = source.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += source.transferTo(position, size - position, target);
+                    }
+                }
+            }
+        }
+        store(upload.getKey(), assembled, null);
+        abortMultipart(upload);
+    }
+
+    @Override
+    public void abortMultipart(MultipartUpload upload) {
+        FileUtils.deleteFile(stagingDir(upload).toString());
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    /**
+     * 流式遍历全部对象（含写入中的临时文件，不含分段上传暂存目录），不在内存中收集完整列表
+     *
+     * @param visitor 对象回调，对象键可直接用于 {@link #delete}；返回 false 时停止遍历
+     * @throws IOException 遍历失败
+     */
+    public void walk(Predicate<StorageObject> visitor) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        Path stagingRoot = stagingRoot();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return dir.equals(stagingRoot) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                Path relative = root.relativize(file);
+                if (attrs.isRegularFile() && relative.getNameCount() > shardDepth) {
+                    String key = relative.subpath(shardDepth, relative.getNameCount()).toString()
+                            .replace(File.separatorChar, '/');
+                    if (!visitor.test(new StorageObject(key, attrs.size(), attrs.lastModifiedTime().toMillis()))) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.warn("遍历存储目录失败: path={}", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 分段上传暂存根目录，每个子目录对应一次分段上传
+     *
+     * @return 暂存根目录
+     */
+    public Path stagingRoot() {
+        return root.resolve(MULTIPART_DIR);
+    }
+
+    /**
+     * 对象键映射为磁盘路径，拒绝跳出根目录的键
+     *
+     * @param key 对象键
+     * @return 磁盘路径
+     */
+    private Path resolve(String key) {
+        Path path = shardDir(key).resolve(key).normalize();
+        if (!path.startsWith(root) || StringUtils.isBlank(key)) {
+            throw new IllegalArgumentException("非法的对象键: " + key);
+        }
+        return path;
+    }
+
+    private Path shardDir(String key) {
+        if (shardDepth == 0) {
+            return root;
+        }
+
+        byte[] hash = md5(key);
+        Path dir = root;
+        for (int i = 0; i < shardDepth; i++) {
+            dir = dir.resolve(FileUtils.encodeHex(new byte[]{hash[i]}));
+        }
+        return dir;
+    }
+
+    private Path stagingDir(MultipartUpload upload) {
+        return stagingRoot().resolve(upload.getUploadId());
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] md5(String key) {
+        try {
+            return MessageDigest.getInstance(CommonConstants.Digest.MD5).digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 算法不可用", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package cn.jcodenest.wiki.file.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 分段上传句柄
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor
+public class MultipartUpload {
+
+    /**
+     * 对象键
+     */
+    private final String key;
+
+    /**
+     * 存储后端分配的上传ID
+     */
+    private final String uploadId;
+}
@@ -0,0 +1,317 @@
+package cn.jcodenest.wiki.file.storage;
+
+import cn.jcodenest.wiki.file.enums.StorageTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.springframework.http.MediaType;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * S3 兼容对象存储后端（MinIO / OSS / S3）
+ * <p>
+ * 小对象单次 PUT；超过阈值的对象走分段上传，分段数据直接从流或文件区间读取，不在内存中缓存整段。
+ * 本地文件转存时分段按 {@code uploadConcurrency} 条通道并行上传，每条通道顺序处理自己的分段，
+ * 任一分段失败即放弃整个分段上传，不留下孤儿分段。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Client s3Client;
+
+    private final String bucket;
+
+    private final long partSize;
+
+    private final long multipartThreshold;
+
+    private final int uploadConcurrency;
+
+    private final Executor executor;
+
+    /**
+     * 构造函数
+     *
+     * @param s3Client           S3 客户端
+     * @param bucket             存储桶
+     * @param partSize           分段大小（S3 要求除最后一段外不小于 5MB）
+     * @param multipartThreshold 超过该大小使用分段上传
+     * @param uploadConcurrency  文件转存时的并行分段数
+     * @param executor           并行上传使用的执行器
+     */
+    public S3StorageBackend(S3Client s3Client, String bucket, long partSize, long multipartThreshold,
+                            int uploadConcurrency, Executor executor) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.partSize = partSize;
+        this.multipartThreshold = Math.max(multipartThreshold, partSize);
+        this.uploadConcurrency = Math.max(1, uploadConcurrency);
+        this.executor = executor;
+        log.info("初始化S3存储: bucket={}, partSize={}, multipartThreshold={}, uploadConcurrency={}", bucket, partSize,
+                this.multipartThreshold, this.uploadConcurrency);
+    }
+
+    @Override
+    public String type() {
+        return StorageTypeEnum.OSS.getCode();
+    }
+
+    @Override
+    public String bucket() {
+        return bucket;
+    }
+
+    @Override
+    public void put(String key, InputStream input, long length, String contentType) throws IOException {
+        if (length <= multipartThreshold) {
+            try {
+                s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                        RequestBody.fromInputStream(input, length));
+                return;
+            } catch (SdkException e) {
+                throw ioException("上传对象", key, e);
+            }
+        }
+
+        MultipartUpload upload = initiateMultipart(key, contentType);
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < length; offset += partSize, partNumber++) {
+                long size = Math.min(partSize, length - offset);
+                // 分段之间共享同一个输入流，不能在分段结束时关闭
+                InputStream partInput = BoundedInputStream.builder()
+                        .setInputStream(input)
+                        .setMaxCount(size)
+                        .setPropagateClose(false)
+                        .get();
+                parts.add(uploadPart(upload, partNumber, partInput, size));
+            }
+            completeMultipart(upload, parts);
+        } catch (IOException | RuntimeException e) {
+            abortQuietly(upload);
+            throw e;
+        }
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        long length = Files.size(source);
+        if (length <= multipartThreshold) {
+            try {
+                s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                        RequestBody.fromFile(source));
+            } catch (SdkException e) {
+                throw ioException("上传对象", key, e);
+            }
+            Files.deleteIfExists(source);
+            return;
+        }
+
+        int partCount = (int) ((length + partSize - 1) / partSize);
+        MultipartUpload upload = initiateMultipart(key, contentType);
+        try {
+            CompletedPart[] parts = new CompletedPart[partCount];
+            List<CompletableFuture<Void>> lanes = new ArrayList<>(uploadConcurrency);
+            for (int lane = 0; lane < Math.min(uploadConcurrency, partCount); lane++) {
+                int firstPart = lane;
+                lanes.add(CompletableFuture.runAsync(() -> {
+                    for (int index = firstPart; index < partCount; index += uploadConcurrency) {
+                        parts[index] = uploadFilePart(upload, source, index, length);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new)).join();
+            completeMultipart(upload, List.of(parts));
+        } catch (CompletionException e) {
+            abortQuietly(upload);
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("分段上传失败: " + key, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abortQuietly(upload);
+            throw e;
+        }
+        Files.deleteIfExists(source);
+        log.debug("分段上传完成: key={}, size={}, parts={}", key, length, partCount);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw ioException("读取对象", key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key)
+                    .range("bytes=" + offset + "-" + (offset + length - 1)).build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw ioException("读取对象区间", key, e);
+        }
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StorageObject(key, response.contentLength(), response.lastModified().toEpochMilli()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (SdkException e) {
+            throw ioException("查询对象", key, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (SdkException e) {
+            throw ioException("删除对象", key, e);
+        }
+    }
+
+    @Override
+    public MultipartUpload initiateMultipart(String key, String contentType) throws IOException {
+        try {
+            String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).contentType(contentType).build()).uploadId();
+            return new MultipartUpload(key, uploadId);
+        } catch (SdkException e) {
+            throw ioException("创建分段上传", key, e);
+        }
+    }
+
+    @Override
+    public CompletedPart uploadPart(MultipartUpload upload, int partNumber, InputStream input, long length)
+            throws IOException {
+        return uploadPart(upload, partNumber, RequestBody.fromInputStream(input, length));
+    }
+
+    @Override
+    public void completeMultipart(MultipartUpload upload, List<CompletedPart> parts) throws IOException {
+        List<software.amazon.awssdk.services.s3.model.CompletedPart> completedParts = parts.stream()
+                .sorted(Comparator.comparingInt(CompletedPart::getPartNumber))
+                .map(part -> software.amazon.awssdk.services.s3.model.CompletedPart.builder()
+                        .partNumber(part.getPartNumber()).eTag(part.getEtag()).build())
+                .toList();
+        try {
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket).key(upload.getKey()).uploadId(upload.getUploadId())
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (SdkException e) {
+            throw ioException("完成分段上传", upload.getKey(), e);
+        }
+    }
+
+    @Override
+    public void abortMultipart(MultipartUpload upload) throws IOException {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(upload.getKey()).uploadId(upload.getUploadId()).build());
+        } catch (SdkException e) {
+            throw ioException("放弃分段上传", upload.getKey(), e);
+        }
+    }
+
+    private CompletedPart uploadPart(MultipartUpload upload, int partNumber, RequestBody body) throws IOException {
+        try {
+            String etag = s3Client.uploadPart(UploadPartRequest.builder()
+                    .bucket(bucket).key(upload.getKey()).uploadId(upload.getUploadId()).partNumber(partNumber)
+                    .build(), body).eTag();
+            return new CompletedPart(partNumber, etag);
+        } catch (SdkException e) {
+            throw ioException("上传分段" + partNumber, upload.getKey(), e);
+        }
+    }
+
+    /**
+     * 上传文件的第 index 段；请求体每次重试都重新打开文件区间，无需在内存中保留分段
+     */
+    private CompletedPart uploadFilePart(MultipartUpload upload, Path source, int index, long length) {
+        long offset = index * partSize;
+        long size = Math.min(partSize, length - offset);
+        ContentStreamProvider provider = () -> {
+            try {
+                FileChannel channel = FileChannel.open(source, StandardOpenOption.READ).position(offset);
+                return BoundedInputStream.builder()
+                        .setInputStream(Channels.newInputStream(channel))
+                        .setMaxCount(size)
+                        .get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            return uploadPart(upload, index + 1, RequestBody.fromContentProvider(provider, size,
+                    MediaType.APPLICATION_OCTET_STREAM_VALUE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void abortQuietly(MultipartUpload upload) {
+        try {
+            abortMultipart(upload);
+        } catch (IOException e) {
+            log.warn("放弃分段上传失败，需依赖存储桶生命周期规则清理: key={}, uploadId={}", upload.getKey(),
+                    upload.getUploadId(), e);
+        }
+    }
+
+    private static IOException ioException(String operation, String key, SdkException e) {
+        return new IOException(operation + "失败: key=" + key + ", reason=" + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,155 @@
+package cn.jcodenest.wiki.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 存储后端 SPI
+ * <p>
+ * 所有读写都以流的形式进行，调用方不需要把整个对象放入内存。对象键使用 {@code /} 分隔，
+ * 与 {@code fil_file.file_path} 一致；具体落到哪个目录或存储桶由实现决定。
+ * 对象不存在时读取类方法抛出 {@link java.nio.file.NoSuchFileException}。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public interface StorageBackend {
+
+    /**
+     * 存储类型，写入 {@code fil_file.storage_type}
+     *
+     * @return 存储类型编码
+     */
+    String type();
+
+    /**
+     * 存储桶名称，写入 {@code fil_file.bucket_name}
+     *
+     * @return 存储桶名称，本地存储返回 null
+     */
+    default String bucket() {
+        return null;
+    }
+
+    /**
+     * 流式写入对象
+     *
+     * @param key         对象键
+     * @param input       数据流，由调用方关闭
+     * @param length      数据长度
+     * @param contentType 内容类型
+     * @throws IOException 写入失败
+     */
+    void put(String key, InputStream input, long length, String contentType) throws IOException;
+
+    /**
+     * 将本地文件转入存储，成功后源文件归存储后端所有（可能被移动或删除）
+     *
+     * @param key         对象键
+     * @param source      源文件
+     * @param contentType 内容类型
+     * @throws IOException 写入失败
+     */
+    default void store(String key, Path source, String contentType) throws IOException {
+        try (InputStream input = Files.newInputStream(source)) {
+            put(key, input, Files.size(source), contentType);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    /**
+     * 读取整个对象
+     *
+     * @param key 对象键
+     * @return 数据流，由调用方关闭
+     * @throws IOException 读取失败
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * 读取对象的一个区间
+     *
+     * @param key    对象键
+     * @param offset 起始偏移量
+     * @param length 长度
+     * @return 数据流，由调用方关闭
+     * @throws IOException 读取失败
+     */
+    InputStream get(String key, long offset, long length) throws IOException;
+
+    /**
+     * 查询对象元数据
+     *
+     * @param key 对象键
+     * @return 元数据，对象不存在时为空
+     * @throws IOException 查询失败
+     */
+    Optional<StorageObject> stat(String key) throws IOException;
+
+    /**
+     * 删除对象
+     *
+     * @param key 对象键
+     * @return true-已删除，false-对象不存在
+     * @throws IOException 删除失败
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * 开始分段上传
+     *
+     * @param key         对象键
+     * @param contentType 内容类型
+     * @return 分段上传句柄
+     * @throws IOException 创建失败
+     */
+    MultipartUpload initiateMultipart(String key, String contentType) throws IOException;
+
+    /**
+     * 上传一个分段，各分段可并行上传
+     *
+     * @param upload     分段上传句柄
+     * @param partNumber 分段序号（从1开始）
+     * @param input      分段数据流，由调用方关闭
+     * @param length     分段长度
+     * @return 已上传的分段
+     * @throws IOException 上传失败
+     */
+    CompletedPart uploadPart(MultipartUpload upload, int partNumber, InputStream input, long length)
+            throws IOException;
+
+    /**
+     * 完成分段上传，按分段序号拼接为完整对象
+     *
+     * @param upload 分段上传句柄
+     * @param parts  全部分段
+     * @throws IOException 完成失败
+     */
+    void completeMultipart(MultipartUpload upload, List<CompletedPart> parts) throws IOException;
+
+    /**
+     * 放弃分段上传并清理已上传的分段
+     *
+     * @param upload 分段上传句柄
+     * @throws IOException 清理失败
+     */
+    void abortMultipart(MultipartUpload upload) throws IOException;
+
+    /**
+     * 对象在本机文件系统上的路径，存在时下载可走 sendfile 零拷贝
+     *
+     * @param key 对象键
+     * @return 本地路径，远程存储返回空
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
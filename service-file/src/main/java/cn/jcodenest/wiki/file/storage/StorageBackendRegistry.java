@@ -0,0 +1,72 @@
+package cn.jcodenest.wiki.file.storage;
+
+import cn.jcodenest.wiki.common.exception.SystemException;
+import cn.jcodenest.wiki.common.utils.StringUtils;
+import cn.jcodenest.wiki.file.enums.StorageTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 存储后端注册表
+ * <p>
+ * 新文件写入 {@code jcodenest.file.storage.type} 指定的主存储；读取时按 {@code fil_file.storage_type} 路由，
+ * 切换主存储后历史文件仍可从原存储读取。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+public class StorageBackendRegistry {
+
+    private final Map<String, StorageBackend> backends = new LinkedHashMap<>();
+
+    private final StorageBackend primary;
+
+    /**
+     * 构造函数
+     *
+     * @param backends    已启用的存储后端
+     * @param primaryType 主存储类型
+     */
+    public StorageBackendRegistry(Collection<StorageBackend> backends, String primaryType) {
+        for (StorageBackend backend : backends) {
+            this.backends.put(backend.type(), backend);
+        }
+        this.primary = this.backends.get(primaryType);
+        if (this.primary == null) {
+            throw SystemException.of("主存储未启用: " + primaryType + "，已启用: " + this.backends.keySet());
+        }
+        log.info("存储后端: primary={}, enabled={}", primaryType, this.backends.keySet());
+    }
+
+    /**
+     * 获取主存储
+     *
+     * @return 主存储后端
+     */
+    public StorageBackend primary() {
+        return primary;
+    }
+
+    /**
+     * 按存储类型获取存储后端
+     *
+     * @param type 存储类型，为空时视为本地存储
+     * @return 存储后端
+     */
+    public StorageBackend get(String type) {
+        String resolved = StringUtils.isBlank(type) ? StorageTypeEnum.LOCAL.getCode() : type;
+        StorageBackend backend = backends.get(resolved);
+        if (backend == null) {
+            throw SystemException.of("存储后端未启用: " + resolved);
+        }
+        return backend;
+    }
+}
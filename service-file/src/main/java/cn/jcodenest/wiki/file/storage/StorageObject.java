@@ -0,0 +1,34 @@
+package cn.jcodenest.wiki.file.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 存储对象元数据
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Getter
+@AllArgsConstructor
+public class StorageObject {
+
+    /**
+     * 对象键
+     */
+    private final String key;
+
+    /**
+     * 对象大小（字节）
+     */
+    private final long size;
+
+    /**
+     * 最后修改时间（毫秒时间戳）
+     */
+    private final long lastModified;
+}
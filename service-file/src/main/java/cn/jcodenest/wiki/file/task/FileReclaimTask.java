@@ -0,0 +1,424 @@
+package cn.jcodenest.wiki.file.task;
+
+import cn.jcodenest.wiki.common.constant.CommonConstants;
+import cn.jcodenest.wiki.common.constant.RedisConstants;
+import cn.jcodenest.wiki.common.constant.SystemConstants;
+import cn.jcodenest.wiki.file.config.FileProperties;
+import cn.jcodenest.wiki.file.entity.FileInfo;
+import cn.jcodenest.wiki.file.entity.UploadLog;
+import cn.jcodenest.wiki.file.entity.UserFile;
+import cn.jcodenest.wiki.file.enums.StorageTypeEnum;
+import cn.jcodenest.wiki.file.enums.UploadStatusEnum;
+import cn.jcodenest.wiki.file.image.ImageCodec;
+import cn.jcodenest.wiki.file.mapper.FileInfoMapper;
+import cn.jcodenest.wiki.file.mapper.UploadLogMapper;
+import cn.jcodenest.wiki.file.mapper.UserFileMapper;
+import cn.jcodenest.wiki.file.service.ImageDerivativeService;
+import cn.jcodenest.wiki.file.storage.ChunkedStorageBackend;
+import cn.jcodenest.wiki.file.storage.LocalStorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackend;
+import cn.jcodenest.wiki.file.storage.StorageBackendRegistry;
+import cn.jcodenest.wiki.file.throttle.TokenBucket;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * 存储回收任务
+ * <p>
+ * 依次回收：
+ * <ol>
+ *     <li>临时目录中会话已过期的分片上传文件与残留的暂存文件；</li>
+ *     <li>本地存储中的分段上传暂存目录；</li>
+ *     <li>本地存储中未被 {@code fil_file} 引用的孤儿对象（含写入中断留下的临时文件、原图已不存在的缩略图）；</li>
+ *     <li>状态为已删除或已逻辑删除且超过保留期的文件：先物理删除记录，再删除对象及衍生文件；</li>
+ *     <li>引用计数归零且超过保留期的去重分块。</li>
+ * </ol>
+ * 目录一律流式遍历，不在内存中收集完整列表；每次删除都从令牌桶取令牌，回收速度被限制在
+ * {@code reclaim.deletes-per-second} 以内，不会与前台上传下载争抢磁盘。前三项针对本机磁盘，各实例分别执行；
+ * 后两项针对数据库记录，通过 Redis 锁保证集群内只有一个实例执行。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jcodenest.file.reclaim", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FileReclaimTask {
+
+    /** 分片上传临时文件后缀 */
+    private static final String PART_SUFFIX = ".part";
+
+    /** 衍生文件对象键前缀 */
+    private static final String DERIVATIVE_PREFIX = "thumbs/";
+
+    /** 去重分块对象键前缀，由分块存储自行回收 */
+    private static final String CHUNK_PREFIX = "chunks/";
+
+    /** 衍生文件可能的格式 */
+    private static final List<String> DERIVATIVE_FORMATS = List.of(ImageCodec.JPG, ImageCodec.PNG, ImageCodec.WEBP);
+
+    /** 集群锁超时时间，覆盖一次完整回收 */
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(2);
+
+    private final FileProperties fileProperties;
+
+    private final FileInfoMapper fileInfoMapper;
+
+    private final UserFileMapper userFileMapper;
+
+    private final UploadLogMapper uploadLogMapper;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final StorageBackendRegistry storageBackendRegistry;
+
+    private final LocalStorageBackend localStorageBackend;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    private final ObjectProvider<ChunkedStorageBackend> chunkedStorageBackendProvider;
+
+    /**
+     * 定时回收
+     */
+    @Scheduled(cron = "${jcodenest.file.reclaim.cron:0 30 3 * * ?}")
+    public void reclaim() {
+        FileProperties.Reclaim config = fileProperties.getReclaim();
+        TokenBucket throttle = new TokenBucket(config.getDeletesPerSecond(), config.getDeletesPerSecond());
+        long startNanos = System.nanoTime();
+
+        long expireMillis = TimeUnit.HOURS.toMillis(fileProperties.getSessionExpireHours());
+        int tempFiles = sweep(Paths.get(fileProperties.getTempPath()), expireMillis, throttle, this::isActiveUpload);
+        int stagingFiles = sweep(localStorageBackend.stagingRoot(), expireMillis, throttle, path -> false);
+        int orphans = reclaimOrphans(throttle);
+
+        int deletedFiles = 0;
+        int chunks = 0;
+        String lockKey = RedisConstants.LockKey.SCHEDULED_TASK + SystemConstants.Task.TEMP_FILE_CLEANUP;
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TIMEOUT))) {
+            try {
+                deletedFiles = reclaimDeletedFiles(throttle);
+                chunks = purgeChunks(throttle);
+            } finally {
+                stringRedisTemplate.delete(lockKey);
+            }
+        } else {
+            log.info("其他实例正在回收文件记录，本实例只清理本地磁盘");
+        }
+
+        log.info("存储回收完成: tempFiles={}, stagingFiles={}, orphans={}, deletedFiles={}, chunks={}, cost={}ms",
+                tempFiles, stagingFiles, orphans, deletedFiles, chunks,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 清理目录中超过有效期的文件，并移除随之变空的子目录
+     *
+     * @param root         目录
+     * @param expireMillis 有效期（毫秒），按最后修改时间计算
+     * @param throttle     删除限速
+     * @param retain       需要保留的文件
+     * @return 删除的文件数
+     */
+    private int sweep(Path root, long expireMillis, TokenBucket throttle, Predicate<Path> retain) {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+
+        long cutoffMillis = System.currentTimeMillis() - expireMillis;
+        int[] deleted = {0};
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (attrs.lastModifiedTime().toMillis() >= cutoffMillis || retain.test(file)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (!acquire(throttle)) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                    if (Files.deleteIfExists(file)) {
+                        deleted[0]++;
+                        onTempFileDeleted(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    // 只移除长时间未变动的空目录，刚创建、即将写入的目录不动
+                    if (!dir.equals(root) && Files.getLastModifiedTime(dir).toMillis() < cutoffMillis) {
+                        try {
+                            Files.deleteIfExists(dir);
+                        } catch (DirectoryNotEmptyException ignored) {
+                            // 目录中还有未过期的文件
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.warn("遍历回收目录失败: path={}", file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.error("清理目录失败: root={}", root, e);
+        }
+        return deleted[0];
+    }
+
+    /**
+     * 会话仍然有效的分片上传临时文件需要保留
+     */
+    private boolean isActiveUpload(Path file) {
+        Long uploadId = uploadIdOf(file);
+        return uploadId != null
+                && Boolean.TRUE.equals(stringRedisTemplate.hasKey(RedisConstants.FileKey.UPLOAD_SESSION + uploadId));
+    }
+
+    /**
+     * 过期的分片上传临时文件被删除后，把仍处于上传中的上传日志标记为失败
+     */
+    private void onTempFileDeleted(Path file) {
+        Long uploadId = uploadIdOf(file);
+        if (uploadId != null) {
+            uploadLogMapper.update(Wrappers.<UploadLog>lambdaUpdate()
+                    .set(UploadLog::getUploadStatus, UploadStatusEnum.FAILED.getCode())
+                    .set(UploadLog::getErrorMessage, "上传会话过期")
+                    .eq(UploadLog::getId, uploadId)
+                    .eq(UploadLog::getUploadStatus, UploadStatusEnum.UPLOADING.getCode()));
+        }
+    }
+
+    private static Long uploadIdOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(PART_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(name.substring(0, name.length() - PART_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 回收本地存储中的孤儿对象；只看修改时间超过宽限期的对象，避免删掉已写入存储、记录尚未提交的新文件
+     *
+     * @param throttle 删除限速
+     * @return 删除的对象数
+     */
+    private int reclaimOrphans(TokenBucket throttle) {
+        FileProperties.Reclaim config = fileProperties.getReclaim();
+        long graceHours = Math.max(config.getOrphanGraceHours(), fileProperties.getSessionExpireHours());
+        long cutoffMillis = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(graceHours);
+
+        List<String> batch = new ArrayList<>(config.getBatchSize());
+        int[] deleted = {0};
+        try {
+            localStorageBackend.walk(object -> {
+                if (object.getLastModified() >= cutoffMillis || object.getKey().startsWith(CHUNK_PREFIX)) {
+                    return true;
+                }
+                batch.add(object.getKey());
+                if (batch.size() < config.getBatchSize()) {
+                    return true;
+                }
+                boolean proceed = deleteUnreferenced(batch, throttle, deleted);
+                batch.clear();
+                return proceed;
+            });
+            if (!batch.isEmpty()) {
+                deleteUnreferenced(batch, throttle, deleted);
+            }
+        } catch (IOException e) {
+            log.error("遍历本地存储失败", e);
+        }
+        return deleted[0];
+    }
+
+    /**
+     * 批量核对对象键是否仍被引用（含保留期内的已删除记录），删除无引用的对象；衍生文件按原图MD5核对
+     *
+     * @return 是否继续遍历
+     */
+    private boolean deleteUnreferenced(List<String> keys, TokenBucket throttle, int[] deleted) {
+        List<String> objectKeys = new ArrayList<>();
+        Set<String> derivativeMd5s = new HashSet<>();
+        for (String key : keys) {
+            if (key.startsWith(DERIVATIVE_PREFIX)) {
+                derivativeMd5s.add(md5OfDerivative(key));
+            } else {
+                objectKeys.add(key);
+            }
+        }
+
+        // 已删除但未过保留期的记录仍然引用对象，由已删除文件回收统一处理
+        Set<String> referenced = objectKeys.isEmpty() ? Set.of()
+                : new HashSet<>(fileInfoMapper.selectAnyFilePaths(StorageTypeEnum.LOCAL.getCode(), objectKeys));
+        Set<String> referencedMd5s = derivativeMd5s.isEmpty() ? Set.of()
+                : new HashSet<>(fileInfoMapper.selectAnyFileMd5s(derivativeMd5s));
+
+        for (String key : keys) {
+            boolean inUse = key.startsWith(DERIVATIVE_PREFIX)
+                    ? referencedMd5s.contains(md5OfDerivative(key)) : referenced.contains(key);
+            if (inUse) {
+                continue;
+            }
+            if (!acquire(throttle)) {
+                return false;
+            }
+            try {
+                if (localStorageBackend.delete(key)) {
+                    deleted[0]++;
+                    log.debug("删除孤儿对象: key={}", key);
+                }
+            } catch (IOException e) {
+                log.warn("删除孤儿对象失败: key={}", key, e);
+            }
+        }
+        return true;
+    }
+
+    private static String md5OfDerivative(String key) {
+        int end = key.indexOf('/', DERIVATIVE_PREFIX.length());
+        return end < 0 ? key.substring(DERIVATIVE_PREFIX.length()) : key.substring(DERIVATIVE_PREFIX.length(), end);
+    }
+
+    /**
+     * 回收已删除（含逻辑删除）且超过保留期的文件：先物理删除记录（释放 uk_file_md5），再删除对象与衍生文件；
+     * 对象删除失败时留下的孤儿由下一轮孤儿回收处理
+     *
+     * @param throttle 删除限速
+     * @return 回收的文件数
+     */
+    private int reclaimDeletedFiles(TokenBucket throttle) {
+        FileProperties.Reclaim config = fileProperties.getReclaim();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(config.getDeletedRetentionDays());
+
+        int reclaimed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<FileInfo> candidates = fileInfoMapper.selectReclaimable(cutoff, lastId, config.getBatchSize());
+            for (FileInfo fileInfo : candidates) {
+                if (userFileMapper.exists(Wrappers.<UserFile>lambdaQuery().eq(UserFile::getFileId, fileInfo.getId()))
+                        || fileInfoMapper.physicalDeleteById(fileInfo.getId()) == 0) {
+                    continue;
+                }
+                if (!deleteObjects(fileInfo, throttle)) {
+                    return reclaimed;
+                }
+                reclaimed++;
+            }
+            if (candidates.size() < config.getBatchSize()) {
+                return reclaimed;
+            }
+            lastId = candidates.get(candidates.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 删除文件对象及其衍生文件
+     *
+     * @return 是否继续回收
+     */
+    private boolean deleteObjects(FileInfo fileInfo, TokenBucket throttle) {
+        List<String> keys = new ArrayList<>();
+        keys.add(fileInfo.getFilePath());
+        if (CommonConstants.File.TYPE_IMAGE.equals(fileInfo.getFileType())) {
+            for (Integer size : fileProperties.getImage().getSizes()) {
+                for (String format : DERIVATIVE_FORMATS) {
+                    keys.add(imageDerivativeService.derivativeKey(fileInfo.getFileMd5(), size + "." + format));
+                }
+            }
+        }
+
+        StorageBackend backend = storageBackendRegistry.get(fileInfo.getStorageType());
+        for (String key : keys) {
+            if (!acquire(throttle)) {
+                return false;
+            }
+            try {
+                backend.delete(key);
+            } catch (IOException e) {
+                log.warn("删除已回收文件的对象失败: fileId={}, key={}", fileInfo.getId(), key, e);
+            }
+        }
+        log.debug("回收已删除文件: fileId={}, storageType={}, key={}", fileInfo.getId(), fileInfo.getStorageType(),
+                fileInfo.getFilePath());
+        return true;
+    }
+
+    /**
+     * 回收无引用的去重分块，每批删除前先取足令牌
+     *
+     * @param throttle 删除限速
+     * @return 删除的分块数
+     */
+    private int purgeChunks(TokenBucket throttle) {
+        ChunkedStorageBackend backend = chunkedStorageBackendProvider.getIfAvailable();
+        if (backend == null) {
+            return 0;
+        }
+
+        FileProperties.Reclaim config = fileProperties.getReclaim();
+        Duration grace = Duration.ofHours(fileProperties.getChunking().getOrphanRetentionHours());
+        int batch = Math.max(1, Math.min(config.getBatchSize(), config.getDeletesPerSecond()));
+        int purged = 0;
+        int count;
+        do {
+            if (!acquire(throttle, batch)) {
+                break;
+            }
+            count = backend.purgeUnreferenced(grace, batch);
+            purged += count;
+        } while (count == batch);
+        return purged;
+    }
+
+    private static boolean acquire(TokenBucket throttle) {
+        return acquire(throttle, 1);
+    }
+
+    /**
+     * 取令牌，不足时休眠到可用；线程被中断时返回 false，调用方停止回收
+     */
+    private static boolean acquire(TokenBucket throttle, int permits) {
+        long waitNanos = throttle.reserve(permits);
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+}
@@ -0,0 +1,86 @@
+package cn.jcodenest.wiki.file.throttle;
+
+import cn.jcodenest.wiki.file.config.FileProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 下载带宽限制器
+ * <p>
+ * 每个限速主体（用户或IP）一个 {@link TokenBucket}，闲置的桶自动过期。
+ * 限速在单个实例内生效，多实例部署时单用户总带宽上限为实例数倍。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Slf4j
+@Component
+public class BandwidthLimiter {
+
+    /** 闲置桶过期时间 */
+    private static final Duration BUCKET_EXPIRE = Duration.ofMinutes(10);
+
+    /** 最多保留的桶数量 */
+    private static final long MAX_BUCKETS = 100_000L;
+
+    private final long bytesPerSecond;
+
+    private final Cache<String, TokenBucket> buckets;
+
+    /**
+     * 构造函数
+     *
+     * @param fileProperties 文件服务配置
+     */
+    public BandwidthLimiter(FileProperties fileProperties) {
+        this.bytesPerSecond = fileProperties.getDownload().getBytesPerSecond();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(BUCKET_EXPIRE)
+                .maximumSize(MAX_BUCKETS)
+                .build();
+        log.info("初始化下载带宽限制器: bytesPerSecond={}", bytesPerSecond);
+    }
+
+    /**
+     * 是否不限速
+     *
+     * @return true-不限速
+     */
+    public boolean isUnlimited() {
+        return bytesPerSecond <= 0;
+    }
+
+    /**
+     * 申请发送指定字节数，超出速率时阻塞当前线程（请求运行在虚拟线程上，休眠不占用平台线程）
+     *
+     * @param key   限速主体
+     * @param bytes 字节数
+     * @throws InterruptedIOException 等待被中断
+     */
+    public void acquire(String key, long bytes) throws InterruptedIOException {
+        if (isUnlimited()) {
+            return;
+        }
+
+        long waitNanos = buckets.get(key, k -> new TokenBucket(bytesPerSecond, bytesPerSecond)).reserve(bytes);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("下载限速等待被中断");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package cn.jcodenest.wiki.file.throttle;
+
+/**
+ * 令牌桶
+ * <p>
+ * 采用预支模式：令牌不足时仍然扣减，返回调用方需要等待的时长，由调用方在锁外休眠。
+ * 同一用户的多个并发下载共享一个桶，总速率不超过限额。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+
+    private final double tokensPerNano;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    /**
+     * 构造函数，初始为满桶
+     *
+     * @param capacity        桶容量（允许的突发量）
+     * @param tokensPerSecond 每秒补充的令牌数
+     */
+    public TokenBucket(long capacity, long tokensPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000D;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 预支令牌
+     *
+     * @param permits 令牌数
+     * @return 需要等待的纳秒数，0 表示无需等待
+     */
+    public synchronized long reserve(long permits) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        tokens -= permits;
+        return tokens >= 0 ? 0L : (long) (-tokens / tokensPerNano);
+    }
+}
@@ -0,0 +1,37 @@
+package cn.jcodenest.wiki.file.vo;
+
+import lombok.Data;
+
+/**
+ * 增量上传分块参数，客户端按相同参数做 FastCDC 分块才能与服务端已有分块对齐
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class DedupConfigVO {
+
+    /**
+     * 分块算法
+     */
+    private String algorithm;
+
+    /**
+     * 最小分块大小（字节）
+     */
+    private Integer minSize;
+
+    /**
+     * 平均分块大小（字节）
+     */
+    private Integer avgSize;
+
+    /**
+     * 最大分块大小（字节）
+     */
+    private Integer maxSize;
+}
@@ -0,0 +1,39 @@
+package cn.jcodenest.wiki.file.vo;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 增量上传协商结果
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class DedupNegotiateVO {
+
+    /**
+     * 挑战ID，提交时带回
+     */
+    private String challengeId;
+
+    /**
+     * 挑战随机数（十六进制），各抽样区间的校验值为 MD5(nonce ‖ 区间内容)，nonce 取其 ASCII 字节
+     */
+    private String nonce;
+
+    /**
+     * 服务端缺少、需要上传的分块（去重后）
+     */
+    private List<String> missing;
+
+    /**
+     * 落在服务端已有分块上的抽样区间（文件内偏移量），证明客户端持有这些分块的内容
+     */
+    private List<InstantChallengeVO.SampleRange> ranges;
+}
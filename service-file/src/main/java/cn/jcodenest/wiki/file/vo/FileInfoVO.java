@@ -0,0 +1,83 @@
+package cn.jcodenest.wiki.file.vo;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件信息视图
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class FileInfoVO {
+
+    /**
+     * 文件ID
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long id;
+
+    /**
+     * 用户文件ID
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long userFileId;
+
+    /**
+     * 原始文件名（用户侧文件名）
+     */
+    private String originalName;
+
+    /**
+     * 文件访问URL
+     */
+    private String fileUrl;
+
+    /**
+     * 文件类型
+     */
+    private String fileType;
+
+    /**
+     * MIME类型
+     */
+    private String mimeType;
+
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 文件MD5值
+     */
+    private String fileMd5;
+
+    /**
+     * 图片宽度（像素），缩略图生成后回填
+     */
+    private Integer width;
+
+    /**
+     * 图片高度（像素），缩略图生成后回填
+     */
+    private Integer height;
+
+    /**
+     * 缩略图URL，缩略图生成后回填
+     */
+    private String thumbnailUrl;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+}
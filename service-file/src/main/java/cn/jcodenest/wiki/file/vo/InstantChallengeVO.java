@@ -0,0 +1,63 @@
+package cn.jcodenest.wiki.file.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 秒传预检结果
+ * <p>
+ * 命中时客户端需对本地文件的各抽样区间分别计算 MD5(nonce ‖ 区间内容)，nonce 取其 ASCII 字节，
+ * 连同 challengeId 提交确认，证明自己确实持有文件内容，而不仅仅是知道哈希值。
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class InstantChallengeVO {
+
+    /**
+     * 服务端是否已存在相同内容的文件；为 false 时走分片上传
+     */
+    private Boolean hit;
+
+    /**
+     * 挑战ID
+     */
+    private String challengeId;
+
+    /**
+     * 挑战随机数（十六进制），每次预检重新生成
+     */
+    private String nonce;
+
+    /**
+     * 抽样区间
+     */
+    private List<SampleRange> ranges;
+
+    /**
+     * 抽样区间
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SampleRange {
+
+        /**
+         * 起始偏移量
+         */
+        private Long offset;
+
+        /**
+         * 长度（字节）
+         */
+        private Integer length;
+    }
+}
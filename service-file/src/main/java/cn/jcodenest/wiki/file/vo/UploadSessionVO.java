@@ -0,0 +1,52 @@
+package cn.jcodenest.wiki.file.vo;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 分片上传会话视图
+ *
+ * @author JCodeNest
+ * @version 1.0.0
+ * @since 2026/10/19
+ * <p>
+ * Copyright (c) 2025 JCodeNest-Wiki
+ * All rights reserved.
+ */
+@Data
+public class UploadSessionVO {
+
+    /**
+     * 上传会话ID
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long uploadId;
+
+    /**
+     * 原始文件名
+     */
+    private String fileName;
+
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 分片大小（字节），除最后一个分片外每个分片都必须恰好为该大小
+     */
+    private Integer chunkSize;
+
+    /**
+     * 分片总数
+     */
+    private Integer totalChunks;
+
+    /**
+     * 已接收的分片序号，断点续传时客户端只需上传缺失的分片
+     */
+    private List<Integer> uploadedChunks;
+}